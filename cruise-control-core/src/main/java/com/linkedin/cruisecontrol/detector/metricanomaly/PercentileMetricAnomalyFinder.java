@@ -11,11 +11,11 @@ import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapola
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import org.apache.commons.math3.stat.descriptive.rank.Percentile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,7 +37,8 @@ import static com.linkedin.cruisecontrol.common.utils.Utils.validateNotNull;
  */
 public abstract class PercentileMetricAnomalyFinder<E extends Entity> implements MetricAnomalyFinder<E> {
   private static final Logger LOG = LoggerFactory.getLogger(PercentileMetricAnomalyFinder.class);
-  private final Percentile _percentile;
+  // Percentile estimators of the history values by metric id by entity, which are updated as the history windows roll.
+  private final Map<E, Map<Short, SlidingWindowPercentile>> _historyPercentiles;
   protected double _anomalyUpperMargin;
   protected double _anomalyLowerMargin;
   protected Double _anomalyUpperPercentile;
@@ -46,7 +47,7 @@ public abstract class PercentileMetricAnomalyFinder<E extends Entity> implements
   protected int _numRecentAnomalies;
 
   public PercentileMetricAnomalyFinder() {
-    _percentile = new Percentile();
+    _historyPercentiles = new HashMap<>();
     _numRecentAnomalies = 0;
   }
 
@@ -70,15 +71,17 @@ public abstract class PercentileMetricAnomalyFinder<E extends Entity> implements
       // No history metric values exist for the given metricId.
       return null;
     }
-    _percentile.setData(historyMetricValues.doubleArray());
+    SlidingWindowPercentile historyPercentile = _historyPercentiles.computeIfAbsent(entity, e -> new HashMap<>())
+                                                                   .computeIfAbsent(metricId, m -> new SlidingWindowPercentile());
+    historyPercentile.update(history.windows(), historyMetricValues::get);
 
-    double upperPercentileMetricValue = _percentile.evaluate(_anomalyUpperPercentile);
+    double upperPercentileMetricValue = historyPercentile.percentile(_anomalyUpperPercentile);
     if (upperPercentileMetricValue <= SIGNIFICANT_METRIC_VALUE_THRESHOLD) {
       return null;
     }
 
     double upperThreshold = upperPercentileMetricValue * (1 + _anomalyUpperMargin);
-    double lowerThreshold = _percentile.evaluate(_anomalyLowerPercentile) * _anomalyLowerMargin;
+    double lowerThreshold = historyPercentile.percentile(_anomalyLowerPercentile) * _anomalyLowerMargin;
     double currentMetricValue = current.metricValues().valuesFor(metricId).latest();
 
     long currentWindow = current.window(0);
@@ -147,6 +150,8 @@ public abstract class PercentileMetricAnomalyFinder<E extends Entity> implements
                                                               _anomalyUpperPercentile, _anomalyLowerPercentile)) {
       return Collections.emptySet();
     }
+    // Drop the percentile estimators of the entities without history, e.g. removed brokers.
+    _historyPercentiles.keySet().retainAll(metricsHistoryByEntity.keySet());
 
     Set<MetricAnomaly<E>> metricAnomalies = new HashSet<>();
     for (Map.Entry<E, ValuesAndExtrapolations> entry : currentMetricsByEntity.entrySet()) {
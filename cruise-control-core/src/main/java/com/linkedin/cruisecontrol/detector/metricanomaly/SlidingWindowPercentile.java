@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.cruisecontrol.detector.metricanomaly;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+
+/**
+ * A percentile estimator over the values of a metric in a sliding set of windows -- e.g. the history windows of an entity.
+ *
+ * The estimator keeps the values sorted across updates. When the windows roll, an update only evicts the values of the
+ * windows that rolled out and inserts the values of the windows that rolled in (or whose value has changed), instead of
+ * sorting all the values again. Hence, a percentile is evaluated in constant time.
+ *
+ * The percentiles are estimated the same way as the default {@link org.apache.commons.math3.stat.descriptive.rank.Percentile}
+ * -- i.e. the legacy estimation with NaN values removed.
+ *
+ * This class is not thread-safe.
+ */
+public class SlidingWindowPercentile {
+  // Windows and their values in the order of the last update -- i.e. from the newest to the oldest for history windows.
+  private long[] _windows;
+  private double[] _values;
+  private int _numWindows;
+  // Buffers for the next update, swapped with the current windows and values after each update.
+  private long[] _nextWindows;
+  private double[] _nextValues;
+  // Non-NaN values sorted in ascending order.
+  private double[] _sortedValues;
+  private int _size;
+
+  public SlidingWindowPercentile() {
+    _windows = new long[0];
+    _values = new double[0];
+    _nextWindows = new long[0];
+    _nextValues = new double[0];
+    _sortedValues = new double[0];
+    _numWindows = 0;
+    _size = 0;
+  }
+
+  /**
+   * Update the estimator with the values in the given windows. Values of the windows that are not in the given windows are
+   * evicted. NaN values are not taken into account in percentiles -- e.g. to skip a window with insufficient data.
+   *
+   * The update is incremental if the given windows are sorted in the same order (e.g. from the newest to the oldest) across
+   * updates. Otherwise, it is still correct but may evict and insert the values of windows that are in both updates.
+   *
+   * @param windows Windows of the values.
+   * @param valueAt The value of the window at the given index of the windows.
+   */
+  public void update(List<Long> windows, IntToDoubleFunction valueAt) {
+    int numWindows = windows.size();
+    if (_nextWindows.length < numWindows) {
+      _nextWindows = new long[numWindows];
+      _nextValues = new double[numWindows];
+    }
+
+    int i = 0;
+    for (int j = 0; j < numWindows; j++) {
+      long window = windows.get(j);
+      double value = valueAt.applyAsDouble(j);
+      // Evict the windows that precede the given window in the last update, but not in this update.
+      while (i < _numWindows && _windows[i] > window) {
+        remove(_values[i++]);
+      }
+      if (i < _numWindows && _windows[i] == window) {
+        if (Double.compare(_values[i], value) != 0) {
+          remove(_values[i]);
+          insert(value);
+        }
+        i++;
+      } else {
+        insert(value);
+      }
+      _nextWindows[j] = window;
+      _nextValues[j] = value;
+    }
+    while (i < _numWindows) {
+      remove(_values[i++]);
+    }
+
+    long[] windowsToReuse = _windows;
+    double[] valuesToReuse = _values;
+    _windows = _nextWindows;
+    _values = _nextValues;
+    _nextWindows = windowsToReuse;
+    _nextValues = valuesToReuse;
+    _numWindows = numWindows;
+  }
+
+  /**
+   * @return The number of non-NaN values in the estimator.
+   */
+  public int size() {
+    return _size;
+  }
+
+  /**
+   * Estimate the percentile of the values in the estimator.
+   *
+   * @param p The percentile to estimate, which must be in (0, 100].
+   * @return The estimated percentile, or {@link Double#NaN} if there is no value.
+   */
+  public double percentile(double p) {
+    if (p <= 0 || p > 100) {
+      throw new IllegalArgumentException(String.format("Percentile %f is out of range (0, 100].", p));
+    }
+    if (_size == 0) {
+      return Double.NaN;
+    }
+    if (_size == 1) {
+      return _sortedValues[0];
+    }
+    double quantile = p / 100;
+    double pos = Double.compare(quantile, 1d) == 0 ? _size : quantile * (_size + 1);
+    if (pos < 1) {
+      return _sortedValues[0];
+    }
+    if (pos >= _size) {
+      return _sortedValues[_size - 1];
+    }
+    double fpos = Math.floor(pos);
+    int intPos = (int) fpos;
+    double lower = _sortedValues[intPos - 1];
+    double upper = _sortedValues[intPos];
+    return lower + (pos - fpos) * (upper - lower);
+  }
+
+  private void insert(double value) {
+    if (Double.isNaN(value)) {
+      return;
+    }
+    if (_size == _sortedValues.length) {
+      _sortedValues = Arrays.copyOf(_sortedValues, Math.max(2 * _size, 1));
+    }
+    int index = Arrays.binarySearch(_sortedValues, 0, _size, value);
+    if (index < 0) {
+      index = -index - 1;
+    }
+    System.arraycopy(_sortedValues, index, _sortedValues, index + 1, _size - index);
+    _sortedValues[index] = value;
+    _size++;
+  }
+
+  private void remove(double value) {
+    if (Double.isNaN(value)) {
+      return;
+    }
+    int index = Arrays.binarySearch(_sortedValues, 0, _size, value);
+    System.arraycopy(_sortedValues, index + 1, _sortedValues, index, _size - index - 1);
+    _size--;
+  }
+}
@@ -3,6 +3,7 @@
  */
 package com.linkedin.cruisecontrol.http;
 
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
 import io.vertx.core.MultiMap;
 import java.io.IOException;
 import java.util.Map;
@@ -55,6 +56,23 @@ public interface CruiseControlRequestContext {
                                      boolean wantJsonSchema,
                                      String responseMessage) throws IOException;
 
+    /**
+     * Write the given compact response to the output stream, streaming it to the client without materializing the whole
+     * response where the underlying server allows.
+     *
+     * @param responseCode The response code.
+     * @param json {@code true} if the response is JSON, {@code false} otherwise.
+     * @param wantJsonSchema {@code true} to add the JSON schema of the response to the headers, {@code false} otherwise.
+     * @param response The compact response.
+     * @throws IOException If the response cannot be written.
+     */
+    default void writeResponseToOutputStream(int responseCode,
+                                             boolean json,
+                                             boolean wantJsonSchema,
+                                             CompactResponse response) throws IOException {
+        writeResponseToOutputStream(responseCode, json, wantJsonSchema, response.toString());
+    }
+
     CruiseControlHttpSession getSession();
 
     String getRequestURI();
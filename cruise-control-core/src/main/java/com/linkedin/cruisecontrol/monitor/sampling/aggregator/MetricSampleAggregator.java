@@ -7,6 +7,7 @@ package com.linkedin.cruisecontrol.monitor.sampling.aggregator;
 import com.linkedin.cruisecontrol.common.LongGenerationed;
 import com.linkedin.cruisecontrol.exception.NotEnoughValidWindowsException;
 import com.linkedin.cruisecontrol.metricdef.MetricDef;
+import com.linkedin.cruisecontrol.metricdef.MetricInfo;
 import com.linkedin.cruisecontrol.model.Entity;
 import com.linkedin.cruisecontrol.monitor.sampling.MetricSample;
 import java.util.ArrayList;
@@ -22,6 +23,7 @@ import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -84,7 +86,7 @@ import org.slf4j.LoggerFactory;
 public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerationed {
   private static final Logger LOG = LoggerFactory.getLogger(MetricSampleAggregator.class);
 
-  private final ConcurrentMap<E, RawMetricValues> _rawMetrics;
+  private final ConcurrentHashMap<E, RawMetricValues> _rawMetrics;
   private final MetricSampleAggregatorState<G, E> _aggregatorState;
   private final ReentrantLock _windowRollingLock;
   private final ConcurrentMap<E, E> _identityEntityMap;
@@ -265,6 +267,44 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
     }
   }
 
+  /**
+   * Scan the values of a metric of all the available entities in the current window and the given number of the most recent
+   * completed windows. Unlike {@link #aggregate(long, long, AggregationOptions)} and {@link #peekCurrentWindow()}, the scan
+   * neither aggregates the other metrics nor allocates a result per entity. Instead, the values of each entity are written
+   * into a dense array, which is reused across the entities scanned by the same thread. The array has the value of the
+   * current window at index 0, followed by the values of the completed windows from the newest to the oldest. Values are
+   * not extrapolated -- i.e. the value of a window without sufficient samples is {@link Float#NaN}.
+   *
+   * <p>
+   *   The entities are scanned in parallel if there are at least the given number of them. Hence, the consumer must be
+   *   thread-safe and must not retain the array of values.
+   * </p>
+   *
+   * @param metricId The id of the metric to scan.
+   * @param numCompletedWindows The number of the most recent completed windows to scan.
+   * @param parallelismThreshold The estimated number of entities needed to scan them in parallel.
+   * @param consumer The consumer of each entity and its values.
+   */
+  public void scanMetricValues(short metricId,
+                               int numCompletedWindows,
+                               long parallelismThreshold,
+                               BiConsumer<E, float[]> consumer) {
+    MetricInfo info = _metricDef.metricInfo(metricId);
+    // prevent window rolling.
+    _windowRollingLock.lock();
+    try {
+      int numWindowsToScan = (int) Math.min(numCompletedWindows, _currentWindowIndex - _oldestWindowIndex) + 1;
+      ThreadLocal<float[]> values = ThreadLocal.withInitial(() -> new float[numWindowsToScan]);
+      _rawMetrics.forEach(parallelismThreshold, (entity, rawValues) -> {
+        float[] valuesOfEntity = values.get();
+        rawValues.windowValues(info, _currentWindowIndex, valuesOfEntity);
+        consumer.accept(entity, valuesOfEntity);
+      });
+    } finally {
+      _windowRollingLock.unlock();
+    }
+  }
+
   /**
    * Get the {@link MetricSampleCompleteness} of the MetricSampleAggregator with the given {@link AggregationOptions}
    * for a given period of time. The current active window is excluded.
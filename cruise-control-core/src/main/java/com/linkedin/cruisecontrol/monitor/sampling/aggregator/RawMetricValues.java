@@ -347,6 +347,29 @@ public class RawMetricValues extends WindowIndexedArrays {
     return aggregate(window, metricDef, false);
   }
 
+  /**
+   * Get the values of a metric in the current window and the preceding windows, from the newest to the oldest, without
+   * {@link Extrapolation}. The value of the current window is {@link Float#NaN} if it has no sample yet, and the value
+   * of a preceding window is {@link Float#NaN} if it is not available or does not have sufficient samples.
+   *
+   * @param info The info of the metric to get the values for.
+   * @param currentWindowIndex Current window index.
+   * @param values The array to write the values into, whose length is the number of windows to get the values for.
+   */
+  public synchronized void windowValues(MetricInfo info, long currentWindowIndex, float[] values) {
+    float[] windowValues = _windowValuesByMetricId.get(info.id());
+    for (int i = 0; i < values.length; i++) {
+      long windowIndex = currentWindowIndex - i;
+      if (windowValues == null || windowIndex < _oldestWindowIndex || windowIndex > currentWindowIndex()) {
+        values[i] = Float.NaN;
+        continue;
+      }
+      int arrayIndex = arrayIndex(windowIndex);
+      byte minRequiredSamples = i == 0 ? 1 : _halfMinRequiredSamples;
+      values[i] = _counts[arrayIndex] >= minRequiredSamples ? getValue(info, arrayIndex, windowValues) : Float.NaN;
+    }
+  }
+
   /**
    * @return The total number of samples added to this RawMetricValues.
    */
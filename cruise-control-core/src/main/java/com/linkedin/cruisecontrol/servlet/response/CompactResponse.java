@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.cruisecontrol.servlet.response;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * A response kept in a compact form -- i.e. gzip-compressed UTF-8 bytes. Responses are written into this form as they are
+ * generated, so that large responses (e.g. verbose proposals) are never materialized as a single string. The compressed bytes
+ * can be sent as-is to clients that accept gzip encoding, or re-rendered on demand for other clients.
+ *
+ * This class is immutable and thread-safe.
+ */
+public final class CompactResponse {
+  private static final int BUFFER_SIZE = 8192;
+  private final byte[] _compressedContent;
+  private final long _contentLength;
+
+  private CompactResponse(byte[] compressedContent, long contentLength) {
+    _compressedContent = compressedContent;
+    _contentLength = contentLength;
+  }
+
+  /**
+   * A function that writes the content of a response to the given writer.
+   */
+  @FunctionalInterface
+  public interface ContentWriter {
+    /**
+     * @param writer Writer to write the content of the response to.
+     * @throws IOException If the content cannot be written.
+     */
+    void writeTo(Writer writer) throws IOException;
+  }
+
+  /**
+   * Create a compact response by streaming the content written by the given content writer into the compressed form.
+   *
+   * @param contentWriter Content writer that writes the content of the response.
+   * @return A compact response with the written content.
+   */
+  public static CompactResponse write(ContentWriter contentWriter) {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    CountingOutputStream counter;
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, BUFFER_SIZE)) {
+      counter = new CountingOutputStream(gzip);
+      Writer writer = new OutputStreamWriter(counter, StandardCharsets.UTF_8);
+      contentWriter.writeTo(writer);
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write the response.", e);
+    }
+    return new CompactResponse(compressed.toByteArray(), counter.count());
+  }
+
+  /**
+   * @param content Content of the response.
+   * @return A compact response with the given content.
+   */
+  public static CompactResponse of(String content) {
+    return write(writer -> writer.write(content));
+  }
+
+  /**
+   * @return Length of the uncompressed content of the response in bytes.
+   */
+  public long contentLength() {
+    return _contentLength;
+  }
+
+  /**
+   * @return Length of the compressed content of the response in bytes.
+   */
+  public int compressedLength() {
+    return _compressedContent.length;
+  }
+
+  /**
+   * Write the content of the response to the given output stream.
+   *
+   * @param out Output stream to write the content to.
+   * @param gzip {@code true} to write the gzip-compressed content, {@code false} to write the uncompressed content.
+   * @throws IOException If the content cannot be written.
+   */
+  public void writeTo(OutputStream out, boolean gzip) throws IOException {
+    if (gzip) {
+      out.write(_compressedContent);
+      return;
+    }
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(_compressedContent), BUFFER_SIZE)) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int numBytes;
+      while ((numBytes = in.read(buffer)) != -1) {
+        out.write(buffer, 0, numBytes);
+      }
+    }
+  }
+
+  /**
+   * Open a reader to read the uncompressed content of the response, e.g. to transcode the response into another encoding.
+   *
+   * @return A reader of the uncompressed content of the response.
+   * @throws IOException If the content cannot be decompressed.
+   */
+  public Reader openReader() throws IOException {
+    return new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(_compressedContent), BUFFER_SIZE), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return The uncompressed content of the response.
+   */
+  @Override
+  public String toString() {
+    ByteArrayOutputStream content = new ByteArrayOutputStream((int) Math.min(_contentLength, Integer.MAX_VALUE - 8));
+    try {
+      writeTo(content, false);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to render the response.", e);
+    }
+    return content.toString(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * An output stream that counts the number of bytes written to the underlying stream.
+   */
+  private static final class CountingOutputStream extends OutputStream {
+    private final OutputStream _out;
+    private long _count;
+
+    CountingOutputStream(OutputStream out) {
+      _out = out;
+      _count = 0L;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      _out.write(b);
+      _count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      _out.write(b, off, len);
+      _count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      _out.flush();
+    }
+
+    long count() {
+      return _count;
+    }
+  }
+}
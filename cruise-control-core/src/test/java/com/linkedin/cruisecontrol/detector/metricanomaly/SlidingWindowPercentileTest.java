@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.cruisecontrol.detector.metricanomaly;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.apache.commons.math3.stat.descriptive.rank.Percentile;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link SlidingWindowPercentile}.
+ */
+public class SlidingWindowPercentileTest {
+  private static final int NUM_WINDOWS = 20;
+  private static final double[] PERCENTILES = {0.1, 1.0, 5.0, 25.0, 50.0, 90.0, 95.0, 99.0, 100.0};
+
+  @Test
+  public void testPercentileIsConsistentWithCommonsPercentileAsWindowsRoll() {
+    Random random = new Random(0);
+    SlidingWindowPercentile slidingWindowPercentile = new SlidingWindowPercentile();
+    Map<Long, Double> valueByWindow = new HashMap<>();
+    long newestWindow = NUM_WINDOWS;
+    for (int round = 0; round < 100; round++) {
+      // Roll 0 to 3 windows in, and change the value of a window that is already in.
+      newestWindow += random.nextInt(4);
+      valueByWindow.put(newestWindow - random.nextInt(NUM_WINDOWS), randomValue(random));
+      List<Long> windows = new ArrayList<>(NUM_WINDOWS);
+      double[] values = new double[NUM_WINDOWS];
+      for (int i = 0; i < NUM_WINDOWS; i++) {
+        long window = newestWindow - i;
+        windows.add(window);
+        values[i] = valueByWindow.computeIfAbsent(window, w -> randomValue(random));
+      }
+      slidingWindowPercentile.update(windows, i -> values[i]);
+      assertPercentiles(values, slidingWindowPercentile);
+    }
+  }
+
+  @Test
+  public void testNaNValuesAreSkipped() {
+    SlidingWindowPercentile slidingWindowPercentile = new SlidingWindowPercentile();
+    assertTrue(Double.isNaN(slidingWindowPercentile.percentile(50.0)));
+
+    double[] values = {3.0, Double.NaN, 1.0, Double.NaN, 2.0};
+    slidingWindowPercentile.update(List.of(5L, 4L, 3L, 2L, 1L), i -> values[i]);
+    assertEquals(3, slidingWindowPercentile.size());
+    assertPercentiles(values, slidingWindowPercentile);
+
+    // Windows that rolled out are evicted, including the ones with NaN values.
+    double[] rolledValues = {Double.NaN, 4.0, 3.0, Double.NaN, 1.0};
+    slidingWindowPercentile.update(List.of(7L, 6L, 5L, 4L, 3L), i -> rolledValues[i]);
+    assertEquals(3, slidingWindowPercentile.size());
+    assertPercentiles(rolledValues, slidingWindowPercentile);
+
+    slidingWindowPercentile.update(List.of(), i -> Double.NaN);
+    assertEquals(0, slidingWindowPercentile.size());
+  }
+
+  private static double randomValue(Random random) {
+    // Use a small range to have duplicate values.
+    return random.nextInt(50) / 10.0;
+  }
+
+  private static void assertPercentiles(double[] values, SlidingWindowPercentile slidingWindowPercentile) {
+    Percentile percentile = new Percentile();
+    percentile.setData(values);
+    for (double p : PERCENTILES) {
+      assertEquals(percentile.evaluate(p), slidingWindowPercentile.percentile(p), 1e-9);
+    }
+  }
+}
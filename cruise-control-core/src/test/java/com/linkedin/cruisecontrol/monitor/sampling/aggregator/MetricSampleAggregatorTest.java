@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 
@@ -88,6 +89,36 @@ public class MetricSampleAggregatorTest {
     assertEquals(NUM_WINDOWS, aggregator.numAvailableWindows());
   }
 
+  @Test
+  public void testScanMetricValues() throws NotEnoughValidWindowsException {
+    MetricSampleAggregator<String, IntegerEntity> aggregator =
+        new MetricSampleAggregator<>(NUM_WINDOWS, WINDOW_MS, MIN_SAMPLES_PER_WINDOW, 0, _metricDef);
+    populateSampleAggregator(NUM_WINDOWS + 1, MIN_SAMPLES_PER_WINDOW, aggregator, ENTITY1);
+    // ENTITY2 has insufficient samples in the completed windows, and no sample in the current window.
+    populateSampleAggregator(NUM_WINDOWS, 1, aggregator, ENTITY2);
+
+    AggregationOptions<String, IntegerEntity> options =
+        new AggregationOptions<>(0.0, 0.0, NUM_WINDOWS, 5, Collections.singleton(ENTITY1), AggregationOptions.Granularity.ENTITY, true);
+    ValuesAndExtrapolations history = aggregator.aggregate(-1, Long.MAX_VALUE, options).valuesAndExtrapolations().get(ENTITY1);
+    ValuesAndExtrapolations current = aggregator.peekCurrentWindow().get(ENTITY1);
+    for (MetricInfo info : _metricDef.all()) {
+      Map<IntegerEntity, float[]> valuesByEntity = new ConcurrentHashMap<>();
+      aggregator.scanMetricValues(info.id(), NUM_WINDOWS, 1, (entity, values) -> valuesByEntity.put(entity, values.clone()));
+      assertEquals(2, valuesByEntity.size());
+
+      // The scanned values are the same as the current and the aggregated values if the windows have sufficient samples.
+      float[] values = valuesByEntity.get(ENTITY1);
+      assertEquals(NUM_WINDOWS + 1, values.length);
+      assertEquals(current.metricValues().valuesFor(info.id()).latest(), values[0], EPSILON);
+      for (int i = 0; i < NUM_WINDOWS; i++) {
+        assertEquals(history.metricValues().valuesFor(info.id()).get(i), values[i + 1], EPSILON);
+      }
+      for (float value : valuesByEntity.get(ENTITY2)) {
+        assertTrue(Float.isNaN(value));
+      }
+    }
+  }
+
   @Test
   public void testGeneration() {
     MetricSampleAggregator<String, IntegerEntity> aggregator =
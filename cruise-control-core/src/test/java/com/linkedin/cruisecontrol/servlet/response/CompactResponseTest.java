@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.cruisecontrol.servlet.response;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link CompactResponse}
+ */
+public class CompactResponseTest {
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    String content = "{\"records\":[\"\u00e9t\u00e9\"]}";
+    CompactResponse response = CompactResponse.of(content);
+    assertEquals(content, response.toString());
+    assertEquals(content.getBytes(StandardCharsets.UTF_8).length, response.contentLength());
+
+    ByteArrayOutputStream plain = new ByteArrayOutputStream();
+    response.writeTo(plain, false);
+    assertEquals(content, plain.toString(StandardCharsets.UTF_8));
+
+    ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+    response.writeTo(gzipped, true);
+    assertEquals(response.compressedLength(), gzipped.size());
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.toByteArray()))) {
+      assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testStreamedContentIsCompact() {
+    int numRecords = 100_000;
+    CompactResponse response = CompactResponse.write(writer -> {
+      for (int i = 0; i < numRecords; i++) {
+        writer.write("{\"topic\":\"topic\",\"partition\":" + (i % 100) + "}\n");
+      }
+    });
+    String content = response.toString();
+    assertEquals(numRecords, content.split("\n").length);
+    assertEquals(content.length(), response.contentLength());
+    assertTrue(response.compressedLength() * 10L < response.contentLength());
+  }
+}
@@ -34,6 +34,7 @@ import com.linkedin.kafka.cruisecontrol.executor.strategy.ReplicaMovementStrateg
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.model.ModelParameters;
 import com.linkedin.kafka.cruisecontrol.model.ModelUtils;
+import com.linkedin.kafka.cruisecontrol.model.PartitionLoadIndex;
 import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
 import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitorState;
 import com.linkedin.kafka.cruisecontrol.monitor.ModelCompletenessRequirements;
@@ -330,6 +331,33 @@ public class KafkaCruiseControl {
     return _loadMonitor.cachedBrokerLoadStats(allowCapacityEstimation);
   }
 
+  /**
+   * Get the partition load index from the cache. null will be returned if there is no valid cached index for the given options.
+   * @param wantMaxLoad {@code true} to get the index of the max load, {@code false} otherwise.
+   * @param wantAvgLoad {@code true} to get the index of the average load, {@code false} otherwise.
+   * @param minValidPartitionRatio The minimum valid partition ratio of the cluster model.
+   * @param allowCapacityEstimation Allow capacity estimation in cluster model if the requested broker capacity is unavailable.
+   * @return The cached partition load index.
+   */
+  public PartitionLoadIndex cachedPartitionLoadIndex(boolean wantMaxLoad,
+                                                     boolean wantAvgLoad,
+                                                     double minValidPartitionRatio,
+                                                     boolean allowCapacityEstimation) {
+    return _loadMonitor.cachedPartitionLoadIndex(wantMaxLoad, wantAvgLoad, minValidPartitionRatio, allowCapacityEstimation);
+  }
+
+  /**
+   * Cache the given partition load index.
+   * @param partitionLoadIndex The partition load index to cache.
+   * @param minValidPartitionRatio The minimum valid partition ratio of the cluster model of the index.
+   * @param allowCapacityEstimation {@code true} if capacity estimation was allowed, {@code false} otherwise.
+   */
+  public void cachePartitionLoadIndex(PartitionLoadIndex partitionLoadIndex,
+                                      double minValidPartitionRatio,
+                                      boolean allowCapacityEstimation) {
+    _loadMonitor.cachePartitionLoadIndex(partitionLoadIndex, minValidPartitionRatio, allowCapacityEstimation);
+  }
+
   /**
    * Get the cluster model cutting off at the current timestamp.
    * @param requirements the model completeness requirements.
@@ -841,6 +869,26 @@ public class KafkaCruiseControl {
     return _goalOptimizer.state(cluster);
   }
 
+  /**
+   * Get the state of the load monitor, which is recomputed only if the given cluster or the monitored load has changed.
+   *
+   * @param clusterAndGeneration Kafka cluster and its generation.
+   * @return The state of the load monitor.
+   */
+  public LoadMonitorState monitorState(MetadataClient.ClusterAndGeneration clusterAndGeneration) {
+    return _loadMonitor.state(clusterAndGeneration);
+  }
+
+  /**
+   * Get the analyzer state from the goal optimizer, which is recomputed only if the given cluster or the monitored load has changed.
+   *
+   * @param clusterAndGeneration Kafka cluster and its generation.
+   * @return The analyzer state.
+   */
+  public AnalyzerState analyzerState(MetadataClient.ClusterAndGeneration clusterAndGeneration) {
+    return _goalOptimizer.state(clusterAndGeneration);
+  }
+
   /**
    * @return Anomaly detector state.
    */
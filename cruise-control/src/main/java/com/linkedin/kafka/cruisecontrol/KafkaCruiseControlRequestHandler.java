@@ -13,12 +13,19 @@ import com.linkedin.kafka.cruisecontrol.async.AsyncKafkaCruiseControl;
 import com.linkedin.kafka.cruisecontrol.config.RequestParameterWrapper;
 import com.linkedin.kafka.cruisecontrol.config.constants.WebServerConfig;
 import com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint;
+import com.linkedin.kafka.cruisecontrol.servlet.TooManyRequestsException;
 import com.linkedin.kafka.cruisecontrol.servlet.UserRequestException;
+import com.linkedin.kafka.cruisecontrol.servlet.handler.async.AbstractAsyncRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.REVIEW;
 import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.REVIEW_BOARD;
@@ -29,6 +36,7 @@ import static com.linkedin.kafka.cruisecontrol.servlet.KafkaCruiseControlServlet
 import static com.linkedin.kafka.cruisecontrol.servlet.KafkaCruiseControlServletUtils.getValidEndpoint;
 import static com.linkedin.kafka.cruisecontrol.servlet.KafkaCruiseControlServletUtils.handleConfigException;
 import static com.linkedin.kafka.cruisecontrol.servlet.KafkaCruiseControlServletUtils.handleException;
+import static com.linkedin.kafka.cruisecontrol.servlet.KafkaCruiseControlServletUtils.handleTooManyRequestsException;
 import static com.linkedin.kafka.cruisecontrol.servlet.KafkaCruiseControlServletUtils.handleUserRequestException;
 import static com.linkedin.kafka.cruisecontrol.servlet.KafkaCruiseControlServletUtils.requestParameterFor;
 import static com.linkedin.kafka.cruisecontrol.servlet.parameters.ParameterUtils.hasValidParameterNames;
@@ -56,43 +64,114 @@ public class KafkaCruiseControlRequestHandler {
      */
     public void doGetOrPost(CruiseControlRequestContext context) throws IOException {
         try {
-            _cruiseControlEndPoints.asyncOperationStep().set(0);
-            CruiseControlEndPoint endPoint = getValidEndpoint(context);
-            if (endPoint != null) {
-                _cruiseControlEndPoints.requestMeter().get(endPoint).mark();
-                Map<String, Object> requestConfigOverrides = new HashMap<>();
-                requestConfigOverrides.put(KAFKA_CRUISE_CONTROL_REQUEST_HANDLER_OBJECT_CONFIG, this);
-
-                Map<String, Object> parameterConfigOverrides = new HashMap<>();
-                parameterConfigOverrides.putAll(context.getParameterConfigOverrides());
-                parameterConfigOverrides.put(KAFKA_CRUISE_CONTROL_CONFIG_OBJECT_CONFIG, _cruiseControlEndPoints.config());
-                switch (context.getMethod()) {
-                    case GET_METHOD:
-                        handleGet(context, endPoint, requestConfigOverrides, parameterConfigOverrides);
-                        break;
-                    case POST_METHOD:
-                        handlePost(context, endPoint, requestConfigOverrides, parameterConfigOverrides);
-                        break;
-                    default:
-                        throw new IllegalArgumentException("Unsupported request method: " + context.getMethod() + ".");
-                }
+            Request ccRequest = request(context);
+            if (ccRequest != null) {
+                ccRequest.handle(context);
             }
-        } catch (UserRequestException ure) {
-            String errorMessage = handleUserRequestException(ure, context);
-            LOG.error(errorMessage, ure);
-        } catch (ConfigException ce) {
-            String errorMessage = handleConfigException(ce, context);
-            LOG.error(errorMessage, ce);
         } catch (Exception e) {
+            handleRequestException(e, context);
+        }
+    }
+
+    /**
+     * Handles the request without blocking the calling thread. Async requests complete via callbacks once their operation
+     * finishes or the max block time elapses, and their responses or progress events are rendered and written by the given blocking
+     * executor. The other requests are handled by the given blocking executor. Errors are mapped to the same responses as in
+     * {@link #doGetOrPost(CruiseControlRequestContext)}.
+     *
+     * @param context is the request context that will provide any information for handling it.
+     * @param blockingExecutor Executor to handle the requests that may block, and to render and write the responses with.
+     * @param responseExecutor Executor to write the error responses with.
+     * @return A future that completes once the response is written.
+     */
+    public CompletableFuture<Void> doGetOrPostAsync(CruiseControlRequestContext context, Executor blockingExecutor, Executor responseExecutor) {
+        CompletableFuture<Void> result;
+        try {
+            Request ccRequest = request(context);
+            if (ccRequest == null) {
+                result = CompletableFuture.completedFuture(null);
+            } else if (ccRequest instanceof AbstractAsyncRequest) {
+                result = ((AbstractAsyncRequest) ccRequest).handleAsync(context, blockingExecutor);
+            } else {
+                result = CompletableFuture.runAsync(() -> {
+                    try {
+                        ccRequest.handle(context);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, blockingExecutor);
+            }
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.whenCompleteAsync((ignored, throwable) -> {
+            if (throwable != null) {
+                try {
+                    handleRequestException(unwrap(throwable), context);
+                } catch (IOException ioe) {
+                    LOG.error("Failed to write the error response for request '{}'.", context.getPathInfo(), ioe);
+                }
+            }
+        }, responseExecutor);
+    }
+
+    private static Exception unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof Exception ? (Exception) cause : new ExecutionException(cause);
+    }
+
+    /**
+     * Get the request for the endpoint of the given request context.
+     * @param context is the request context that will provide any information for handling it.
+     * @return The request to handle, or {@code null} if the request has already been responded to -- e.g. due to an invalid
+     * endpoint or parameter names, or being added to the purgatory.
+     */
+    private Request request(CruiseControlRequestContext context) throws Exception {
+        _cruiseControlEndPoints.asyncOperationStep().set(0);
+        CruiseControlEndPoint endPoint = getValidEndpoint(context);
+        if (endPoint == null) {
+            return null;
+        }
+        _cruiseControlEndPoints.requestMeter().get(endPoint).mark();
+        Map<String, Object> requestConfigOverrides = new HashMap<>();
+        requestConfigOverrides.put(KAFKA_CRUISE_CONTROL_REQUEST_HANDLER_OBJECT_CONFIG, this);
+
+        Map<String, Object> parameterConfigOverrides = new HashMap<>();
+        parameterConfigOverrides.putAll(context.getParameterConfigOverrides());
+        parameterConfigOverrides.put(KAFKA_CRUISE_CONTROL_CONFIG_OBJECT_CONFIG, _cruiseControlEndPoints.config());
+        switch (context.getMethod()) {
+            case GET_METHOD:
+                return handleGet(context, endPoint, requestConfigOverrides, parameterConfigOverrides);
+            case POST_METHOD:
+                return handlePost(context, endPoint, requestConfigOverrides, parameterConfigOverrides);
+            default:
+                throw new IllegalArgumentException("Unsupported request method: " + context.getMethod() + ".");
+        }
+    }
+
+    private void handleRequestException(Exception e, CruiseControlRequestContext context) throws IOException {
+        if (e instanceof UserRequestException) {
+            String errorMessage = handleUserRequestException((UserRequestException) e, context);
+            LOG.error(errorMessage, e);
+        } else if (e instanceof ConfigException) {
+            String errorMessage = handleConfigException((ConfigException) e, context);
+            LOG.error(errorMessage, e);
+        } else if (e instanceof TooManyRequestsException) {
+            String errorMessage = handleTooManyRequestsException((TooManyRequestsException) e, context);
+            LOG.warn(errorMessage);
+        } else {
             String errorMessage = handleException(e, context);
             LOG.error(errorMessage, e);
         }
     }
 
-    private void handleGet(CruiseControlRequestContext requestContext,
-                           CruiseControlEndPoint endPoint,
-                           Map<String, Object> requestConfigOverrides,
-                           Map<String, Object> parameterConfigOverrides)
+    private Request handleGet(CruiseControlRequestContext requestContext,
+                              CruiseControlEndPoint endPoint,
+                              Map<String, Object> requestConfigOverrides,
+                              Map<String, Object> parameterConfigOverrides)
             throws Exception {
         // Sanity check: if the request is for REVIEW_BOARD, two step verification must be enabled.
         if (endPoint == REVIEW_BOARD && !_cruiseControlEndPoints.twoStepVerification()) {
@@ -105,17 +184,16 @@ public class KafkaCruiseControlRequestHandler {
                 parameterConfigOverrides);
         if (hasValidParameterNames(requestContext, parameters)) {
             requestConfigOverrides.put(requestParameter.parameterObject(), parameters);
-            Request ccRequest = _cruiseControlEndPoints.config().getConfiguredInstance(requestParameter.requestClass(),
+            return _cruiseControlEndPoints.config().getConfiguredInstance(requestParameter.requestClass(),
                     Request.class, requestConfigOverrides);
-
-            ccRequest.handle(requestContext);
         }
+        return null;
     }
 
-    private void handlePost(CruiseControlRequestContext requestContext,
-                            CruiseControlEndPoint endPoint,
-                            Map<String, Object> requestConfigOverrides,
-                            Map<String, Object> parameterConfigOverrides)
+    private Request handlePost(CruiseControlRequestContext requestContext,
+                               CruiseControlEndPoint endPoint,
+                               Map<String, Object> requestConfigOverrides,
+                               Map<String, Object> parameterConfigOverrides)
             throws Exception {
         CruiseControlParameters parameters;
         RequestParameterWrapper requestParameter = requestParameterFor(endPoint);
@@ -129,14 +207,14 @@ public class KafkaCruiseControlRequestHandler {
             parameters = _cruiseControlEndPoints.config().getConfiguredInstance(requestParameter.parametersClass(),
                     CruiseControlParameters.class, parameterConfigOverrides);
             if (!hasValidParameterNames(requestContext, parameters)) {
-                return;
+                return null;
             }
         } else if (!_cruiseControlEndPoints.twoStepVerification()) {
             // Do not add to the purgatory if the two-step verification is disabled.
             parameters = _cruiseControlEndPoints.config().getConfiguredInstance(requestParameter.parametersClass(),
                     CruiseControlParameters.class, parameterConfigOverrides);
             if (!hasValidParameterNames(requestContext, parameters)) {
-                return;
+                return null;
             }
         } else {
             // Add to the purgatory if the two-step verification is enabled.
@@ -144,17 +222,13 @@ public class KafkaCruiseControlRequestHandler {
                     parameterConfigOverrides, _cruiseControlEndPoints.userTaskManager());
         }
 
-        Request ccRequest = null;
-        if (parameters != null) {
-            requestConfigOverrides.put(requestParameter.parameterObject(), parameters);
-            ccRequest = _cruiseControlEndPoints.config().getConfiguredInstance(requestParameter.requestClass(),
-                    Request.class, requestConfigOverrides);
-        }
-
-        if (ccRequest != null) {
-            // ccRequest would be null if request is added to Purgatory.
-            ccRequest.handle(requestContext);
+        // The request would be null if it is added to Purgatory.
+        if (parameters == null) {
+            return null;
         }
+        requestConfigOverrides.put(requestParameter.parameterObject(), parameters);
+        return _cruiseControlEndPoints.config().getConfiguredInstance(requestParameter.requestClass(),
+                Request.class, requestConfigOverrides);
     }
 
     public KafkaCruiseControlEndPoints cruiseControlEndPoints() {
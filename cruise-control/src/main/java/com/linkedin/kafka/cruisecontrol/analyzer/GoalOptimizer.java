@@ -5,6 +5,8 @@
 package com.linkedin.kafka.cruisecontrol.analyzer;
 
 import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.linkedin.kafka.cruisecontrol.common.Utils;
@@ -19,15 +21,22 @@ import com.linkedin.kafka.cruisecontrol.async.progress.OperationProgress;
 import com.linkedin.kafka.cruisecontrol.exception.OptimizationFailureException;
 import com.linkedin.kafka.cruisecontrol.executor.ExecutionProposal;
 import com.linkedin.kafka.cruisecontrol.executor.Executor;
+import com.linkedin.kafka.cruisecontrol.model.Broker;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModelStats;
 import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import com.linkedin.kafka.cruisecontrol.common.MetadataClient;
+import com.linkedin.kafka.cruisecontrol.monitor.GenerationCachedValue;
 import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
+import com.linkedin.kafka.cruisecontrol.monitor.MetadataChange;
 import com.linkedin.kafka.cruisecontrol.monitor.ModelCompletenessRequirements;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
 import com.linkedin.kafka.cruisecontrol.monitor.MonitorUtils;
 import com.linkedin.kafka.cruisecontrol.monitor.task.LoadMonitorTaskRunner;
 import com.linkedin.kafka.cruisecontrol.servlet.response.stats.BrokerStats;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -45,6 +54,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.utils.Time;
 import org.slf4j.Logger;
@@ -72,16 +82,25 @@ public class GoalOptimizer implements Runnable {
   private final Time _time;
   private final int _numPrecomputingThreads;
   private final long _proposalExpirationMs;
+  private final double _proposalRevalidationMaxLeadershipChangeRatio;
   private final ExecutorService _proposalPrecomputingExecutor;
   private final AtomicBoolean _progressUpdateLock;
   private final AtomicReference<Exception> _proposalGenerationException;
   private final OperationProgress _proposalPrecomputingProgress;
   private final Object _cacheLock;
   private volatile OptimizerResult _cachedProposals;
+  // The metadata that the cached proposals were last validated against, and its generation.
+  private Cluster _cachedProposalsCluster;
+  private int _cachedProposalsClusterGeneration;
   private volatile boolean _shutdown = false;
   private Thread _proposalPrecomputingSchedulerThread;
   private final boolean _allowCapacityEstimationOnProposalPrecompute;
+  private final boolean _proposalPrecomputeWarmStartEnabled;
+  // The last precomputed proposals, which the next precomputation starts from if warm start is enabled.
+  private volatile OptimizerResult _lastPrecomputedProposals;
+  private final Histogram _reusedProposalsHistogram;
   private final Timer _proposalComputationTimer;
+  private final Meter _proposalCacheRevalidationMeter;
   private final ModelCompletenessRequirements _defaultModelCompletenessRequirements;
   private final ModelCompletenessRequirements _requirementsWithAvailableValidWindows;
   private final Executor _executor;
@@ -90,6 +109,7 @@ public class GoalOptimizer implements Runnable {
   private final double _strictnessWeight;
   private final OptimizationOptionsGenerator _optimizationOptionsGenerator;
   private volatile boolean _hasUnfixableProposalOptimization;
+  private final GenerationCachedValue<Map<Goal, Boolean>> _cachedGoalReadiness = new GenerationCachedValue<>();
 
   /**
    * Constructor for Goal Optimizer takes the goals as input. The order of the list determines the priority of goals
@@ -114,6 +134,7 @@ public class GoalOptimizer implements Runnable {
     _balancingConstraint = new BalancingConstraint(config);
     _defaultExcludedTopics = Pattern.compile(config.getString(AnalyzerConfig.TOPICS_EXCLUDED_FROM_PARTITION_MOVEMENT_CONFIG));
     _proposalExpirationMs = config.getLong(AnalyzerConfig.PROPOSAL_EXPIRATION_MS_CONFIG);
+    _proposalRevalidationMaxLeadershipChangeRatio = config.getDouble(AnalyzerConfig.PROPOSAL_REVALIDATION_MAX_LEADERSHIP_CHANGE_RATIO_CONFIG);
     _proposalPrecomputingExecutor =
         Executors.newScheduledThreadPool(numProposalComputingThreads(),
                                          new KafkaCruiseControlThreadFactory("ProposalPrecomputingExecutor", false, LOG));
@@ -126,6 +147,8 @@ public class GoalOptimizer implements Runnable {
     _proposalGenerationException = new AtomicReference<>();
     _proposalPrecomputingProgress = new OperationProgress();
     _proposalComputationTimer = dropwizardMetricRegistry.timer(MetricRegistry.name(GOAL_OPTIMIZER_SENSOR, "proposal-computation-timer"));
+    _proposalCacheRevalidationMeter = dropwizardMetricRegistry.meter(MetricRegistry.name(GOAL_OPTIMIZER_SENSOR,
+                                                                                         "proposal-cache-revalidation-rate"));
 
     // The cluster is identified as unfixable if combined goals can not be fixed
     dropwizardMetricRegistry.register(MetricRegistry.name(GOAL_OPTIMIZER_SENSOR, "has-unfixable-proposal-optimization"),
@@ -136,6 +159,10 @@ public class GoalOptimizer implements Runnable {
     _priorityWeight = config.getDouble(AnalyzerConfig.GOAL_BALANCEDNESS_PRIORITY_WEIGHT_CONFIG);
     _strictnessWeight = config.getDouble(AnalyzerConfig.GOAL_BALANCEDNESS_STRICTNESS_WEIGHT_CONFIG);
     _allowCapacityEstimationOnProposalPrecompute = config.getBoolean(AnalyzerConfig.ALLOW_CAPACITY_ESTIMATION_ON_PROPOSAL_PRECOMPUTE_CONFIG);
+    _proposalPrecomputeWarmStartEnabled = config.getBoolean(AnalyzerConfig.PROPOSAL_PRECOMPUTE_WARM_START_ENABLED_CONFIG);
+    _lastPrecomputedProposals = null;
+    _reusedProposalsHistogram = dropwizardMetricRegistry.histogram(MetricRegistry.name(GOAL_OPTIMIZER_SENSOR,
+                                                                                       "proposal-precompute-reused-proposals"));
     Map<String, Object> overrideConfigs = Map.of(KAFKA_CRUISE_CONTROL_CONFIG_OBJECT_CONFIG, config, ADMIN_CLIENT_CONFIG, adminClient);
     _optimizationOptionsGenerator = config.getConfiguredInstance(AnalyzerConfig.OPTIMIZATION_OPTIONS_GENERATOR_CLASS_CONFIG,
                                                                  OptimizationOptionsGenerator.class,
@@ -234,8 +261,67 @@ public class GoalOptimizer implements Runnable {
       throw new KafkaCruiseControlException("Attempt to use proposal cache during ongoing execution.");
     }
     synchronized (_cacheLock) {
-      return _cachedProposals != null && !_cachedProposals.modelGeneration().isStale(_loadMonitor.clusterModelGeneration());
+      if (_cachedProposals == null) {
+        return false;
+      }
+      MetadataClient.ClusterAndGeneration clusterAndGeneration = _loadMonitor.refreshClusterAndGeneration();
+      ModelGeneration currentGeneration = _loadMonitor.clusterModelGeneration(clusterAndGeneration);
+      ModelGeneration cachedGeneration = new ModelGeneration(_cachedProposalsClusterGeneration,
+                                                             _cachedProposals.modelGeneration().loadGeneration());
+      if (!cachedGeneration.isStale(currentGeneration)) {
+        return true;
+      }
+      return !cachedGeneration.isLoadStale(currentGeneration) && revalidateCachedProposal(clusterAndGeneration);
+    }
+  }
+
+  /**
+   * Revalidate the cached proposals against the given metadata, whose generation is beyond the acceptable staleness lag of the
+   * metadata that the cached proposals were last validated against. Metadata generation changes with the leadership churn in the
+   * cluster; hence, rather than recomputing the proposals from scratch, the cached proposals remain valid if (1) the leadership
+   * is the only change in the metadata, (2) the ratio of partitions with a leadership change is at most
+   * {@link AnalyzerConfig#PROPOSAL_REVALIDATION_MAX_LEADERSHIP_CHANGE_RATIO_CONFIG}, and (3) the leadership has not changed on
+   * any broker that the cached proposals involve -- i.e. the load of the brokers the proposals were computed for is unchanged.
+   * The cached proposals are then considered to be validated against the given metadata.
+   *
+   * @param clusterAndGeneration The current metadata and its generation.
+   * @return {@code true} if the cached proposals are still valid, {@code false} otherwise.
+   */
+  boolean revalidateCachedProposal(MetadataClient.ClusterAndGeneration clusterAndGeneration) {
+    Cluster cluster = clusterAndGeneration.cluster();
+    if (_cachedProposalsCluster == null) {
+      return false;
+    }
+    MetadataChange metadataChange = MonitorUtils.metadataChange(_cachedProposalsCluster, cluster);
+    if (metadataChange.compareTo(MetadataChange.LEADERSHIP) > 0) {
+      LOG.debug("Cached proposals are invalidated due to a metadata change of {}.", metadataChange);
+      return false;
     }
+    List<TopicPartition> partitionsWithLeadershipChange = MonitorUtils.partitionsWithLeadershipChange(_cachedProposalsCluster, cluster);
+    if (partitionsWithLeadershipChange.size() > _proposalRevalidationMaxLeadershipChangeRatio * MonitorUtils.totalNumPartitions(cluster)) {
+      LOG.debug("Cached proposals are invalidated due to the leadership change of {} partitions.", partitionsWithLeadershipChange.size());
+      return false;
+    }
+    Set<Integer> brokersInProposals = new HashSet<>();
+    for (ExecutionProposal proposal : _cachedProposals.goalProposals()) {
+      proposal.oldReplicas().forEach(r -> brokersInProposals.add(r.brokerId()));
+      proposal.newReplicas().forEach(r -> brokersInProposals.add(r.brokerId()));
+    }
+    for (TopicPartition tp : partitionsWithLeadershipChange) {
+      Node previousLeader = _cachedProposalsCluster.leaderFor(tp);
+      Node currentLeader = cluster.leaderFor(tp);
+      if ((previousLeader != null && brokersInProposals.contains(previousLeader.id()))
+          || (currentLeader != null && brokersInProposals.contains(currentLeader.id()))) {
+        LOG.debug("Cached proposals are invalidated due to a leadership change of {} on a broker the proposals involve.", tp);
+        return false;
+      }
+    }
+    LOG.debug("Revalidated cached proposals against metadata generation {} (last validated: {}).",
+              clusterAndGeneration.generation(), _cachedProposalsClusterGeneration);
+    _cachedProposalsCluster = cluster;
+    _cachedProposalsClusterGeneration = clusterAndGeneration.generation();
+    _proposalCacheRevalidationMeter.mark();
+    return true;
   }
 
   /**
@@ -277,11 +363,33 @@ public class GoalOptimizer implements Runnable {
    * @return The analyzer state from the goal optimizer.
    */
   public AnalyzerState state(Cluster cluster) {
+    return new AnalyzerState(_cachedProposals != null, goalReadiness(cluster));
+  }
+
+  /**
+   * Get the analyzer state from the goal optimizer. The goal readiness, which requires checking the completeness of all
+   * partitions, is computed at most once per model generation.
+   *
+   * @param clusterAndGeneration Kafka cluster and its generation.
+   * @return The analyzer state from the goal optimizer.
+   */
+  public AnalyzerState state(MetadataClient.ClusterAndGeneration clusterAndGeneration) {
+    Map<Goal, Boolean> goalReadiness = _cachedGoalReadiness.get(_loadMonitor.clusterModelGeneration(clusterAndGeneration),
+                                                                () -> goalReadiness(clusterAndGeneration.cluster()));
+    return new AnalyzerState(_cachedProposals != null, goalReadiness);
+  }
+
+  private Map<Goal, Boolean> goalReadiness(Cluster cluster) {
+    // Goals with the same min monitored partitions percentage share the same number of valid windows.
+    Map<Double, Integer> numValidWindowsByMinMonitoredPartitionsPercentage = new HashMap<>();
     Map<Goal, Boolean> goalReadiness = new LinkedHashMap<>(_goalsByPriority.size());
     for (Goal goal : _goalsByPriority) {
-      goalReadiness.put(goal, _loadMonitor.meetCompletenessRequirements(cluster, goal.clusterModelCompletenessRequirements()));
+      ModelCompletenessRequirements requirements = goal.clusterModelCompletenessRequirements();
+      int numValidWindows = numValidWindowsByMinMonitoredPartitionsPercentage.computeIfAbsent(
+          requirements.minMonitoredPartitionsPercentage(), percentage -> _loadMonitor.numValidWindows(cluster, percentage));
+      goalReadiness.put(goal, numValidWindows >= requirements.minRequiredNumWindows());
     }
-    return new AnalyzerState(_cachedProposals != null, goalReadiness);
+    return Collections.unmodifiableMap(goalReadiness);
   }
 
   private void sanityCheckReadyForGettingCachedProposals() {
@@ -389,6 +497,14 @@ public class GoalOptimizer implements Runnable {
                                        List<Goal> goalsByPriority,
                                        OperationProgress operationProgress)
       throws KafkaCruiseControlException {
+    return optimizations(clusterModel, goalsByPriority, operationProgress, null);
+  }
+
+  private OptimizerResult optimizations(ClusterModel clusterModel,
+                                        List<Goal> goalsByPriority,
+                                        OperationProgress operationProgress,
+                                        OptimizerResult previousResult)
+      throws KafkaCruiseControlException {
     validateNotNull(clusterModel, "The cluster model cannot be null");
     if (goalsByPriority.isEmpty()) {
       throw new IllegalArgumentException("At least one goal must be provided to get an optimization result.");
@@ -400,7 +516,7 @@ public class GoalOptimizer implements Runnable {
     LOG.debug("Topics excluded from partition movement: {}", excludedTopics);
     OptimizationOptions optimizationOptions =
         _optimizationOptionsGenerator.optimizationOptionsForCachedProposalCalculation(clusterModel, excludedTopics);
-    return optimizations(clusterModel, goalsByPriority, operationProgress, null, optimizationOptions);
+    return optimizations(clusterModel, goalsByPriority, operationProgress, null, optimizationOptions, previousResult);
   }
 
   /**
@@ -438,6 +554,34 @@ public class GoalOptimizer implements Runnable {
                                        Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistributionForProposalGeneration,
                                        OptimizationOptions optimizationOptions)
       throws KafkaCruiseControlException {
+    return optimizations(clusterModel, goalsByPriority, operationProgress, initReplicaDistributionForProposalGeneration,
+                         optimizationOptions, null);
+  }
+
+  /**
+   * See {@link GoalOptimizer#optimizations(ClusterModel, List, OperationProgress, Map, OptimizationOptions)}.
+   *
+   * If a previous optimization result is given, the optimization is warm-started: the proposals of the previous result that
+   * are still valid are applied to the cluster model before optimizing the goals, so that the goals re-optimize only where
+   * the load or the metadata has changed. The generated proposals still start from the initial state of the cluster.
+   * Package private for unit test.
+   *
+   * @param clusterModel The state of the cluster.
+   * @param goalsByPriority the goals ordered by priority.
+   * @param operationProgress to report the job progress.
+   * @param initReplicaDistributionForProposalGeneration The initial replica distribution of the cluster, or {@code null}.
+   * @param optimizationOptions Optimization options.
+   * @param previousResult The previous optimization result to warm-start the optimization from, or {@code null} to optimize
+   *                       from the initial state of the cluster.
+   * @return Results of optimization containing the proposals and stats.
+   */
+  OptimizerResult optimizations(ClusterModel clusterModel,
+                                List<Goal> goalsByPriority,
+                                OperationProgress operationProgress,
+                                Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistributionForProposalGeneration,
+                                OptimizationOptions optimizationOptions,
+                                OptimizerResult previousResult)
+      throws KafkaCruiseControlException {
     LOG.trace("Cluster before optimization is {}", clusterModel);
     BrokerStats brokerStatsBeforeOptimization = clusterModel.brokerStats(null);
     Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
@@ -448,6 +592,27 @@ public class GoalOptimizer implements Runnable {
     // transfer AFTER partition transfer.)
     Set<Goal> optimizedGoals = new HashSet<>();
     Set<String> violatedGoalNamesBeforeOptimization = new HashSet<>();
+    int numReusedProposals = 0;
+    if (previousResult != null && !isSelfHealing && initReplicaDistributionForProposalGeneration == null) {
+      // The violations fixed by the reused proposals are not observed by the goals anymore. Hence, the goals that were violated
+      // in the previous result are evaluated against the initial state of the cluster before applying the reused proposals.
+      // A goal is carried over only if it can check its violation without optimizing (see Goal#isViolated), and it is violated
+      // in the initial state. Otherwise, the goal would remain violated in every warm-started optimization.
+      Set<String> previouslyViolatedGoalNames = new HashSet<>();
+      for (Goal goal : goalsByPriority) {
+        if (previousResult.violatedGoalsBeforeOptimization().contains(goal.name())
+            && hasViolationCheck(goal)
+            && goal.isViolated(clusterModel, optimizationOptions)) {
+          previouslyViolatedGoalNames.add(goal.name());
+        }
+      }
+      numReusedProposals = applyReusableProposals(clusterModel, previousResult.goalProposals(), initReplicaDistribution,
+                                                  initLeaderDistribution, optimizationOptions);
+      if (numReusedProposals > 0) {
+        violatedGoalNamesBeforeOptimization.addAll(previouslyViolatedGoalNames);
+      }
+      LOG.info("Warm-started the optimization with {} of {} previous proposals.", numReusedProposals, previousResult.goalProposals().size());
+    }
     Set<String> violatedGoalNamesAfterOptimization = new HashSet<>();
     LinkedHashMap<Goal, ClusterModelStats> statsByGoalPriority = new LinkedHashMap<>(goalsByPriority.size());
     Map<TopicPartition, List<ReplicaPlacementInfo>> preOptimizedReplicaDistribution = null;
@@ -520,7 +685,90 @@ public class GoalOptimizer implements Runnable {
                                optimizationOptions,
                                balancednessCostByGoal(goalsByPriority, _priorityWeight, _strictnessWeight),
                                optimizationDurationByGoal,
-                               provisionResponse);
+                               provisionResponse,
+                               numReusedProposals);
+  }
+
+  /**
+   * Apply the given proposals of a previous optimization to the given cluster model, if they are still valid -- i.e.
+   * <ul>
+   *   <li>the partition has the same replicas and leader in the initial state of the cluster as the proposal started from,</li>
+   *   <li>the topic of the partition is not excluded,</li>
+   *   <li>the destination brokers are alive and not excluded for replica move, and the new leader is not excluded for leadership.</li>
+   * </ul>
+   *
+   * @param clusterModel The state of the cluster.
+   * @param proposals Proposals of a previous optimization.
+   * @param initReplicaDistribution The initial replica distribution of the cluster.
+   * @param initLeaderDistribution The initial leader distribution of the cluster.
+   * @param optimizationOptions Optimization options.
+   * @return Number of the applied proposals.
+   */
+  /**
+   * @param goal Goal to check.
+   * @return {@code true} if the given goal overrides {@link Goal#isViolated(ClusterModel, OptimizationOptions)} -- i.e. the goal
+   * can tell whether it is violated without optimizing the cluster model, {@code false} otherwise.
+   */
+  private static boolean hasViolationCheck(Goal goal) {
+    try {
+      return goal.getClass().getMethod("isViolated", ClusterModel.class, OptimizationOptions.class).getDeclaringClass() != Goal.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static int applyReusableProposals(ClusterModel clusterModel,
+                                            Set<ExecutionProposal> proposals,
+                                            Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution,
+                                            Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution,
+                                            OptimizationOptions optimizationOptions) {
+    if (!optimizationOptions.requestedDestinationBrokerIds().isEmpty() || optimizationOptions.onlyMoveImmigrantReplicas()) {
+      return 0;
+    }
+    int numReusedProposals = 0;
+    for (ExecutionProposal proposal : proposals) {
+      TopicPartition tp = proposal.topicPartition();
+      List<ReplicaPlacementInfo> initReplicas = initReplicaDistribution.get(tp);
+      if (initReplicas == null || optimizationOptions.excludedTopics().contains(tp.topic())
+          || !brokerIds(initReplicas).equals(brokerIds(proposal.oldReplicas()))
+          || !initLeaderDistribution.get(tp).brokerId().equals(proposal.oldLeader().brokerId())) {
+        continue;
+      }
+      List<Integer> oldBrokerIds = brokerIds(proposal.oldReplicas());
+      List<Integer> newBrokerIds = brokerIds(proposal.newReplicas());
+      List<Integer> sourceBrokerIds = new ArrayList<>(oldBrokerIds);
+      sourceBrokerIds.removeAll(newBrokerIds);
+      List<Integer> destinationBrokerIds = new ArrayList<>(newBrokerIds);
+      destinationBrokerIds.removeAll(oldBrokerIds);
+      int newLeaderId = proposal.newLeader().brokerId();
+      boolean isValid = sourceBrokerIds.size() == destinationBrokerIds.size()
+                        && (newLeaderId == proposal.oldLeader().brokerId()
+                            || !optimizationOptions.excludedBrokersForLeadership().contains(newLeaderId));
+      for (int destinationBrokerId : destinationBrokerIds) {
+        Broker destinationBroker = clusterModel.broker(destinationBrokerId);
+        isValid = isValid && destinationBroker != null && destinationBroker.isAlive()
+                  && !optimizationOptions.excludedBrokersForReplicaMove().contains(destinationBrokerId);
+      }
+      if (!isValid) {
+        continue;
+      }
+      // Leadership transfer AFTER partition transfer.
+      for (int i = 0; i < sourceBrokerIds.size(); i++) {
+        clusterModel.relocateReplica(tp, sourceBrokerIds.get(i), destinationBrokerIds.get(i));
+      }
+      int leaderId = clusterModel.partition(tp).leader().broker().id();
+      if (leaderId != newLeaderId) {
+        clusterModel.relocateLeadership(tp, leaderId, newLeaderId);
+      }
+      numReusedProposals++;
+    }
+    return numReusedProposals;
+  }
+
+  private static List<Integer> brokerIds(List<ReplicaPlacementInfo> replicas) {
+    List<Integer> brokerIds = new ArrayList<>(replicas.size());
+    replicas.forEach(replica -> brokerIds.add(replica.brokerId()));
+    return brokerIds;
   }
 
   private void setHasUnfixableProposalOptimization(boolean hasUnfixableProposalOptimization, List<Goal> goalsByPriority) {
@@ -553,10 +801,15 @@ public class GoalOptimizer implements Runnable {
     return _balancingConstraint.brokerSetResolver();
   }
 
-  private OptimizerResult updateCachedProposals(OptimizerResult result) {
+  /**
+   * Package private for unit tests.
+   */
+  OptimizerResult updateCachedProposals(OptimizerResult result, Cluster cluster) {
     synchronized (_cacheLock) {
       _hasOngoingExplicitPrecomputation = false;
       _cachedProposals = result;
+      _cachedProposalsCluster = cluster;
+      _cachedProposalsClusterGeneration = result.modelGeneration().clusterGeneration();
       // Wake up any thread that is waiting for a proposal update.
       _cacheLock.notifyAll();
       return _cachedProposals;
@@ -566,6 +819,7 @@ public class GoalOptimizer implements Runnable {
   private void clearCachedProposal(Exception e) {
     synchronized (_cacheLock) {
       _cachedProposals = null;
+      _cachedProposalsCluster = null;
       _progressUpdateLock.set(false);
       _proposalPrecomputingProgress.clear();
       _proposalGenerationException.set(e);
@@ -600,11 +854,16 @@ public class GoalOptimizer implements Runnable {
         // We compute the proposal even if there is not enough modeled partitions.
         ModelCompletenessRequirements requirements = _loadMonitor.meetCompletenessRequirements(_defaultModelCompletenessRequirements)
                                                      ? _defaultModelCompletenessRequirements : _requirementsWithAvailableValidWindows;
+        // The metadata is retrieved before the cluster model, so that any change in between fails the revalidation of the proposals.
+        Cluster cluster = _loadMonitor.kafkaCluster();
         ClusterModel clusterModel = _loadMonitor.clusterModel(_time.milliseconds(), requirements, _allowCapacityEstimation, operationProgress);
         if (!clusterModel.topics().isEmpty()) {
-          OptimizerResult result = optimizations(clusterModel, _goalsByPriority, operationProgress);
+          OptimizerResult previousResult = _proposalPrecomputeWarmStartEnabled ? _lastPrecomputedProposals : null;
+          OptimizerResult result = optimizations(clusterModel, _goalsByPriority, operationProgress, previousResult);
           LOG.debug("Generated a proposal candidate in {} ms.", _time.milliseconds() - startMs);
-          updateCachedProposals(result);
+          _reusedProposalsHistogram.update(result.numReusedProposals());
+          _lastPrecomputedProposals = result;
+          updateCachedProposals(result, cluster);
         } else {
           LOG.warn("The cluster model does not have valid topics, skipping proposal precomputation.");
         }
@@ -78,6 +78,7 @@ public class OptimizerResult {
   private final double _onDemandBalancednessScoreAfter;
   private final Map<String, Duration> _optimizationDurationByGoal;
   private final ProvisionResponse _provisionResponse;
+  private final int _numReusedProposals;
 
   OptimizerResult(LinkedHashMap<Goal, ClusterModelStats> statsByGoalPriority,
                   Set<String> violatedGoalNamesBeforeOptimization,
@@ -88,7 +89,8 @@ public class OptimizerResult {
                   OptimizationOptions optimizationOptions,
                   Map<String, Double> balancednessCostByGoal,
                   Map<String, Duration> optimizationDurationByGoal,
-                  ProvisionResponse provisionResponse) {
+                  ProvisionResponse provisionResponse,
+                  int numReusedProposals) {
     validateNotNull(statsByGoalPriority, "The stats by goal priority cannot be null.");
     validateNotNull(optimizationDurationByGoal, "The optimization duration by goal priority cannot be null.");
     if (statsByGoalPriority.isEmpty()) {
@@ -118,6 +120,7 @@ public class OptimizerResult {
     _onDemandBalancednessScoreAfter = onDemandBalancednessScore(balancednessCostByGoal, _violatedGoalNamesAfterOptimization);
     _optimizationDurationByGoal = optimizationDurationByGoal;
     _provisionResponse = provisionResponse;
+    _numReusedProposals = numReusedProposals;
   }
 
   private double onDemandBalancednessScore(Map<String, Double> balancednessCostByGoal, Set<String> violatedGoals) {
@@ -246,6 +249,13 @@ public class OptimizerResult {
                                                                                                                             : FIXED : NO_ACTION;
   }
 
+  /**
+   * @return Number of proposals of a previous optimization that this optimization was warm-started with.
+   */
+  public int numReusedProposals() {
+    return _numReusedProposals;
+  }
+
   /**
    * @return The topics of partitions which are going to be modified by proposals.
    */
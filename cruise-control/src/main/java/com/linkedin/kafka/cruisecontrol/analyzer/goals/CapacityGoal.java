@@ -7,6 +7,7 @@ package com.linkedin.kafka.cruisecontrol.analyzer.goals;
 
 import com.linkedin.kafka.cruisecontrol.analyzer.OptimizationOptions;
 import com.linkedin.kafka.cruisecontrol.analyzer.ProvisionRecommendation;
+import com.linkedin.kafka.cruisecontrol.analyzer.ProvisionResponse;
 import com.linkedin.kafka.cruisecontrol.analyzer.ProvisionStatus;
 import com.linkedin.kafka.cruisecontrol.common.Resource;
 import com.linkedin.kafka.cruisecontrol.analyzer.ActionAcceptance;
@@ -255,6 +256,37 @@ public abstract class CapacityGoal extends AbstractGoal {
     }
   }
 
+  /**
+   * The goal is satisfied without relocating any replica or leadership if (1) the cluster has sufficient capacity for the
+   * resource, (2) there are no offline replicas, and (3) the utilization of each broker and/or host is under the capacity limit
+   * -- i.e. each broker would be skipped by {@link #rebalanceForBroker(Broker, ClusterModel, Set, OptimizationOptions)}.
+   *
+   * @param clusterModel The cluster model reflecting the current state of the cluster.
+   * @param optimizationOptions Options to take into account during optimization.
+   * @return {@code false} if the goal is known to be satisfied in the given cluster model, {@code true} otherwise.
+   */
+  @Override
+  public boolean isViolated(ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    Resource currentResource = resource();
+    double capacityThreshold = _balancingConstraint.capacityThreshold(currentResource);
+    double allowedCapacity = clusterModel.capacityWithAllowedReplicaMovesFor(currentResource, optimizationOptions) * capacityThreshold;
+    if (allowedCapacity < clusterModel.load().expectedUtilizationFor(currentResource)
+        || !clusterModel.selfHealingEligibleReplicas().isEmpty()) {
+      return true;
+    }
+    for (Broker broker : clusterModel.brokers()) {
+      double brokerCapacityLimit = broker.capacityFor(currentResource) * capacityThreshold;
+      double hostCapacityLimit = broker.host().capacityFor(currentResource) * capacityThreshold;
+      if (!broker.currentOfflineReplicas().isEmpty()
+          || isUtilizationOverLimit(broker, currentResource, brokerCapacityLimit, hostCapacityLimit)) {
+        return true;
+      }
+    }
+    // The optimization would not identify a provision status.
+    _provisionResponse = new ProvisionResponse(ProvisionStatus.UNDECIDED);
+    return false;
+  }
+
   /**
    * (1) REBALANCE BY LEADERSHIP MOVEMENT:
    * Perform leadership movement to ensure that the load on brokers and/or hosts (see {@link Resource#isHostResource()}
@@ -68,6 +68,25 @@ public interface Goal extends CruiseControlConfigurable {
   boolean optimize(ClusterModel clusterModel, Set<Goal> optimizedGoals, OptimizationOptions optimizationOptions)
       throws KafkaCruiseControlException;
 
+  /**
+   * Check whether the goal may be violated in the given cluster model, without optimizing it. This check is intended to be
+   * cheaper than {@link #optimize(ClusterModel, Set, OptimizationOptions)} (e.g. linear in the number of brokers), so that
+   * the goal violation detection can skip the trial optimization of goals that are known to be satisfied.
+   * <p>
+   *   The implementation must be conservative: it should return {@code false} only if optimizing the given cluster model
+   *   would neither relocate any replica or leadership nor fail. Before returning {@code false}, the implementation must set
+   *   the provision response (see {@link #provisionResponse()}) that the optimization would have identified. The default
+   *   implementation always returns {@code true}, which means the goal must be optimized to tell whether it is violated.
+   * </p>
+   *
+   * @param clusterModel The cluster model reflecting the current state of the cluster.
+   * @param optimizationOptions Options to take into account during optimization.
+   * @return {@code false} if the goal is known to be satisfied in the given cluster model, {@code true} otherwise.
+   */
+  default boolean isViolated(ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    return true;
+  }
+
   /**
    * Check whether the given action is acceptable by this goal in the given state of the cluster. An action is
    * (1) accepted by a goal if it satisfies requirements of the goal, or (2) rejected by a goal if it violates its
@@ -68,6 +68,11 @@ public class LeaderReplicaDistributionGoal extends ReplicaDistributionAbstractGo
     return clusterModel.numLeaderReplicas();
   }
 
+  @Override
+  int numInterestedReplicas(Broker broker) {
+    return broker.leaderReplicas().size();
+  }
+
   /**
    * The rebalance threshold for this goal is set by
    * {@link com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig#LEADER_REPLICA_COUNT_BALANCE_THRESHOLD_CONFIG}
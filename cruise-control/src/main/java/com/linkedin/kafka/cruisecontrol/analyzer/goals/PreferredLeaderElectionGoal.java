@@ -84,8 +84,7 @@ public class PreferredLeaderElectionGoal implements Goal {
     boolean skipReplicaMove = shouldSkipOperationOnURP(replica.topicPartition(), "replica move");
     if (!skipReplicaMove
         && !(_excludeFollowerDemotion && !replica.isLeader())) {
-      Partition p = clusterModel.partition(replica.topicPartition());
-      p.moveReplicaToEnd(replica);
+      clusterModel.moveReplicaToEnd(replica.topicPartition(), replica.broker().id());
     }
   }
 
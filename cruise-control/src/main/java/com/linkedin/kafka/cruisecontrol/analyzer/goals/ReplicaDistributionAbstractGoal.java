@@ -8,6 +8,7 @@ package com.linkedin.kafka.cruisecontrol.analyzer.goals;
 import com.linkedin.kafka.cruisecontrol.analyzer.BalancingAction;
 import com.linkedin.kafka.cruisecontrol.analyzer.OptimizationOptions;
 import com.linkedin.kafka.cruisecontrol.analyzer.ProvisionRecommendation;
+import com.linkedin.kafka.cruisecontrol.analyzer.ProvisionResponse;
 import com.linkedin.kafka.cruisecontrol.analyzer.ProvisionStatus;
 import com.linkedin.kafka.cruisecontrol.exception.OptimizationFailureException;
 import com.linkedin.kafka.cruisecontrol.model.Broker;
@@ -123,6 +124,22 @@ public abstract class ReplicaDistributionAbstractGoal extends AbstractGoal {
   @Override
   protected void initGoalState(ClusterModel clusterModel, OptimizationOptions optimizationOptions)
       throws OptimizationFailureException {
+    initBalanceLimits(clusterModel, optimizationOptions);
+
+    // Log a warning if all replicas are excluded.
+    if (clusterModel.topics().equals(optimizationOptions.excludedTopics())) {
+      LOG.warn("All replicas are excluded from {}.", name());
+    }
+  }
+
+  /**
+   * Initiates the brokers allowed replica moves and the balance limits.
+   *
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account during optimization.
+   */
+  private void initBalanceLimits(ClusterModel clusterModel, OptimizationOptions optimizationOptions)
+      throws OptimizationFailureException {
     _brokersAllowedReplicaMove = GoalUtils.aliveBrokersNotExcludedForReplicaMove(clusterModel, optimizationOptions);
     if (_brokersAllowedReplicaMove.isEmpty()) {
       // Handle the case when all alive brokers are excluded from replica moves.
@@ -132,17 +149,52 @@ public abstract class ReplicaDistributionAbstractGoal extends AbstractGoal {
     }
     // Initialize the average replicas on an alive broker.
     _avgReplicasOnAliveBroker = numInterestedReplicas(clusterModel) / (double) _brokersAllowedReplicaMove.size();
-
-    // Log a warning if all replicas are excluded.
-    if (clusterModel.topics().equals(optimizationOptions.excludedTopics())) {
-      LOG.warn("All replicas are excluded from {}.", name());
-    }
-
     _fixOfflineReplicasOnly = false;
     _balanceUpperLimit = balanceUpperLimit(optimizationOptions, balancePercentage());
     _balanceLowerLimit = balanceLowerLimit(optimizationOptions, balancePercentage());
   }
 
+  /**
+   * The goal is satisfied without relocating any replica or leadership if (1) there are no offline replicas, and (2) the
+   * number of replicas of interest on each broker is within the balance limits -- or zero on brokers excluded for replica
+   * moves, i.e. each broker would be skipped by {@link #rebalanceForBroker(Broker, ClusterModel, Set, OptimizationOptions)}.
+   *
+   * @param clusterModel The cluster model reflecting the current state of the cluster.
+   * @param optimizationOptions Options to take into account during optimization.
+   * @return {@code false} if the goal is known to be satisfied in the given cluster model, {@code true} otherwise.
+   */
+  @Override
+  public boolean isViolated(ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    if (!clusterModel.selfHealingEligibleReplicas().isEmpty() || !clusterModel.brokenBrokers().isEmpty()) {
+      return true;
+    }
+    try {
+      initBalanceLimits(clusterModel, optimizationOptions);
+    } catch (OptimizationFailureException ofe) {
+      return true;
+    }
+    for (Broker broker : clusterModel.brokers()) {
+      int numInterestedReplicas = numInterestedReplicas(broker);
+      if (isExcludedForReplicaMove(broker) ? numInterestedReplicas > 0
+                                           : numInterestedReplicas > _balanceUpperLimit || numInterestedReplicas < _balanceLowerLimit) {
+        return true;
+      }
+    }
+    _provisionResponse = new ProvisionResponse(ProvisionStatus.UNDECIDED);
+    updateProvisionResponse(clusterModel);
+    _provisionResponse = GoalUtils.validateProvisionResponse(_provisionResponse, clusterModel, _balancingConstraint.overprovisionedMinBrokers());
+    return false;
+  }
+
+  /**
+   * Update the provision response of the goal once the replicas of interest are balanced. The default implementation keeps
+   * the provision response as is -- i.e. the goal does not identify a provision status.
+   *
+   * @param clusterModel The state of the cluster.
+   */
+  protected void updateProvisionResponse(ClusterModel clusterModel) {
+  }
+
   /**
    * Check whether the given broker is excluded for replica moves.
    * Such a broker cannot receive replicas, but can give them away.
@@ -160,6 +212,12 @@ public abstract class ReplicaDistributionAbstractGoal extends AbstractGoal {
    */
   abstract int numInterestedReplicas(ClusterModel clusterModel);
 
+  /**
+   * @param broker The broker to count the replicas of interest on.
+   * @return The count of replicas of interest on the given broker.
+   */
+  abstract int numInterestedReplicas(Broker broker);
+
   /**
    * @return The requested balance threshold.
    */
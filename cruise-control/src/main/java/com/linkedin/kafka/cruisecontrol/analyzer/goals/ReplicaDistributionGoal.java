@@ -67,6 +67,11 @@ public class ReplicaDistributionGoal extends ReplicaDistributionAbstractGoal {
     return clusterModel.numReplicas();
   }
 
+  @Override
+  int numInterestedReplicas(Broker broker) {
+    return broker.replicas().size();
+  }
+
   /**
    * The rebalance threshold for this goal is set by
    * {@link com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig#REPLICA_COUNT_BALANCE_THRESHOLD_CONFIG}
@@ -96,6 +101,11 @@ public class ReplicaDistributionGoal extends ReplicaDistributionAbstractGoal {
   @Override
   protected void updateGoalState(ClusterModel clusterModel, OptimizationOptions optimizationOptions) throws OptimizationFailureException {
     super.updateGoalState(clusterModel, optimizationOptions);
+    updateProvisionResponse(clusterModel);
+  }
+
+  @Override
+  protected void updateProvisionResponse(ClusterModel clusterModel) {
     Integer numBrokersToDrop = numBrokersToDrop(clusterModel);
     if (numBrokersToDrop != null) {
       ProvisionRecommendation recommendation = new ProvisionRecommendation.Builder(ProvisionStatus.OVER_PROVISIONED)
@@ -348,6 +348,38 @@ public abstract class ResourceDistributionGoal extends AbstractGoal {
     finish();
   }
 
+  /**
+   * The goal is satisfied without relocating any replica or leadership if (1) there are no offline replicas, and (2) the
+   * utilization of each broker and/or host is within the balance limits -- or each broker excluded for replica moves has no
+   * replicas, i.e. each broker would be skipped by {@link #rebalanceForBroker(Broker, ClusterModel, Set, OptimizationOptions)}.
+   *
+   * @param clusterModel The cluster model reflecting the current state of the cluster.
+   * @param optimizationOptions Options to take into account during optimization.
+   * @return {@code false} if the goal is known to be satisfied in the given cluster model, {@code true} otherwise.
+   */
+  @Override
+  public boolean isViolated(ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    if (!clusterModel.selfHealingEligibleReplicas().isEmpty() || !clusterModel.brokenBrokers().isEmpty()) {
+      return true;
+    }
+    try {
+      initGoalState(clusterModel, optimizationOptions);
+    } catch (OptimizationFailureException ofe) {
+      return true;
+    }
+    for (Broker broker : clusterModel.brokers()) {
+      if (isExcludedForReplicaMove(broker) ? !broker.replicas().isEmpty()
+                                           : !isLoadUnderBalanceUpperLimit(broker) || !isLoadAboveBalanceLowerLimit(broker)) {
+        return true;
+      }
+    }
+    // All brokers are within the balance limits, hence the provision status depends only on the cluster utilization.
+    _provisionResponse = _isLowUtilization ? new ProvisionResponse(ProvisionStatus.OVER_PROVISIONED, _overProvisionedRecommendation, name())
+                                           : new ProvisionResponse(ProvisionStatus.RIGHT_SIZED);
+    _provisionResponse = GoalUtils.validateProvisionResponse(_provisionResponse, clusterModel, _balancingConstraint.overprovisionedMinBrokers());
+    return false;
+  }
+
   /**
    * Check whether the given broker is excluded for replica moves.
    * Such a broker cannot receive replicas, but can give them away.
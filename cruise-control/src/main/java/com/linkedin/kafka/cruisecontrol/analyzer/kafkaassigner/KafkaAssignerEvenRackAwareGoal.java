@@ -134,7 +134,7 @@ public class KafkaAssignerEvenRackAwareGoal implements Goal {
       for (Partition partition : entry.getValue()) {
         // Ensure the first replica is the leader.
         if (partition.replicas().get(0) != partition.leader()) {
-          partition.swapReplicaPositions(0, partition.replicas().indexOf(partition.leader()));
+          clusterModel.swapReplicaPositions(partition.topicPartition(), 0, partition.replicas().indexOf(partition.leader()));
         }
       }
     }
@@ -219,7 +219,7 @@ public class KafkaAssignerEvenRackAwareGoal implements Goal {
         } else {
           // Swap the follower position of this replica with the follower position of destination replica.
           int destinationPos = followerPosition(partition, destinationBroker.id());
-          partition.swapFollowerPositions(replicaPosition, destinationPos);
+          clusterModel.swapFollowerPositions(partition.topicPartition(), replicaPosition, destinationPos);
         }
       } else if (!replicaAtPosition.broker().isAlive()) {
         // The broker of source replica is dead. Hence, we have to move the source replica away from it. But, destination
@@ -5,11 +5,10 @@
 package com.linkedin.kafka.cruisecontrol.async;
 
 import com.codahale.metrics.MetricRegistry;
+import com.linkedin.cruisecontrol.servlet.EndPoint;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
-import com.linkedin.kafka.cruisecontrol.common.KafkaCruiseControlThreadFactory;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -20,9 +19,8 @@ import java.util.concurrent.Executors;
  * The other operations are non-blocking by default.
  */
 public class AsyncKafkaCruiseControl extends KafkaCruiseControl {
-  // TODO: Make this configurable.
-  private static final int NUM_SESSION_EXECUTOR_THREADS = 3;
-  private final ExecutorService _sessionExecutor;
+  private final SessionExecutor _sessionExecutor;
+  private final RequestCoalescer _requestCoalescer;
 
   /**
    * Construct the Cruise Control
@@ -32,14 +30,35 @@ public class AsyncKafkaCruiseControl extends KafkaCruiseControl {
    */
   public AsyncKafkaCruiseControl(KafkaCruiseControlConfig config, MetricRegistry dropwizardMetricRegistry) {
     super(config, dropwizardMetricRegistry);
-    _sessionExecutor = Executors.newFixedThreadPool(NUM_SESSION_EXECUTOR_THREADS,
-                                                    new KafkaCruiseControlThreadFactory("ServletSessionExecutor"));
+    _sessionExecutor = new SessionExecutor(config, dropwizardMetricRegistry);
+    _requestCoalescer = new RequestCoalescer(config, dropwizardMetricRegistry, () -> loadMonitor().clusterModelGeneration());
   }
 
   /**
    * @return Session executor.
    */
-  public ExecutorService sessionExecutor() {
+  public SessionExecutor sessionExecutor() {
     return _sessionExecutor;
   }
+
+  /**
+   * @param endPoint The endpoint of an async request.
+   * @return Session executor to run the async requests of the given endpoint in the corresponding {@link RequestLane}.
+   */
+  public Executor sessionExecutor(EndPoint endPoint) {
+    return _sessionExecutor.executorFor(endPoint);
+  }
+
+  /**
+   * @return Request coalescer of the async requests to read-only endpoints.
+   */
+  public RequestCoalescer requestCoalescer() {
+    return _requestCoalescer;
+  }
+
+  @Override
+  public void shutdown() {
+    _sessionExecutor.shutdown();
+    super.shutdown();
+  }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.async;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.cruisecontrol.servlet.EndPoint;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.WebServerConfig;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.OperationFuture;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils.KAFKA_CRUISE_CONTROL_SERVLET_SENSOR;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.LOAD;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.PARTITION_LOAD;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.PROPOSALS;
+import static com.linkedin.kafka.cruisecontrol.servlet.parameters.ParameterUtils.IGNORE_PROPOSAL_CACHE_PARAM;
+
+
+/**
+ * Coalesces the concurrent requests with equivalent parameters to read-only async endpoints into a single operation. The
+ * {@link OperationFuture} of each operation is kept with a key of {@code (endpoint, normalized parameters, model generation)}, so
+ * that an equivalent request either attaches to the in-flight operation, or is served with the completed result until the
+ * generation of the cluster model changes.
+ *
+ * Parameters are normalized by ignoring the case of parameter names and the order of parameters. The values of each parameter are
+ * compared in order, including repeated values, since request parsing depends on them (e.g. only the first value is used).
+ * Operations that complete exceptionally or get cancelled are never reused. Requests that explicitly ignore the proposal cache are not coalesced.
+ *
+ * The following sensor is maintained:
+ * <ul>
+ *   <li>{@code coalesced-request-rate}: Rate of requests served with the operation of an equivalent request.</li>
+ * </ul>
+ */
+public class RequestCoalescer {
+  static final Set<EndPoint> COALESCABLE_ENDPOINTS = Set.of(LOAD, PARTITION_LOAD, PROPOSALS);
+  static final int MAX_CACHED_OPERATIONS = 64;
+  private final boolean _enabled;
+  private final Supplier<ModelGeneration> _modelGeneration;
+  private final Map<CoalescingKey, OperationFuture> _operationByKey;
+  private final Meter _coalescedRequestRate;
+
+  /**
+   * @param config The configurations for Cruise Control.
+   * @param dropwizardMetricRegistry The metric registry that holds all the metrics for monitoring Cruise Control.
+   * @param modelGeneration Supplier of the current generation of the cluster model.
+   */
+  public RequestCoalescer(KafkaCruiseControlConfig config,
+                          MetricRegistry dropwizardMetricRegistry,
+                          Supplier<ModelGeneration> modelGeneration) {
+    _enabled = config.getBoolean(WebServerConfig.WEBSERVER_REQUEST_COALESCING_ENABLED_CONFIG);
+    _modelGeneration = modelGeneration;
+    // Least recently accessed operations are evicted first.
+    _operationByKey = new LinkedHashMap<>(MAX_CACHED_OPERATIONS, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<CoalescingKey, OperationFuture> eldest) {
+        return size() > MAX_CACHED_OPERATIONS;
+      }
+    };
+    _coalescedRequestRate = dropwizardMetricRegistry.meter(MetricRegistry.name(KAFKA_CRUISE_CONTROL_SERVLET_SENSOR,
+                                                                               "coalesced-request-rate"));
+  }
+
+  /**
+   * @param endPoint The endpoint of a request.
+   * @param queryParams The query parameters of the request.
+   * @return {@code true} if the request can be coalesced with equivalent requests, {@code false} otherwise.
+   */
+  public boolean canCoalesce(EndPoint endPoint, Map<String, String[]> queryParams) {
+    if (!_enabled || !COALESCABLE_ENDPOINTS.contains(endPoint)) {
+      return false;
+    }
+    for (Map.Entry<String, String[]> entry : queryParams.entrySet()) {
+      if (IGNORE_PROPOSAL_CACHE_PARAM.equalsIgnoreCase(entry.getKey())
+          && Arrays.stream(entry.getValue()).anyMatch(Boolean::parseBoolean)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Get the operation of an equivalent request in the current model generation, or create one with the given supplier if
+   * there is no such reusable operation.
+   *
+   * @param endPoint The endpoint of the request.
+   * @param queryParams The query parameters of the request.
+   * @param operation Supplier to create the operation of the request.
+   * @return The operation to serve the request with.
+   */
+  public synchronized OperationFuture getOrCreate(EndPoint endPoint,
+                                                  Map<String, String[]> queryParams,
+                                                  Supplier<OperationFuture> operation) {
+    ModelGeneration generation = _modelGeneration.get();
+    // Operations of earlier generations will never be reused.
+    _operationByKey.keySet().removeIf(key -> !key._generation.equals(generation));
+    CoalescingKey key = new CoalescingKey(endPoint, queryParams, generation);
+    OperationFuture future = _operationByKey.get(key);
+    if (future != null && !future.isCompletedExceptionally()) {
+      _coalescedRequestRate.mark();
+      return future;
+    }
+    // If the operation cannot be created (e.g. its request lane is full), no stale entry is left behind.
+    _operationByKey.remove(key);
+    future = operation.get();
+    _operationByKey.put(key, future);
+    return future;
+  }
+
+  /**
+   * @return The number of operations that can currently be reused.
+   */
+  synchronized int numCachedOperations() {
+    return _operationByKey.size();
+  }
+
+  private static final class CoalescingKey {
+    private final EndPoint _endPoint;
+    private final SortedMap<String, List<String>> _queryParams;
+    private final ModelGeneration _generation;
+
+    CoalescingKey(EndPoint endPoint, Map<String, String[]> queryParams, ModelGeneration generation) {
+      _endPoint = endPoint;
+      _queryParams = new TreeMap<>();
+      // Parameter names differing only in case are merged in a deterministic order.
+      new TreeMap<>(queryParams).forEach((k, v) -> {
+        List<String> values = _queryParams.computeIfAbsent(k.toLowerCase(Locale.ROOT), n -> new ArrayList<>());
+        if (v != null) {
+          values.addAll(Arrays.asList(v));
+        }
+      });
+      _generation = generation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      CoalescingKey that = (CoalescingKey) o;
+      return _endPoint == that._endPoint && _queryParams.equals(that._queryParams) && _generation.equals(that._generation);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(_endPoint, _queryParams, _generation);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.async;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * The lanes in which async requests are executed. Each lane has its own threads and bounded queue, so that cheap requests
+ * (e.g. load, partition_load, state) are not blocked behind expensive optimizations (e.g. proposals, rebalance).
+ *
+ * <ul>
+ *   <li>{@link #MONITORING}: Requests that report the state or the load of the cluster.</li>
+ *   <li>{@link #OPTIMIZATION}: Requests that generate or execute proposals.</li>
+ * </ul>
+ */
+public enum RequestLane {
+  MONITORING, OPTIMIZATION;
+
+  private static final List<RequestLane> CACHED_VALUES = Collections.unmodifiableList(Arrays.asList(values()));
+
+  /**
+   * Use this instead of values() because values() creates a new array each time.
+   * @return enumerated values in the same order as values()
+   */
+  public static List<RequestLane> cachedValues() {
+    return CACHED_VALUES;
+  }
+}
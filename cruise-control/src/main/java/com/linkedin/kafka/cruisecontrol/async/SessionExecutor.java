@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.async;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.cruisecontrol.servlet.EndPoint;
+import com.linkedin.kafka.cruisecontrol.common.KafkaCruiseControlThreadFactory;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.WebServerConfig;
+import com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint;
+import com.linkedin.kafka.cruisecontrol.servlet.TooManyRequestsException;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.config.ConfigException;
+
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils.KAFKA_CRUISE_CONTROL_SERVLET_SENSOR;
+
+
+/**
+ * Executes async requests in the {@link RequestLane} of their endpoint. Each lane has a fixed number of threads and a bounded
+ * queue. A request that arrives when the queue of its lane is full is rejected with a {@link TooManyRequestsException}, which is
+ * thrown before the {@link com.linkedin.kafka.cruisecontrol.servlet.UserTaskManager} admits the corresponding user task. Hence,
+ * rejected requests do not count towards the active user tasks.
+ *
+ * The following sensors are maintained for each lane:
+ * <ul>
+ *   <li>{@code <lane>-lane-request-queue-timer}: Time a request waits in the queue of the lane.</li>
+ *   <li>{@code <lane>-lane-request-execution-timer}: Time a thread of the lane spends executing a request.</li>
+ *   <li>{@code <lane>-lane-request-rejection-rate}: Rate of requests rejected due to the full queue of the lane.</li>
+ *   <li>{@code <lane>-lane-num-queued-requests}: The number of requests waiting in the queue of the lane.</li>
+ * </ul>
+ */
+public class SessionExecutor {
+  private final Set<EndPoint> _monitoringLaneEndpoints;
+  private final int _maxQueuedRequests;
+  private final Map<RequestLane, ThreadPoolExecutor> _executorByLane;
+  private final Map<RequestLane, Timer> _queueTimerByLane;
+  private final Map<RequestLane, Timer> _executionTimerByLane;
+  private final Map<RequestLane, Meter> _rejectionMeterByLane;
+
+  /**
+   * @param config The configurations for Cruise Control.
+   * @param dropwizardMetricRegistry The metric registry that holds all the metrics for monitoring Cruise Control.
+   */
+  public SessionExecutor(KafkaCruiseControlConfig config, MetricRegistry dropwizardMetricRegistry) {
+    _monitoringLaneEndpoints = new HashSet<>();
+    for (String endpoint : config.getList(WebServerConfig.WEBSERVER_REQUEST_MONITORING_LANE_ENDPOINTS_CONFIG)) {
+      try {
+        _monitoringLaneEndpoints.add(CruiseControlEndPoint.valueOf(endpoint.trim().toUpperCase(Locale.ROOT)));
+      } catch (IllegalArgumentException iae) {
+        throw new ConfigException(WebServerConfig.WEBSERVER_REQUEST_MONITORING_LANE_ENDPOINTS_CONFIG, endpoint, "Unrecognized endpoint.");
+      }
+    }
+    _maxQueuedRequests = config.getInt(WebServerConfig.WEBSERVER_REQUEST_LANE_MAX_QUEUED_REQUESTS_CONFIG);
+    _executorByLane = new EnumMap<>(RequestLane.class);
+    _queueTimerByLane = new EnumMap<>(RequestLane.class);
+    _executionTimerByLane = new EnumMap<>(RequestLane.class);
+    _rejectionMeterByLane = new EnumMap<>(RequestLane.class);
+    for (RequestLane lane : RequestLane.cachedValues()) {
+      int numThreads = config.getInt(lane == RequestLane.MONITORING
+                                     ? WebServerConfig.WEBSERVER_REQUEST_MONITORING_LANE_NUM_THREADS_CONFIG
+                                     : WebServerConfig.WEBSERVER_REQUEST_OPTIMIZATION_LANE_NUM_THREADS_CONFIG);
+      BlockingQueue<Runnable> queue = _maxQueuedRequests > 0 ? new LinkedBlockingQueue<>(_maxQueuedRequests) : new SynchronousQueue<>();
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(numThreads, numThreads, 0L, TimeUnit.MILLISECONDS, queue,
+                                                           new KafkaCruiseControlThreadFactory(threadName(lane)));
+      _executorByLane.put(lane, executor);
+      String sensorPrefix = lane.name().toLowerCase(Locale.ROOT) + "-lane-";
+      _queueTimerByLane.put(lane, dropwizardMetricRegistry.timer(
+          MetricRegistry.name(KAFKA_CRUISE_CONTROL_SERVLET_SENSOR, sensorPrefix + "request-queue-timer")));
+      _executionTimerByLane.put(lane, dropwizardMetricRegistry.timer(
+          MetricRegistry.name(KAFKA_CRUISE_CONTROL_SERVLET_SENSOR, sensorPrefix + "request-execution-timer")));
+      _rejectionMeterByLane.put(lane, dropwizardMetricRegistry.meter(
+          MetricRegistry.name(KAFKA_CRUISE_CONTROL_SERVLET_SENSOR, sensorPrefix + "request-rejection-rate")));
+      dropwizardMetricRegistry.register(MetricRegistry.name(KAFKA_CRUISE_CONTROL_SERVLET_SENSOR, sensorPrefix + "num-queued-requests"),
+                                        (Gauge<Integer>) () -> executor.getQueue().size());
+    }
+  }
+
+  private static String threadName(RequestLane lane) {
+    // The optimization lane keeps the name of the former single session executor.
+    return lane == RequestLane.MONITORING ? "ServletMonitoringSessionExecutor" : "ServletSessionExecutor";
+  }
+
+  /**
+   * @param endPoint The endpoint of a request.
+   * @return The lane to execute the requests of the given endpoint.
+   */
+  public RequestLane laneFor(EndPoint endPoint) {
+    return _monitoringLaneEndpoints.contains(endPoint) ? RequestLane.MONITORING : RequestLane.OPTIMIZATION;
+  }
+
+  /**
+   * @param endPoint The endpoint of a request.
+   * @return An executor that runs the given tasks in the lane of the given endpoint.
+   */
+  public Executor executorFor(EndPoint endPoint) {
+    return runnable -> execute(endPoint, runnable);
+  }
+
+  /**
+   * Execute the given request in the lane of the given endpoint.
+   *
+   * @param endPoint The endpoint of the request.
+   * @param runnable The runnable of the request.
+   * @throws TooManyRequestsException If the queue of the lane is full.
+   */
+  public void execute(EndPoint endPoint, Runnable runnable) {
+    RequestLane lane = laneFor(endPoint);
+    Timer queueTimer = _queueTimerByLane.get(lane);
+    Timer executionTimer = _executionTimerByLane.get(lane);
+    long enqueueNs = System.nanoTime();
+    try {
+      _executorByLane.get(lane).execute(() -> {
+        long startNs = System.nanoTime();
+        queueTimer.update(startNs - enqueueNs, TimeUnit.NANOSECONDS);
+        try {
+          runnable.run();
+        } finally {
+          executionTimer.update(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
+        }
+      });
+    } catch (RejectedExecutionException ree) {
+      _rejectionMeterByLane.get(lane).mark();
+      throw new TooManyRequestsException(String.format("There are already %d requests waiting in the %s lane, which has reached "
+                                                       + "its capacity.", _maxQueuedRequests, lane));
+    }
+  }
+
+  /**
+   * @param lane The request lane.
+   * @return The number of requests waiting in the queue of the given lane.
+   */
+  public int numQueuedRequests(RequestLane lane) {
+    return _executorByLane.get(lane).getQueue().size();
+  }
+
+  /**
+   * Shutdown the threads of all lanes.
+   */
+  public void shutdown() {
+    _executorByLane.values().forEach(ThreadPoolExecutor::shutdownNow);
+  }
+}
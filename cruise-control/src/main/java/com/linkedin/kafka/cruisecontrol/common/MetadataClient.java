@@ -7,6 +7,7 @@ package com.linkedin.kafka.cruisecontrol.common;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
+import com.linkedin.kafka.cruisecontrol.monitor.MetadataChange;
 import com.linkedin.kafka.cruisecontrol.monitor.MonitorUtils;
 import java.net.InetSocketAddress;
 import java.util.Collections;
@@ -119,8 +120,10 @@ public class MetadataClient {
       if (LOG.isDebugEnabled()) {
         LOG.debug("Updated metadata {}", cluster());
       }
-      if (MonitorUtils.metadataChanged(beforeUpdate, cluster())) {
-        _metadataGeneration.incrementAndGet();
+      MetadataChange metadataChange = MonitorUtils.metadataChange(beforeUpdate, cluster());
+      if (metadataChange != MetadataChange.NONE) {
+        int metadataGeneration = _metadataGeneration.incrementAndGet();
+        LOG.debug("Metadata generation {} has a change of {}.", metadataGeneration, metadataChange);
       }
     } else {
       LOG.warn("Failed to update metadata in {}ms. Using old metadata with version {} and last successful update {}.",
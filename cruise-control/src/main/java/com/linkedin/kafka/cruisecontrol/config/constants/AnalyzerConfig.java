@@ -218,6 +218,15 @@ public final class AnalyzerConfig {
       + "cached proposal be invalidated and needs a recomputation. If proposal.expiration.ms is set to 0, Cruise Control"
       + "will continuously compute the proposal candidates.";
 
+  /**
+   * <code>proposal.revalidation.max.leadership.change.ratio</code>
+   */
+  public static final String PROPOSAL_REVALIDATION_MAX_LEADERSHIP_CHANGE_RATIO_CONFIG = "proposal.revalidation.max.leadership.change.ratio";
+  public static final double DEFAULT_PROPOSAL_REVALIDATION_MAX_LEADERSHIP_CHANGE_RATIO = 0.01;
+  public static final String PROPOSAL_REVALIDATION_MAX_LEADERSHIP_CHANGE_RATIO_DOC = "The maximum ratio of partitions with a "
+      + "leadership change, for which the cached proposal is revalidated rather than recomputed when the metadata changes. The "
+      + "cached proposal is recomputed regardless of this ratio if the leadership has changed on a broker the proposal involves.";
+
   /**
    * <code>max.replicas.per.broker</code>
    */
@@ -355,6 +364,15 @@ public final class AnalyzerConfig {
   public static final String ALLOW_CAPACITY_ESTIMATION_ON_PROPOSAL_PRECOMPUTE_DOC = "The flag to indicate whether to "
       + "allow capacity estimation on proposal precomputation.";
 
+  /**
+   * <code>proposal.precompute.warm.start.enabled</code>
+   */
+  public static final String PROPOSAL_PRECOMPUTE_WARM_START_ENABLED_CONFIG = "proposal.precompute.warm.start.enabled";
+  public static final boolean DEFAULT_PROPOSAL_PRECOMPUTE_WARM_START_ENABLED = false;
+  public static final String PROPOSAL_PRECOMPUTE_WARM_START_ENABLED_DOC = "The flag to indicate whether to start the proposal "
+      + "precomputation from the previously precomputed proposals that are still valid, rather than from the current replica "
+      + "distribution. The goals then re-optimize only where the load or the metadata has changed since the previous precomputation.";
+
   /**
    * <code>topics.with.min.leaders.per.broker</code>
    */
@@ -578,6 +596,12 @@ public final class AnalyzerConfig {
                             atLeast(0),
                             ConfigDef.Importance.MEDIUM,
                             PROPOSAL_EXPIRATION_MS_DOC)
+                    .define(PROPOSAL_REVALIDATION_MAX_LEADERSHIP_CHANGE_RATIO_CONFIG,
+                            ConfigDef.Type.DOUBLE,
+                            DEFAULT_PROPOSAL_REVALIDATION_MAX_LEADERSHIP_CHANGE_RATIO,
+                            between(0, 1),
+                            ConfigDef.Importance.LOW,
+                            PROPOSAL_REVALIDATION_MAX_LEADERSHIP_CHANGE_RATIO_DOC)
                     .define(MAX_REPLICAS_PER_BROKER_CONFIG,
                             ConfigDef.Type.LONG,
                             DEFAULT_MAX_REPLICAS_PER_BROKER,
@@ -627,6 +651,11 @@ public final class AnalyzerConfig {
                             DEFAULT_ALLOW_CAPACITY_ESTIMATION_ON_PROPOSAL_PRECOMPUTE,
                             ConfigDef.Importance.LOW,
                             ALLOW_CAPACITY_ESTIMATION_ON_PROPOSAL_PRECOMPUTE_DOC)
+                    .define(PROPOSAL_PRECOMPUTE_WARM_START_ENABLED_CONFIG,
+                            ConfigDef.Type.BOOLEAN,
+                            DEFAULT_PROPOSAL_PRECOMPUTE_WARM_START_ENABLED,
+                            ConfigDef.Importance.LOW,
+                            PROPOSAL_PRECOMPUTE_WARM_START_ENABLED_DOC)
                     .define(TOPICS_EXCLUDED_FROM_PARTITION_MOVEMENT_CONFIG,
                             ConfigDef.Type.STRING,
                             DEFAULT_TOPICS_EXCLUDED_FROM_PARTITION_MOVEMENT,
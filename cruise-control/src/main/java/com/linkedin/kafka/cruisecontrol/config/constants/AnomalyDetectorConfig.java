@@ -189,6 +189,16 @@ public final class AnomalyDetectorConfig {
       + "detector will run to detect disk failures. If this interval time is not specified, disk failure detector "
       + "will run with interval specified in " + ANOMALY_DETECTION_INTERVAL_MS_CONFIG + ".";
 
+  /**
+   * <code>disk.failure.detection.lightweight.scan.enable</code>
+   */
+  public static final String DISK_FAILURE_DETECTION_LIGHTWEIGHT_SCAN_ENABLE_CONFIG = "disk.failure.detection.lightweight.scan.enable";
+  public static final boolean DEFAULT_DISK_FAILURE_DETECTION_LIGHTWEIGHT_SCAN_ENABLE = false;
+  public static final String DISK_FAILURE_DETECTION_LIGHTWEIGHT_SCAN_ENABLE_DOC = "Whether disk failure detector should describe "
+      + "the logdirs of only the brokers that may have a change in their disk failures -- i.e. brokers hosting offline replicas "
+      + "or having failed disks in the last detection -- instead of all alive brokers. All alive brokers are still described "
+      + "when the set of alive brokers changes.";
+
   /**
    * <code>kafka.broker.failure.detection.enable</code>
    */
@@ -215,6 +225,15 @@ public final class AnomalyDetectorConfig {
   public static final String BROKER_FAILURE_DETECTION_BACKOFF_MS_DOC = "The backoff time in millisecond before broker failure "
       + "detector triggers another broker failure detection if currently detected broker failure is not ready to fix.";
 
+  /**
+   * <code>self.healing.precomputed.fix.max.wait.ms</code>
+   */
+  public static final String SELF_HEALING_PRECOMPUTED_FIX_MAX_WAIT_MS_CONFIG = "self.healing.precomputed.fix.max.wait.ms";
+  public static final long DEFAULT_SELF_HEALING_PRECOMPUTED_FIX_MAX_WAIT_MS = TimeUnit.MINUTES.toMillis(1);
+  public static final String SELF_HEALING_PRECOMPUTED_FIX_MAX_WAIT_MS_DOC = "The maximum time in milliseconds to wait for the "
+      + "precomputation of a fix that is due, such as the fix for a broker failure. If the precomputation does not complete in "
+      + "time, it is cancelled and the fix is computed from scratch.";
+
   /**
    * <code>anomaly.detection.allow.capacity.estimation</code>
    */
@@ -417,6 +436,11 @@ public final class AnomalyDetectorConfig {
                             DEFAULT_DISK_FAILURE_DETECTION_INTERVAL_MS,
                             ConfigDef.Importance.LOW,
                             DISK_FAILURE_DETECTION_INTERVAL_MS_DOC)
+                    .define(DISK_FAILURE_DETECTION_LIGHTWEIGHT_SCAN_ENABLE_CONFIG,
+                            ConfigDef.Type.BOOLEAN,
+                            DEFAULT_DISK_FAILURE_DETECTION_LIGHTWEIGHT_SCAN_ENABLE,
+                            ConfigDef.Importance.LOW,
+                            DISK_FAILURE_DETECTION_LIGHTWEIGHT_SCAN_ENABLE_DOC)
                     .define(KAFKA_BROKER_FAILURE_DETECTION_ENABLE_CONFIG,
                             ConfigDef.Type.BOOLEAN,
                             DEFAULT_KAFKA_BROKER_FAILURE_DETECTION_ENABLE,
@@ -432,6 +456,12 @@ public final class AnomalyDetectorConfig {
                             DEFAULT_BROKER_FAILURE_DETECTION_BACKOFF_MS,
                             ConfigDef.Importance.LOW,
                             BROKER_FAILURE_DETECTION_BACKOFF_MS_DOC)
+                    .define(SELF_HEALING_PRECOMPUTED_FIX_MAX_WAIT_MS_CONFIG,
+                            ConfigDef.Type.LONG,
+                            DEFAULT_SELF_HEALING_PRECOMPUTED_FIX_MAX_WAIT_MS,
+                            atLeast(0),
+                            ConfigDef.Importance.LOW,
+                            SELF_HEALING_PRECOMPUTED_FIX_MAX_WAIT_MS_DOC)
                     .define(ANOMALY_DETECTION_ALLOW_CAPACITY_ESTIMATION_CONFIG,
                             ConfigDef.Type.BOOLEAN,
                             DEFAULT_ANOMALY_DETECTION_ALLOW_CAPACITY_ESTIMATION_CONFIG,
@@ -158,6 +158,17 @@ public final class ExecutorConfig {
       + "executor will at most allow 10 partitions to move across disks within a broker at any given point. This is to avoid "
       + "overwhelming the cluster by intra-broker partition movements.";
 
+  /**
+   * <code>num.concurrent.intra.broker.partition.movements.per.logdir</code>
+   */
+  public static final String NUM_CONCURRENT_INTRA_BROKER_PARTITION_MOVEMENTS_PER_LOGDIR_CONFIG =
+      "num.concurrent.intra.broker.partition.movements.per.logdir";
+  public static final int DEFAULT_NUM_CONCURRENT_INTRA_BROKER_PARTITION_MOVEMENTS_PER_LOGDIR = 2;
+  public static final String NUM_CONCURRENT_INTRA_BROKER_PARTITION_MOVEMENTS_PER_LOGDIR_DOC = "The maximum number of partitions "
+      + "the executor will move from or to a single logdir within a broker at the same time. Together with "
+      + "num.concurrent.intra.broker.partition.movements, this allows brokers with many disks to run intra-broker partition "
+      + "movements on all their disks without overwhelming any single disk.";
+
   /**
    * <code>num.concurrent.leader.movements</code>
    */
@@ -176,6 +187,15 @@ public final class ExecutorConfig {
       + "movements the executor will take for a broker as one batch. This is to avoid overwhelming the broker by LeaderAndIsr requests."
       + "It cannot be greater than num.concurrent.leader.movements.";
 
+  /**
+   * <code>num.concurrent.leader.election.batches</code>
+   */
+  public static final String NUM_CONCURRENT_LEADER_ELECTION_BATCHES_CONFIG = "num.concurrent.leader.election.batches";
+  public static final int DEFAULT_NUM_CONCURRENT_LEADER_ELECTION_BATCHES = 4;
+  public static final String NUM_CONCURRENT_LEADER_ELECTION_BATCHES_DOC = "The maximum number of leader election requests the "
+      + "executor keeps in flight during leadership movements. The allowed cluster-wide leadership movements are split across these "
+      + "batches, and a new batch is submitted as soon as the election result of an earlier batch frees up capacity.";
+
   /**
    * <code>max.num.cluster.movements</code>
    */
@@ -330,7 +350,9 @@ public final class ExecutorConfig {
    */
   public static final String CONCURRENCY_ADJUSTER_INTERVAL_MS_CONFIG = "concurrency.adjuster.interval.ms";
   public static final long DEFAULT_CONCURRENCY_ADJUSTER_INTERVAL_MS = TimeUnit.MINUTES.toMillis(6);
-  public static final String CONCURRENCY_ADJUSTER_INTERVAL_MS_DOC = "The interval of concurrency auto adjustment.";
+  public static final String CONCURRENCY_ADJUSTER_INTERVAL_MS_DOC = "The interval of concurrency auto adjustment. The concurrency is "
+      + "adjusted upon each (At/Under)MinISR check -- i.e. concurrency.adjuster.num.min.isr.check times per interval -- "
+      + "using the broker health observations made since the last adjustment.";
 
   /**
    * <code>concurrency.adjuster.max.partition.movements.per.broker</code>
@@ -464,6 +486,29 @@ public final class ExecutorConfig {
       + "queue size. If any broker exceeds this limit during an ongoing reassignment, the relevant concurrency adjuster"
       + " (if enabled) attempts to decrease the number of allowed concurrent movements.";
 
+  /**
+   * <code>concurrency.adjuster.limit.under.replicated.partitions</code>
+   */
+  public static final String CONCURRENCY_ADJUSTER_LIMIT_UNDER_REPLICATED_PARTITIONS_CONFIG =
+      "concurrency.adjuster.limit.under.replicated.partitions";
+  public static final int DEFAULT_CONCURRENCY_ADJUSTER_LIMIT_UNDER_REPLICATED_PARTITIONS = 10;
+  public static final String CONCURRENCY_ADJUSTER_LIMIT_UNDER_REPLICATED_PARTITIONS_DOC = "The limit on the number of "
+      + "under-replicated partitions in which a broker hosts an out-of-sync online replica. Partitions that are being reassigned "
+      + "are not counted. If any broker exceeds this limit during an ongoing reassignment, the relevant concurrency adjuster"
+      + " (if enabled) attempts to decrease the number of allowed concurrent movements.";
+
+  /**
+   * <code>concurrency.adjuster.broker.health.window.size</code>
+   */
+  public static final String CONCURRENCY_ADJUSTER_BROKER_HEALTH_WINDOW_SIZE_CONFIG = "concurrency.adjuster.broker.health.window.size";
+  public static final int DEFAULT_CONCURRENCY_ADJUSTER_BROKER_HEALTH_WINDOW_SIZE = 5;
+  public static final String CONCURRENCY_ADJUSTER_BROKER_HEALTH_WINDOW_SIZE_DOC = "The number of most recent broker health "
+      + "observations kept in the sliding window of each broker. During an execution, the concurrency adjuster observes the broker "
+      + "metrics and under-replicated partitions once per metric sampling interval, independently of the concurrency auto "
+      + "adjustment interval. It decreases the concurrency of a broker as soon as "
+      + "its latest observation violates a concurrency adjuster limit, and increases it only if all observations in its window are "
+      + "within the limits.";
+
   /**
    * <code>concurrency.adjuster.additive.increase.inter.broker.replica</code>
    */
@@ -573,8 +618,9 @@ public final class ExecutorConfig {
   public static final String CONCURRENCY_ADJUSTER_NUM_MIN_ISR_CHECK_CONFIG = "concurrency.adjuster.num.min.isr.check";
   public static final int DEFAULT_CONCURRENCY_ADJUSTER_NUM_MIN_ISR_CHECK = 5;
   public static final String CONCURRENCY_ADJUSTER_NUM_MIN_ISR_CHECK_DOC = "The number of times that (At/Under)MinISR status of partitions in "
-      + "the cluster will be checked during each concurrency auto adjustment interval. For example, if the concurrency auto adjustment interval "
-      + "is 6 minutes and this config is 5, then (At/Under)MinISR status of partitions in the cluster will be checked once in every 72 seconds.";
+      + "the cluster will be checked, and the concurrency adjusted accordingly, during each concurrency auto adjustment interval. For "
+      + "example, if the concurrency auto adjustment interval is 6 minutes and this config is 5, then (At/Under)MinISR status of partitions "
+      + "in the cluster will be checked once in every 72 seconds.";
 
   /**
    * <code>concurrency.adjuster.min.isr.check.enabled</code>
@@ -712,6 +758,12 @@ public final class ExecutorConfig {
                             atLeast(1),
                             ConfigDef.Importance.MEDIUM,
                             NUM_CONCURRENT_INTRA_BROKER_PARTITION_MOVEMENTS_DOC)
+                    .define(NUM_CONCURRENT_INTRA_BROKER_PARTITION_MOVEMENTS_PER_LOGDIR_CONFIG,
+                            ConfigDef.Type.INT,
+                            DEFAULT_NUM_CONCURRENT_INTRA_BROKER_PARTITION_MOVEMENTS_PER_LOGDIR,
+                            atLeast(1),
+                            ConfigDef.Importance.MEDIUM,
+                            NUM_CONCURRENT_INTRA_BROKER_PARTITION_MOVEMENTS_PER_LOGDIR_DOC)
                     .define(NUM_CONCURRENT_LEADER_MOVEMENTS_CONFIG,
                             ConfigDef.Type.INT,
                             DEFAULT_NUM_CONCURRENT_LEADER_MOVEMENTS,
@@ -724,6 +776,12 @@ public final class ExecutorConfig {
                             atLeast(1),
                             ConfigDef.Importance.MEDIUM,
                             NUM_CONCURRENT_LEADER_MOVEMENTS_PER_BROKER_DOC)
+                    .define(NUM_CONCURRENT_LEADER_ELECTION_BATCHES_CONFIG,
+                            ConfigDef.Type.INT,
+                            DEFAULT_NUM_CONCURRENT_LEADER_ELECTION_BATCHES,
+                            atLeast(1),
+                            ConfigDef.Importance.LOW,
+                            NUM_CONCURRENT_LEADER_ELECTION_BATCHES_DOC)
                     .define(MAX_NUM_CLUSTER_MOVEMENTS_CONFIG,
                             ConfigDef.Type.INT,
                             DEFAULT_MAX_NUM_CLUSTER_MOVEMENTS_CONFIG,
@@ -897,6 +955,18 @@ public final class ExecutorConfig {
                             atLeast(10.0),
                             ConfigDef.Importance.MEDIUM,
                             CONCURRENCY_ADJUSTER_LIMIT_REQUEST_QUEUE_SIZE_DOC)
+                    .define(CONCURRENCY_ADJUSTER_LIMIT_UNDER_REPLICATED_PARTITIONS_CONFIG,
+                            ConfigDef.Type.INT,
+                            DEFAULT_CONCURRENCY_ADJUSTER_LIMIT_UNDER_REPLICATED_PARTITIONS,
+                            atLeast(0),
+                            ConfigDef.Importance.MEDIUM,
+                            CONCURRENCY_ADJUSTER_LIMIT_UNDER_REPLICATED_PARTITIONS_DOC)
+                    .define(CONCURRENCY_ADJUSTER_BROKER_HEALTH_WINDOW_SIZE_CONFIG,
+                            ConfigDef.Type.INT,
+                            DEFAULT_CONCURRENCY_ADJUSTER_BROKER_HEALTH_WINDOW_SIZE,
+                            atLeast(1),
+                            ConfigDef.Importance.LOW,
+                            CONCURRENCY_ADJUSTER_BROKER_HEALTH_WINDOW_SIZE_DOC)
                     .define(CONCURRENCY_ADJUSTER_ADDITIVE_INCREASE_INTER_BROKER_REPLICA_CONFIG,
                             ConfigDef.Type.INT,
                             DEFAULT_CONCURRENCY_ADJUSTER_ADDITIVE_INCREASE_INTER_BROKER_REPLICA,
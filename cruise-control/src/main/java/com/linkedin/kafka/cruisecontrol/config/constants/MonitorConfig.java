@@ -365,6 +365,16 @@ public final class MonitorConfig {
   public static final String METADATA_FACTOR_EXPONENT_DOC = "The exponent for the metadata factor, which corresponds to "
       + "(number of replicas) * (number of brokers with replicas) ^ exponent.";
 
+  /**
+   * <code>load.stats.precompute.enabled</code>
+   */
+  public static final String LOAD_STATS_PRECOMPUTE_ENABLED_CONFIG = "load.stats.precompute.enabled";
+  public static final boolean DEFAULT_LOAD_STATS_PRECOMPUTE_ENABLED = true;
+  public static final String LOAD_STATS_PRECOMPUTE_ENABLED_DOC = "Enable precomputing the broker stats and the cluster model "
+      + "stats in the background whenever the cluster metadata or the monitored load changes. The load monitor checks for changes "
+      + "with the interval of monitor.state.update.interval.ms, and requests for the load are served from the precomputed stats. If "
+      + "disabled, the stats are computed upon the first request for the load with default parameters in each model generation.";
+
   private MonitorConfig() {
   }
 
@@ -607,6 +617,11 @@ public final class MonitorConfig {
                             DEFAULT_METADATA_FACTOR_EXPONENT,
                             atLeast(1.0),
                             ConfigDef.Importance.LOW,
-                            METADATA_FACTOR_EXPONENT_DOC);
+                            METADATA_FACTOR_EXPONENT_DOC)
+                    .define(LOAD_STATS_PRECOMPUTE_ENABLED_CONFIG,
+                            ConfigDef.Type.BOOLEAN,
+                            DEFAULT_LOAD_STATS_PRECOMPUTE_ENABLED,
+                            ConfigDef.Importance.LOW,
+                            LOAD_STATS_PRECOMPUTE_ENABLED_DOC);
   }
 }
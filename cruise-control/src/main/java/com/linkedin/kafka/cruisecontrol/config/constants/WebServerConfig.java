@@ -45,6 +45,25 @@ public final class WebServerConfig {
   public static final boolean DEFAULT_WEBSERVER_HTTP_CORS_ENABLED = false;
   public static final String WEBSERVER_HTTP_CORS_ENABLED_DOC = "CORS enablement flag. true if enabled, false otherwise";
 
+  /**
+   * <code>webserver.http.response.gzip.enabled</code>
+   */
+  public static final String WEBSERVER_HTTP_RESPONSE_GZIP_ENABLED_CONFIG = "webserver.http.response.gzip.enabled";
+  public static final boolean DEFAULT_WEBSERVER_HTTP_RESPONSE_GZIP_ENABLED = true;
+  public static final String WEBSERVER_HTTP_RESPONSE_GZIP_ENABLED_DOC = "Enable gzip encoding of the responses to the requests that "
+      + "accept gzip encoding (i.e. Accept-Encoding header lists gzip with a non-zero quality value). The responses are kept "
+      + "compressed in memory regardless.";
+
+  /**
+   * <code>webserver.http.response.cbor.enabled</code>
+   */
+  public static final String WEBSERVER_HTTP_RESPONSE_CBOR_ENABLED_CONFIG = "webserver.http.response.cbor.enabled";
+  public static final boolean DEFAULT_WEBSERVER_HTTP_RESPONSE_CBOR_ENABLED = true;
+  public static final String WEBSERVER_HTTP_RESPONSE_CBOR_ENABLED_DOC = "Enable CBOR encoding of the successful responses of load, "
+      + "partition_load, proposals and kafka_cluster_state endpoints to the requests that accept CBOR (i.e. Accept header lists "
+      + "application/cbor with a non-zero quality value). The CBOR responses have the same layout as the JSON responses, which remain "
+      + "the default.";
+
   /**
    * <code>two.step.verification.enabled</code>
    */
@@ -101,6 +120,56 @@ public final class WebServerConfig {
   public static final long DEFAULT_WEBSERVER_REQUEST_MAX_BLOCK_TIME_MS = TimeUnit.SECONDS.toMillis(10);
   public static final String WEBSERVER_REQUEST_MAX_BLOCK_TIME_MS_DOC = "Time after which request is converted to Async";
 
+  /**
+   * <code>webserver.progress.stream.interval.ms</code>
+   */
+  public static final String WEBSERVER_PROGRESS_STREAM_INTERVAL_MS_CONFIG = "webserver.progress.stream.interval.ms";
+  public static final long DEFAULT_WEBSERVER_PROGRESS_STREAM_INTERVAL_MS = 500L;
+  public static final String WEBSERVER_PROGRESS_STREAM_INTERVAL_MS_DOC = "The interval to check the progress of an async request for "
+      + "changes when it is streamed as server-sent events to a client that accepts text/event-stream (Vert.x only).";
+
+  /**
+   * <code>webserver.request.monitoring.lane.endpoints</code>
+   */
+  public static final String WEBSERVER_REQUEST_MONITORING_LANE_ENDPOINTS_CONFIG = "webserver.request.monitoring.lane.endpoints";
+  public static final String DEFAULT_WEBSERVER_REQUEST_MONITORING_LANE_ENDPOINTS = "load,partition_load,state";
+  public static final String WEBSERVER_REQUEST_MONITORING_LANE_ENDPOINTS_DOC = "The async endpoints whose requests are executed in "
+      + "the monitoring lane, so that they are not blocked by the requests in the optimization lane (e.g. proposals, rebalance). "
+      + "Requests to the other async endpoints are executed in the optimization lane.";
+
+  /**
+   * <code>webserver.request.monitoring.lane.num.threads</code>
+   */
+  public static final String WEBSERVER_REQUEST_MONITORING_LANE_NUM_THREADS_CONFIG = "webserver.request.monitoring.lane.num.threads";
+  public static final int DEFAULT_WEBSERVER_REQUEST_MONITORING_LANE_NUM_THREADS = 2;
+  public static final String WEBSERVER_REQUEST_MONITORING_LANE_NUM_THREADS_DOC = "The number of threads to execute the async "
+      + "requests in the monitoring lane.";
+
+  /**
+   * <code>webserver.request.optimization.lane.num.threads</code>
+   */
+  public static final String WEBSERVER_REQUEST_OPTIMIZATION_LANE_NUM_THREADS_CONFIG = "webserver.request.optimization.lane.num.threads";
+  public static final int DEFAULT_WEBSERVER_REQUEST_OPTIMIZATION_LANE_NUM_THREADS = 3;
+  public static final String WEBSERVER_REQUEST_OPTIMIZATION_LANE_NUM_THREADS_DOC = "The number of threads to execute the async "
+      + "requests in the optimization lane.";
+
+  /**
+   * <code>webserver.request.lane.max.queued.requests</code>
+   */
+  public static final String WEBSERVER_REQUEST_LANE_MAX_QUEUED_REQUESTS_CONFIG = "webserver.request.lane.max.queued.requests";
+  public static final int DEFAULT_WEBSERVER_REQUEST_LANE_MAX_QUEUED_REQUESTS = 10;
+  public static final String WEBSERVER_REQUEST_LANE_MAX_QUEUED_REQUESTS_DOC = "The maximum number of async requests waiting for a "
+      + "thread in each request lane. Requests beyond this limit are rejected with a 429 (Too Many Requests) response.";
+
+  /**
+   * <code>webserver.request.coalescing.enabled</code>
+   */
+  public static final String WEBSERVER_REQUEST_COALESCING_ENABLED_CONFIG = "webserver.request.coalescing.enabled";
+  public static final boolean DEFAULT_WEBSERVER_REQUEST_COALESCING_ENABLED = true;
+  public static final String WEBSERVER_REQUEST_COALESCING_ENABLED_DOC = "Enable coalescing the concurrent requests with equivalent "
+      + "parameters to the load, partition_load, and proposals endpoints into a single operation. The result of a completed "
+      + "operation is reused for equivalent requests until the generation of the cluster model changes.";
+
   /**
    * <code>webserver.session.maxExpiryTimeMs</code>
    */
@@ -388,6 +457,16 @@ public final class WebServerConfig {
                             DEFAULT_WEBSERVER_HTTP_CORS_ENABLED,
                             ConfigDef.Importance.LOW,
                             WEBSERVER_HTTP_CORS_ENABLED_DOC)
+                    .define(WEBSERVER_HTTP_RESPONSE_GZIP_ENABLED_CONFIG,
+                            ConfigDef.Type.BOOLEAN,
+                            DEFAULT_WEBSERVER_HTTP_RESPONSE_GZIP_ENABLED,
+                            ConfigDef.Importance.LOW,
+                            WEBSERVER_HTTP_RESPONSE_GZIP_ENABLED_DOC)
+                    .define(WEBSERVER_HTTP_RESPONSE_CBOR_ENABLED_CONFIG,
+                            ConfigDef.Type.BOOLEAN,
+                            DEFAULT_WEBSERVER_HTTP_RESPONSE_CBOR_ENABLED,
+                            ConfigDef.Importance.LOW,
+                            WEBSERVER_HTTP_RESPONSE_CBOR_ENABLED_DOC)
                     .define(TWO_STEP_VERIFICATION_ENABLED_CONFIG,
                             ConfigDef.Type.BOOLEAN,
                             DEFAULT_TWO_STEP_VERIFICATION_ENABLED,
@@ -429,6 +508,40 @@ public final class WebServerConfig {
                             atLeast(0L),
                             ConfigDef.Importance.HIGH,
                             WEBSERVER_REQUEST_MAX_BLOCK_TIME_MS_DOC)
+                    .define(WEBSERVER_PROGRESS_STREAM_INTERVAL_MS_CONFIG,
+                            ConfigDef.Type.LONG,
+                            DEFAULT_WEBSERVER_PROGRESS_STREAM_INTERVAL_MS,
+                            atLeast(1L),
+                            ConfigDef.Importance.LOW,
+                            WEBSERVER_PROGRESS_STREAM_INTERVAL_MS_DOC)
+                    .define(WEBSERVER_REQUEST_MONITORING_LANE_ENDPOINTS_CONFIG,
+                            ConfigDef.Type.LIST,
+                            DEFAULT_WEBSERVER_REQUEST_MONITORING_LANE_ENDPOINTS,
+                            ConfigDef.Importance.MEDIUM,
+                            WEBSERVER_REQUEST_MONITORING_LANE_ENDPOINTS_DOC)
+                    .define(WEBSERVER_REQUEST_MONITORING_LANE_NUM_THREADS_CONFIG,
+                            ConfigDef.Type.INT,
+                            DEFAULT_WEBSERVER_REQUEST_MONITORING_LANE_NUM_THREADS,
+                            atLeast(1),
+                            ConfigDef.Importance.MEDIUM,
+                            WEBSERVER_REQUEST_MONITORING_LANE_NUM_THREADS_DOC)
+                    .define(WEBSERVER_REQUEST_OPTIMIZATION_LANE_NUM_THREADS_CONFIG,
+                            ConfigDef.Type.INT,
+                            DEFAULT_WEBSERVER_REQUEST_OPTIMIZATION_LANE_NUM_THREADS,
+                            atLeast(1),
+                            ConfigDef.Importance.MEDIUM,
+                            WEBSERVER_REQUEST_OPTIMIZATION_LANE_NUM_THREADS_DOC)
+                    .define(WEBSERVER_REQUEST_LANE_MAX_QUEUED_REQUESTS_CONFIG,
+                            ConfigDef.Type.INT,
+                            DEFAULT_WEBSERVER_REQUEST_LANE_MAX_QUEUED_REQUESTS,
+                            atLeast(0),
+                            ConfigDef.Importance.MEDIUM,
+                            WEBSERVER_REQUEST_LANE_MAX_QUEUED_REQUESTS_DOC)
+                    .define(WEBSERVER_REQUEST_COALESCING_ENABLED_CONFIG,
+                            ConfigDef.Type.BOOLEAN,
+                            DEFAULT_WEBSERVER_REQUEST_COALESCING_ENABLED,
+                            ConfigDef.Importance.LOW,
+                            WEBSERVER_REQUEST_COALESCING_ENABLED_DOC)
                     .define(WEBSERVER_SESSION_EXPIRY_MS_CONFIG,
                             ConfigDef.Type.LONG,
                             DEFAULT_WEBSERVER_SESSION_EXPIRY_MS,
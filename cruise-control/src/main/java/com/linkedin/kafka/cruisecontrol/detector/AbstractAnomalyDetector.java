@@ -15,9 +15,20 @@ import java.util.Queue;
 public abstract class AbstractAnomalyDetector {
   protected final Queue<Anomaly> _anomalies;
   protected final KafkaCruiseControl _kafkaCruiseControl;
+  protected final AnomalyDetectionInputsProvider _inputsProvider;
 
   public AbstractAnomalyDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl) {
+    this(anomalies, kafkaCruiseControl, new AnomalyDetectionInputsProvider(kafkaCruiseControl));
+  }
+
+  /**
+   * @param anomalies The anomaly queue to report detected anomalies.
+   * @param kafkaCruiseControl The Kafka Cruise Control instance.
+   * @param inputsProvider The provider of the snapshot of inputs shared by anomaly detectors.
+   */
+  public AbstractAnomalyDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl, AnomalyDetectionInputsProvider inputsProvider) {
     _anomalies = anomalies;
     _kafkaCruiseControl = kafkaCruiseControl;
+    _inputsProvider = inputsProvider;
   }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.detector;
+
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.MetricSampleAggregationResult;
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapolations;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.common.MetadataClient;
+import com.linkedin.kafka.cruisecontrol.executor.ExecutorState;
+import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import com.linkedin.kafka.cruisecontrol.monitor.MonitorUtils;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerEntity;
+import com.linkedin.kafka.cruisecontrol.monitor.task.LoadMonitorTaskRunner;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.common.Cluster;
+
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.MAX_METADATA_WAIT_MS;
+
+
+/**
+ * A snapshot of the inputs that anomaly detectors evaluate in a detection round: the cluster metadata and the corresponding
+ * cluster model generation, brokers with offline replicas, dead brokers with replicas, the state of the load monitor task
+ * runner, and the executor state. Broker metric values are retrieved on first use, and then shared by the users of the snapshot.
+ *
+ * The snapshot is taken with a single metadata refresh. See {@link AnomalyDetectionInputsProvider} for sharing snapshots
+ * across detectors.
+ */
+public class AnomalyDetectionInputs {
+  private final Cluster _cluster;
+  private final ModelGeneration _modelGeneration;
+  private final Set<Integer> _brokersWithOfflineReplicas;
+  private final Set<Integer> _deadBrokersWithReplicas;
+  private final LoadMonitorTaskRunner.LoadMonitorTaskRunnerState _loadMonitorTaskRunnerState;
+  private final ExecutorState _executorState;
+  private final long _createTimeMs;
+  private final LoadMonitor _loadMonitor;
+  private Map<BrokerEntity, ValuesAndExtrapolations> _currentBrokerMetricValues;
+  private MetricSampleAggregationResult<String, BrokerEntity> _brokerMetrics;
+
+  /**
+   * Take a snapshot of the inputs of anomaly detectors.
+   *
+   * @param kafkaCruiseControl The Kafka Cruise Control instance.
+   */
+  public AnomalyDetectionInputs(KafkaCruiseControl kafkaCruiseControl) {
+    _loadMonitor = kafkaCruiseControl.loadMonitor();
+    MetadataClient.ClusterAndGeneration clusterAndGeneration = _loadMonitor.refreshClusterAndGeneration(MAX_METADATA_WAIT_MS);
+    _cluster = clusterAndGeneration.cluster();
+    _modelGeneration = _loadMonitor.clusterModelGeneration(clusterAndGeneration);
+    _brokersWithOfflineReplicas = Collections.unmodifiableSet(MonitorUtils.brokersWithOfflineReplicas(_cluster));
+    _deadBrokersWithReplicas = Collections.unmodifiableSet(MonitorUtils.deadBrokersWithReplicas(_cluster));
+    _loadMonitorTaskRunnerState = kafkaCruiseControl.getLoadMonitorTaskRunnerState();
+    _executorState = kafkaCruiseControl.executorState();
+    _createTimeMs = kafkaCruiseControl.timeMs();
+  }
+
+  /**
+   * @return Kafka cluster as of the snapshot.
+   */
+  public Cluster cluster() {
+    return _cluster;
+  }
+
+  /**
+   * @return The cluster model generation as of the snapshot.
+   */
+  public ModelGeneration modelGeneration() {
+    return _modelGeneration;
+  }
+
+  /**
+   * @return All the brokers in the cluster that has at least one offline replica.
+   */
+  public Set<Integer> brokersWithOfflineReplicas() {
+    return _brokersWithOfflineReplicas;
+  }
+
+  /**
+   * @return All the dead brokers which host some replicas in the cluster.
+   */
+  public Set<Integer> deadBrokersWithReplicas() {
+    return _deadBrokersWithReplicas;
+  }
+
+  /**
+   * @return The state of the load monitor task runner as of the snapshot.
+   */
+  public LoadMonitorTaskRunner.LoadMonitorTaskRunnerState loadMonitorTaskRunnerState() {
+    return _loadMonitorTaskRunnerState;
+  }
+
+  /**
+   * @return The executor state as of the snapshot.
+   */
+  public ExecutorState executorState() {
+    return _executorState;
+  }
+
+  /**
+   * @return The time in milliseconds when the snapshot was taken.
+   */
+  public long createTimeMs() {
+    return _createTimeMs;
+  }
+
+  /**
+   * @return The latest metric values of the brokers, which are retrieved on the first call.
+   */
+  public synchronized Map<BrokerEntity, ValuesAndExtrapolations> currentBrokerMetricValues() {
+    if (_currentBrokerMetricValues == null) {
+      _currentBrokerMetricValues = _loadMonitor.currentBrokerMetricValues();
+    }
+    return _currentBrokerMetricValues;
+  }
+
+  /**
+   * @return All the available broker level metrics, which are retrieved on the first call.
+   */
+  public synchronized MetricSampleAggregationResult<String, BrokerEntity> brokerMetrics() {
+    if (_brokerMetrics == null) {
+      _brokerMetrics = _loadMonitor.brokerMetrics();
+    }
+    return _brokerMetrics;
+  }
+}
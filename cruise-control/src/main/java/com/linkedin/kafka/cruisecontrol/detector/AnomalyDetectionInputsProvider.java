@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.detector;
+
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A provider of {@link AnomalyDetectionInputs} shared by anomaly detectors. Detectors that run in the same detection round
+ * (i.e. within {@link #MAX_INPUTS_AGE_MS} of each other) evaluate the same snapshot of inputs, instead of each refreshing the
+ * metadata, and querying the load monitor and the executor.
+ */
+public class AnomalyDetectionInputsProvider {
+  public static final long MAX_INPUTS_AGE_MS = TimeUnit.SECONDS.toMillis(5);
+  private final KafkaCruiseControl _kafkaCruiseControl;
+  private AnomalyDetectionInputs _inputs;
+
+  public AnomalyDetectionInputsProvider(KafkaCruiseControl kafkaCruiseControl) {
+    _kafkaCruiseControl = kafkaCruiseControl;
+    _inputs = null;
+  }
+
+  /**
+   * @return The snapshot of the inputs of anomaly detectors in the current detection round, which is taken if the last
+   * snapshot is older than {@link #MAX_INPUTS_AGE_MS}.
+   */
+  public synchronized AnomalyDetectionInputs inputs() {
+    if (_inputs == null || _kafkaCruiseControl.timeMs() - _inputs.createTimeMs() > MAX_INPUTS_AGE_MS) {
+      _inputs = new AnomalyDetectionInputs(_kafkaCruiseControl);
+    }
+    return _inputs;
+  }
+}
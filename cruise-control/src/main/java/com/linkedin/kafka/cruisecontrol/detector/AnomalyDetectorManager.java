@@ -80,6 +80,7 @@ public class AnomalyDetectorManager {
   private final AtomicLong _numCheckedWithDelay;
   private final Object _shutdownLock;
   private final Map<AnomalyType, Timer> _selfHealingFixGenerationTimer;
+  private final AnomalyFixPrecomputer _anomalyFixPrecomputer;
 
   public AnomalyDetectorManager(KafkaCruiseControl kafkaCruiseControl, Time time, MetricRegistry dropwizardMetricRegistry) {
     // For anomalies of different types, prioritize handling anomaly of higher priority;
@@ -109,15 +110,17 @@ public class AnomalyDetectorManager {
     _kafkaCruiseControl = kafkaCruiseControl;
     _selfHealingGoals = getSelfHealingGoalNames(config);
     sanityCheckGoals(_selfHealingGoals, false, config);
-    _goalViolationDetector = new GoalViolationDetector(_anomalies, _kafkaCruiseControl, dropwizardMetricRegistry);
+    // Detectors share the snapshot of their inputs within a detection round.
+    AnomalyDetectionInputsProvider inputsProvider = new AnomalyDetectionInputsProvider(_kafkaCruiseControl);
+    _goalViolationDetector = new GoalViolationDetector(_anomalies, _kafkaCruiseControl, inputsProvider, dropwizardMetricRegistry);
     if (config.getBoolean(AnomalyDetectorConfig.KAFKA_BROKER_FAILURE_DETECTION_ENABLE_CONFIG)) {
       _brokerFailureDetector = new KafkaBrokerFailureDetector(_anomalies, _kafkaCruiseControl);
     } else {
       _brokerFailureDetector = new ZKBrokerFailureDetector(_anomalies, _kafkaCruiseControl);
     }
-    _metricAnomalyDetector = new MetricAnomalyDetector(_anomalies, _kafkaCruiseControl);
-    _diskFailureDetector = new DiskFailureDetector(_anomalies, _kafkaCruiseControl);
-    _topicAnomalyDetector = new TopicAnomalyDetector(_anomalies, _kafkaCruiseControl);
+    _metricAnomalyDetector = new MetricAnomalyDetector(_anomalies, _kafkaCruiseControl, inputsProvider);
+    _diskFailureDetector = new DiskFailureDetector(_anomalies, _kafkaCruiseControl, inputsProvider);
+    _topicAnomalyDetector = new TopicAnomalyDetector(_anomalies, _kafkaCruiseControl, inputsProvider);
     _maintenanceEventDetector = new MaintenanceEventDetector(_anomalies, _kafkaCruiseControl);
     _detectorScheduler = Executors.newScheduledThreadPool(NUM_ANOMALY_DETECTION_THREADS,
                                                           new KafkaCruiseControlThreadFactory(METRIC_REGISTRY_NAME, false, LOG));
@@ -129,6 +132,8 @@ public class AnomalyDetectorManager {
     _anomalyInProgress = null;
     _numCheckedWithDelay = new AtomicLong();
     _shutdownLock = new Object();
+    _anomalyFixPrecomputer =
+        new AnomalyFixPrecomputer(_kafkaCruiseControl, config.getLong(AnomalyDetectorConfig.SELF_HEALING_PRECOMPUTED_FIX_MAX_WAIT_MS_CONFIG));
     // Register sensors.
     _selfHealingFixGenerationTimer = new HashMap<>();
     registerSensors(dropwizardMetricRegistry);
@@ -169,6 +174,7 @@ public class AnomalyDetectorManager {
     _anomalyInProgress = null;
     _numCheckedWithDelay = new AtomicLong();
     _shutdownLock = new Object();
+    _anomalyFixPrecomputer = new AnomalyFixPrecomputer(_kafkaCruiseControl, AnomalyDetectorConfig.DEFAULT_SELF_HEALING_PRECOMPUTED_FIX_MAX_WAIT_MS);
     _selfHealingFixGenerationTimer = new HashMap<>();
     cachedValues().forEach(anomalyType -> _selfHealingFixGenerationTimer.put(anomalyType, new Timer()));
     // Add anomaly detector state
@@ -219,8 +225,7 @@ public class AnomalyDetectorManager {
     }
   }
 
-  private void scheduleDetectorAtFixedRate(KafkaAnomalyType anomalyType, Runnable anomalyDetector) {
-    int jitter = RANDOM.nextInt(INIT_JITTER_BOUND);
+  private void scheduleDetectorAtFixedRate(KafkaAnomalyType anomalyType, Runnable anomalyDetector, int jitter) {
     long anomalyDetectionIntervalMs = _anomalyDetectionIntervalMsByType.get(anomalyType);
     LOG.debug("Starting {} detector with delay of {} ms", anomalyType, jitter);
     _detectorScheduler.scheduleAtFixedRate(anomalyDetector,
@@ -233,11 +238,14 @@ public class AnomalyDetectorManager {
    * Start each anomaly detector.
    */
   public void startDetection() {
-    scheduleDetectorAtFixedRate(GOAL_VIOLATION, _goalViolationDetector);
-    scheduleDetectorAtFixedRate(METRIC_ANOMALY, _metricAnomalyDetector);
-    scheduleDetectorAtFixedRate(TOPIC_ANOMALY, _topicAnomalyDetector);
-    scheduleDetectorAtFixedRate(DISK_FAILURE, _diskFailureDetector);
-    scheduleDetectorAtFixedRate(BROKER_FAILURE, _brokerFailureDetector);
+    // Detectors with the same detection interval start with the same jitter to run in the same detection round, and share the
+    // snapshot of their inputs in that round.
+    int jitter = RANDOM.nextInt(INIT_JITTER_BOUND);
+    scheduleDetectorAtFixedRate(GOAL_VIOLATION, _goalViolationDetector, jitter);
+    scheduleDetectorAtFixedRate(METRIC_ANOMALY, _metricAnomalyDetector, jitter);
+    scheduleDetectorAtFixedRate(TOPIC_ANOMALY, _topicAnomalyDetector, jitter);
+    scheduleDetectorAtFixedRate(DISK_FAILURE, _diskFailureDetector, jitter);
+    scheduleDetectorAtFixedRate(BROKER_FAILURE, _brokerFailureDetector, jitter);
     LOG.debug("Starting {} detector.", MAINTENANCE_EVENT);
     _detectorScheduler.execute(_maintenanceEventDetector);
     LOG.debug("Starting anomaly handler.");
@@ -267,6 +275,7 @@ public class AnomalyDetectorManager {
       LOG.warn("Interrupted while waiting for anomaly detector to shutdown.");
     }
     _brokerFailureDetector.shutdown();
+    _anomalyFixPrecomputer.shutdown();
     _anomalyLoggerExecutor.shutdownNow();
     LOG.info("Anomaly detector shutdown completed.");
   }
@@ -415,6 +424,10 @@ public class AnomalyDetectorManager {
             break;
           case CHECK:
             LOG.info("Post processing anomaly {} for {}.", _anomalyInProgress, AnomalyState.Status.CHECK_WITH_DELAY);
+            // Precompute the fix during the delay, so that the fix (if any) can start right after the delay.
+            if (_anomalyNotifier.selfHealingEnabled().get(anomalyType)) {
+              _anomalyFixPrecomputer.maybePrecomputeFix(_anomalyInProgress);
+            }
             postProcessAnomalyInProgress(notificationResult.delay());
             break;
           case IGNORE:
@@ -520,9 +533,12 @@ public class AnomalyDetectorManager {
       return false;
     }
 
-    private void logSelfHealingOperation(String anomalyId, OptimizationFailureException ofe, String optimizationResult) {
-      if (optimizationResult != null) {
-        OPERATION_LOG.info("[{}] Self-healing started successfully:\n{}", anomalyId, optimizationResult);
+    private void logSelfHealingOperation(String anomalyId, OptimizationFailureException ofe, Anomaly fixStartedAnomaly) {
+      if (fixStartedAnomaly != null) {
+        // Rendering the optimization result decompresses it; hence, it is rendered only if it will be logged.
+        if (OPERATION_LOG.isInfoEnabled()) {
+          OPERATION_LOG.info("[{}] Self-healing started successfully:\n{}", anomalyId, fixStartedAnomaly.optimizationResult(false));
+        }
       } else if (ofe != null) {
         OPERATION_LOG.warn("[{}] Self-healing failed to start:\n{}", anomalyId, ofe);
       } else {
@@ -546,13 +562,14 @@ public class AnomalyDetectorManager {
               LOG.info("Generating a fix for the anomaly {}.", _anomalyInProgress);
               final Timer.Context ctx = _selfHealingFixGenerationTimer.get(anomalyType).time();
               try {
+                _anomalyFixPrecomputer.maybeUsePrecomputedFix(_anomalyInProgress);
                 fixStarted = _anomalyInProgress.fix();
               } finally {
                 ctx.stop();
               }
               LOG.info("{} the anomaly {}.", fixStarted ? "Fixing" : "Cannot fix", _anomalyInProgress);
-              String optimizationResult = fixStarted ? _anomalyInProgress.optimizationResult(false) : null;
-              _anomalyLoggerExecutor.execute(() -> logSelfHealingOperation(anomalyId, null, optimizationResult));
+              Anomaly fixStartedAnomaly = fixStarted ? _anomalyInProgress : null;
+              _anomalyLoggerExecutor.execute(() -> logSelfHealingOperation(anomalyId, null, fixStartedAnomaly));
             }
           } catch (OptimizationFailureException ofe) {
             _anomalyLoggerExecutor.execute(() -> logSelfHealingOperation(anomalyId, ofe, null));
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -85,22 +86,55 @@ public final class AnomalyDetectorUtils {
   static AnomalyDetectionStatus getAnomalyDetectionStatus(KafkaCruiseControl kafkaCruiseControl,
                                                           boolean checkOfflineReplica,
                                                           boolean checkOngoingExecution) {
+    return getAnomalyDetectionStatus(() -> kafkaCruiseControl.loadMonitor().brokersWithOfflineReplicas(MAX_METADATA_WAIT_MS),
+                                     kafkaCruiseControl::getLoadMonitorTaskRunnerState,
+                                     kafkaCruiseControl::executionState,
+                                     checkOfflineReplica,
+                                     checkOngoingExecution);
+  }
+
+  /**
+   * Retrieve the {@link AnomalyDetectionStatus anomaly detection status} based on the given snapshot of inputs, indicating
+   * whether an anomaly detector is ready to check for an anomaly.
+   *
+   * <li>See {@link AnomalyDetectionStatus} for details.</li>
+   *
+   * @param inputs The snapshot of the inputs of anomaly detectors.
+   * @param checkOfflineReplica {@code true} to skip anomaly detection if there are offline replicas, {@code false} otherwise.
+   * @param checkOngoingExecution {@code true} to skip anomaly detection if there is an ongoing execution, {@code false} otherwise.
+   * @return The {@link AnomalyDetectionStatus anomaly detection status}, indicating whether the anomaly detector is ready.
+   */
+  static AnomalyDetectionStatus getAnomalyDetectionStatus(AnomalyDetectionInputs inputs,
+                                                          boolean checkOfflineReplica,
+                                                          boolean checkOngoingExecution) {
+    return getAnomalyDetectionStatus(inputs::brokersWithOfflineReplicas,
+                                     inputs::loadMonitorTaskRunnerState,
+                                     () -> inputs.executorState().state(),
+                                     checkOfflineReplica,
+                                     checkOngoingExecution);
+  }
+
+  private static AnomalyDetectionStatus getAnomalyDetectionStatus(Supplier<Set<Integer>> brokersWithOfflineReplicasSupplier,
+                                                                  Supplier<LoadMonitorTaskRunner.LoadMonitorTaskRunnerState> stateSupplier,
+                                                                  Supplier<ExecutorState.State> executionStateSupplier,
+                                                                  boolean checkOfflineReplica,
+                                                                  boolean checkOngoingExecution) {
     if (checkOfflineReplica) {
-      Set<Integer> brokersWithOfflineReplicas = kafkaCruiseControl.loadMonitor().brokersWithOfflineReplicas(MAX_METADATA_WAIT_MS);
+      Set<Integer> brokersWithOfflineReplicas = brokersWithOfflineReplicasSupplier.get();
       if (!brokersWithOfflineReplicas.isEmpty()) {
         LOG.info("Skipping anomaly detection because there are dead brokers/disks in the cluster, flawed brokers: {}",
                  brokersWithOfflineReplicas);
         return AnomalyDetectionStatus.SKIP_HAS_OFFLINE_REPLICAS;
       }
     }
-    LoadMonitorTaskRunner.LoadMonitorTaskRunnerState loadMonitorTaskRunnerState = kafkaCruiseControl.getLoadMonitorTaskRunnerState();
+    LoadMonitorTaskRunner.LoadMonitorTaskRunnerState loadMonitorTaskRunnerState = stateSupplier.get();
     if (!AnomalyUtils.isLoadMonitorReady(loadMonitorTaskRunnerState)) {
       LOG.info("Skipping anomaly detection because load monitor is in {} state.", loadMonitorTaskRunnerState);
       return AnomalyDetectionStatus.SKIP_LOAD_MONITOR_NOT_READY;
     }
 
     if (checkOngoingExecution) {
-      ExecutorState.State executionState = kafkaCruiseControl.executionState();
+      ExecutorState.State executionState = executionStateSupplier.get();
       if (executionState != ExecutorState.State.NO_TASK_IN_PROGRESS) {
         LOG.info("Skipping anomaly detection because the executor is in {} state.", executionState);
         return AnomalyDetectionStatus.SKIP_EXECUTOR_NOT_READY;
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.detector;
+
+import com.linkedin.cruisecontrol.detector.Anomaly;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizerResult;
+import com.linkedin.kafka.cruisecontrol.common.KafkaCruiseControlThreadFactory;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.RunnableUtils.isPrecomputedResultValid;
+
+
+/**
+ * Precomputes the fix for an anomaly whose self-healing is deferred (e.g. broker failures within their self-healing grace
+ * period) speculatively in the background. Once an anomaly with the same {@link PrecomputableAnomaly#precomputableFixKey()} is due for
+ * a fix, the fix starts by executing the precomputed result if it is still valid for the current cluster model generation,
+ * instead of optimizing from scratch.
+ *
+ * The fix for at most one anomaly is precomputed at a time.
+ */
+public class AnomalyFixPrecomputer {
+  private static final Logger LOG = LoggerFactory.getLogger(AnomalyFixPrecomputer.class);
+  private final KafkaCruiseControl _kafkaCruiseControl;
+  private final ExecutorService _precomputationExecutor;
+  private final long _maxWaitMs;
+  private Object _fixKey;
+  private Future<OptimizerResult> _precomputedFix;
+
+  /**
+   * @param kafkaCruiseControl The Kafka Cruise Control instance.
+   * @param maxWaitMs The maximum time to wait for an ongoing precomputation of a fix that is due.
+   */
+  public AnomalyFixPrecomputer(KafkaCruiseControl kafkaCruiseControl, long maxWaitMs) {
+    _kafkaCruiseControl = kafkaCruiseControl;
+    _maxWaitMs = maxWaitMs;
+    _precomputationExecutor = Executors.newSingleThreadExecutor(new KafkaCruiseControlThreadFactory("AnomalyFixPrecomputer"));
+    _fixKey = null;
+    _precomputedFix = null;
+  }
+
+  /**
+   * Start precomputing the fix for the given anomaly in the background, unless (1) its fix cannot be precomputed, or (2) the same
+   * fix is either being precomputed or has a precomputed result that is still valid.
+   *
+   * @param anomaly The anomaly whose fix is deferred.
+   * @return {@code true} if a precomputation has started, {@code false} otherwise.
+   */
+  public synchronized boolean maybePrecomputeFix(Anomaly anomaly) {
+    if (!(anomaly instanceof PrecomputableAnomaly)) {
+      return false;
+    }
+    PrecomputableAnomaly precomputableAnomaly = (PrecomputableAnomaly) anomaly;
+    Object fixKey = precomputableAnomaly.precomputableFixKey();
+    if (fixKey == null || (fixKey.equals(_fixKey) && isInProgressOrValid())) {
+      return false;
+    }
+    if (_precomputedFix != null) {
+      _precomputedFix.cancel(true);
+    }
+    LOG.info("Precomputing the fix for anomaly {}.", precomputableAnomaly);
+    _fixKey = fixKey;
+    _precomputedFix = _precomputationExecutor.submit(precomputableAnomaly::precomputeFix);
+    return true;
+  }
+
+  private boolean isInProgressOrValid() {
+    if (!_precomputedFix.isDone()) {
+      return true;
+    }
+    OptimizerResult precomputedResult = precomputedResult(_precomputedFix);
+    return precomputedResult != null
+           && isPrecomputedResultValid(precomputedResult, _kafkaCruiseControl.loadMonitor().clusterModelGeneration());
+  }
+
+  /**
+   * Set the fix precomputed for an anomaly with the same {@link PrecomputableAnomaly#precomputableFixKey()} as the given anomaly, which
+   * is due for a fix. If the precomputation is still in progress, this call waits for it to complete for up to the maximum wait
+   * time. A precomputation that does not complete in time is cancelled, and the fix is computed from scratch. A precomputed fix
+   * is used at most once.
+   *
+   * @param anomaly The anomaly that is due for a fix.
+   * @return {@code true} if a precomputed fix was set for the given anomaly, {@code false} otherwise.
+   */
+  public boolean maybeUsePrecomputedFix(Anomaly anomaly) throws InterruptedException {
+    if (!(anomaly instanceof PrecomputableAnomaly)) {
+      return false;
+    }
+    PrecomputableAnomaly precomputableAnomaly = (PrecomputableAnomaly) anomaly;
+    Future<OptimizerResult> precomputedFix;
+    synchronized (this) {
+      Object fixKey = precomputableAnomaly.precomputableFixKey();
+      if (fixKey == null || !fixKey.equals(_fixKey)) {
+        return false;
+      }
+      precomputedFix = _precomputedFix;
+      _fixKey = null;
+      _precomputedFix = null;
+    }
+    if (!precomputedFix.isDone()) {
+      LOG.info("Waiting for the precomputed fix for anomaly {}.", precomputableAnomaly);
+    }
+    try {
+      precomputedFix.get(_maxWaitMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      LOG.warn("Cancelling the precomputed fix for anomaly {}, which did not complete in {}ms.", precomputableAnomaly, _maxWaitMs);
+      precomputedFix.cancel(true);
+      return false;
+    } catch (ExecutionException | CancellationException e) {
+      // Handled by precomputedResult(Future).
+    }
+    OptimizerResult precomputedResult = precomputedResult(precomputedFix);
+    if (precomputedResult == null) {
+      return false;
+    }
+    precomputableAnomaly.setPrecomputedFix(precomputedResult);
+    return true;
+  }
+
+  /**
+   * @param precomputedFix A completed precomputation.
+   * @return The precomputed result, or {@code null} if the precomputation failed or was cancelled.
+   */
+  private static OptimizerResult precomputedResult(Future<OptimizerResult> precomputedFix) {
+    try {
+      return precomputedFix.get();
+    } catch (ExecutionException e) {
+      LOG.info("Failed to precompute the fix.", e.getCause());
+      return null;
+    } catch (CancellationException | InterruptedException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Shutdown the precomputation of fixes.
+   */
+  public void shutdown() {
+    _precomputationExecutor.shutdownNow();
+  }
+}
@@ -6,6 +6,7 @@ package com.linkedin.kafka.cruisecontrol.detector;
 
 import com.linkedin.cruisecontrol.detector.AnomalyType;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizerResult;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.exception.KafkaCruiseControlException;
 import com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.RemoveBrokersRunnable;
@@ -25,8 +26,9 @@ import static com.linkedin.kafka.cruisecontrol.detector.notifier.KafkaAnomalyTyp
 /**
  * The broker failures that have been detected.
  */
-public class BrokerFailures extends KafkaAnomaly {
+public class BrokerFailures extends KafkaAnomaly implements PrecomputableAnomaly {
   protected Map<Integer, Long> _failedBrokers;
+  protected KafkaCruiseControl _kafkaCruiseControl;
   protected RemoveBrokersRunnable _removeBrokersRunnable;
   protected boolean _fixable;
 
@@ -67,6 +69,23 @@ public class BrokerFailures extends KafkaAnomaly {
     return hasProposalsToFix;
   }
 
+  @Override
+  public Object precomputableFixKey() {
+    return _removeBrokersRunnable != null && _fixable ? _failedBrokers.keySet() : null;
+  }
+
+  @Override
+  public OptimizerResult precomputeFix() throws KafkaCruiseControlException {
+    // Use a separate runnable, as the fix may start while the precomputation is in progress. The precomputation never stops the
+    // ongoing execution -- the fix does, if requested.
+    return newRemoveBrokersRunnable(false).precomputeResult();
+  }
+
+  @Override
+  public void setPrecomputedFix(OptimizerResult precomputedFix) {
+    _removeBrokersRunnable.setPrecomputedResult(precomputedFix);
+  }
+
   @Override
   public AnomalyType anomalyType() {
     return BROKER_FAILURE;
@@ -94,26 +113,29 @@ public class BrokerFailures extends KafkaAnomaly {
   @Override
   public void configure(Map<String, ?> configs) {
     super.configure(configs);
-    KafkaCruiseControl kafkaCruiseControl = extractKafkaCruiseControlObjectFromConfig(configs, BROKER_FAILURE);
+    _kafkaCruiseControl = extractKafkaCruiseControlObjectFromConfig(configs, BROKER_FAILURE);
     _failedBrokers = (Map<Integer, Long>) configs.get(AbstractBrokerFailureDetector.FAILED_BROKERS_OBJECT_CONFIG);
     if (_failedBrokers != null && _failedBrokers.isEmpty()) {
       throw new IllegalArgumentException("Missing broker ids for failed brokers anomaly.");
     }
     _fixable = (Boolean) configs.get(AbstractBrokerFailureDetector.BROKER_FAILURES_FIXABLE_CONFIG);
     _optimizationResult = null;
-    KafkaCruiseControlConfig config = kafkaCruiseControl.config();
+    _removeBrokersRunnable = _failedBrokers != null ? newRemoveBrokersRunnable(stopOngoingExecution()) : null;
+  }
+
+  private RemoveBrokersRunnable newRemoveBrokersRunnable(boolean stopOngoingExecution) {
+    KafkaCruiseControlConfig config = _kafkaCruiseControl.config();
     boolean allowCapacityEstimation = config.getBoolean(ANOMALY_DETECTION_ALLOW_CAPACITY_ESTIMATION_CONFIG);
     boolean excludeRecentlyDemotedBrokers = config.getBoolean(SELF_HEALING_EXCLUDE_RECENTLY_DEMOTED_BROKERS_CONFIG);
     boolean excludeRecentlyRemovedBrokers = config.getBoolean(SELF_HEALING_EXCLUDE_RECENTLY_REMOVED_BROKERS_CONFIG);
-    _removeBrokersRunnable = _failedBrokers != null ? new RemoveBrokersRunnable(kafkaCruiseControl,
-                                                                                _failedBrokers.keySet(),
-                                                                                getSelfHealingGoalNames(config),
-                                                                                allowCapacityEstimation,
-                                                                                excludeRecentlyDemotedBrokers,
-                                                                                excludeRecentlyRemovedBrokers,
-                                                                                _anomalyId.toString(),
-                                                                                reasonSupplier(),
-                                                                                stopOngoingExecution())
-                                                    : null;
-    }
+    return new RemoveBrokersRunnable(_kafkaCruiseControl,
+                                     _failedBrokers.keySet(),
+                                     getSelfHealingGoalNames(config),
+                                     allowCapacityEstimation,
+                                     excludeRecentlyDemotedBrokers,
+                                     excludeRecentlyRemovedBrokers,
+                                     _anomalyId.toString(),
+                                     reasonSupplier(),
+                                     stopOngoingExecution);
+  }
 }
@@ -8,29 +8,42 @@ import com.linkedin.cruisecontrol.detector.Anomaly;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
-import org.apache.kafka.common.protocol.Errors;
+import org.apache.kafka.common.PartitionInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig.LOGDIR_RESPONSE_TIMEOUT_MS_CONFIG;
 import static com.linkedin.kafka.cruisecontrol.config.constants.AnomalyDetectorConfig.DISK_FAILURES_CLASS_CONFIG;
-import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.MAX_METADATA_WAIT_MS;
+import static com.linkedin.kafka.cruisecontrol.config.constants.AnomalyDetectorConfig.DISK_FAILURE_DETECTION_LIGHTWEIGHT_SCAN_ENABLE_CONFIG;
 import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.getAnomalyDetectionStatus;
 import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.ANOMALY_DETECTION_TIME_MS_OBJECT_CONFIG;
 import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.KAFKA_CRUISE_CONTROL_OBJECT_CONFIG;
 
 /**
  * This class detects disk failures.
+ *
+ * Logdirs of brokers are described concurrently and processed as their responses arrive, within a single
+ * {@link com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig#LOGDIR_RESPONSE_TIMEOUT_MS_CONFIG} for all brokers.
+ * Failed disks are kept across detections with the time they were first detected. If
+ * {@link com.linkedin.kafka.cruisecontrol.config.constants.AnomalyDetectorConfig#DISK_FAILURE_DETECTION_LIGHTWEIGHT_SCAN_ENABLE_CONFIG}
+ * is enabled, only the brokers that may have a change in their disk failures are described, unless alive brokers have changed.
  **/
 public class DiskFailureDetector extends AbstractAnomalyDetector implements Runnable {
   private static final Logger LOG = LoggerFactory.getLogger(DiskFailureDetector.class);
@@ -38,12 +51,20 @@ public class DiskFailureDetector extends AbstractAnomalyDetector implements Runn
   private final AdminClient _adminClient;
   private ModelGeneration _lastCheckedModelGeneration;
   private final KafkaCruiseControlConfig _config;
+  private final boolean _lightweightScanEnabled;
+  // Failed disks of alive brokers, and the time they were first detected.
+  private final Map<Integer, Map<String, Long>> _failedDisksByBroker;
+  // Alive brokers as of the last detection that described the logdirs of all alive brokers.
+  private Set<Integer> _lastFullyScannedBrokers;
 
-  public DiskFailureDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl) {
-    super(anomalies, kafkaCruiseControl);
+  public DiskFailureDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl, AnomalyDetectionInputsProvider inputsProvider) {
+    super(anomalies, kafkaCruiseControl, inputsProvider);
     _adminClient = kafkaCruiseControl.adminClient();
     _lastCheckedModelGeneration = new ModelGeneration(0, -1L);
     _config = _kafkaCruiseControl.config();
+    _lightweightScanEnabled = _config.getBoolean(DISK_FAILURE_DETECTION_LIGHTWEIGHT_SCAN_ENABLE_CONFIG);
+    _failedDisksByBroker = new HashMap<>();
+    _lastFullyScannedBrokers = Collections.emptySet();
   }
 
   /**
@@ -55,53 +76,137 @@ public class DiskFailureDetector extends AbstractAnomalyDetector implements Runn
    *   <li>Cluster model generation has not changed since the last disk failure check.</li>
    *   <li>There are dead brokers in the cluster, {@link ZKBrokerFailureDetector} or
    *   {@link KafkaBrokerFailureDetector} should take care of the anomaly.</li>
-   *   <li>{@link AnomalyDetectorUtils#getAnomalyDetectionStatus(KafkaCruiseControl, boolean, boolean)} is not {@link AnomalyDetectionStatus#READY}.
+   *   <li>{@link AnomalyDetectorUtils#getAnomalyDetectionStatus(AnomalyDetectionInputs, boolean, boolean)} is not
+   *   {@link AnomalyDetectionStatus#READY}.
    *   <li>See {@link AnomalyDetectionStatus} for details.</li>
    * </ul>
    *
+   * @param inputs The snapshot of the inputs of anomaly detectors.
    * @return The {@link AnomalyDetectionStatus anomaly detection status}, indicating whether the anomaly detector is ready.
    */
-  private AnomalyDetectionStatus getDiskFailureDetectionStatus() {
-    ModelGeneration currentClusterModelGeneration = _kafkaCruiseControl.loadMonitor().clusterModelGeneration();
+  private AnomalyDetectionStatus getDiskFailureDetectionStatus(AnomalyDetectionInputs inputs) {
+    ModelGeneration currentClusterModelGeneration = inputs.modelGeneration();
     if (currentClusterModelGeneration.equals(_lastCheckedModelGeneration)) {
-      if (LOG.isDebugEnabled()) {
-        LOG.debug("Skipping disk failure detection because the model generation hasn't changed. Current model generation {}",
-                  _kafkaCruiseControl.loadMonitor().clusterModelGeneration());
-      }
+      LOG.debug("Skipping disk failure detection because the model generation hasn't changed. Current model generation {}",
+                currentClusterModelGeneration);
       return AnomalyDetectionStatus.SKIP_MODEL_GENERATION_NOT_CHANGED;
     }
     _lastCheckedModelGeneration = currentClusterModelGeneration;
 
-    Set<Integer> deadBrokers = _kafkaCruiseControl.loadMonitor().deadBrokersWithReplicas(MAX_METADATA_WAIT_MS);
+    Set<Integer> deadBrokers = inputs.deadBrokersWithReplicas();
     if (!deadBrokers.isEmpty()) {
       LOG.debug("Skipping disk failure detection because there are dead broker in the cluster, dead broker: {}", deadBrokers);
       return AnomalyDetectionStatus.SKIP_HAS_DEAD_BROKERS;
     }
 
-    return getAnomalyDetectionStatus(_kafkaCruiseControl, false, true);
+    return getAnomalyDetectionStatus(inputs, false, true);
+  }
+
+  /**
+   * Get the brokers whose logdirs are to be described. These are all alive brokers unless lightweight scan is enabled and the
+   * alive brokers are the same as the last full scan. Otherwise, these are only the brokers that (1) host offline replicas or
+   * (2) had failed disks in the last detection -- i.e. brokers that may have a new or recovered disk failure.
+   *
+   * @param cluster Kafka cluster.
+   * @param aliveBrokers Alive brokers in the cluster.
+   * @return The brokers whose logdirs are to be described.
+   */
+  private Set<Integer> brokersToScan(Cluster cluster, Set<Integer> aliveBrokers) {
+    if (!_lightweightScanEnabled || !aliveBrokers.equals(_lastFullyScannedBrokers)) {
+      _lastFullyScannedBrokers = aliveBrokers;
+      return aliveBrokers;
+    }
+    Set<Integer> brokersToScan = new HashSet<>(_failedDisksByBroker.keySet());
+    for (String topic : cluster.topics()) {
+      for (PartitionInfo partitionInfo : cluster.partitionsForTopic(topic)) {
+        for (Node offlineReplica : partitionInfo.offlineReplicas()) {
+          brokersToScan.add(offlineReplica.id());
+        }
+      }
+    }
+    brokersToScan.retainAll(aliveBrokers);
+    return brokersToScan;
+  }
+
+  /**
+   * Describe the logdirs of the given brokers, and process the response of each broker as it arrives.
+   *
+   * @param brokers Brokers whose logdirs are to be described.
+   * @return Failed logdirs by broker, for brokers whose logdirs are successfully described within the logdir response timeout.
+   */
+  private Map<Integer, Set<String>> failedLogdirsByBroker(Set<Integer> brokers) {
+    Map<Integer, Set<String>> failedLogdirsByBroker = new ConcurrentHashMap<>();
+    if (brokers.isEmpty()) {
+      return failedLogdirsByBroker;
+    }
+    List<KafkaFuture<?>> processedResponses = new ArrayList<>(brokers.size());
+    _adminClient.describeLogDirs(brokers).descriptions().forEach((broker, future) -> processedResponses.add(
+        future.whenComplete((descriptionByLogdir, exception) -> {
+          if (exception != null) {
+            LOG.warn("Retrieving logdir information for broker {} encountered exception {}.", broker, exception);
+            return;
+          }
+          Set<String> failedLogdirs = new HashSet<>();
+          descriptionByLogdir.forEach((logdir, description) -> {
+            if (description.error() != null) {
+              failedLogdirs.add(logdir);
+            }
+          });
+          failedLogdirsByBroker.put(broker, failedLogdirs);
+        })));
+    try {
+      KafkaFuture.allOf(processedResponses.toArray(new KafkaFuture<?>[0]))
+                 .get(_config.getLong(LOGDIR_RESPONSE_TIMEOUT_MS_CONFIG), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      // Exceptions are logged for each broker.
+    } catch (TimeoutException e) {
+      Set<Integer> brokersWithoutResponse = new HashSet<>(brokers);
+      brokersWithoutResponse.removeAll(failedLogdirsByBroker.keySet());
+      LOG.warn("Retrieving logdir information for brokers {} timed out.", brokersWithoutResponse);
+    } catch (InterruptedException e) {
+      LOG.warn("Interrupted while retrieving logdir information for brokers {}.", brokers);
+      Thread.currentThread().interrupt();
+    }
+    return new HashMap<>(failedLogdirsByBroker);
+  }
+
+  /**
+   * Update the failed disks of brokers with the given failed logdirs. Brokers whose logdirs could not be described keep their
+   * failed disks from the last detection.
+   *
+   * @param aliveBrokers Alive brokers in the cluster.
+   * @param failedLogdirsByBroker Failed logdirs by broker, for brokers whose logdirs are described.
+   */
+  private void updateFailedDisks(Set<Integer> aliveBrokers, Map<Integer, Set<String>> failedLogdirsByBroker) {
+    _failedDisksByBroker.keySet().retainAll(aliveBrokers);
+    long nowMs = _kafkaCruiseControl.timeMs();
+    failedLogdirsByBroker.forEach((broker, failedLogdirs) -> {
+      if (failedLogdirs.isEmpty()) {
+        _failedDisksByBroker.remove(broker);
+        return;
+      }
+      Map<String, Long> previousFailedDisks = _failedDisksByBroker.getOrDefault(broker, Collections.emptyMap());
+      Map<String, Long> failedDisks = new HashMap<>();
+      failedLogdirs.forEach(logdir -> failedDisks.put(logdir, previousFailedDisks.getOrDefault(logdir, nowMs)));
+      _failedDisksByBroker.put(broker, failedDisks);
+    });
   }
 
   @Override
   public void run() {
     try {
-      if (getDiskFailureDetectionStatus() != AnomalyDetectionStatus.READY) {
+      AnomalyDetectionInputs inputs = _inputsProvider.inputs();
+      if (getDiskFailureDetectionStatus(inputs) != AnomalyDetectionStatus.READY) {
         return;
       }
-      Map<Integer, Map<String, Long>> failedDisksByBroker = new HashMap<>();
-      Set<Integer> aliveBrokers = _kafkaCruiseControl.kafkaCluster().nodes().stream().mapToInt(Node::id).boxed().collect(Collectors.toSet());
-      _adminClient.describeLogDirs(aliveBrokers).values().forEach((broker, future) -> {
-        try {
-          future.get(_config.getLong(LOGDIR_RESPONSE_TIMEOUT_MS_CONFIG), TimeUnit.MILLISECONDS).forEach((logdir, info) -> {
-            if (info.error != Errors.NONE) {
-              failedDisksByBroker.putIfAbsent(broker, new HashMap<>());
-              failedDisksByBroker.get(broker).put(logdir, _kafkaCruiseControl.timeMs());
-            }
-          });
-        } catch (TimeoutException | InterruptedException | ExecutionException e) {
-          LOG.warn("Retrieving logdir information for broker {} encountered exception {}.", broker, e);
-        }
-      });
-      if (!failedDisksByBroker.isEmpty()) {
+      Cluster cluster = inputs.cluster();
+      Set<Integer> aliveBrokers = cluster.nodes().stream().mapToInt(Node::id).boxed().collect(Collectors.toSet());
+      Set<Integer> brokersToScan = brokersToScan(cluster, aliveBrokers);
+      LOG.debug("Describe logdirs of {} out of {} alive brokers.", brokersToScan.size(), aliveBrokers.size());
+      updateFailedDisks(aliveBrokers, failedLogdirsByBroker(brokersToScan));
+      if (!_failedDisksByBroker.isEmpty()) {
+        Map<Integer, Map<String, Long>> failedDisksByBroker = new HashMap<>();
+        _failedDisksByBroker.forEach((broker, failedDisks) -> failedDisksByBroker.put(broker, new HashMap<>(failedDisks)));
         Map<String, Object> parameterConfigOverrides = new HashMap<>();
         parameterConfigOverrides.put(KAFKA_CRUISE_CONTROL_OBJECT_CONFIG, _kafkaCruiseControl);
         parameterConfigOverrides.put(FAILED_DISKS_OBJECT_CONFIG, failedDisksByBroker);
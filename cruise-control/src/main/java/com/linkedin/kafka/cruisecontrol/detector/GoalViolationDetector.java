@@ -26,7 +26,10 @@ import com.linkedin.kafka.cruisecontrol.exception.OptimizationFailureException;
 import com.linkedin.kafka.cruisecontrol.executor.ExecutorState;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelCompletenessRequirements;
 import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import com.linkedin.kafka.cruisecontrol.monitor.MonitorUtils;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -66,12 +69,16 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
   private final OptimizationOptionsGenerator _optimizationOptionsGenerator;
   private final Timer _goalViolationDetectionTimer;
   private final Meter _automatedRightsizingMeter;
+  private final Meter _goalViolationFastPathMeter;
   protected static final double BALANCEDNESS_SCORE_WITH_OFFLINE_REPLICAS = -1.0;
   protected final Provisioner _provisioner;
   protected final Boolean _isProvisionerEnabled;
 
-  public GoalViolationDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl, MetricRegistry dropwizardMetricRegistry) {
-    super(anomalies, kafkaCruiseControl);
+  public GoalViolationDetector(Queue<Anomaly> anomalies,
+                               KafkaCruiseControl kafkaCruiseControl,
+                               AnomalyDetectionInputsProvider inputsProvider,
+                               MetricRegistry dropwizardMetricRegistry) {
+    super(anomalies, kafkaCruiseControl, inputsProvider);
     KafkaCruiseControlConfig config = _kafkaCruiseControl.config();
     // Notice that we use a separate set of Goal instances for anomaly detector to avoid interference.
     _detectionGoals = config.getConfiguredInstances(AnomalyDetectorConfig.ANOMALY_DETECTION_GOALS_CONFIG, Goal.class);
@@ -93,6 +100,8 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
     _goalViolationDetectionTimer = dropwizardMetricRegistry.timer(MetricRegistry.name(ANOMALY_DETECTOR_SENSOR,
                                                                                       "goal-violation-detection-timer"));
     _automatedRightsizingMeter = dropwizardMetricRegistry.meter(MetricRegistry.name(ANOMALY_DETECTOR_SENSOR, "automated-rightsizing-rate"));
+    _goalViolationFastPathMeter = dropwizardMetricRegistry.meter(MetricRegistry.name(ANOMALY_DETECTOR_SENSOR,
+                                                                                      "goal-violation-fast-path-rate"));
     _provisioner = kafkaCruiseControl.provisioner();
     _isProvisionerEnabled = config.getBoolean(AnomalyDetectorConfig.PROVISIONER_ENABLE_CONFIG);
   }
@@ -133,15 +142,14 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
    * @return The {@link AnomalyDetectionStatus anomaly detection status}, indicating whether the anomaly detector is ready.
    */
   protected AnomalyDetectionStatus getGoalViolationDetectionStatus() {
-    if (_kafkaCruiseControl.loadMonitor().clusterModelGeneration().equals(_lastCheckedModelGeneration)) {
-      if (LOG.isDebugEnabled()) {
-        LOG.debug("Skipping goal violation detection because the model generation hasn't changed. Current model generation {}",
-                  _kafkaCruiseControl.loadMonitor().clusterModelGeneration());
-      }
+    AnomalyDetectionInputs inputs = _inputsProvider.inputs();
+    if (inputs.modelGeneration().equals(_lastCheckedModelGeneration)) {
+      LOG.debug("Skipping goal violation detection because the model generation hasn't changed. Current model generation {}",
+                inputs.modelGeneration());
       return AnomalyDetectionStatus.SKIP_MODEL_GENERATION_NOT_CHANGED;
     }
 
-    AnomalyDetectionStatus detectionStatus = getAnomalyDetectionStatus(_kafkaCruiseControl, true, true);
+    AnomalyDetectionStatus detectionStatus = getAnomalyDetectionStatus(inputs, true, true);
     if (detectionStatus == AnomalyDetectionStatus.SKIP_HAS_OFFLINE_REPLICAS) {
       setBalancednessWithOfflineReplicas();
     } else if (detectionStatus == AnomalyDetectionStatus.SKIP_EXECUTOR_NOT_READY) {
@@ -167,13 +175,13 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
       GoalViolations goalViolations = _kafkaCruiseControl.config().getConfiguredInstance(AnomalyDetectorConfig.GOAL_VIOLATIONS_CLASS_CONFIG,
                                                                                          GoalViolations.class,
                                                                                          parameterConfigOverrides);
-      boolean newModelNeeded = true;
       ClusterModel clusterModel = null;
+      ModelCompletenessRequirements requirements = null;
 
       // Retrieve excluded brokers for leadership and replica move.
       ExecutorState executorState = null;
       if (_excludeRecentlyDemotedBrokers || _excludeRecentlyRemovedBrokers) {
-        executorState = _kafkaCruiseControl.executorState();
+        executorState = _inputsProvider.inputs().executorState();
       }
 
       Set<Integer> excludedBrokersForLeadership = _excludeRecentlyDemotedBrokers ? executorState.recentlyDemotedBrokers()
@@ -183,38 +191,84 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
                                                                                   : Collections.emptySet();
 
       ProvisionResponse provisionResponse = new ProvisionResponse(ProvisionStatus.UNDECIDED);
-      boolean checkPartitionsWithRFGreaterThanNumRacks = true;
+      OptimizationOptions options = null;
+      List<Goal> goalsToCheck = new ArrayList<>(_detectionGoals.size());
+      for (Goal goal : _detectionGoals) {
+        if (_kafkaCruiseControl.loadMonitor().meetCompletenessRequirements(goal.clusterModelCompletenessRequirements())) {
+          goalsToCheck.add(goal);
+        } else {
+          LOG.warn("Skipping goal violation detection for {} because load completeness requirement is not met.", goal);
+        }
+      }
       final Timer.Context ctx = _goalViolationDetectionTimer.time();
       try {
+        // Because the model generation could be slow, goals are checked on a shared cluster model, and the relocations of the trial
+        // optimization of each goal are rolled back before checking the next goal. The shared cluster model has the combined
+        // completeness requirements of the goals if the load monitor meets them. Otherwise, each goal is checked on a cluster model
+        // with its own requirements, which is shared only with the subsequent goals with the same requirements.
+        ModelCompletenessRequirements combinedRequirements = MonitorUtils.combineLoadRequirementOptions(goalsToCheck);
+        boolean useCombinedRequirements = !goalsToCheck.isEmpty()
+                                          && _kafkaCruiseControl.loadMonitor().meetCompletenessRequirements(combinedRequirements);
+        boolean checkPartitionsWithRFGreaterThanNumRacks = true;
         for (Goal goal : _detectionGoals) {
-          if (_kafkaCruiseControl.loadMonitor().meetCompletenessRequirements(goal.clusterModelCompletenessRequirements())) {
-            LOG.debug("Detecting if {} is violated.", goal.name());
-            // Because the model generation could be slow, We only get new cluster model if needed.
-            if (newModelNeeded) {
+          if (goalsToCheck.contains(goal)) {
+            ModelCompletenessRequirements goalRequirements = useCombinedRequirements ? combinedRequirements
+                                                                                     : goal.clusterModelCompletenessRequirements();
+            if (clusterModel == null || !goalRequirements.equals(requirements)) {
               if (clusterModelSemaphore != null) {
                 clusterModelSemaphore.close();
               }
               clusterModelSemaphore = _kafkaCruiseControl.acquireForModelGeneration(new OperationProgress());
               // Make cluster model null before generating a new cluster model so the current one can be GCed.
               clusterModel = null;
-              clusterModel = _kafkaCruiseControl.clusterModel(goal.clusterModelCompletenessRequirements(),
-                                                              _allowCapacityEstimation,
-                                                              new OperationProgress());
-
+              requirements = goalRequirements;
+              clusterModel = _kafkaCruiseControl.clusterModel(requirements, _allowCapacityEstimation, new OperationProgress());
               // If the clusterModel contains dead brokers or disks, goal violation detector will ignore any goal violations.
               // Detection and fix for dead brokers/disks is the responsibility of broker/disk failure detector.
               if (skipDueToOfflineReplicas(clusterModel)) {
                 return;
               }
               _lastCheckedModelGeneration = clusterModel.generation();
+              clusterModel.checkpoint();
+              options = _optimizationOptionsGenerator.optimizationOptionsForGoalViolationDetection(clusterModel,
+                                                                                                  excludedTopics(clusterModel),
+                                                                                                  excludedBrokersForLeadership,
+                                                                                                  excludedBrokersForReplicaMove);
+              if (checkPartitionsWithRFGreaterThanNumRacks) {
+                // CC will check for partitions with RF greater than number of eligible racks just once, because regardless of the goal,
+                // the cluster will have the same (1) maximum replication factor and (2) rack count containing brokers that are eligible
+                // to host replicas.
+                _hasPartitionsWithRFGreaterThanNumRacks =
+                    clusterModel.maxReplicationFactor() > clusterModel.aliveRacksAllowedReplicaMoves(options).size();
+                checkPartitionsWithRFGreaterThanNumRacks = false;
+              }
+            }
+            LOG.debug("Detecting if {} is violated.", goal.name());
+            if (!goal.isViolated(clusterModel, options)) {
+              // The trial optimization would not relocate any replica or leadership, and the goal has set its provision response.
+              LOG.debug("Skipping the trial optimization for {} because the goal is satisfied.", goal.name());
+              _goalViolationFastPathMeter.mark();
+            } else {
+              boolean isRolledBack;
+              try {
+                optimizeForGoal(clusterModel, goal, goalViolations, options);
+                LOG.trace("Rolling back {} relocations of the trial optimization for {}.", clusterModel.numRelocationsSinceCheckpoint(),
+                          goal.name());
+                isRolledBack = clusterModel.rollbackToCheckpoint();
+              } finally {
+                // A trial optimization that fails does not release the sorted replicas that it tracks, which would otherwise be
+                // updated upon each relocation of the subsequent trial optimizations.
+                clusterModel.clearSortedReplicas();
+              }
+              if (!isRolledBack) {
+                // The trial optimization made changes that are not in the undo log (e.g. broker or disk state changes), hence the
+                // cluster model is recreated for the subsequent goals.
+                LOG.debug("Recreating the cluster model because the trial optimization for {} cannot be rolled back.", goal.name());
+                clusterModel = null;
+                clusterModel = _kafkaCruiseControl.clusterModel(requirements, _allowCapacityEstimation, new OperationProgress());
+                clusterModel.checkpoint();
+              }
             }
-            newModelNeeded = optimizeForGoal(clusterModel, goal, goalViolations, excludedBrokersForLeadership, excludedBrokersForReplicaMove,
-                                             checkPartitionsWithRFGreaterThanNumRacks);
-            // CC will check for partitions with RF greater than number of eligible racks just once, because regardless of the goal, the cluster
-            // will have the same (1) maximum replication factor and (2) rack count containing brokers that are eligible to host replicas.
-            checkPartitionsWithRFGreaterThanNumRacks = false;
-          } else {
-            LOG.warn("Skipping goal violation detection for {} because load completeness requirement is not met.", goal);
           }
           provisionResponse.aggregate(goal.provisionResponse());
         }
@@ -293,9 +347,7 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
   protected boolean optimizeForGoal(ClusterModel clusterModel,
                                     Goal goal,
                                     GoalViolations goalViolations,
-                                    Set<Integer> excludedBrokersForLeadership,
-                                    Set<Integer> excludedBrokersForReplicaMove,
-                                    boolean checkPartitionsWithRFGreaterThanNumRacks)
+                                    OptimizationOptions options)
       throws KafkaCruiseControlException {
     if (clusterModel.topics().isEmpty()) {
       LOG.info("Skipping goal violation detection because the cluster model does not have any topic.");
@@ -304,13 +356,6 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
     Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
     Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
     try {
-      OptimizationOptions options = _optimizationOptionsGenerator.optimizationOptionsForGoalViolationDetection(clusterModel,
-                                                                                                               excludedTopics(clusterModel),
-                                                                                                               excludedBrokersForLeadership,
-                                                                                                               excludedBrokersForReplicaMove);
-      if (checkPartitionsWithRFGreaterThanNumRacks) {
-        _hasPartitionsWithRFGreaterThanNumRacks = clusterModel.maxReplicationFactor() > clusterModel.aliveRacksAllowedReplicaMoves(options).size();
-      }
       goal.optimize(clusterModel, Collections.emptySet(), options);
     } catch (OptimizationFailureException ofe) {
       // An OptimizationFailureException indicates (1) a hard goal violation that cannot be fixed typically due to
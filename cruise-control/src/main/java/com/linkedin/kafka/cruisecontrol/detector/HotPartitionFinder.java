@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.detector;
+
+import com.linkedin.cruisecontrol.detector.metricanomaly.MetricAnomaly;
+import com.linkedin.cruisecontrol.detector.metricanomaly.MetricAnomalyFinder;
+import com.linkedin.cruisecontrol.detector.metricanomaly.MetricAnomalyType;
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapolations;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.config.constants.AnomalyDetectorConfig;
+import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
+import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerEntity;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.StringJoiner;
+import java.util.function.Predicate;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.ANOMALY_DETECTION_TIME_MS_OBJECT_CONFIG;
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.KAFKA_CRUISE_CONTROL_OBJECT_CONFIG;
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyUtils.parseAndGetConfig;
+import static com.linkedin.kafka.cruisecontrol.detector.MetricAnomalyDetector.METRIC_ANOMALY_BROKER_ENTITIES_OBJECT_CONFIG;
+import static com.linkedin.kafka.cruisecontrol.detector.MetricAnomalyDetector.METRIC_ANOMALY_DESCRIPTION_OBJECT_CONFIG;
+import static com.linkedin.kafka.cruisecontrol.detector.MetricAnomalyDetector.METRIC_ANOMALY_FIXABLE_OBJECT_CONFIG;
+
+
+/**
+ * This class will check whether there are hot partitions -- i.e. partitions whose current value of a partition metric is
+ * abnormally high compared to their own history, such as a sudden bytes in spike on a single partition.
+ *
+ * Unlike the broker-level metric anomaly finders, this finder ignores the broker metrics given by {@link MetricAnomalyDetector},
+ * and scans the partition metrics of the load monitor instead (see {@link LoadMonitor#scanPartitionMetricValues}). The scan
+ * reads one metric at a time from the per-window arrays of each partition without allocating a result per partition, runs in
+ * parallel across partitions in large clusters, and retains only the hottest partitions found so far. Hence, the memory used
+ * by a detection is bounded by {@link #HOT_PARTITION_MAX_REPORTED_CONFIG} regardless of the number of partitions.
+ *
+ * A partition is hot for a metric if (1) its value in the current window is at least
+ * {@link #HOT_PARTITION_METRIC_VALUE_THRESHOLD_CONFIG}, and (2) its value in the current window is larger than
+ * {@link #HOT_PARTITION_METRIC_HISTORY_MARGIN_CONFIG} * (the average of its values in the recent history windows with sufficient
+ * samples). The hot partitions found in a detection are reported in a single unfixable {@link KafkaMetricAnomaly}, whose broker
+ * entities are the leaders of the hot partitions.
+ *
+ * Related configurations for this class.
+ * <ul>
+ *   <li>{@link #HOT_PARTITION_METRICS_CONFIG}: the comma-separated partition metrics to check for hot partitions. Default value
+ *   is set to {@link #DEFAULT_HOT_PARTITION_METRICS}.</li>
+ *   <li>{@link #HOT_PARTITION_NUM_HISTORY_WINDOWS_CONFIG}: the number of the most recent completed windows to compare the current
+ *   metric value against. Default value is set to {@link #DEFAULT_HOT_PARTITION_NUM_HISTORY_WINDOWS}.</li>
+ *   <li>{@link #HOT_PARTITION_METRIC_VALUE_THRESHOLD_CONFIG}: the minimum current metric value of a hot partition, which prevents
+ *   reporting partitions with negligible traffic. Default value is set to {@link #DEFAULT_HOT_PARTITION_METRIC_VALUE_THRESHOLD}.</li>
+ *   <li>{@link #HOT_PARTITION_METRIC_HISTORY_MARGIN_CONFIG}: the margin used to compare the current metric value against the
+ *   average historical value. Default value is set to {@link #DEFAULT_HOT_PARTITION_METRIC_HISTORY_MARGIN}.</li>
+ *   <li>{@link #HOT_PARTITION_MAX_REPORTED_CONFIG}: the maximum number of hot partitions to report in a detection, i.e. the ones
+ *   with the largest ratio of the current value to the average historical value. Default value is set to
+ *   {@link #DEFAULT_HOT_PARTITION_MAX_REPORTED}.</li>
+ * </ul>
+ */
+public class HotPartitionFinder implements MetricAnomalyFinder<BrokerEntity> {
+  private static final Logger LOG = LoggerFactory.getLogger(HotPartitionFinder.class);
+  public static final String HOT_PARTITION_METRICS_CONFIG = "hot.partition.metrics";
+  public static final String DEFAULT_HOT_PARTITION_METRICS = KafkaMetricDef.LEADER_BYTES_IN.name();
+  public static final String HOT_PARTITION_NUM_HISTORY_WINDOWS_CONFIG = "hot.partition.num.history.windows";
+  public static final int DEFAULT_HOT_PARTITION_NUM_HISTORY_WINDOWS = 5;
+  public static final String HOT_PARTITION_METRIC_VALUE_THRESHOLD_CONFIG = "hot.partition.metric.value.threshold";
+  public static final double DEFAULT_HOT_PARTITION_METRIC_VALUE_THRESHOLD = 1024.0;
+  public static final String HOT_PARTITION_METRIC_HISTORY_MARGIN_CONFIG = "hot.partition.metric.history.margin";
+  public static final double DEFAULT_HOT_PARTITION_METRIC_HISTORY_MARGIN = 3.0;
+  public static final String HOT_PARTITION_MAX_REPORTED_CONFIG = "hot.partition.max.reported";
+  public static final int DEFAULT_HOT_PARTITION_MAX_REPORTED = 10;
+  // The number of partitions needed to scan the partition metrics in parallel.
+  private static final long SCAN_PARALLELISM_THRESHOLD = 10000L;
+  private KafkaCruiseControl _kafkaCruiseControl;
+  private List<Short> _metricIds;
+  private int _numHistoryWindows;
+  private double _metricValueThreshold;
+  private double _metricHistoryMargin;
+  private int _maxReported;
+  private volatile int _numRecentHotPartitions;
+
+  public HotPartitionFinder() {
+    _numRecentHotPartitions = 0;
+  }
+
+  @Override
+  public Collection<MetricAnomaly<BrokerEntity>> metricAnomalies(Map<BrokerEntity, ValuesAndExtrapolations> metricsHistoryByBroker,
+                                                                 Map<BrokerEntity, ValuesAndExtrapolations> currentMetricsByBroker) {
+    LoadMonitor loadMonitor = _kafkaCruiseControl.loadMonitor();
+    // A min-heap of the hottest partitions found so far, which is shared by the threads scanning the partitions.
+    PriorityQueue<HotPartition> hotPartitions = new PriorityQueue<>(_maxReported + 1, Comparator.comparingDouble(HotPartition::ratio));
+    for (short metricId : _metricIds) {
+      loadMonitor.scanPartitionMetricValues(metricId, _numHistoryWindows, SCAN_PARALLELISM_THRESHOLD, (partition, values) -> {
+        double ratio = ratioToHistory(values);
+        if (ratio > _metricHistoryMargin) {
+          synchronized (hotPartitions) {
+            if (hotPartitions.size() < _maxReported || ratio > hotPartitions.peek().ratio()) {
+              hotPartitions.add(new HotPartition(partition.tp(), metricId, values[0], ratio));
+              if (hotPartitions.size() > _maxReported) {
+                hotPartitions.poll();
+              }
+            }
+          }
+        }
+      });
+    }
+
+    _numRecentHotPartitions = hotPartitions.size();
+    if (hotPartitions.isEmpty()) {
+      return Collections.emptySet();
+    }
+    List<HotPartition> sortedHotPartitions = new ArrayList<>(hotPartitions);
+    sortedHotPartitions.sort(Comparator.comparingDouble(HotPartition::ratio).reversed());
+    LOG.info("Hot partitions: {}", sortedHotPartitions);
+    KafkaMetricAnomaly metricAnomaly = createMetricAnomaly(sortedHotPartitions);
+    return metricAnomaly == null ? Collections.emptySet() : Collections.singleton(metricAnomaly);
+  }
+
+  /**
+   * Get the ratio of the current metric value of a partition to the average of its historical metric values.
+   * Package private for unit test.
+   *
+   * @param values The value of the current window, followed by the values of the history windows ({@link Float#NaN} if
+   *               a window does not have sufficient samples).
+   * @return The ratio of the current metric value to the average historical value, or {@code 0} if the current value is
+   * below the metric value threshold or there is no historical value.
+   */
+  double ratioToHistory(float[] values) {
+    float currentValue = values[0];
+    if (Float.isNaN(currentValue) || currentValue < _metricValueThreshold) {
+      return 0.0;
+    }
+    double sum = 0.0;
+    int numHistoryValues = 0;
+    for (int i = 1; i < values.length; i++) {
+      if (!Float.isNaN(values[i])) {
+        sum += values[i];
+        numHistoryValues++;
+      }
+    }
+    if (numHistoryValues == 0) {
+      return 0.0;
+    }
+    double avg = sum / numHistoryValues;
+    return avg > 0.0 ? currentValue / avg : Double.POSITIVE_INFINITY;
+  }
+
+  private KafkaMetricAnomaly createMetricAnomaly(List<HotPartition> hotPartitions) {
+    Cluster cluster = _kafkaCruiseControl.kafkaCluster();
+    long nowMs = _kafkaCruiseControl.timeMs();
+    Map<BrokerEntity, Long> leadersWithDetectionTimeMs = new HashMap<>();
+    StringJoiner description = new StringJoiner(", ", String.format("%d hot partitions (metric: current value, ratio to average "
+                                                                    + "of up to %d history windows): ", hotPartitions.size(),
+                                                                    _numHistoryWindows), ".");
+    for (HotPartition hotPartition : hotPartitions) {
+      Node leader = cluster.leaderFor(hotPartition.tp());
+      if (leader != null) {
+        leadersWithDetectionTimeMs.put(new BrokerEntity(leader.host(), leader.id()), nowMs);
+      }
+      description.add(hotPartition.toString());
+    }
+    if (leadersWithDetectionTimeMs.isEmpty()) {
+      LOG.warn("Skip reporting hot partitions {} because none of them has a leader.", hotPartitions);
+      return null;
+    }
+
+    Map<String, Object> parameterConfigOverrides =
+        Map.of(METRIC_ANOMALY_DESCRIPTION_OBJECT_CONFIG, description.toString(),
+               METRIC_ANOMALY_BROKER_ENTITIES_OBJECT_CONFIG, leadersWithDetectionTimeMs,
+               ANOMALY_DETECTION_TIME_MS_OBJECT_CONFIG, nowMs, METRIC_ANOMALY_FIXABLE_OBJECT_CONFIG, false);
+    return _kafkaCruiseControl.config().getConfiguredInstance(AnomalyDetectorConfig.METRIC_ANOMALY_CLASS_CONFIG,
+                                                              KafkaMetricAnomaly.class,
+                                                              parameterConfigOverrides);
+  }
+
+  @Override
+  public int numAnomaliesOfType(MetricAnomalyType type) {
+    // Hot partition finder can only report the number of hot partitions in the latest detection.
+    return type != MetricAnomalyType.RECENT ? 0 : _numRecentHotPartitions;
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs) {
+    _kafkaCruiseControl = (KafkaCruiseControl) configs.get(KAFKA_CRUISE_CONTROL_OBJECT_CONFIG);
+    if (_kafkaCruiseControl == null) {
+      throw new IllegalArgumentException("Hot partition finder is missing " + KAFKA_CRUISE_CONTROL_OBJECT_CONFIG);
+    }
+    Map<String, Object> originalConfig = _kafkaCruiseControl.config().originals();
+    String metrics = (String) originalConfig.getOrDefault(HOT_PARTITION_METRICS_CONFIG, DEFAULT_HOT_PARTITION_METRICS);
+    _metricIds = new ArrayList<>();
+    for (String metric : metrics.split(",")) {
+      if (!metric.trim().isEmpty()) {
+        _metricIds.add(KafkaMetricDef.commonMetricDef().metricInfo(metric.trim()).id());
+      }
+    }
+
+    _numHistoryWindows = parseAndGetConfig(originalConfig,
+                                           HOT_PARTITION_NUM_HISTORY_WINDOWS_CONFIG,
+                                           DEFAULT_HOT_PARTITION_NUM_HISTORY_WINDOWS,
+                                           (Predicate<Integer>) val -> (val < 1));
+
+    _metricValueThreshold = parseAndGetConfig(originalConfig,
+                                              HOT_PARTITION_METRIC_VALUE_THRESHOLD_CONFIG,
+                                              DEFAULT_HOT_PARTITION_METRIC_VALUE_THRESHOLD,
+                                              val -> (val < 0.0));
+
+    _metricHistoryMargin = parseAndGetConfig(originalConfig,
+                                             HOT_PARTITION_METRIC_HISTORY_MARGIN_CONFIG,
+                                             DEFAULT_HOT_PARTITION_METRIC_HISTORY_MARGIN,
+                                             val -> (val < 1.0));
+
+    _maxReported = parseAndGetConfig(originalConfig,
+                                     HOT_PARTITION_MAX_REPORTED_CONFIG,
+                                     DEFAULT_HOT_PARTITION_MAX_REPORTED,
+                                     (Predicate<Integer>) val -> (val < 1));
+  }
+
+  /**
+   * A hot partition with its current metric value and the ratio of the value to the average historical value.
+   */
+  private static final class HotPartition {
+    private final TopicPartition _tp;
+    private final short _metricId;
+    private final double _value;
+    private final double _ratio;
+
+    HotPartition(TopicPartition tp, short metricId, double value, double ratio) {
+      _tp = tp;
+      _metricId = metricId;
+      _value = value;
+      _ratio = ratio;
+    }
+
+    TopicPartition tp() {
+      return _tp;
+    }
+
+    double ratio() {
+      return _ratio;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s (%s: %.3f, %.2fx)", _tp, KafkaMetricDef.commonMetricDef().metricInfo(_metricId).name(), _value, _ratio);
+    }
+  }
+}
@@ -33,8 +33,8 @@ public class MetricAnomalyDetector extends AbstractAnomalyDetector implements Ru
   private final List<MetricAnomalyFinder> _kafkaMetricAnomalyFinders;
   private boolean _skippedLatestDetection;
 
-  public MetricAnomalyDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl) {
-    super(anomalies, kafkaCruiseControl);
+  public MetricAnomalyDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl, AnomalyDetectionInputsProvider inputsProvider) {
+    super(anomalies, kafkaCruiseControl, inputsProvider);
     Map<String, Object> configWithCruiseControlObject = Collections.singletonMap(KAFKA_CRUISE_CONTROL_OBJECT_CONFIG,
                                                                                  kafkaCruiseControl);
     _kafkaMetricAnomalyFinders = kafkaCruiseControl.config().getConfiguredInstances(
@@ -60,15 +60,16 @@ public class MetricAnomalyDetector extends AbstractAnomalyDetector implements Ru
   @SuppressWarnings("unchecked")
   public void run() {
     try {
-      if (getAnomalyDetectionStatus(_kafkaCruiseControl, true, true) != AnomalyDetectionStatus.READY) {
+      AnomalyDetectionInputs inputs = _inputsProvider.inputs();
+      if (getAnomalyDetectionStatus(inputs, true, true) != AnomalyDetectionStatus.READY) {
         // Skip the latest detection because metric anomaly detector is not ready
         _skippedLatestDetection = true;
         return;
       }
 
       // Get the historical and current values of broker metrics.
-      Map<BrokerEntity, ValuesAndExtrapolations> metricsHistoryByBroker = _kafkaCruiseControl.loadMonitor().brokerMetrics().valuesAndExtrapolations();
-      Map<BrokerEntity, ValuesAndExtrapolations> currentMetricsByBroker = _kafkaCruiseControl.loadMonitor().currentBrokerMetricValues();
+      Map<BrokerEntity, ValuesAndExtrapolations> metricsHistoryByBroker = inputs.brokerMetrics().valuesAndExtrapolations();
+      Map<BrokerEntity, ValuesAndExtrapolations> currentMetricsByBroker = inputs.currentBrokerMetricValues();
 
       for (MetricAnomalyFinder<BrokerEntity> kafkaMetricAnomalyFinder : _kafkaMetricAnomalyFinders) {
         _anomalies.addAll(kafkaMetricAnomalyFinder.metricAnomalies(metricsHistoryByBroker, currentMetricsByBroker));
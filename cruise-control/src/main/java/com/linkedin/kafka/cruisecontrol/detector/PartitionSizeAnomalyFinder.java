@@ -13,6 +13,7 @@ import com.linkedin.kafka.cruisecontrol.exception.KafkaCruiseControlException;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.model.Partition;
 import com.linkedin.kafka.cruisecontrol.monitor.ModelCompletenessRequirements;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -42,6 +43,8 @@ import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.ANO
  *   <li>{@link #TOPIC_PARTITION_SIZE_ANOMALY_CLASS_CONFIG}: The config for the topic anomaly class name,
  *   default value is set to {@link #DEFAULT_TOPIC_PARTITION_SIZE_ANOMALY_CLASS}.
  * </ul>
+ * The cluster model is generated only if its generation has changed since the last check -- otherwise, the partitions with
+ * large size found in the last check are reported again.
  */
 public class PartitionSizeAnomalyFinder implements TopicAnomalyFinder {
   private static final Logger LOG = LoggerFactory.getLogger(PartitionSizeAnomalyFinder.class);
@@ -57,10 +60,34 @@ public class PartitionSizeAnomalyFinder implements TopicAnomalyFinder {
   private Pattern _topicExcludedFromCheck;
   private Class<?> _topicPartitionSizeAnomalyClass;
   private boolean _allowCapacityEstimation;
+  // Generation of the cluster model in the last successful check and the partitions with large size found in that check.
+  private ModelGeneration _lastCheckedModelGeneration;
+  private Map<TopicPartition, Double> _lastPartitionsWithLargeSize;
 
   @Override
   public Set<TopicAnomaly> topicAnomalies() {
     Map<TopicPartition, Double> partitionsWithLargeSize = new HashMap<>();
+    ModelGeneration modelGeneration = _kafkaCruiseControl.loadMonitor().clusterModelGeneration();
+    if (modelGeneration.equals(_lastCheckedModelGeneration)) {
+      // Neither the metadata nor the load has changed since the last check -- i.e. partition sizes are the same.
+      LOG.debug("Skipping cluster model generation for partition size anomaly detection because model generation {} is unchanged.",
+                modelGeneration);
+      partitionsWithLargeSize.putAll(_lastPartitionsWithLargeSize);
+    } else {
+      populatePartitionsWithLargeSize(partitionsWithLargeSize);
+    }
+    if (!partitionsWithLargeSize.isEmpty()) {
+      return Collections.singleton(createTopicPartitionSizeAnomaly(partitionsWithLargeSize));
+    }
+    return Collections.emptySet();
+  }
+
+  /**
+   * Generate a cluster model to populate the partitions with large size, and record the generation of the cluster model on success.
+   *
+   * @param partitionsWithLargeSize Partitions with large size to populate.
+   */
+  private void populatePartitionsWithLargeSize(Map<TopicPartition, Double> partitionsWithLargeSize) {
     OperationProgress operationProgress = new OperationProgress();
     ClusterModel clusterModel;
     try (AutoCloseable ignored = _kafkaCruiseControl.acquireForModelGeneration(operationProgress)) {
@@ -78,6 +105,8 @@ public class PartitionSizeAnomalyFinder implements TopicAnomalyFinder {
           }
         }
       }
+      _lastCheckedModelGeneration = clusterModel.generation();
+      _lastPartitionsWithLargeSize = new HashMap<>(partitionsWithLargeSize);
     } catch (NotEnoughValidWindowsException nevwe) {
       LOG.debug("Skipping topic partition size anomaly detection because there are not enough valid windows.", nevwe);
     } catch (KafkaCruiseControlException kcce) {
@@ -85,10 +114,6 @@ public class PartitionSizeAnomalyFinder implements TopicAnomalyFinder {
     } catch (Exception e) {
       LOG.error("Unexpected exception", e);
     }
-    if (!partitionsWithLargeSize.isEmpty()) {
-      return Collections.singleton(createTopicPartitionSizeAnomaly(partitionsWithLargeSize));
-    }
-    return Collections.emptySet();
   }
 
   private TopicAnomaly createTopicPartitionSizeAnomaly(Map<TopicPartition, Double> partitionsWithLargeSize) {
@@ -105,6 +130,8 @@ public class PartitionSizeAnomalyFinder implements TopicAnomalyFinder {
       throw new IllegalArgumentException("Partition size anomaly finder is missing " + KAFKA_CRUISE_CONTROL_OBJECT_CONFIG);
     }
     _allowCapacityEstimation = _kafkaCruiseControl.config().getBoolean(ANOMALY_DETECTION_ALLOW_CAPACITY_ESTIMATION_CONFIG);
+    _lastCheckedModelGeneration = null;
+    _lastPartitionsWithLargeSize = Collections.emptyMap();
     String topicExcludedFromCheck = (String) configs.get(TOPIC_EXCLUDED_FROM_PARTITION_SIZE_CHECK);
     _topicExcludedFromCheck = Pattern.compile(topicExcludedFromCheck == null ? DEFAULT_TOPIC_EXCLUDED_FROM_PARTITION_SIZE_CHECK
                                                                              : topicExcludedFromCheck);
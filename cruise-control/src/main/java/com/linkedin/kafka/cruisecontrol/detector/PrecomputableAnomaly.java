@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.detector;
+
+import com.linkedin.cruisecontrol.detector.Anomaly;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizerResult;
+import com.linkedin.kafka.cruisecontrol.exception.KafkaCruiseControlException;
+
+
+/**
+ * An anomaly whose fix can be precomputed speculatively by {@link AnomalyFixPrecomputer} -- e.g. while its self-healing is
+ * deferred -- and executed once the anomaly is due for a fix.
+ */
+public interface PrecomputableAnomaly extends Anomaly {
+
+  /**
+   * Anomalies with the same (non-null) key have the same fix -- e.g. broker failures of the same brokers. This lets a fix
+   * precomputed for an anomaly be used by a later detection of the same anomaly.
+   *
+   * @return The key of the fix for this anomaly, or {@code null} if the fix for this anomaly cannot be precomputed.
+   */
+  Object precomputableFixKey();
+
+  /**
+   * Precompute the optimization of the fix for this anomaly speculatively, without starting an execution. Called only if
+   * {@link #precomputableFixKey()} is not {@code null}.
+   *
+   * @return Optimizer result of the precomputed fix.
+   */
+  OptimizerResult precomputeFix() throws KafkaCruiseControlException;
+
+  /**
+   * Set the fix precomputed by an anomaly with the same {@link #precomputableFixKey()}. Upon {@link #fix()}, the precomputed fix
+   * is executed instead of optimizing from scratch if it is still valid for the current cluster model generation. Called only if
+   * {@link #precomputableFixKey()} is not {@code null}.
+   *
+   * @param precomputedFix Optimizer result of the precomputed fix.
+   */
+  void setPrecomputedFix(OptimizerResult precomputedFix);
+}
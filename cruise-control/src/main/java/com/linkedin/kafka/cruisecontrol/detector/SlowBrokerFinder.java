@@ -7,18 +7,18 @@ package com.linkedin.kafka.cruisecontrol.detector;
 import com.linkedin.cruisecontrol.detector.metricanomaly.MetricAnomaly;
 import com.linkedin.cruisecontrol.detector.metricanomaly.MetricAnomalyFinder;
 import com.linkedin.cruisecontrol.detector.metricanomaly.MetricAnomalyType;
+import com.linkedin.cruisecontrol.detector.metricanomaly.SlidingWindowPercentile;
 import com.linkedin.cruisecontrol.monitor.sampling.aggregator.AggregatedMetricValues;
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.MetricValues;
 import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapolations;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
 import com.linkedin.kafka.cruisecontrol.config.constants.AnomalyDetectorConfig;
 import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
 import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerEntity;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -141,6 +141,9 @@ public class SlowBrokerFinder implements MetricAnomalyFinder<BrokerEntity> {
   private final Map<BrokerEntity, Integer> _brokerSlownessScore;
   private final Map<BrokerEntity, Long> _detectedSlowBrokers;
   private final Percentile _percentile;
+  // Percentile estimators of the historical metric values of interest by broker, which are updated as the history windows roll.
+  private final Map<BrokerEntity, SlidingWindowPercentile> _logFlushTimeHistoryPercentiles;
+  private final Map<BrokerEntity, SlidingWindowPercentile> _perByteLogFlushTimeHistoryPercentiles;
   private final Map<MetricAnomalyType, Integer> _numSlowBrokersByType;
   private double _bytesInRateDetectionThreshold;
   private double _logFlushTimeThresholdMs;
@@ -156,6 +159,8 @@ public class SlowBrokerFinder implements MetricAnomalyFinder<BrokerEntity> {
     _brokerSlownessScore = new HashMap<>();
     _detectedSlowBrokers = new HashMap<>();
     _percentile = new Percentile();
+    _logFlushTimeHistoryPercentiles = new HashMap<>();
+    _perByteLogFlushTimeHistoryPercentiles = new HashMap<>();
     _numSlowBrokersByType = new HashMap<>();
     MetricAnomalyType.cachedValues().forEach(type -> _numSlowBrokersByType.put(type, 0));
   }
@@ -163,9 +168,9 @@ public class SlowBrokerFinder implements MetricAnomalyFinder<BrokerEntity> {
   private Set<BrokerEntity> detectMetricAnomalies(Map<BrokerEntity, ValuesAndExtrapolations> metricsHistoryByBroker,
                                                   Map<BrokerEntity, ValuesAndExtrapolations> currentMetricsByBroker) {
     // Preprocess raw metrics to get the metrics of interest for each broker.
-    Map<BrokerEntity, List<Double>> historicalLogFlushTimeMetricValues = new HashMap<>();
+    Map<BrokerEntity, SlidingWindowPercentile> historicalLogFlushTimeMetricValues = new HashMap<>();
     Map<BrokerEntity, Double> currentLogFlushTimeMetricValues = new HashMap<>();
-    Map<BrokerEntity, List<Double>> historicalPerByteLogFlushTimeMetricValues = new HashMap<>();
+    Map<BrokerEntity, SlidingWindowPercentile> historicalPerByteLogFlushTimeMetricValues = new HashMap<>();
     Map<BrokerEntity, Double> currentPerByteLogFlushTimeMetricValues = new HashMap<>();
     Set<Integer> skippedBrokers = new HashSet<>();
     for (Map.Entry<BrokerEntity, ValuesAndExtrapolations> entry : currentMetricsByBroker.entrySet()) {
@@ -186,6 +191,10 @@ public class SlowBrokerFinder implements MetricAnomalyFinder<BrokerEntity> {
       }
     }
 
+    // Drop the percentile estimators of the brokers that are skipped or without history in this round.
+    _logFlushTimeHistoryPercentiles.keySet().retainAll(historicalLogFlushTimeMetricValues.keySet());
+    _perByteLogFlushTimeHistoryPercentiles.keySet().retainAll(historicalPerByteLogFlushTimeMetricValues.keySet());
+
     if (!skippedBrokers.isEmpty()) {
       LOG.info("Skip slowness check for brokers {} because they serve negligible traffic.", skippedBrokers);
     }
@@ -213,20 +222,19 @@ public class SlowBrokerFinder implements MetricAnomalyFinder<BrokerEntity> {
   private void collectLogFlushTimeMetric(BrokerEntity broker,
                                          ValuesAndExtrapolations metricsHistory,
                                          ValuesAndExtrapolations currentMetrics,
-                                         Map<BrokerEntity, List<Double>> historicalLogFlushTimeMetricValues,
+                                         Map<BrokerEntity, SlidingWindowPercentile> historicalLogFlushTimeMetricValues,
                                          Map<BrokerEntity, Double> currentLogFlushTimeMetricValues) {
     AggregatedMetricValues aggregatedMetricValues = currentMetrics.metricValues();
     double latestLogFlushTime = aggregatedMetricValues.valuesFor(BROKER_LOG_FLUSH_TIME_MS_999TH_ID).latest();
     currentLogFlushTimeMetricValues.put(broker, latestLogFlushTime);
     if (metricsHistory != null) {
-      aggregatedMetricValues = metricsHistory.metricValues();
-      double[] historicalLogFlushTime = aggregatedMetricValues.valuesFor(BROKER_LOG_FLUSH_TIME_MS_999TH_ID).doubleArray();
-      List<Double> historicalValue = new ArrayList<>(historicalLogFlushTime.length);
-      for (double v : historicalLogFlushTime) {
-        if (v > 5.0) {
-          historicalValue.add(v);
-        }
-      }
+      MetricValues historicalLogFlushTime = metricsHistory.metricValues().valuesFor(BROKER_LOG_FLUSH_TIME_MS_999TH_ID);
+      SlidingWindowPercentile historicalValue = _logFlushTimeHistoryPercentiles.computeIfAbsent(broker, b -> new SlidingWindowPercentile());
+      // Windows with insignificant log flush time are skipped.
+      historicalValue.update(metricsHistory.windows(), i -> {
+        double v = historicalLogFlushTime.get(i);
+        return v > 5.0 ? v : Double.NaN;
+      });
       historicalLogFlushTimeMetricValues.put(broker, historicalValue);
     } else {
       LOG.debug("Metric history for broker {} is missing. This may be due to a newly joined broker or Cruise Control "
@@ -237,7 +245,7 @@ public class SlowBrokerFinder implements MetricAnomalyFinder<BrokerEntity> {
   private void collectPerByteLogFlushTimeMetric(BrokerEntity broker,
                                                 ValuesAndExtrapolations metricsHistory,
                                                 ValuesAndExtrapolations currentMetrics,
-                                                Map<BrokerEntity, List<Double>> historicalPerByteLogFlushTimeMetricValues,
+                                                Map<BrokerEntity, SlidingWindowPercentile> historicalPerByteLogFlushTimeMetricValues,
                                                 Map<BrokerEntity, Double> currentPerByteLogFlushTimeMetricValues) {
     AggregatedMetricValues aggregatedMetricValues = currentMetrics.metricValues();
     double latestLogFlushTime = aggregatedMetricValues.valuesFor(BROKER_LOG_FLUSH_TIME_MS_999TH_ID).latest();
@@ -246,16 +254,16 @@ public class SlowBrokerFinder implements MetricAnomalyFinder<BrokerEntity> {
     currentPerByteLogFlushTimeMetricValues.put(broker, latestLogFlushTime / latestTotalBytesIn);
     if (metricsHistory != null) {
       aggregatedMetricValues = metricsHistory.metricValues();
-      double[] historicalBytesIn = aggregatedMetricValues.valuesFor(LEADER_BYTES_IN_ID).doubleArray();
-      double[] historicalReplicationBytesIn = aggregatedMetricValues.valuesFor(REPLICATION_BYTES_IN_RATE_ID).doubleArray();
-      double[] historicalLogFlushTime = aggregatedMetricValues.valuesFor(BROKER_LOG_FLUSH_TIME_MS_999TH_ID).doubleArray();
-      List<Double> historicalValue = new ArrayList<>(historicalBytesIn.length);
-      for (int i = 0; i < historicalBytesIn.length; i++) {
-        double totalBytesIn = historicalBytesIn[i] + historicalReplicationBytesIn[i];
-        if (totalBytesIn >= _bytesInRateDetectionThreshold) {
-          historicalValue.add(historicalLogFlushTime[i] / totalBytesIn);
-        }
-      }
+      MetricValues historicalBytesIn = aggregatedMetricValues.valuesFor(LEADER_BYTES_IN_ID);
+      MetricValues historicalReplicationBytesIn = aggregatedMetricValues.valuesFor(REPLICATION_BYTES_IN_RATE_ID);
+      MetricValues historicalLogFlushTime = aggregatedMetricValues.valuesFor(BROKER_LOG_FLUSH_TIME_MS_999TH_ID);
+      SlidingWindowPercentile historicalValue =
+          _perByteLogFlushTimeHistoryPercentiles.computeIfAbsent(broker, b -> new SlidingWindowPercentile());
+      // Windows with negligible traffic are skipped.
+      historicalValue.update(metricsHistory.windows(), i -> {
+        double totalBytesIn = historicalBytesIn.get(i) + historicalReplicationBytesIn.get(i);
+        return totalBytesIn >= _bytesInRateDetectionThreshold ? historicalLogFlushTime.get(i) / totalBytesIn : Double.NaN;
+      });
       historicalPerByteLogFlushTimeMetricValues.put(broker, historicalValue);
     } else {
       LOG.debug("Metric history for broker {} is missing. This may be due to a newly joined broker or Cruise Control "
@@ -263,7 +271,7 @@ public class SlowBrokerFinder implements MetricAnomalyFinder<BrokerEntity> {
     }
   }
 
-  private Set<BrokerEntity> getMetricAnomalies(Map<BrokerEntity, List<Double>> historicalValueByBroker,
+  private Set<BrokerEntity> getMetricAnomalies(Map<BrokerEntity, SlidingWindowPercentile> historicalValueByBroker,
                                                Map<BrokerEntity, Double> currentValueByBroker) {
     Set<BrokerEntity> detectedMetricAnomalies = new HashSet<>();
     // Detect metric anomalies by comparing each broker's current metric value against historical value.
@@ -273,16 +281,14 @@ public class SlowBrokerFinder implements MetricAnomalyFinder<BrokerEntity> {
     return detectedMetricAnomalies;
   }
 
-  private void detectMetricAnomaliesFromHistory(Map<BrokerEntity, List<Double>> historicalValue,
+  private void detectMetricAnomaliesFromHistory(Map<BrokerEntity, SlidingWindowPercentile> historicalValue,
                                                 Map<BrokerEntity, Double> currentValue,
                                                 Set<BrokerEntity> detectedMetricAnomalies) {
     for (Map.Entry<BrokerEntity, Double> entry : currentValue.entrySet()) {
       BrokerEntity entity = entry.getKey();
       if (historicalValue.get(entity) != null
           && isDataSufficient(historicalValue.get(entity).size(), _metricHistoryPercentile, _metricHistoryPercentile)) {
-        double [] data = historicalValue.get(entity).stream().mapToDouble(i -> i).toArray();
-        _percentile.setData(data);
-        if (currentValue.get(entity) > _percentile.evaluate(_metricHistoryPercentile) * _metricHistoryMargin) {
+        if (currentValue.get(entity) > historicalValue.get(entity).percentile(_metricHistoryPercentile) * _metricHistoryMargin) {
           detectedMetricAnomalies.add(entity);
         }
       }
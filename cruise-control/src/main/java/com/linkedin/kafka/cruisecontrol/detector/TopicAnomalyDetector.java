@@ -25,8 +25,8 @@ public class TopicAnomalyDetector extends AbstractAnomalyDetector implements Run
   private static final Logger LOG = LoggerFactory.getLogger(TopicAnomalyDetector.class);
   private final List<TopicAnomalyFinder> _topicAnomalyFinders;
 
-  TopicAnomalyDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl) {
-    super(anomalies, kafkaCruiseControl);
+  TopicAnomalyDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl, AnomalyDetectionInputsProvider inputsProvider) {
+    super(anomalies, kafkaCruiseControl, inputsProvider);
     Map<String, Object> configWithCruiseControlObject = Collections.singletonMap(KAFKA_CRUISE_CONTROL_OBJECT_CONFIG,
                                                                                  kafkaCruiseControl);
     _topicAnomalyFinders = kafkaCruiseControl.config().getConfiguredInstances(AnomalyDetectorConfig.TOPIC_ANOMALY_FINDER_CLASSES_CONFIG,
@@ -37,7 +37,7 @@ public class TopicAnomalyDetector extends AbstractAnomalyDetector implements Run
   @Override
   public void run() {
     try {
-      if (getAnomalyDetectionStatus(_kafkaCruiseControl, true, true) != AnomalyDetectionStatus.READY) {
+      if (getAnomalyDetectionStatus(_inputsProvider.inputs(), true, true) != AnomalyDetectionStatus.READY) {
         return;
       }
       for (TopicAnomalyFinder topicAnomalyFinder : _topicAnomalyFinders) {
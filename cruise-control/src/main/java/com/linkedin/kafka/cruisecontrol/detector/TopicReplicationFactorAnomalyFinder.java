@@ -6,6 +6,7 @@ package com.linkedin.kafka.cruisecontrol.detector;
 
 import com.linkedin.cruisecontrol.common.config.ConfigDef;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.monitor.MonitorUtils;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,6 +41,8 @@ import static com.linkedin.kafka.cruisecontrol.detector.TopicReplicationFactorAn
  * Note for topics having special minISR config, if its minISR plus value of {@link #TOPIC_REPLICATION_FACTOR_MARGIN_CONFIG}
  * is larger than the value of {@link #SELF_HEALING_TARGET_TOPIC_REPLICATION_FACTOR_CONFIG} and equals to its replication
  * factor, the topic will not be taken as an anomaly.
+ * The check is incremental: across detections, only topics that are new, have replica assignment changes, or whose minISR
+ * record is (re)retrieved are checked again -- the violations of other topics are kept from the previous detection.
  * Required configurations for this class.
  * <ul>
  *   <li>{@link #SELF_HEALING_TARGET_TOPIC_REPLICATION_FACTOR_CONFIG}: The config for the target replication factor of topics.</li>
@@ -76,6 +79,10 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
   private short _topicReplicationFactorMargin;
   private long _topicMinISRRecordRetentionTimeMs;
   private Map<String, TopicMinISREntry> _cachedTopicMinISR;
+  // Replication factor violations of the checked topics, which are updated only for topics that may have changed since last check.
+  private Map<String, TopicReplicationFactorViolation> _violationByTopic;
+  private Set<String> _topicsWithoutMinISR;
+  private Cluster _lastCheckedCluster;
 
   public TopicReplicationFactorAnomalyFinder() {
   }
@@ -100,26 +107,36 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
     _topicMinISRRecordRetentionTimeMs = DEFAULT_TOPIC_MIN_ISR_RECORD_RETENTION_TIME_MS;
     _adminClient = adminClient;
     _cachedTopicMinISR = new LinkedHashMap<>();
+    _violationByTopic = new HashMap<>();
+    _topicsWithoutMinISR = new HashSet<>();
+    _lastCheckedCluster = null;
   }
 
   @Override
   public Set<TopicAnomaly> topicAnomalies() {
     LOG.info("Start to detect topic replication factor anomaly.");
     Cluster cluster = _kafkaCruiseControl.kafkaCluster();
-    Set<String> topicsToCheck;
-    if (_topicExcludedFromCheck.pattern().isEmpty()) {
-      topicsToCheck = new HashSet<>(cluster.topics());
-    } else {
-      topicsToCheck = new HashSet<>();
-      cluster.topics().stream().filter(topic -> !_topicExcludedFromCheck.matcher(topic).matches()).forEach(topicsToCheck::add);
+    // Topics whose minISR record expired or could not be retrieved last time are re-evaluated after (re)retrieving their minISR.
+    Set<String> topicsToCheck = refreshTopicMinISRCache();
+    topicsToCheck.addAll(_topicsWithoutMinISR);
+    if (cluster != _lastCheckedCluster) {
+      // Only topics that are new or have replica assignment changes since the last check may have a different violation.
+      topicsToCheck.addAll(_lastCheckedCluster == null ? cluster.topics()
+                                                       : MonitorUtils.topicsWithReplicaAssignmentChange(_lastCheckedCluster, cluster));
+      _violationByTopic.keySet().retainAll(cluster.topics());
+      _lastCheckedCluster = cluster;
     }
-    refreshTopicMinISRCache();
+    topicsToCheck.removeIf(topic -> !cluster.topics().contains(topic)
+                                    || (!_topicExcludedFromCheck.pattern().isEmpty() && _topicExcludedFromCheck.matcher(topic).matches()));
+    LOG.debug("Check replication factor of {} out of {} topics.", topicsToCheck.size(), cluster.topics().size());
+    _topicsWithoutMinISR.clear();
     if (!topicsToCheck.isEmpty()) {
       maybeRetrieveAndCacheTopicMinISR(topicsToCheck);
-      Map<Short, Set<TopicReplicationFactorAnomalyEntry>> badTopicsByDesiredRF = populateBadTopicsByDesiredRF(topicsToCheck, cluster);
-      if (!badTopicsByDesiredRF.isEmpty()) {
-        return Collections.singleton(createTopicReplicationFactorAnomaly(badTopicsByDesiredRF, _targetReplicationFactor));
-      }
+      updateViolationByTopic(topicsToCheck, cluster);
+    }
+    Map<Short, Set<TopicReplicationFactorAnomalyEntry>> badTopicsByDesiredRF = populateBadTopicsByDesiredRF();
+    if (!badTopicsByDesiredRF.isEmpty()) {
+      return Collections.singleton(createTopicReplicationFactorAnomaly(badTopicsByDesiredRF, _targetReplicationFactor));
     }
     return Collections.emptySet();
   }
@@ -148,17 +165,17 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
   }
 
   /**
-   * Scan through topics to check whether the topic having partition(s) with bad replication factor. For each topic, the
-   * target replication factor to check against is the maximum value of {@link #SELF_HEALING_TARGET_TOPIC_REPLICATION_FACTOR_CONFIG}
-   * and topic's minISR plus value of {@link #TOPIC_REPLICATION_FACTOR_MARGIN_CONFIG}.
+   * Scan through the given topics to check whether the topic having partition(s) with bad replication factor, and update the
+   * violations of these topics. For each topic, the target replication factor to check against is the maximum value of
+   * {@link #SELF_HEALING_TARGET_TOPIC_REPLICATION_FACTOR_CONFIG} and topic's minISR plus value of
+   * {@link #TOPIC_REPLICATION_FACTOR_MARGIN_CONFIG}. Topics whose minISR is unknown are skipped until their minISR is retrieved.
    *
    * @param topicsToCheck Set of topics to check.
    * @param cluster Kafka cluster.
-   * @return Map of detected topic replication factor anomaly entries by target (i.e. desired) replication factor.
    */
-  private Map<Short, Set<TopicReplicationFactorAnomalyEntry>> populateBadTopicsByDesiredRF(Set<String> topicsToCheck, Cluster cluster) {
-    Map<Short, Set<TopicReplicationFactorAnomalyEntry>> badTopicsByDesiredRF = new HashMap<>();
+  private void updateViolationByTopic(Set<String> topicsToCheck, Cluster cluster) {
     for (String topic : topicsToCheck) {
+      _violationByTopic.remove(topic);
       if (_cachedTopicMinISR.containsKey(topic)) {
         short topicMinISR = _cachedTopicMinISR.get(topic).minISR();
         short targetReplicationFactor = (short) Math.max(_targetReplicationFactor, topicMinISR + _topicReplicationFactorMargin);
@@ -169,29 +186,47 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
           }
         }
         if (violatedPartitionCount > 0) {
-          badTopicsByDesiredRF.putIfAbsent(targetReplicationFactor, new HashSet<>());
-          badTopicsByDesiredRF.get(targetReplicationFactor).add(
-              new TopicReplicationFactorAnomalyEntry(topic, (double) violatedPartitionCount / cluster.partitionCountForTopic(topic)));
+          _violationByTopic.put(topic, new TopicReplicationFactorViolation(
+              targetReplicationFactor, (double) violatedPartitionCount / cluster.partitionCountForTopic(topic)));
         }
+      } else {
+        _topicsWithoutMinISR.add(topic);
       }
     }
+  }
+
+  /**
+   * @return Map of detected topic replication factor anomaly entries by target (i.e. desired) replication factor.
+   */
+  private Map<Short, Set<TopicReplicationFactorAnomalyEntry>> populateBadTopicsByDesiredRF() {
+    Map<Short, Set<TopicReplicationFactorAnomalyEntry>> badTopicsByDesiredRF = new HashMap<>();
+    for (Map.Entry<String, TopicReplicationFactorViolation> entry : _violationByTopic.entrySet()) {
+      TopicReplicationFactorViolation violation = entry.getValue();
+      badTopicsByDesiredRF.computeIfAbsent(violation.desiredReplicationFactor(), rf -> new HashSet<>())
+                          .add(new TopicReplicationFactorAnomalyEntry(entry.getKey(), violation.violationRatio()));
+    }
     return badTopicsByDesiredRF;
   }
 
   /**
    * Invalidate stale topic minISR record from local cache.
+   *
+   * @return Topics whose minISR record is invalidated.
    */
-  private void refreshTopicMinISRCache() {
+  private Set<String> refreshTopicMinISRCache() {
+    Set<String> invalidatedTopics = new HashSet<>();
     long currentTimeMs = System.currentTimeMillis();
     Iterator<Map.Entry<String, TopicMinISREntry>> cacheIterator = _cachedTopicMinISR.entrySet().iterator();
     while (cacheIterator.hasNext()) {
       Map.Entry<String, TopicMinISREntry> entry = cacheIterator.next();
       if (entry.getValue().createTimeMs() + _topicMinISRRecordRetentionTimeMs < currentTimeMs) {
+        invalidatedTopics.add(entry.getKey());
         cacheIterator.remove();
       } else {
         break;
       }
     }
+    return invalidatedTopics;
   }
 
   private TopicAnomaly createTopicReplicationFactorAnomaly(Map<Short, Set<TopicReplicationFactorAnomalyEntry>> badTopicsByDesiredRF,
@@ -259,6 +294,9 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
 
     _adminClient = _kafkaCruiseControl.adminClient();
     _cachedTopicMinISR = new LinkedHashMap<>();
+    _violationByTopic = new HashMap<>();
+    _topicsWithoutMinISR = new HashSet<>();
+    _lastCheckedCluster = null;
   }
 
   /**
@@ -281,4 +319,25 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
       return _createTimeMs;
     }
   }
+
+  /**
+   * A class to encapsulate the replication factor violation of a topic.
+   */
+  private static class TopicReplicationFactorViolation {
+    private final short _desiredReplicationFactor;
+    private final double _violationRatio;
+
+    TopicReplicationFactorViolation(short desiredReplicationFactor, double violationRatio) {
+      _desiredReplicationFactor = desiredReplicationFactor;
+      _violationRatio = violationRatio;
+    }
+
+    short desiredReplicationFactor() {
+      return _desiredReplicationFactor;
+    }
+
+    double violationRatio() {
+      return _violationRatio;
+    }
+  }
 }
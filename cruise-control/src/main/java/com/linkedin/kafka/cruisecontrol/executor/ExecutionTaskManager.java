@@ -6,10 +6,12 @@ package com.linkedin.kafka.cruisecontrol.executor;
 
 import com.codahale.metrics.MetricRegistry;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
 import com.linkedin.kafka.cruisecontrol.executor.concurrency.ExecutionConcurrencyManager;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.ReplicaMovementStrategy;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.StrategyOptions;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -38,6 +40,8 @@ public class ExecutionTaskManager {
   private static final Logger LOG = LoggerFactory.getLogger(ExecutionTaskManager.class);
   private final Map<Integer, Integer> _inProgressInterBrokerReplicaMovementsByBrokerId;
   private final Map<Integer, Integer> _inProgressIntraBrokerReplicaMovementsByBrokerId;
+  private final Map<Integer, Map<String, Integer>> _inProgressIntraBrokerReplicaMovementsByLogdirByBrokerId;
+  private final int _maxIntraBrokerPartitionMovementsPerLogdir;
   private final Set<TopicPartition> _inProgressPartitionsForInterBrokerMovement;
   private final ExecutionTaskTracker _executionTaskTracker;
   private final ExecutionTaskPlanner _executionTaskPlanner;
@@ -59,6 +63,9 @@ public class ExecutionTaskManager {
                               KafkaCruiseControlConfig config) {
     _inProgressInterBrokerReplicaMovementsByBrokerId = new HashMap<>();
     _inProgressIntraBrokerReplicaMovementsByBrokerId = new HashMap<>();
+    _inProgressIntraBrokerReplicaMovementsByLogdirByBrokerId = new HashMap<>();
+    _maxIntraBrokerPartitionMovementsPerLogdir =
+        config.getInt(ExecutorConfig.NUM_CONCURRENT_INTRA_BROKER_PARTITION_MOVEMENTS_PER_LOGDIR_CONFIG);
     _inProgressPartitionsForInterBrokerMovement = new HashSet<>();
     _executionTaskTracker = new ExecutionTaskTracker(dropwizardMetricRegistry, time);
     _executionTaskPlanner = new ExecutionTaskPlanner(adminClient, config);
@@ -88,7 +95,9 @@ public class ExecutionTaskManager {
   public synchronized List<ExecutionTask> getIntraBrokerReplicaMovementTasks() {
     Map<Integer, Integer> brokersReadyForReplicaMovement = brokersReadyForReplicaMovement(_inProgressIntraBrokerReplicaMovementsByBrokerId,
                                                                                           ConcurrencyType.INTRA_BROKER_REPLICA);
-    return _executionTaskPlanner.getIntraBrokerReplicaMovementTasks(brokersReadyForReplicaMovement);
+    return _executionTaskPlanner.getIntraBrokerReplicaMovementTasks(brokersReadyForReplicaMovement,
+                                                                    _inProgressIntraBrokerReplicaMovementsByLogdirByBrokerId,
+                                                                    _maxIntraBrokerPartitionMovementsPerLogdir);
   }
 
   /**
@@ -105,14 +114,18 @@ public class ExecutionTaskManager {
     int unthrottledConcurrency = _executionConcurrencyManager.unthrottledConcurrency(inProgressReplicaMovementsByBrokerId.keySet(),
                                                                                      _brokersToSkipConcurrencyCheck);
     inProgressReplicaMovementsByBrokerId.forEach((brokerId, inProgressReplicaMovements) -> {
-      int brokerConcurrency = _brokersToSkipConcurrencyCheck.contains(brokerId)
-                              ? unthrottledConcurrency : _executionConcurrencyManager.getExecutionBrokerConcurrency(brokerId, concurrencyType);
+      int brokerConcurrency = brokerConcurrency(brokerId, concurrencyType, unthrottledConcurrency);
       readyBrokers.put(brokerId, Math.max(0, brokerConcurrency - inProgressReplicaMovements));
     });
 
     return readyBrokers;
   }
 
+  private int brokerConcurrency(int brokerId, ConcurrencyType concurrencyType, int unthrottledConcurrency) {
+    return _brokersToSkipConcurrencyCheck.contains(brokerId)
+           ? unthrottledConcurrency : _executionConcurrencyManager.getExecutionBrokerConcurrency(brokerId, concurrencyType);
+  }
+
   /**
    * @return A list of execution tasks that move the leadership.
    */
@@ -120,6 +133,28 @@ public class ExecutionTaskManager {
     return _executionTaskPlanner.getLeadershipMovementTasks(_executionConcurrencyManager);
   }
 
+  /**
+   * Get leadership movement tasks that can be started without exceeding the allowed cluster-wide and per-broker leadership
+   * movement concurrency, given the leadership movements that are already in progress.
+   *
+   * @param maxNumLeadershipMovements Maximum number of leadership movement tasks to get.
+   * @return A list of execution tasks that move the leadership.
+   */
+  public synchronized List<ExecutionTask> getLeadershipMovementTasks(int maxNumLeadershipMovements) {
+    Set<ExecutionTask> inProgressLeadershipMovements = inExecutionTasks(Collections.singleton(TaskType.LEADER_ACTION));
+    int taskQuota = Math.min(maxNumLeadershipMovements,
+                             _executionConcurrencyManager.maxClusterLeadershipMovements() - inProgressLeadershipMovements.size());
+    if (taskQuota <= 0) {
+      return Collections.emptyList();
+    }
+    Map<Integer, Integer> inProgressLeadershipMovementsByBrokerId = new HashMap<>();
+    for (ExecutionTask task : inProgressLeadershipMovements) {
+      task.proposal().newReplicas().forEach(r -> inProgressLeadershipMovementsByBrokerId.merge(r.brokerId(), 1, Integer::sum));
+    }
+    return _executionTaskPlanner.getLeadershipMovementTasks(_executionConcurrencyManager, taskQuota,
+                                                            inProgressLeadershipMovementsByBrokerId);
+  }
+
   /**
    * Add a collection of execution proposals for execution. The method allows users to skip the concurrency check
    * on some given brokers. Notice that this method will replace the existing brokers that were in the concurrency
@@ -185,6 +220,7 @@ public class ExecutionTaskManager {
         case INTRA_BROKER_REPLICA_ACTION:
           _inProgressIntraBrokerReplicaMovementsByBrokerId.put(task.brokerId(),
                                                                _inProgressIntraBrokerReplicaMovementsByBrokerId.get(task.brokerId()) + 1);
+          updateInProgressIntraBrokerReplicaMovementsByLogdir(task, 1);
           break;
         default:
           break;
@@ -247,6 +283,7 @@ public class ExecutionTaskManager {
       case INTRA_BROKER_REPLICA_ACTION:
         _inProgressIntraBrokerReplicaMovementsByBrokerId.put(task.brokerId(),
                                                              _inProgressIntraBrokerReplicaMovementsByBrokerId.get(task.brokerId()) - 1);
+        updateInProgressIntraBrokerReplicaMovementsByLogdir(task, -1);
         break;
       default:
         // No-op for other type of task, i.e LEADER_ACTION.
@@ -254,6 +291,12 @@ public class ExecutionTaskManager {
     }
   }
 
+  private void updateInProgressIntraBrokerReplicaMovementsByLogdir(ExecutionTask task, int delta) {
+    Map<String, Integer> movementsByLogdir =
+        _inProgressIntraBrokerReplicaMovementsByLogdirByBrokerId.computeIfAbsent(task.brokerId(), b -> new HashMap<>());
+    ExecutionUtils.involvedLogdirs(task).forEach(logdir -> movementsByLogdir.merge(logdir, delta, Integer::sum));
+  }
+
   /**
    * @return Number of remaining inter broker partition movements.
    */
@@ -282,6 +325,29 @@ public class ExecutionTaskManager {
     return _executionTaskTracker.finishedInterBrokerDataMovementInMB();
   }
 
+  /**
+   * Project the remaining time of inter-broker partition movements from the throughput fit over the completed movements and
+   * the current execution concurrency.
+   *
+   * @return Estimated remaining time of inter-broker partition movements in milliseconds, or
+   * {@link ExecutionTimeEstimator#UNKNOWN_TIME_MS} if it cannot be estimated yet.
+   */
+  public synchronized long estimatedRemainingInterBrokerDataMovementTimeMs() {
+    int unthrottledConcurrency = _executionConcurrencyManager.unthrottledConcurrency(_inProgressInterBrokerReplicaMovementsByBrokerId.keySet(),
+                                                                                     _brokersToSkipConcurrencyCheck);
+    return _executionTaskTracker.estimatedRemainingInterBrokerDataMovementTimeMs(
+        brokerId -> brokerConcurrency(brokerId, ConcurrencyType.INTER_BROKER_REPLICA, unthrottledConcurrency),
+        _executionConcurrencyManager.maxClusterInterBrokerPartitionMovements());
+  }
+
+  /**
+   * @return The fitted data movement throughput of a single inter-broker partition movement (MB/s), or {@link Double#NaN}
+   * if no inter-broker partition movement has completed yet.
+   */
+  public synchronized double interBrokerPartitionMovementThroughputMBPerSec() {
+    return _executionTaskTracker.interBrokerPartitionMovementThroughputMBPerSec();
+  }
+
   /**
    * @return The tasks that are {@link ExecutionTaskState#IN_PROGRESS} or {@link ExecutionTaskState#ABORTING} for all task types.
    */
@@ -297,6 +363,13 @@ public class ExecutionTaskManager {
     return _executionTaskTracker.inExecutionTasks(types);
   }
 
+  /**
+   * @return Number of tasks that are {@link ExecutionTaskState#IN_PROGRESS} or {@link ExecutionTaskState#ABORTING} for all task types.
+   */
+  public synchronized int numInExecutionTasks() {
+    return _executionTaskTracker.numInExecutionTasks(TaskType.cachedValues());
+  }
+
   /**
    * @return In execution inter broker data to move in MB.
    */
@@ -360,6 +433,7 @@ public class ExecutionTaskManager {
     _brokersToSkipConcurrencyCheck.clear();
     _inProgressInterBrokerReplicaMovementsByBrokerId.clear();
     _inProgressIntraBrokerReplicaMovementsByBrokerId.clear();
+    _inProgressIntraBrokerReplicaMovementsByLogdirByBrokerId.clear();
     _inProgressPartitionsForInterBrokerMovement.clear();
     _executionTaskPlanner.clear();
     _executionTaskTracker.clear();
@@ -379,6 +453,6 @@ public class ExecutionTaskManager {
    * @return The execution tasks summary.
    */
   public synchronized ExecutionTasksSummary getExecutionTasksSummary(Set<TaskType> taskTypesToGetFullList) {
-    return _executionTaskTracker.getExecutionTasksSummary(taskTypesToGetFullList);
+    return _executionTaskTracker.getExecutionTasksSummary(taskTypesToGetFullList, estimatedRemainingInterBrokerDataMovementTimeMs());
   }
 }
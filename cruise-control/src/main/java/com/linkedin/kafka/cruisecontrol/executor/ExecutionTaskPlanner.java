@@ -300,11 +300,33 @@ public class ExecutionTaskPlanner {
    * @return The leadership movement tasks.
    */
   public List<ExecutionTask> getLeadershipMovementTasks(ExecutionConcurrencyManager executionConcurrencyManager) {
+    return getLeadershipMovementTasks(executionConcurrencyManager, executionConcurrencyManager.maxClusterLeadershipMovements(),
+                                      Collections.emptyMap());
+  }
+
+  /**
+   * Get the leadership movement tasks that comply with the given task quota and the per-broker leadership concurrency after
+   * accounting for the leadership movements that are already in progress, and remove them from _remainingLeadershipMovements.
+   *
+   * @param executionConcurrencyManager the execution concurrency manager
+   * @param taskQuota Maximum number of leadership movement tasks to get.
+   * @param inProgressLeadershipMovementsByBrokerId Number of in-progress leadership movements involving each broker.
+   * @return The leadership movement tasks.
+   */
+  public List<ExecutionTask> getLeadershipMovementTasks(ExecutionConcurrencyManager executionConcurrencyManager,
+                                                        int taskQuota,
+                                                        Map<Integer, Integer> inProgressLeadershipMovementsByBrokerId) {
     Map<Integer, Integer> brokerLeadershipConcurrency =
             new HashMap<>(executionConcurrencyManager.getExecutionConcurrencyPerBroker(ConcurrencyType.LEADERSHIP_BROKER));
+    for (Map.Entry<Integer, Integer> entry : inProgressLeadershipMovementsByBrokerId.entrySet()) {
+      int broker = entry.getKey();
+      int concurrency = brokerLeadershipConcurrency.containsKey(broker)
+                        ? brokerLeadershipConcurrency.get(broker)
+                        : executionConcurrencyManager.getExecutionBrokerConcurrency(broker, ConcurrencyType.LEADERSHIP_BROKER);
+      brokerLeadershipConcurrency.put(broker, concurrency - entry.getValue());
+    }
     List<ExecutionTask> leadershipMovementsList = new ArrayList<>();
     Iterator<ExecutionTask> leadershipMovementIter = _remainingLeadershipMovements.values().iterator();
-    int taskQuota = executionConcurrencyManager.maxClusterLeadershipMovements();
     while (leadershipMovementIter.hasNext() && taskQuota > 0) {
       ExecutionTask leadershipMovementTask = leadershipMovementIter.next();
       Set<Integer> replicas = leadershipMovementTask.proposal().newReplicas().stream().map(ReplicaPlacementInfo::brokerId).collect(
@@ -440,22 +462,38 @@ public class ExecutionTaskPlanner {
 
   /**
    * Get a list of executable intra-broker replica movements that comply with the concurrency constraint.
+   * A movement is executable only if each logdir it involves (see {@link ExecutionUtils#involvedLogdirs(ExecutionTask)}) has fewer
+   * than the given maximum number of ongoing movements. Movements involving a saturated logdir are skipped, so that movements
+   * on other logdirs of the same broker can still fill the free slots.
    *
    * @param readyBrokers The brokers that is ready to execute more movements.
+   * @param inProgressMovementsByLogdirByBrokerId Number of ongoing intra-broker replica movements involving each logdir by broker.
+   * @param maxMovementsPerLogdir The maximum number of concurrent intra-broker replica movements involving a logdir.
    * @return A list of movements that is executable for the ready brokers.
    */
-  public List<ExecutionTask> getIntraBrokerReplicaMovementTasks(Map<Integer, Integer> readyBrokers) {
-    LOG.trace("Getting intra-broker replica movement tasks for brokers with concurrency {}", readyBrokers);
+  public List<ExecutionTask> getIntraBrokerReplicaMovementTasks(Map<Integer, Integer> readyBrokers,
+                                                                Map<Integer, Map<String, Integer>> inProgressMovementsByLogdirByBrokerId,
+                                                                int maxMovementsPerLogdir) {
+    LOG.trace("Getting intra-broker replica movement tasks for brokers with concurrency {} and logdir concurrency {}",
+              readyBrokers, maxMovementsPerLogdir);
     List<ExecutionTask> executableReplicaMovements = new ArrayList<>();
 
     for (Map.Entry<Integer, Integer> brokerEntry : readyBrokers.entrySet()) {
       int brokerId = brokerEntry.getKey();
       int limit = brokerEntry.getValue();
       if (_intraPartMoveTasksByBrokerId.containsKey(brokerId)) {
+        Map<String, Integer> movementsByLogdir = new HashMap<>(inProgressMovementsByLogdirByBrokerId.getOrDefault(brokerId,
+                                                                                                                   Collections.emptyMap()));
         Iterator<ExecutionTask> tasksForBroker = _intraPartMoveTasksByBrokerId.get(brokerId).iterator();
-        while (limit-- > 0 && tasksForBroker.hasNext()) {
+        while (limit > 0 && tasksForBroker.hasNext()) {
           ExecutionTask task = tasksForBroker.next();
+          Set<String> logdirs = ExecutionUtils.involvedLogdirs(task);
+          if (logdirs.stream().anyMatch(logdir -> movementsByLogdir.getOrDefault(logdir, 0) >= maxMovementsPerLogdir)) {
+            continue;
+          }
+          logdirs.forEach(logdir -> movementsByLogdir.merge(logdir, 1, Integer::sum));
           executableReplicaMovements.add(task);
+          limit--;
           // Remove the proposal from the execution plan.
           tasksForBroker.remove();
           _remainingIntraBrokerReplicaMovements.remove(task);
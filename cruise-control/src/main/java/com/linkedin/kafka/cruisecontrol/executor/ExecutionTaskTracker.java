@@ -7,13 +7,16 @@ package com.linkedin.kafka.cruisecontrol.executor;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.IntUnaryOperator;
 import org.apache.kafka.common.utils.Time;
 
 import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils.EXECUTOR_SENSOR;
@@ -33,6 +36,7 @@ public class ExecutionTaskTracker {
   private long _finishedInterBrokerDataMovementInMB;
   private long _finishedIntraBrokerDataMovementInMB;
   private boolean _isKafkaAssignerMode;
+  private final ExecutionTimeEstimator _interBrokerExecutionTimeEstimator;
   private final Time _time;
   private volatile boolean _stopRequested;
   private final Meter _interBrokerPartitionMovementRateMeter;
@@ -74,6 +78,7 @@ public class ExecutionTaskTracker {
     _finishedInterBrokerDataMovementInMB = 0L;
     _finishedIntraBrokerDataMovementInMB = 0L;
     _isKafkaAssignerMode = false;
+    _interBrokerExecutionTimeEstimator = new ExecutionTimeEstimator();
     _time = time;
     _stopRequested = false;
     _interBrokerPartitionMovementRateMeter = new Meter();
@@ -107,10 +112,10 @@ public class ExecutionTaskTracker {
     }
     dropwizardMetricRegistry.register(MetricRegistry.name(EXECUTOR_SENSOR, GAUGE_ONGOING_EXECUTION_IN_KAFKA_ASSIGNER_MODE),
                                       (Gauge<Integer>) () -> _isKafkaAssignerMode
-                                                             && !inExecutionTasks(TaskType.cachedValues()).isEmpty() ? 1 : 0);
+                                                             && numInExecutionTasks(TaskType.cachedValues()) != 0 ? 1 : 0);
     dropwizardMetricRegistry.register(MetricRegistry.name(EXECUTOR_SENSOR, GAUGE_ONGOING_EXECUTION_IN_NON_KAFKA_ASSIGNER_MODE),
                                       (Gauge<Integer>) () -> !_isKafkaAssignerMode
-                                                             && !inExecutionTasks(TaskType.cachedValues()).isEmpty() ? 1 : 0);
+                                                             && numInExecutionTasks(TaskType.cachedValues()) != 0 ? 1 : 0);
   }
 
   private void registerMeterSensors(MetricRegistry dropwizardMetricRegistry) {
@@ -157,6 +162,10 @@ public class ExecutionTaskTracker {
         break;
     }
     _tasksByType.get(task.type()).get(newState).add(task);
+    if (task.type() == TaskType.INTER_BROKER_REPLICA_ACTION
+        && (newState == ExecutionTaskState.COMPLETED || newState == ExecutionTaskState.ABORTED || newState == ExecutionTaskState.DEAD)) {
+      _interBrokerExecutionTimeEstimator.onTaskFinished(task);
+    }
   }
 
   private void markTaskExecutionRateMeter(ExecutionTask task) {
@@ -212,6 +221,7 @@ public class ExecutionTaskTracker {
     _tasksByType.get(taskType).get(ExecutionTaskState.PENDING).addAll(tasks);
     if (taskType == TaskType.INTER_BROKER_REPLICA_ACTION) {
       _remainingInterBrokerDataToMoveInMB += tasks.stream().mapToLong(t -> t.proposal().interBrokerDataToMoveInMB()).sum();
+      _interBrokerExecutionTimeEstimator.addTasks(tasks);
     } else if (taskType == TaskType.INTRA_BROKER_REPLICA_ACTION) {
       _remainingIntraBrokerDataToMoveInMB += tasks.stream().mapToLong(t -> t.proposal().intraBrokerDataToMoveInMB()).sum();
     }
@@ -232,27 +242,24 @@ public class ExecutionTaskTracker {
    * @return The statistic of task execution state.
    */
   private Map<TaskType, Map<ExecutionTaskState, Integer>> taskStat() {
-    Map<TaskType, Map<ExecutionTaskState, Integer>> taskStatMap = new HashMap<>();
+    Map<TaskType, Map<ExecutionTaskState, Integer>> taskStatMap = new EnumMap<>(TaskType.class);
     for (TaskType type : TaskType.cachedValues()) {
-      taskStatMap.put(type, new HashMap<>());
-      _tasksByType.get(type).forEach((k, v) -> taskStatMap.get(type).put(k, v.size()));
+      Map<ExecutionTaskState, Integer> stateStat = new EnumMap<>(ExecutionTaskState.class);
+      _tasksByType.get(type).forEach((k, v) -> stateStat.put(k, v.size()));
+      taskStatMap.put(type, stateStat);
     }
     return taskStatMap;
   }
 
   /**
-   * Get a filtered list of tasks of different {@link TaskType} and in different {@link ExecutionTaskState}.
+   * Get a copy of the tasks with the given {@link TaskType} and in the given {@link ExecutionTaskState}.
    *
-   * @param taskTypesToGetFullList  Task types to return complete list of tasks.
-   * @return                        A filtered list of tasks.
+   * @param type Task type.
+   * @param state Execution task state.
+   * @return A copy of the tasks with the given type and state.
    */
-  private Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> filteredTasksByState(Set<TaskType> taskTypesToGetFullList) {
-    Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> tasksByState = new HashMap<>();
-    for (TaskType type : taskTypesToGetFullList) {
-      tasksByState.put(type, new HashMap<>());
-      _tasksByType.get(type).forEach((k, v) -> tasksByState.get(type).put(k, new HashSet<>(v)));
-    }
-    return tasksByState;
+  public List<ExecutionTask> tasks(TaskType type, ExecutionTaskState state) {
+    return new ArrayList<>(_tasksByType.get(type).get(state));
   }
 
   /**
@@ -266,6 +273,7 @@ public class ExecutionTaskTracker {
     _inExecutionIntraBrokerDataMovementInMB = 0L;
     _finishedInterBrokerDataMovementInMB = 0L;
     _finishedIntraBrokerDataMovementInMB = 0L;
+    _interBrokerExecutionTimeEstimator.clear();
     _stopRequested = false;
   }
 
@@ -295,6 +303,24 @@ public class ExecutionTaskTracker {
     return _finishedInterBrokerDataMovementInMB;
   }
 
+  /**
+   * @param brokerConcurrency A function that provides the allowed inter-broker partition movement concurrency of a broker.
+   * @param maxClusterPartitionMovements The allowed upper bound of inter-broker partition movements in the cluster.
+   * @return The estimated remaining time of inter-broker partition movements in milliseconds, or
+   * {@link ExecutionTimeEstimator#UNKNOWN_TIME_MS} if it cannot be estimated yet.
+   */
+  public long estimatedRemainingInterBrokerDataMovementTimeMs(IntUnaryOperator brokerConcurrency, int maxClusterPartitionMovements) {
+    return _interBrokerExecutionTimeEstimator.estimatedRemainingTimeMs(brokerConcurrency, maxClusterPartitionMovements);
+  }
+
+  /**
+   * @return The fitted data movement throughput of a single inter-broker partition movement (MB/s), or {@link Double#NaN} if
+   * no inter-broker partition movement has completed yet.
+   */
+  public double interBrokerPartitionMovementThroughputMBPerSec() {
+    return _interBrokerExecutionTimeEstimator.movementThroughputMBPerSec();
+  }
+
   /**
    * Get tasks in execution with the given task type.
    *
@@ -310,6 +336,21 @@ public class ExecutionTaskTracker {
     return inExecutionTasks;
   }
 
+  /**
+   * Get the number of tasks in execution with the given task type without copying them.
+   *
+   * @param types Task type.
+   * @return Number of tasks that are in progress or aborting with the given task type.
+   */
+  public int numInExecutionTasks(Collection<TaskType> types) {
+    int numInExecutionTasks = 0;
+    for (TaskType type : types) {
+      numInExecutionTasks += _tasksByType.get(type).get(ExecutionTaskState.IN_PROGRESS).size();
+      numInExecutionTasks += _tasksByType.get(type).get(ExecutionTaskState.ABORTING).size();
+    }
+    return numInExecutionTasks;
+  }
+
   public long inExecutionInterBrokerDataMovementInMB() {
     return _inExecutionInterBrokerDataMovementInMB;
   }
@@ -353,20 +394,33 @@ public class ExecutionTaskTracker {
   }
 
   /**
-   * Get execution tasks summary.
+   * Get execution tasks summary. The summary captures the task counts and data movement totals upon the call, and copies the
+   * tasks of only the given task types -- i.e. task types whose complete list of tasks is requested.
    *
    * @param taskTypesToGetFullList Task types to return complete list of tasks.
+   * @param estimatedRemainingInterBrokerDataMovementTimeMs The estimated remaining time of inter-broker partition movements.
    * @return Execution tasks summary.
    */
-  public ExecutionTasksSummary getExecutionTasksSummary(Set<TaskType> taskTypesToGetFullList) {
+  public ExecutionTasksSummary getExecutionTasksSummary(Set<TaskType> taskTypesToGetFullList,
+                                                        long estimatedRemainingInterBrokerDataMovementTimeMs) {
+    Map<TaskType, Map<ExecutionTaskState, List<ExecutionTask>>> filteredTasksByState = new EnumMap<>(TaskType.class);
+    for (TaskType type : taskTypesToGetFullList) {
+      Map<ExecutionTaskState, List<ExecutionTask>> filteredTasks = new EnumMap<>(ExecutionTaskState.class);
+      for (ExecutionTaskState state : ExecutionTaskState.cachedValues()) {
+        filteredTasks.put(state, Collections.unmodifiableList(tasks(type, state)));
+      }
+      filteredTasksByState.put(type, filteredTasks);
+    }
     return new ExecutionTasksSummary(_finishedInterBrokerDataMovementInMB,
                                      _finishedIntraBrokerDataMovementInMB,
                                      _inExecutionInterBrokerDataMovementInMB,
                                      _inExecutionIntraBrokerDataMovementInMB,
                                      _remainingInterBrokerDataToMoveInMB,
                                      _remainingIntraBrokerDataToMoveInMB,
+                                     estimatedRemainingInterBrokerDataMovementTimeMs,
+                                     interBrokerPartitionMovementThroughputMBPerSec(),
                                      taskStat(),
-                                     filteredTasksByState(taskTypesToGetFullList)
+                                     filteredTasksByState
     );
   }
 
@@ -377,8 +431,10 @@ public class ExecutionTaskTracker {
     private final long _inExecutionIntraBrokerDataMovementInMB;
     private final long _remainingInterBrokerDataToMoveInMB;
     private final long _remainingIntraBrokerDataToMoveInMB;
+    private final long _estimatedRemainingInterBrokerDataMovementTimeMs;
+    private final double _interBrokerPartitionMovementThroughputMBPerSec;
     private final Map<TaskType, Map<ExecutionTaskState, Integer>> _taskStat;
-    private final Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> _filteredTasksByState;
+    private final Map<TaskType, Map<ExecutionTaskState, List<ExecutionTask>>> _filteredTasksByState;
 
     ExecutionTasksSummary(long finishedInterBrokerDataMovementInMB,
                           long finishedIntraBrokerDataMovementInMB,
@@ -386,14 +442,18 @@ public class ExecutionTaskTracker {
                           long inExecutionIntraBrokerDataMovementInMB,
                           long remainingInterBrokerDataToMoveInMB,
                           long remainingIntraBrokerDataToMoveInMB,
+                          long estimatedRemainingInterBrokerDataMovementTimeMs,
+                          double interBrokerPartitionMovementThroughputMBPerSec,
                           Map<TaskType, Map<ExecutionTaskState, Integer>> taskStat,
-                          Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> filteredTasksByState) {
+                          Map<TaskType, Map<ExecutionTaskState, List<ExecutionTask>>> filteredTasksByState) {
       _finishedInterBrokerDataMovementInMB = finishedInterBrokerDataMovementInMB;
       _finishedIntraBrokerDataMovementInMB = finishedIntraBrokerDataMovementInMB;
       _inExecutionInterBrokerDataMovementInMB = inExecutionInterBrokerDataMovementInMB;
       _inExecutionIntraBrokerDataMovementInMB = inExecutionIntraBrokerDataMovementInMB;
       _remainingInterBrokerDataToMoveInMB = remainingInterBrokerDataToMoveInMB;
       _remainingIntraBrokerDataToMoveInMB = remainingIntraBrokerDataToMoveInMB;
+      _estimatedRemainingInterBrokerDataMovementTimeMs = estimatedRemainingInterBrokerDataMovementTimeMs;
+      _interBrokerPartitionMovementThroughputMBPerSec = interBrokerPartitionMovementThroughputMBPerSec;
       _taskStat = taskStat;
       _filteredTasksByState = filteredTasksByState;
     }
@@ -422,12 +482,43 @@ public class ExecutionTaskTracker {
       return _remainingIntraBrokerDataToMoveInMB;
     }
 
+    /**
+     * @return The estimated remaining time of inter-broker partition movements in milliseconds, or
+     * {@link ExecutionTimeEstimator#UNKNOWN_TIME_MS} if it cannot be estimated yet.
+     */
+    public long estimatedRemainingInterBrokerDataMovementTimeMs() {
+      return _estimatedRemainingInterBrokerDataMovementTimeMs;
+    }
+
+    /**
+     * @return The fitted data movement throughput of a single inter-broker partition movement (MB/s), or {@link Double#NaN}
+     * if no inter-broker partition movement has completed yet.
+     */
+    public double interBrokerPartitionMovementThroughputMBPerSec() {
+      return _interBrokerPartitionMovementThroughputMBPerSec;
+    }
+
     public Map<TaskType, Map<ExecutionTaskState, Integer>> taskStat() {
       return Collections.unmodifiableMap(_taskStat);
     }
 
-    public Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> filteredTasksByState() {
-      return Collections.unmodifiableMap(_filteredTasksByState);
+    /**
+     * @return Task types whose complete list of tasks is available via {@link #filteredTasks(TaskType, ExecutionTaskState)}.
+     */
+    public Set<TaskType> taskTypesToGetFullList() {
+      return Collections.unmodifiableSet(_filteredTasksByState.keySet());
+    }
+
+    /**
+     * Get the tasks with the given type and state, as of the creation of this summary -- i.e. consistent with {@link #taskStat()}.
+     *
+     * @param type Task type.
+     * @param state Execution task state.
+     * @return The tasks with the given type and state, or an empty list if the full list was not requested for the given type.
+     */
+    public List<ExecutionTask> filteredTasks(TaskType type, ExecutionTaskState state) {
+      Map<ExecutionTaskState, List<ExecutionTask>> filteredTasks = _filteredTasksByState.get(type);
+      return filteredTasks == null ? Collections.emptyList() : filteredTasks.get(state);
     }
   }
 }
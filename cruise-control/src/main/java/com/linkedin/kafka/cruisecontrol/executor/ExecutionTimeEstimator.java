@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor;
+
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+
+
+/**
+ * A class to estimate the remaining time of the ongoing inter-broker partition movements.
+ * <p>
+ *   The data movement throughput of a single partition movement is fit online for each broker involved in the execution
+ *   (i.e. the source and destination brokers of a partition movement) as an exponentially weighted moving average over the
+ *   completed inter-broker partition movements. The remaining time of each broker is then projected using the data it has
+ *   yet to move and its currently allowed inter-broker partition movement concurrency. The estimate is the time of the
+ *   slowest broker, or the time imposed by the cluster-wide movement cap if that is tighter.
+ * </p>
+ * <p>
+ *   In-progress partition movements are accounted with their full size, hence the estimate is conservative.
+ * </p>
+ *
+ * This class is not thread-safe.
+ */
+public class ExecutionTimeEstimator {
+  public static final long UNKNOWN_TIME_MS = -1L;
+  // The weight of the latest observation in the exponentially weighted moving average of the movement throughput.
+  static final double THROUGHPUT_SMOOTHING_FACTOR = 0.3;
+  private final Map<Integer, Long> _remainingDataToMoveInMBByBroker;
+  private final Map<Integer, Double> _movementThroughputMBPerSecByBroker;
+  private double _clusterMovementThroughputMBPerSec;
+  private long _remainingDataToMoveInMB;
+
+  ExecutionTimeEstimator() {
+    _remainingDataToMoveInMBByBroker = new HashMap<>();
+    _movementThroughputMBPerSecByBroker = new HashMap<>();
+    _clusterMovementThroughputMBPerSec = Double.NaN;
+    _remainingDataToMoveInMB = 0L;
+  }
+
+  /**
+   * Add the given inter-broker partition movement tasks to the data remaining to move.
+   *
+   * @param tasks Inter-broker partition movement tasks to add.
+   */
+  void addTasks(Collection<ExecutionTask> tasks) {
+    for (ExecutionTask task : tasks) {
+      long dataToMove = task.proposal().interBrokerDataToMoveInMB();
+      _remainingDataToMoveInMB += dataToMove;
+      involvedBrokers(task).forEach(b -> _remainingDataToMoveInMBByBroker.merge(b, dataToMove, Long::sum));
+    }
+  }
+
+  /**
+   * Remove the data of the given finished inter-broker partition movement task from the data remaining to move. If the task
+   * is {@link ExecutionTaskState#COMPLETED}, update the movement throughput of the involved brokers with its observed throughput.
+   *
+   * @param task A finished (i.e. completed, aborted, or dead) inter-broker partition movement task.
+   */
+  void onTaskFinished(ExecutionTask task) {
+    long dataToMove = task.proposal().interBrokerDataToMoveInMB();
+    Set<Integer> involvedBrokers = involvedBrokers(task);
+    _remainingDataToMoveInMB -= dataToMove;
+    involvedBrokers.forEach(b -> _remainingDataToMoveInMBByBroker.merge(b, -dataToMove, Long::sum));
+
+    long executionTimeMs = task.endTimeMs() - task.startTimeMs();
+    if (task.state() != ExecutionTaskState.COMPLETED || task.startTimeMs() < 0 || executionTimeMs <= 0 || dataToMove <= 0) {
+      return;
+    }
+    double throughputMBPerSec = dataToMove * 1000.0 / executionTimeMs;
+    _clusterMovementThroughputMBPerSec = smoothed(_clusterMovementThroughputMBPerSec, throughputMBPerSec);
+    involvedBrokers.forEach(b -> _movementThroughputMBPerSecByBroker.put(
+        b, smoothed(_movementThroughputMBPerSecByBroker.getOrDefault(b, Double.NaN), throughputMBPerSec)));
+  }
+
+  /**
+   * @return The fitted data movement throughput of a single inter-broker partition movement in the cluster (MB/s), or
+   * {@link Double#NaN} if no partition movement has completed yet.
+   */
+  double movementThroughputMBPerSec() {
+    return _clusterMovementThroughputMBPerSec;
+  }
+
+  /**
+   * Project the remaining time of the inter-broker partition movements under the given concurrency.
+   *
+   * @param brokerConcurrency A function that provides the allowed inter-broker partition movement concurrency of a broker.
+   * @param maxClusterPartitionMovements The allowed upper bound of inter-broker partition movements in the cluster.
+   * @return The estimated remaining time in milliseconds, {@code 0} if there is no data left to move, or {@link #UNKNOWN_TIME_MS}
+   * if no partition movement has completed yet.
+   */
+  long estimatedRemainingTimeMs(IntUnaryOperator brokerConcurrency, int maxClusterPartitionMovements) {
+    if (_remainingDataToMoveInMB <= 0) {
+      return 0L;
+    }
+    if (Double.isNaN(_clusterMovementThroughputMBPerSec)) {
+      return UNKNOWN_TIME_MS;
+    }
+    double remainingTimeSec = _remainingDataToMoveInMB
+                              / (_clusterMovementThroughputMBPerSec * Math.max(1, maxClusterPartitionMovements));
+    for (Map.Entry<Integer, Long> entry : _remainingDataToMoveInMBByBroker.entrySet()) {
+      if (entry.getValue() <= 0) {
+        continue;
+      }
+      int brokerId = entry.getKey();
+      double throughputMBPerSec = _movementThroughputMBPerSecByBroker.getOrDefault(brokerId, _clusterMovementThroughputMBPerSec);
+      int concurrency = Math.max(1, brokerConcurrency.applyAsInt(brokerId));
+      remainingTimeSec = Math.max(remainingTimeSec, entry.getValue() / (throughputMBPerSec * concurrency));
+    }
+    return (long) Math.ceil(remainingTimeSec * 1000);
+  }
+
+  /**
+   * Clear the estimator state.
+   */
+  void clear() {
+    _remainingDataToMoveInMBByBroker.clear();
+    _movementThroughputMBPerSecByBroker.clear();
+    _clusterMovementThroughputMBPerSec = Double.NaN;
+    _remainingDataToMoveInMB = 0L;
+  }
+
+  private static double smoothed(double current, double observation) {
+    return Double.isNaN(current) ? observation
+                                 : THROUGHPUT_SMOOTHING_FACTOR * observation + (1 - THROUGHPUT_SMOOTHING_FACTOR) * current;
+  }
+
+  /**
+   * Brokers involved in an inter-broker partition movement are the ones that are subject to the inter-broker partition movement
+   * concurrency of the task (see {@link ExecutionTaskManager#markTasksInProgress(java.util.List)}).
+   */
+  private static Set<Integer> involvedBrokers(ExecutionTask task) {
+    Set<Integer> brokers = new HashSet<>();
+    brokers.add(task.proposal().oldLeader().brokerId());
+    for (ReplicaPlacementInfo replica : task.proposal().replicasToAdd()) {
+      brokers.add(replica.brokerId());
+    }
+    return brokers;
+  }
+}
@@ -8,6 +8,7 @@ import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapola
 import com.linkedin.kafka.cruisecontrol.common.TopicMinIsrCache.MinIsrWithTime;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
+import com.linkedin.kafka.cruisecontrol.executor.concurrency.BrokerHealthWindow;
 import com.linkedin.kafka.cruisecontrol.executor.concurrency.ConcurrencyAdjustingRecommendation;
 import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
 import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
@@ -16,6 +17,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -78,6 +80,10 @@ public final class ExecutionUtils {
   public static final String GAUGE_EXECUTION_LEADERSHIP_MOVEMENTS_MAX_CONCURRENCY = "leadership-movements-max-concurrency";
   public static final String GAUGE_EXECUTION_LEADERSHIP_MOVEMENTS_MIN_CONCURRENCY = "leadership-movements-min-concurrency";
   public static final String GAUGE_EXECUTION_LEADERSHIP_MOVEMENTS_AVG_CONCURRENCY = "leadership-movements-avg-concurrency";
+  public static final String GAUGE_EXECUTION_INTER_BROKER_DATA_MOVEMENT_ESTIMATED_REMAINING_TIME_MS
+      = "inter-broker-data-movement-estimated-remaining-time-ms";
+  public static final String GAUGE_EXECUTION_INTER_BROKER_PARTITION_MOVEMENT_THROUGHPUT
+      = "inter-broker-partition-movement-throughput-MB-per-sec";
   public static final String TIMER_PROPOSAL_EXECUTION_TIME_INVOLVE_BROKER_REMOVAL = "proposal_execution-time-involve-broker-removal";
   public static final String TIMER_PROPOSAL_EXECUTION_TIME_INVOLVE_BROKER_DEMOTION_ONLY = "proposal-execution-time-involve-broker-demotion-only";
   public static final String TIMER_PROPOSAL_EXECUTION_TIME = "proposal-execution-time";
@@ -94,6 +100,8 @@ public final class ExecutionUtils {
   // Cluster concurrency would be decreased if the number of brokers with metrics above the limits defined in
   // CONCURRENCY_ADJUSTER_LIMIT_BY_METRIC_NAME is greater than this value.
   private static int minNumBrokersViolateMetricLimitToDecreaseClusterConcurrency;
+  // The limit on the number of under-replicated partitions, in which a broker hosts an out-of-sync online replica.
+  private static int concurrencyAdjusterLimitUnderReplicatedPartitions;
   private static long listPartitionReassignmentsTimeoutMs;
   private static int listPartitionReassignmentsMaxAttempts;
 
@@ -115,6 +123,8 @@ public final class ExecutionUtils {
                                                   config.getDouble(ExecutorConfig.CONCURRENCY_ADJUSTER_LIMIT_CONSUMER_FETCH_LOCAL_TIME_MS_CONFIG));
     CONCURRENCY_ADJUSTER_LIMIT_BY_METRIC_NAME.put(BROKER_REQUEST_QUEUE_SIZE.name(),
                                                   config.getDouble(ExecutorConfig.CONCURRENCY_ADJUSTER_LIMIT_REQUEST_QUEUE_SIZE_CONFIG));
+    concurrencyAdjusterLimitUnderReplicatedPartitions =
+        config.getInt(ExecutorConfig.CONCURRENCY_ADJUSTER_LIMIT_UNDER_REPLICATED_PARTITIONS_CONFIG);
     ADDITIVE_INCREASE.put(ConcurrencyType.INTER_BROKER_REPLICA,
                           config.getInt(ExecutorConfig.CONCURRENCY_ADJUSTER_ADDITIVE_INCREASE_INTER_BROKER_REPLICA_CONFIG));
     ADDITIVE_INCREASE.put(ConcurrencyType.LEADERSHIP_CLUSTER,
@@ -225,28 +235,77 @@ public final class ExecutionUtils {
    * @return the concurrency recommendation.
    */
   static ConcurrencyAdjustingRecommendation recommendedConcurrency(Map<BrokerEntity, ValuesAndExtrapolations> currentMetricsByBroker) {
+    // A single observation per broker makes the latest observation the whole window.
+    BrokerHealthWindow brokerHealthWindow = new BrokerHealthWindow(1);
+    recordBrokerHealth(brokerHealthWindow, currentMetricsByBroker, Collections.emptyMap());
+    return recommendedConcurrency(brokerHealthWindow);
+  }
 
+  /**
+   * Provide concurrency recommendations for the ongoing movements based on the sliding window of broker health observations.
+   * For each broker, it recommends to decrease the concurrency if its latest observation violates a limit, and recommends to
+   * increase the concurrency if all observations in its window are within the limits. For cluster overall concurrency, it recommends
+   * to decrease if the latest observation of at least {@link #minNumBrokersViolateMetricLimitToDecreaseClusterConcurrency} brokers
+   * violate a limit, and recommends to increase if fewer brokers than that have violated a limit within their window.
+   *
+   * @param brokerHealthWindow Sliding window of broker health observations.
+   * @return the concurrency recommendation.
+   */
+  static ConcurrencyAdjustingRecommendation recommendedConcurrency(BrokerHealthWindow brokerHealthWindow) {
     ConcurrencyAdjustingRecommendation concurrencyAdjustingRecommendation = new ConcurrencyAdjustingRecommendation();
+    int numUnhealthyBrokers = 0;
+    int numBrokersNotHealthyThroughout = 0;
+    for (int brokerId : brokerHealthWindow.brokers()) {
+      if (brokerHealthWindow.isUnhealthy(brokerId)) {
+        concurrencyAdjustingRecommendation.recommendConcurrencyDecrease(brokerId);
+        numUnhealthyBrokers++;
+      } else if (brokerHealthWindow.isHealthyThroughout(brokerId)) {
+        concurrencyAdjustingRecommendation.recommendConcurrencyIncrease(brokerId);
+      }
+      if (!brokerHealthWindow.isHealthyThroughout(brokerId)) {
+        numBrokersNotHealthyThroughout++;
+      }
+    }
+
+    if (numUnhealthyBrokers >= minNumBrokersViolateMetricLimitToDecreaseClusterConcurrency) {
+      concurrencyAdjustingRecommendation.recommendDecreaseClusterConcurrency();
+    } else if (numBrokersNotHealthyThroughout < minNumBrokersViolateMetricLimitToDecreaseClusterConcurrency) {
+      concurrencyAdjustingRecommendation.recommendIncreaseClusterConcurrency();
+    }
+
+    return concurrencyAdjustingRecommendation;
+  }
+
+  /**
+   * Record the latest health observation of each broker with current metrics to the given sliding window. A broker is healthy if
+   * its current metrics are within the limits specified by {@link #CONCURRENCY_ADJUSTER_LIMIT_BY_METRIC_NAME} and the number of
+   * under-replicated partitions in which it hosts an out-of-sync replica is within {@link #concurrencyAdjusterLimitUnderReplicatedPartitions}.
+   *
+   * @param brokerHealthWindow Sliding window of broker health observations.
+   * @param currentMetricsByBroker Current metrics by broker.
+   * @param numUnderReplicatedPartitionsByBroker Number of under-replicated partitions by broker (see
+   * {@link #numUnderReplicatedPartitionsByBroker(Cluster, Set)}).
+   */
+  static void recordBrokerHealth(BrokerHealthWindow brokerHealthWindow,
+                                 Map<BrokerEntity, ValuesAndExtrapolations> currentMetricsByBroker,
+                                 Map<Integer, Integer> numUnderReplicatedPartitionsByBroker) {
     // Stores the brokers whose metrics value are above the threshold. This is only for logging purpose.
     Map<String, StringBuilder> overLimitDetailsByMetricName = new HashMap<>();
     for (String metricName : CONCURRENCY_ADJUSTER_LIMIT_BY_METRIC_NAME.keySet()) {
       overLimitDetailsByMetricName.put(metricName, new StringBuilder());
     }
+    StringBuilder overLimitUnderReplicatedPartitions = new StringBuilder();
 
-    int numBrokersAboveMetricLimit = 0;
-
-    // Iterate through brokers and adjust concurrency based on the current broker metric
+    // Iterate through brokers and record their health based on the current broker metric
     for (Map.Entry<BrokerEntity, ValuesAndExtrapolations> entry : currentMetricsByBroker.entrySet()) {
-      BrokerEntity broker = entry.getKey();
-      ValuesAndExtrapolations current = entry.getValue();
-
-      boolean withinAdjusterLimit = withinConcurrencyAdjusterLimit(broker.brokerId(), current, overLimitDetailsByMetricName);
-      if (withinAdjusterLimit) {
-        concurrencyAdjustingRecommendation.recommendConcurrencyIncrease(broker.brokerId());
-      } else {
-        concurrencyAdjustingRecommendation.recommendConcurrencyDecrease(broker.brokerId());
-        numBrokersAboveMetricLimit += 1;
+      int brokerId = entry.getKey().brokerId();
+      boolean withinAdjusterLimit = withinConcurrencyAdjusterLimit(brokerId, entry.getValue(), overLimitDetailsByMetricName);
+      int numUnderReplicatedPartitions = numUnderReplicatedPartitionsByBroker.getOrDefault(brokerId, 0);
+      if (numUnderReplicatedPartitions > concurrencyAdjusterLimitUnderReplicatedPartitions) {
+        overLimitUnderReplicatedPartitions.append(String.format("%d(%d) ", brokerId, numUnderReplicatedPartitions));
+        withinAdjusterLimit = false;
       }
+      brokerHealthWindow.record(brokerId, withinAdjusterLimit);
     }
 
     for (Map.Entry<String, StringBuilder> entry : overLimitDetailsByMetricName.entrySet()) {
@@ -255,14 +314,38 @@ public final class ExecutionUtils {
         LOG.info("{} was over the acceptable limit for brokers with values: {}.", entry.getKey(), brokersWithValues);
       }
     }
-
-    if (numBrokersAboveMetricLimit < minNumBrokersViolateMetricLimitToDecreaseClusterConcurrency) {
-      concurrencyAdjustingRecommendation.recommendIncreaseClusterConcurrency();
-    } else {
-      concurrencyAdjustingRecommendation.recommendDecreaseClusterConcurrency();
+    if (overLimitUnderReplicatedPartitions.length() > 0) {
+      LOG.info("Number of under-replicated partitions was over the acceptable limit for brokers with values: {}.",
+               overLimitUnderReplicatedPartitions);
     }
+  }
 
-    return concurrencyAdjustingRecommendation;
+  /**
+   * Get the number of under-replicated partitions in which each broker hosts an out-of-sync online replica. Offline replicas are
+   * excluded, as they indicate a failure rather than a broker that falls behind due to the load of the ongoing movements.
+   *
+   * @param cluster Kafka cluster.
+   * @param partitionsToSkip Partitions to skip -- e.g. the ones being reassigned, whose new replicas are expected to be out-of-sync.
+   * @return Number of under-replicated partitions by broker, containing only the brokers with at least one such partition.
+   */
+  static Map<Integer, Integer> numUnderReplicatedPartitionsByBroker(Cluster cluster, Set<TopicPartition> partitionsToSkip) {
+    Map<Integer, Integer> numUnderReplicatedPartitionsByBroker = new HashMap<>();
+    for (String topic : cluster.topics()) {
+      for (PartitionInfo partitionInfo : cluster.partitionsForTopic(topic)) {
+        if (partitionInfo.inSyncReplicas().length >= partitionInfo.replicas().length
+            || partitionsToSkip.contains(new TopicPartition(topic, partitionInfo.partition()))) {
+          continue;
+        }
+        Set<Node> inSyncOrOfflineReplicas = new HashSet<>(Arrays.asList(partitionInfo.inSyncReplicas()));
+        inSyncOrOfflineReplicas.addAll(Arrays.asList(partitionInfo.offlineReplicas()));
+        for (Node replica : partitionInfo.replicas()) {
+          if (!inSyncOrOfflineReplicas.contains(replica)) {
+            numUnderReplicatedPartitionsByBroker.merge(replica.id(), 1, Integer::sum);
+          }
+        }
+      }
+    }
+    return numUnderReplicatedPartitionsByBroker;
   }
 
   /**
@@ -606,6 +689,25 @@ public final class ExecutionUtils {
    * @param deletedTopicPartitions a set to populate with partitions that were deleted upon submission of the corresponding leadership tasks.
    */
   public static void processElectLeadersResult(ElectLeadersResult result, Set<TopicPartition> deletedTopicPartitions) {
+    processElectLeadersResult(result, deletedTopicPartitions, new HashSet<>());
+  }
+
+  /**
+   * Process the given {@link ElectLeadersResult result} of electLeaders request to:
+   * <ul>
+   *   <li>ensure that the corresponding request has been accepted,</li>
+   *   <li>identify the set of partitions that were deleted upon submission of the corresponding leadership tasks and populate the given set</li>
+   *   <li>identify the set of partitions whose preferred leader is the leader after the request (i.e. either elected by the request,
+   *   or no election was needed) and populate the given set</li>
+   * </ul>
+   *
+   * @param result the result of a request to elect leaders, or {@code null} if no new leader election is submitted.
+   * @param deletedTopicPartitions a set to populate with partitions that were deleted upon submission of the corresponding leadership tasks.
+   * @param preferredLeaderTopicPartitions a set to populate with partitions whose preferred leader is the leader after the request.
+   */
+  public static void processElectLeadersResult(ElectLeadersResult result,
+                                               Set<TopicPartition> deletedTopicPartitions,
+                                               Set<TopicPartition> preferredLeaderTopicPartitions) {
     if (result == null) {
       return;
     }
@@ -618,10 +720,12 @@ public final class ExecutionUtils {
         TopicPartition tp = entry.getKey();
         if (entry.getValue().isEmpty()) {
           LOG.debug("Leader election for {} has succeeded.", tp);
+          preferredLeaderTopicPartitions.add(tp);
         } else {
           if (Errors.ELECTION_NOT_NEEDED.exception().getClass() == entry.getValue().get().getClass()) {
             // The leader is already the preferred leader.
             noElectionNeeded.add(tp);
+            preferredLeaderTopicPartitions.add(tp);
           } else if (Errors.UNKNOWN_TOPIC_OR_PARTITION.exception().getClass() == entry.getValue().get().getClass()
                      || Errors.INVALID_TOPIC_EXCEPTION.exception().getClass() == entry.getValue().get().getClass()) {
             // Topic (1) has been deleted -- i.e. since partition does not exist, it is assumed to be deleted or (2) is being deleted.
@@ -712,6 +816,24 @@ public final class ExecutionUtils {
     return false;
   }
 
+  /**
+   * Get the logdirs involved in the given intra-broker replica movement task -- i.e. the destination logdir and the source logdir
+   * of the replica on the broker of the task (if known).
+   *
+   * @param task Intra-broker replica movement task.
+   * @return Logdirs involved in the given intra-broker replica movement task.
+   */
+  static Set<String> involvedLogdirs(ExecutionTask task) {
+    Set<String> logdirs = new HashSet<>();
+    logdirs.add(task.proposal().replicasToMoveBetweenDisksByBroker().get(task.brokerId()).logdir());
+    for (ReplicaPlacementInfo replica : task.proposal().oldReplicas()) {
+      if (replica.brokerId() == task.brokerId() && replica.logdir() != null) {
+        logdirs.add(replica.logdir());
+      }
+    }
+    return logdirs;
+  }
+
   /**
    * The completeness of leadership movement depends on the task state:
    * <ul>
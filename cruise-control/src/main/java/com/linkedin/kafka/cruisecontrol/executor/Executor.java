@@ -14,8 +14,10 @@ import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.common.KafkaCruiseControlThreadFactory;
 import com.linkedin.kafka.cruisecontrol.common.MetadataClient;
 import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
 import com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorManager;
 import com.linkedin.kafka.cruisecontrol.exception.OngoingExecutionException;
+import com.linkedin.kafka.cruisecontrol.executor.concurrency.BrokerHealthWindow;
 import com.linkedin.kafka.cruisecontrol.executor.concurrency.ConcurrencyAdjustingRecommendation;
 import com.linkedin.kafka.cruisecontrol.executor.concurrency.ExecutionConcurrencyManager;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.ReplicaMovementStrategy;
@@ -24,9 +26,12 @@ import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
 import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
 import com.linkedin.kafka.cruisecontrol.servlet.UserTaskManager;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -132,6 +137,7 @@ public class Executor {
   private final TopicMinIsrCache _topicMinIsrCache;
   private final long _minExecutionProgressCheckIntervalMs;
   private final long _slowTaskAlertingBackoffTimeMs;
+  private final int _numConcurrentLeaderElectionBatches;
   private final KafkaCruiseControlConfig _config;
   private final AtomicDouble _partitionMovementCountPerSec;
   private final AtomicDouble _partitionMovementMbPerSec;
@@ -225,6 +231,7 @@ public class Executor {
     _removalHistoryRetentionTimeMs = config.getLong(ExecutorConfig.REMOVAL_HISTORY_RETENTION_TIME_MS_CONFIG);
     _minExecutionProgressCheckIntervalMs = config.getLong(ExecutorConfig.MIN_EXECUTION_PROGRESS_CHECK_INTERVAL_MS_CONFIG);
     _slowTaskAlertingBackoffTimeMs = config.getLong(ExecutorConfig.SLOW_TASK_ALERTING_BACKOFF_TIME_MS_CONFIG);
+    _numConcurrentLeaderElectionBatches = config.getInt(ExecutorConfig.NUM_CONCURRENT_LEADER_ELECTION_BATCHES_CONFIG);
     _concurrencyAdjusterEnabled = new ConcurrentHashMap<>(ConcurrencyType.cachedValues().size());
     _concurrencyAdjusterEnabled.put(ConcurrencyType.INTER_BROKER_REPLICA,
                                     config.getBoolean(ExecutorConfig.CONCURRENCY_ADJUSTER_INTER_BROKER_REPLICA_ENABLED_CONFIG));
@@ -239,13 +246,17 @@ public class Executor {
         new KafkaCruiseControlThreadFactory(ConcurrencyAdjuster.class.getSimpleName()));
     int numMinIsrCheck = config.getInt(ExecutorConfig.CONCURRENCY_ADJUSTER_NUM_MIN_ISR_CHECK_CONFIG);
     long intervalMs = config.getLong(ExecutorConfig.CONCURRENCY_ADJUSTER_INTERVAL_MS_CONFIG) / numMinIsrCheck;
-    _concurrencyAdjuster = new ConcurrencyAdjuster(numMinIsrCheck);
+    _concurrencyAdjuster = new ConcurrencyAdjuster(config.getInt(ExecutorConfig.CONCURRENCY_ADJUSTER_BROKER_HEALTH_WINDOW_SIZE_CONFIG));
     _topicMinIsrCache = new TopicMinIsrCache(Duration.ofMillis(config.getLong(ExecutorConfig.CONCURRENCY_ADJUSTER_MIN_ISR_RETENTION_MS_CONFIG)),
                                              config.getInt(ExecutorConfig.CONCURRENCY_ADJUSTER_MIN_ISR_CACHE_SIZE_CONFIG),
                                              ExecutionUtils.MIN_ISR_CACHE_CLEANER_PERIOD,
                                              ExecutionUtils.MIN_ISR_CACHE_CLEANER_INITIAL_DELAY,
                                              _time);
     _concurrencyAdjusterExecutor.scheduleAtFixedRate(_concurrencyAdjuster, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    // Broker health is observed once per metric sampling interval, so that each observation reflects new metric samples.
+    long brokerHealthObservationIntervalMs = config.getLong(MonitorConfig.METRIC_SAMPLING_INTERVAL_MS_CONFIG);
+    _concurrencyAdjusterExecutor.scheduleAtFixedRate(_concurrencyAdjuster::observeBrokerHealth, brokerHealthObservationIntervalMs,
+                                                     brokerHealthObservationIntervalMs, TimeUnit.MILLISECONDS);
     _executionHistoryScannerExecutor = Executors.newSingleThreadScheduledExecutor(
         new KafkaCruiseControlThreadFactory(ExecutionHistoryScanner.class.getSimpleName()));
     _executionHistoryScannerExecutor.scheduleAtFixedRate(new ExecutionHistoryScanner(),
@@ -420,6 +431,12 @@ public class Executor {
                                           .getExecutionConcurrencyManager()
                                           .getExecutionConcurrencySummary()
                                           .getAvgExecutionConcurrency(ConcurrencyType.LEADERSHIP_BROKER));
+    dropwizardMetricRegistry.register(MetricRegistry.name(EXECUTOR_SENSOR,
+                                                          GAUGE_EXECUTION_INTER_BROKER_DATA_MOVEMENT_ESTIMATED_REMAINING_TIME_MS),
+                                      (Gauge<Long>) () -> _executionTaskManager.estimatedRemainingInterBrokerDataMovementTimeMs());
+    dropwizardMetricRegistry.register(MetricRegistry.name(EXECUTOR_SENSOR,
+                                                          GAUGE_EXECUTION_INTER_BROKER_PARTITION_MOVEMENT_THROUGHPUT),
+                                      (Gauge<Double>) () -> _executionTaskManager.interBrokerPartitionMovementThroughputMBPerSec());
   }
 
   private void removeExpiredDemotionHistory() {
@@ -438,6 +455,27 @@ public class Executor {
     });
   }
 
+  /**
+   * A batch of leadership movement tasks and the result of the leader election request submitted for them.
+   */
+  private static final class LeadershipMovementBatch {
+    private final List<ExecutionTask> _tasks;
+    private final ElectLeadersResult _result;
+
+    private LeadershipMovementBatch(List<ExecutionTask> tasks, ElectLeadersResult result) {
+      _tasks = tasks;
+      _result = result;
+    }
+
+    private List<ExecutionTask> tasks() {
+      return _tasks;
+    }
+
+    private ElectLeadersResult result() {
+      return _result;
+    }
+  }
+
   /**
    * A runnable class to remove expired execution history.
    */
@@ -458,21 +496,22 @@ public class Executor {
    * additive-increase/multiplicative-decrease (AIMD) feedback control algorithm. The adjustment decisions are made using:
    * <ul>
    *   <li>(At/Under)MinISR status of partitions (i.e. every time this runnable is called), and</li>
-   *   <li>Selected metrics (i.e. only once for every {@link #_numMinIsrCheck} checks of this runnable and only when MinISR-based check
-   *   does not generate a recommendation)</li>
+   *   <li>A sliding window of broker health observations, i.e. selected broker metrics and under-replicated partitions (i.e. only
+   *   when a new observation has been made since the last adjustment -- see {@link #observeBrokerHealth()}, which is scheduled
+   *   once per metric sampling interval -- and only when MinISR-based check does not generate a recommendation)</li>
    * </ul>
    */
   public class ConcurrencyAdjuster implements Runnable {
-    private final int _numMinIsrCheck;
+    private final BrokerHealthWindow _brokerHealthWindow;
+    private boolean _hasNewBrokerHealthObservation;
     private LoadMonitor _loadMonitor;
-    private int _numChecks;
     private final ExecutionConcurrencyManager _executionConcurrencyManager;
     private volatile boolean _started;
 
-    public ConcurrencyAdjuster(int numMinIsrCheck) {
-      _numMinIsrCheck = numMinIsrCheck;
+    public ConcurrencyAdjuster(int brokerHealthWindowSize) {
+      _brokerHealthWindow = new BrokerHealthWindow(brokerHealthWindowSize);
+      _hasNewBrokerHealthObservation = false;
       _loadMonitor = null;
-      _numChecks = 0;
       _executionConcurrencyManager = _executionTaskManager.getExecutionConcurrencyManager();
     }
 
@@ -500,6 +539,8 @@ public class Executor {
                                               requestedIntraBrokerPartitionMovementConcurrency,
                                               requestedClusterLeadershipMovementConcurrency,
                                               requestedBrokerLeadershipMovementConcurrency);
+      _brokerHealthWindow.clear();
+      _hasNewBrokerHealthObservation = false;
       _started = true;
     }
 
@@ -509,6 +550,7 @@ public class Executor {
     public synchronized void clearAdjustment() {
       _started = false;
       _executionConcurrencyManager.reset();
+      _brokerHealthWindow.clear();
     }
 
     /**
@@ -547,10 +589,10 @@ public class Executor {
           return;
         }
 
-        // Only if ISR metrics suggest no change in concurrency, we will run broker-metric-based concurrency adjusting.
-        // That is, if ISR metrics suggesting to decrease concurrency, will not check broker metrics for further adjusting.
+        // Only if ISR metrics suggest no change in concurrency, we will run broker-health-based concurrency adjusting.
+        // That is, if ISR metrics suggesting to decrease concurrency, will not check broker health for further adjusting.
         if (concurrencyAdjustingRecommendation.noChangeRecommended() && canRunMetricsBasedCheck) {
-          concurrencyAdjustingRecommendation = ExecutionUtils.recommendedConcurrency(_loadMonitor.currentBrokerMetricValues());
+          concurrencyAdjustingRecommendation = ExecutionUtils.recommendedConcurrency(_brokerHealthWindow);
         }
 
         for (int broker: concurrencyAdjustingRecommendation.getBrokersToIncreaseConcurrency()) {
@@ -570,6 +612,40 @@ public class Executor {
       }
     }
 
+    /**
+     * Record the latest health of brokers to the sliding window during an execution. This is scheduled independently of the
+     * concurrency adjustment, so that the window keeps up with the metric samples regardless of the adjustment interval. Partitions
+     * with an ongoing inter-broker replica movement are excluded from the under-replicated partitions, as their new replicas are
+     * expected to be out-of-sync.
+     */
+    public synchronized void observeBrokerHealth() {
+      try {
+        if (!_started || _loadMonitor == null) {
+          return;
+        }
+        Set<TopicPartition> partitionsInMovement = new HashSet<>();
+        for (ExecutionTask task : _executionTaskManager.inExecutionTasks(Collections.singleton(INTER_BROKER_REPLICA_ACTION))) {
+          partitionsInMovement.add(task.proposal().topicPartition());
+        }
+        Map<Integer, Integer> numUnderReplicatedPartitionsByBroker =
+            ExecutionUtils.numUnderReplicatedPartitionsByBroker(_loadMonitor.kafkaCluster(), partitionsInMovement);
+        ExecutionUtils.recordBrokerHealth(_brokerHealthWindow, _loadMonitor.currentBrokerMetricValues(),
+                                          numUnderReplicatedPartitionsByBroker);
+        _hasNewBrokerHealthObservation = true;
+      } catch (Throwable t) {
+        LOG.warn("Received exception when trying to observe broker health.", t);
+      }
+    }
+
+    /**
+     * @return {@code true} if a new broker health observation has been recorded since the last call, {@code false} otherwise.
+     */
+    private synchronized boolean consumeNewBrokerHealthObservation() {
+      boolean hasNewBrokerHealthObservation = _hasNewBrokerHealthObservation;
+      _hasNewBrokerHealthObservation = false;
+      return hasNewBrokerHealthObservation;
+    }
+
     private void maybeRetrieveAndCacheTopicMinIsr(Set<String> topicsToCheck) {
       if (topicsToCheck.isEmpty()) {
         return;
@@ -663,7 +739,7 @@ public class Executor {
     public void run() {
       try {
         if (_started) {
-          boolean canRunMetricsBasedCheck = (_numChecks++ % _numMinIsrCheck) == 0;
+          boolean canRunMetricsBasedCheck = consumeNewBrokerHealthObservation();
           refreshConcurrency(canRunMetricsBasedCheck, ConcurrencyType.INTER_BROKER_REPLICA);
           // Both broker and cluster leadership movement concurrency can be refreshed with call below.
           refreshConcurrency(canRunMetricsBasedCheck, ConcurrencyType.LEADERSHIP_BROKER);
@@ -1296,6 +1372,7 @@ public class Executor {
     private Throwable _executionException;
     private final boolean _isTriggeredByUserRequest;
     private long _lastSlowTaskReportingTimeMs;
+    private long _lastLeadershipProgressCheckTimeMs;
     private static final boolean FORCE_PAUSE_SAMPLING = true;
     private final Timer _executionTimerInvolveBrokerRemovalOrDemotion;
 
@@ -1611,7 +1688,8 @@ public class Executor {
 
       int partitionsToMove = numTotalPartitionMovements;
       // Exhaust all the pending partition movements.
-      while ((partitionsToMove > 0 || !inExecutionTasks().isEmpty()) && _stopSignal.get() == NO_STOP_EXECUTION) {
+      while ((partitionsToMove > 0 || _executionTaskManager.numInExecutionTasks() != 0)
+             && _stopSignal.get() == NO_STOP_EXECUTION) {
         // Get tasks to execute.
         List<ExecutionTask> tasksToExecute = _executionTaskManager.getInterBrokerReplicaMovementTasks();
         LOG.info("Executor will execute {} task(s)", tasksToExecute.size());
@@ -1677,7 +1755,8 @@ public class Executor {
 
       int partitionsToMove = numTotalPartitionMovements;
       // Exhaust all the pending partition movements.
-      while ((partitionsToMove > 0 || !inExecutionTasks().isEmpty()) && _stopSignal.get() == NO_STOP_EXECUTION) {
+      while ((partitionsToMove > 0 || _executionTaskManager.numInExecutionTasks() != 0)
+             && _stopSignal.get() == NO_STOP_EXECUTION) {
         // Get tasks to execute.
         List<ExecutionTask> tasksToExecute = _executionTaskManager.getIntraBrokerReplicaMovementTasks();
         LOG.info("Executor will execute {} task(s)", tasksToExecute.size());
@@ -1700,14 +1779,14 @@ public class Executor {
                  totalDataToMoveInMB == 0 ? 100 : String.format("%.2f", finishedDataToMoveInMB * UNIT_INTERVAL_TO_PERCENTAGE
                                                                         / totalDataToMoveInMB));
       }
-      Set<ExecutionTask> inExecutionTasks = inExecutionTasks();
-      while (!inExecutionTasks.isEmpty()) {
-        LOG.info("Waiting for {} tasks moving {} MB to finish", inExecutionTasks.size(),
+      int numInExecutionTasks = _executionTaskManager.numInExecutionTasks();
+      while (numInExecutionTasks != 0) {
+        LOG.info("Waiting for {} tasks moving {} MB to finish", numInExecutionTasks,
                  _executionTaskManager.inExecutionIntraBrokerDataMovementInMB());
         waitForIntraBrokerReplicaTasksToFinish();
-        inExecutionTasks = inExecutionTasks();
+        numInExecutionTasks = _executionTaskManager.numInExecutionTasks();
       }
-      if (inExecutionTasks().isEmpty()) {
+      if (_executionTaskManager.numInExecutionTasks() == 0) {
         LOG.info("Intra-broker partition movements finished.");
       } else if (_stopSignal.get() != NO_STOP_EXECUTION) {
         ExecutionTasksSummary executionTasksSummary = _executionTaskManager.getExecutionTasksSummary(Collections.emptySet());
@@ -1728,20 +1807,45 @@ public class Executor {
 
     /**
      * Executes leadership movement tasks.
+     *
+     * Up to {@link #_numConcurrentLeaderElectionBatches} leader election requests are kept in flight, while the total number of
+     * in-progress leadership movements is bounded by the allowed cluster-wide leadership movement concurrency. The completion of
+     * each leadership movement is determined from the result of its leader election request. Tasks whose completion cannot be
+     * determined from the result are checked against the cluster metadata at most once per execution progress check interval
+     * while leader election requests are in flight, and on every check once there is no leader election request in flight.
      */
     private void moveLeaderships() {
       int numTotalLeadershipMovements = _executionTaskManager.numRemainingLeadershipMovements();
       LOG.info("Starting {} leadership movements.", numTotalLeadershipMovements);
+      Deque<LeadershipMovementBatch> inFlightBatches = new ArrayDeque<>(_numConcurrentLeaderElectionBatches);
       int numFinishedLeadershipMovements = 0;
-      while (_executionTaskManager.numRemainingLeadershipMovements() != 0 && _stopSignal.get() == NO_STOP_EXECUTION) {
+      _lastLeadershipProgressCheckTimeMs = _time.milliseconds();
+      while ((_executionTaskManager.numRemainingLeadershipMovements() != 0 || _executionTaskManager.numInExecutionTasks() != 0)
+             && _stopSignal.get() == NO_STOP_EXECUTION) {
         updateOngoingExecutionState();
-        numFinishedLeadershipMovements += moveLeadershipInBatch();
-        LOG.info("{}/{} ({}%) leadership movements completed.", numFinishedLeadershipMovements,
-                 numTotalLeadershipMovements, numFinishedLeadershipMovements * 100 / numTotalLeadershipMovements);
+        submitLeadershipMovementBatches(inFlightBatches);
+        if (!inFlightBatches.isEmpty()) {
+          waitForLeadershipBatchesToFinish(inFlightBatches);
+        } else if (_executionTaskManager.numInExecutionTasks() != 0) {
+          waitForLeadershipTasksToFinish(null);
+        }
+        int numFinished = numTotalLeadershipMovements - _executionTaskManager.numRemainingLeadershipMovements()
+                          - _executionTaskManager.numInExecutionTasks();
+        if (numFinished != numFinishedLeadershipMovements) {
+          numFinishedLeadershipMovements = numFinished;
+          LOG.info("{}/{} ({}%) leadership movements completed.", numFinishedLeadershipMovements,
+                   numTotalLeadershipMovements, numFinishedLeadershipMovements * 100 / numTotalLeadershipMovements);
+        }
       }
-      if (inExecutionTasks().isEmpty()) {
+      if (_stopSignal.get() == NO_STOP_EXECUTION) {
         LOG.info("Leadership movements finished.");
-      } else if (_stopSignal.get() != NO_STOP_EXECUTION) {
+      } else {
+        // No new leader election request is submitted once the execution is stopped. Leader election requests cannot be cancelled;
+        // hence, the in-flight ones are let finish, and their leadership movements are marked as done if their result shows that
+        // the preferred leader is the leader. Other in-progress leadership movements stay in progress.
+        while (!inFlightBatches.isEmpty()) {
+          waitForLeadershipBatchesToFinish(inFlightBatches);
+        }
         Map<ExecutionTaskState, Integer> leadershipMovementTasksByState =
             _executionTaskManager.getExecutionTasksSummary(Collections.emptySet()).taskStat().get(LEADER_ACTION);
         LOG.info("Leadership movements stopped. {} tasks cancelled, {} tasks in-progress, {} tasks aborting, {} tasks aborted, "
@@ -1755,22 +1859,119 @@ public class Executor {
       }
     }
 
-    private int moveLeadershipInBatch() {
-      List<ExecutionTask> leadershipMovementTasks = _executionTaskManager.getLeadershipMovementTasks();
-      int numLeadershipToMove = leadershipMovementTasks.size();
-      LOG.debug("Executing {} leadership movements in a batch.", numLeadershipToMove);
-      // Execute the leadership movements.
-      if (!leadershipMovementTasks.isEmpty() && _stopSignal.get() == NO_STOP_EXECUTION) {
+    /**
+     * Submit leader election requests for new batches of leadership movements until either the maximum number of in-flight
+     * leader election requests is reached, or no more leadership movement can be started within the allowed concurrency.
+     *
+     * @param inFlightBatches Leadership movement batches with an in-flight leader election request, in submission order.
+     */
+    private void submitLeadershipMovementBatches(Deque<LeadershipMovementBatch> inFlightBatches) {
+      int maxClusterLeadershipMovements = _executionTaskManager.getExecutionConcurrencyManager().maxClusterLeadershipMovements();
+      int batchSize = Math.max(1, (maxClusterLeadershipMovements + _numConcurrentLeaderElectionBatches - 1)
+                                  / _numConcurrentLeaderElectionBatches);
+      while (inFlightBatches.size() < _numConcurrentLeaderElectionBatches && _stopSignal.get() == NO_STOP_EXECUTION) {
+        List<ExecutionTask> leadershipMovementTasks = _executionTaskManager.getLeadershipMovementTasks(batchSize);
+        if (leadershipMovementTasks.isEmpty()) {
+          break;
+        }
+        LOG.debug("Executing {} leadership movements in a batch.", leadershipMovementTasks.size());
         // Mark leadership movements in progress.
         _executionTaskManager.markTasksInProgress(leadershipMovementTasks);
-
         ElectLeadersResult electLeadersResult = ExecutionUtils.submitPreferredLeaderElection(_adminClient, leadershipMovementTasks);
-        LOG.trace("Waiting for leadership movement batch to finish.");
-        while (!inExecutionTasks().isEmpty() && _stopSignal.get() == NO_STOP_EXECUTION) {
-          waitForLeadershipTasksToFinish(electLeadersResult);
+        inFlightBatches.addLast(new LeadershipMovementBatch(leadershipMovementTasks, electLeadersResult));
+      }
+    }
+
+    /**
+     * Waits up to {@link #executionProgressCheckIntervalMs} for the leader election request of the oldest in-flight batch to
+     * finish, then marks the leadership movements of all finished batches as done if their result shows that the preferred
+     * leader is the leader, or the topic has been deleted. Other leadership movements of finished batches stay in progress.
+     * If at least {@link #executionProgressCheckIntervalMs} has passed since the last check, all in-progress leadership
+     * movements are also checked against the cluster metadata for completion, deletion, slowness, and death.
+     *
+     * @param inFlightBatches Leadership movement batches with an in-flight leader election request, in submission order.
+     */
+    private void waitForLeadershipBatchesToFinish(Deque<LeadershipMovementBatch> inFlightBatches) {
+      LOG.trace("Waiting for leadership movement batches to finish.");
+      try {
+        inFlightBatches.peekFirst().result().partitions().get(executionProgressCheckIntervalMs(), TimeUnit.MILLISECONDS);
+      } catch (TimeoutException | InterruptedException e) {
+        // let it go
+      } catch (ExecutionException ee) {
+        // Handled upon processing the result.
+      }
+
+      List<ExecutionTask> finishedTasks = new ArrayList<>();
+      Set<Long> deletedTaskIds = new HashSet<>();
+      Iterator<LeadershipMovementBatch> batchIter = inFlightBatches.iterator();
+      while (batchIter.hasNext()) {
+        LeadershipMovementBatch batch = batchIter.next();
+        if (!batch.result().partitions().isDone()) {
+          continue;
+        }
+        batchIter.remove();
+        Set<TopicPartition> deletedUponSubmission = new HashSet<>();
+        Set<TopicPartition> withPreferredLeader = new HashSet<>();
+        ExecutionUtils.processElectLeadersResult(batch.result(), deletedUponSubmission, withPreferredLeader);
+        for (ExecutionTask task : batch.tasks()) {
+          if (task.state() != ExecutionTaskState.IN_PROGRESS) {
+            continue;
+          }
+          TopicPartition tp = task.proposal().topicPartition();
+          if (deletedUponSubmission.contains(tp)) {
+            handleProgressWithTopicDeletion(task, finishedTasks, deletedTaskIds);
+          } else if (withPreferredLeader.contains(tp)) {
+            handleProgressWithCompletion(task, finishedTasks);
+          }
         }
       }
-      return numLeadershipToMove;
+
+      Set<Long> deadTaskIds = new HashSet<>();
+      if (_time.milliseconds() - _lastLeadershipProgressCheckTimeMs >= executionProgressCheckIntervalMs()) {
+        checkInProgressLeadershipTasks(finishedTasks, deletedTaskIds, deadTaskIds);
+      }
+
+      if (!finishedTasks.isEmpty()) {
+        LOG.info("Finished tasks: {}.{}{}", finishedTasks,
+                 deletedTaskIds.isEmpty() ? "" : String.format(". [Deleted: %s]", deletedTaskIds),
+                 deadTaskIds.isEmpty() ? "" : String.format(". [Dead: %s]", deadTaskIds));
+      }
+    }
+
+    /**
+     * Checks the in-progress leadership movements -- including the ones whose leader election request is still in flight --
+     * against the latest cluster metadata. Marks the movements as done if the preferred leader is the leader or the topic
+     * has been deleted, reports the slow ones, and marks the ones whose target leader is down or which exceeded the leader
+     * movement timeout as dead.
+     *
+     * @param finishedTasks A list to populate with the leadership movements that are finished by this check.
+     * @param deletedTaskIds A set to populate with the execution ids of the movements whose topic has been deleted.
+     * @param deadTaskIds A set to populate with the execution ids of the movements that are marked as dead.
+     */
+    private void checkInProgressLeadershipTasks(List<ExecutionTask> finishedTasks, Set<Long> deletedTaskIds, Set<Long> deadTaskIds) {
+      _lastLeadershipProgressCheckTimeMs = _time.milliseconds();
+      Cluster cluster = _metadataClient.refreshMetadata().cluster();
+      List<ExecutionTask> slowTasksToReport = new ArrayList<>();
+      boolean shouldReportSlowTasks = _time.milliseconds() - _lastSlowTaskReportingTimeMs > _slowTaskAlertingBackoffTimeMs;
+      for (ExecutionTask task : inExecutionTasks()) {
+        if (task.type() != LEADER_ACTION) {
+          continue;
+        }
+        if (cluster.partition(task.proposal().topicPartition()) == null) {
+          handleProgressWithTopicDeletion(task, finishedTasks, deletedTaskIds);
+        } else if (ExecutionUtils.isLeadershipMovementDone(cluster, task)) {
+          handleProgressWithCompletion(task, finishedTasks);
+        } else {
+          if (shouldReportSlowTasks) {
+            task.maybeReportExecutionTooSlow(_time.milliseconds(), slowTasksToReport);
+          }
+          if (maybeMarkTaskAsDead(cluster, null, task, null)) {
+            deadTaskIds.add(task.executionId());
+            finishedTasks.add(task);
+          }
+        }
+      }
+      sendSlowExecutionAlert(slowTasksToReport);
     }
 
     /**
@@ -1821,7 +2022,7 @@ public class Executor {
         List<ExecutionTask> deadInterBrokerReplicaTasks = new ArrayList<>();
         List<ExecutionTask> stoppedInterBrokerReplicaTasks = new ArrayList<>();
         List<ExecutionTask> slowTasksToReport = new ArrayList<>();
-        final int numInExecutionTasks = inExecutionTasks().size();
+        final int numInExecutionTasks = _executionTaskManager.numInExecutionTasks();
         // numFinishedOrDeletedTasks instead of finishedTasks.size() is used to decide whether to dynamically adjust
         // executionProgressCheckIntervalMs.
         // If the task is completed or the related topic is deleted, numFinishedOrDeletedTasks is increased.
@@ -1872,7 +2073,7 @@ public class Executor {
         handleDeadInterBrokerReplicaTasks(deadInterBrokerReplicaTasks, stoppedInterBrokerReplicaTasks);
         updateOngoingExecutionState();
 
-        retry = !inExecutionTasks().isEmpty() && finishedTasks.isEmpty();
+        retry = _executionTaskManager.numInExecutionTasks() != 0 && finishedTasks.isEmpty();
         // If there is no finished tasks, we need to check if anything is blocked.
         if (retry) {
           maybeReexecuteInterBrokerReplicaTasks(deletedUponSubmission, deadUponSubmission);
@@ -1947,7 +2148,7 @@ public class Executor {
         sendSlowExecutionAlert(slowTasksToReport);
         updateOngoingExecutionState();
 
-        retry = !inExecutionTasks().isEmpty() && finishedTasks.isEmpty();
+        retry = _executionTaskManager.numInExecutionTasks() != 0 && finishedTasks.isEmpty();
         // If there is no finished tasks, we need to check if anything is blocked.
         if (retry) {
           maybeReexecuteLeadershipTasks(deletedUponSubmission);
@@ -1961,23 +2162,23 @@ public class Executor {
     }
 
     /**
-     * Periodically checks the metadata to see if intra-broker replica reassignment has finished or not.
+     * Periodically checks the logdirs of the in-flight intra-broker replica movements to see if they have finished or not. The
+     * logdirs of only the in-flight replicas are described once per check, and the same response is used to re-execute the
+     * movements that are neither completed nor in progress on the broker side. Returns as soon as a movement finishes, so that
+     * the freed slots can be filled with new movements.
      */
     private void waitForIntraBrokerReplicaTasksToFinish() {
       List<ExecutionTask> finishedTasks = new ArrayList<>();
       Set<Long> deletedTaskIds = new HashSet<>();
       Set<Long> deadTaskIds = new HashSet<>();
       do {
-        // If there is no finished tasks, we need to check if anything is blocked.
-        maybeReexecuteIntraBrokerReplicaTasks();
         Cluster cluster = getClusterForExecutionProgressCheck();
-        Map<ExecutionTask, ReplicaLogDirInfo> logDirInfoByTask = getLogdirInfoForExecutionTask(
-            _executionTaskManager.inExecutionTasks(Collections.singleton(INTRA_BROKER_REPLICA_ACTION)),
-            _adminClient, _config);
+        Set<ExecutionTask> inExecutionTasks = _executionTaskManager.inExecutionTasks(Collections.singleton(INTRA_BROKER_REPLICA_ACTION));
+        Map<ExecutionTask, ReplicaLogDirInfo> logDirInfoByTask = getLogdirInfoForExecutionTask(inExecutionTasks, _adminClient, _config);
 
         List<ExecutionTask> slowTasksToReport = new ArrayList<>();
         boolean shouldReportSlowTasks = _time.milliseconds() - _lastSlowTaskReportingTimeMs > _slowTaskAlertingBackoffTimeMs;
-        for (ExecutionTask task : inExecutionTasks()) {
+        for (ExecutionTask task : inExecutionTasks) {
           TopicPartition tp = task.proposal().topicPartition();
           if (cluster.partition(tp) == null) {
             handleProgressWithTopicDeletion(task, finishedTasks, deletedTaskIds);
@@ -1994,8 +2195,12 @@ public class Executor {
           }
         }
         sendSlowExecutionAlert(slowTasksToReport);
+        if (finishedTasks.isEmpty()) {
+          // If there is no finished tasks, we need to check if anything is blocked.
+          maybeReexecuteIntraBrokerReplicaTasks(logDirInfoByTask);
+        }
         updateOngoingExecutionState();
-      } while (!inExecutionTasks().isEmpty() && finishedTasks.isEmpty());
+      } while (_executionTaskManager.numInExecutionTasks() != 0 && finishedTasks.isEmpty());
 
       LOG.info("Finished tasks: {}.{}{}", finishedTasks,
                deletedTaskIds.isEmpty() ? "" : String.format(". [Deleted: %s]", deletedTaskIds),
@@ -2180,11 +2385,13 @@ public class Executor {
     /**
      * Identifies if there is a need for re-execution, if so, ensures re-execution of intra-broker replica reassignments
      * -- e.g. in case there is a controller failover.
+     *
+     * @param logDirInfoByTask Replica logdir information of the in-flight intra-broker replica movement tasks.
      */
-    private void maybeReexecuteIntraBrokerReplicaTasks() {
+    private void maybeReexecuteIntraBrokerReplicaTasks(Map<ExecutionTask, ReplicaLogDirInfo> logDirInfoByTask) {
       List<ExecutionTask> intraBrokerReplicaTasksToReexecute =
           new ArrayList<>(_executionTaskManager.inExecutionTasks(Collections.singleton(INTRA_BROKER_REPLICA_ACTION)));
-      getLogdirInfoForExecutionTask(intraBrokerReplicaTasksToReexecute, _adminClient, _config).forEach((k, v) -> {
+      logDirInfoByTask.forEach((k, v) -> {
         String targetLogdir = k.proposal().replicasToMoveBetweenDisksByBroker().get(k.brokerId()).logdir();
         // If task is completed or in-progress, do not reexecute the task.
         if (targetLogdir.equals(v.getCurrentReplicaLogDir()) || targetLogdir.equals(v.getFutureReplicaLogDir())) {
@@ -82,6 +82,10 @@ public final class ExecutorState {
   @JsonResponseField(required = false)
   private static final String TOTAL_INTER_BROKER_DATA_TO_MOVE = "totalDataToMove";
   @JsonResponseField(required = false)
+  private static final String ESTIMATED_REMAINING_INTER_BROKER_DATA_MOVEMENT_TIME_MS = "estimatedRemainingDataMovementTimeMs";
+  @JsonResponseField(required = false)
+  private static final String INTER_BROKER_PARTITION_MOVEMENT_THROUGHPUT = "partitionMovementThroughputMBPerSec";
+  @JsonResponseField(required = false)
   private static final String MAXIMUM_CONCURRENT_INTER_BROKER_PARTITION_MOVEMENTS_PER_BROKER = "maximumConcurrentPartitionMovementsPerBroker";
   @JsonResponseField(required = false)
   private static final String MINIMUM_CONCURRENT_INTER_BROKER_PARTITION_MOVEMENTS_PER_BROKER = "minimumConcurrentPartitionMovementsPerBroker";
@@ -349,8 +353,9 @@ public final class ExecutorState {
   }
 
   private List<Object> getTaskDetails(ExecutionTask.TaskType type, ExecutionTaskState state) {
-    List<Object> taskList = new ArrayList<>();
-    for (ExecutionTask task : _executionTasksSummary.filteredTasksByState().get(type).get(state)) {
+    List<ExecutionTask> tasks = _executionTasksSummary.filteredTasks(type, state);
+    List<Object> taskList = new ArrayList<>(tasks.size());
+    for (ExecutionTask task : tasks) {
       taskList.add(task.getJsonStructure());
     }
     return taskList;
@@ -424,6 +429,11 @@ public final class ExecutorState {
         execState.put(NUM_TOTAL_INTER_BROKER_PARTITION_MOVEMENTS, numTotalMovements(INTER_BROKER_REPLICA_ACTION));
         execState.put(FINISHED_INTER_BROKER_DATA_MOVEMENT, _executionTasksSummary.finishedInterBrokerDataMovementInMB());
         execState.put(TOTAL_INTER_BROKER_DATA_TO_MOVE, numTotalInterBrokerDataToMove());
+        if (_executionTasksSummary.estimatedRemainingInterBrokerDataMovementTimeMs() != ExecutionTimeEstimator.UNKNOWN_TIME_MS) {
+          execState.put(ESTIMATED_REMAINING_INTER_BROKER_DATA_MOVEMENT_TIME_MS,
+                        _executionTasksSummary.estimatedRemainingInterBrokerDataMovementTimeMs());
+          execState.put(INTER_BROKER_PARTITION_MOVEMENT_THROUGHPUT, _executionTasksSummary.interBrokerPartitionMovementThroughputMBPerSec());
+        }
         if (verbose) {
           execState.put(IN_PROGRESS_INTER_BROKER_PARTITION_MOVEMENT, getTaskDetails(INTER_BROKER_REPLICA_ACTION, ExecutionTaskState.IN_PROGRESS));
           execState.put(PENDING_INTER_BROKER_PARTITION_MOVEMENT, getTaskDetails(INTER_BROKER_REPLICA_ACTION, ExecutionTaskState.PENDING));
@@ -538,9 +548,14 @@ public final class ExecutorState {
           finishedInterBrokerDataPercent = ((double) finishedInterBrokerDataMovementInMB) / numTotalInterBrokerDataToMove * 100;
         }
 
+        long estimatedRemainingTimeMs = _executionTasksSummary.estimatedRemainingInterBrokerDataMovementTimeMs();
+        String estimatedRemainingTime = estimatedRemainingTimeMs == ExecutionTimeEstimator.UNKNOWN_TIME_MS
+                                        ? "" : String.format(", %s: %d", ESTIMATED_REMAINING_INTER_BROKER_DATA_MOVEMENT_TIME_MS,
+                                                             estimatedRemainingTimeMs);
+
         return String.format("{%s: %s, pending(%d)/in-progress(%d)/aborting(%d)/finished(%d)/total(%d) inter-broker partition movements,"
-                             + " completed(%d)/total(%d) bytes in MBs: %.2f%%, max/min/avg concurrent inter-broker partition movements per-broker:"
-                             + " %d/%d/%.2f, %s: %s, %s: %s%s%s}",
+                             + " completed(%d)/total(%d) bytes in MBs: %.2f%%%s, max/min/avg concurrent inter-broker partition movements"
+                             + " per-broker: %d/%d/%.2f, %s: %s, %s: %s%s%s}",
                              STATE, _state,
                              interBrokerPartitionMovementStats.get(ExecutionTaskState.PENDING),
                              interBrokerPartitionMovementStats.get(ExecutionTaskState.IN_PROGRESS),
@@ -550,6 +565,7 @@ public final class ExecutorState {
                              finishedInterBrokerDataMovementInMB,
                              numTotalInterBrokerDataToMove,
                              finishedInterBrokerDataPercent,
+                             estimatedRemainingTime,
                              _executionConcurrencySummary.getMaxExecutionConcurrency(ConcurrencyType.INTER_BROKER_REPLICA),
                              _executionConcurrencySummary.getMinExecutionConcurrency(ConcurrencyType.INTER_BROKER_REPLICA),
                              _executionConcurrencySummary.getAvgExecutionConcurrency(ConcurrencyType.INTER_BROKER_REPLICA),
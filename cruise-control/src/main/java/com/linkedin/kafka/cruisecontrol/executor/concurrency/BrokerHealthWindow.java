@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor.concurrency;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * A sliding window of the most recent health observations of each broker, where an observation indicates whether the broker
+ * was within the concurrency adjuster limits at the time of the observation. The window is used by the concurrency adjuster to
+ * <ul>
+ *   <li>decrease the concurrency of a broker as soon as its latest observation violates a limit, and</li>
+ *   <li>increase the concurrency of a broker only after it stayed within the limits for the whole window.</li>
+ * </ul>
+ *
+ * This class is not thread-safe.
+ */
+public class BrokerHealthWindow {
+  private final int _windowSize;
+  private final Map<Integer, Deque<Boolean>> _healthObservationsByBroker;
+
+  /**
+   * @param windowSize The number of most recent health observations to keep for each broker.
+   */
+  public BrokerHealthWindow(int windowSize) {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("Broker health window size must be positive (Given: " + windowSize + ").");
+    }
+    _windowSize = windowSize;
+    _healthObservationsByBroker = new HashMap<>();
+  }
+
+  /**
+   * Record the latest health observation of the given broker, evicting its oldest observation if the window is full.
+   *
+   * @param brokerId Broker id.
+   * @param healthy {@code true} if the broker is within the concurrency adjuster limits, {@code false} otherwise.
+   */
+  public void record(int brokerId, boolean healthy) {
+    Deque<Boolean> observations = _healthObservationsByBroker.computeIfAbsent(brokerId, b -> new ArrayDeque<>(_windowSize));
+    if (observations.size() == _windowSize) {
+      observations.removeFirst();
+    }
+    observations.addLast(healthy);
+  }
+
+  /**
+   * @return Brokers with at least one health observation.
+   */
+  public Set<Integer> brokers() {
+    return Collections.unmodifiableSet(_healthObservationsByBroker.keySet());
+  }
+
+  /**
+   * @param brokerId Broker id.
+   * @return {@code true} if the latest observation of the broker violates a concurrency adjuster limit, {@code false} otherwise.
+   */
+  public boolean isUnhealthy(int brokerId) {
+    Deque<Boolean> observations = _healthObservationsByBroker.get(brokerId);
+    return observations != null && !observations.isEmpty() && !observations.peekLast();
+  }
+
+  /**
+   * @param brokerId Broker id.
+   * @return {@code true} if the window of the broker is full and all its observations are within the concurrency adjuster limits,
+   * {@code false} otherwise.
+   */
+  public boolean isHealthyThroughout(int brokerId) {
+    Deque<Boolean> observations = _healthObservationsByBroker.get(brokerId);
+    return observations != null && observations.size() == _windowSize && !observations.contains(false);
+  }
+
+  /**
+   * Clear the health observations of all brokers.
+   */
+  public void clear() {
+    _healthObservationsByBroker.clear();
+  }
+}
@@ -17,8 +17,10 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -75,6 +77,13 @@ public class ClusterModel implements Serializable {
   private final Map<Integer, Load> _potentialLeadershipLoadByBrokerId;
   private int _unknownHostId;
   private final Map<Integer, String> _capacityEstimationInfoByBrokerId;
+  // The inverses of the relocations since the last checkpoint (latest first), or null if there is no checkpoint.
+  private transient Deque<Runnable> _undoLog;
+  // Whether the cluster model has changes since the last checkpoint that are not in the undo log -- e.g. a broker state change.
+  private transient boolean _hasUnloggedChangesSinceCheckpoint;
+  // The state and capacity of disks at the last checkpoint, which are changed via Disk rather than the cluster model.
+  private transient Map<Disk, Disk.State> _diskStateAtCheckpoint;
+  private transient Map<Disk, Double> _diskCapacityAtCheckpoint;
 
   /**
    * Constructor for the cluster class. It creates data structures to hold a list of racks, a map for partitions by
@@ -111,6 +120,10 @@ public class ClusterModel implements Serializable {
     _monitoredPartitionsRatio = monitoredPartitionsRatio;
     _unknownHostId = 0;
     _capacityEstimationInfoByBrokerId = new HashMap<>();
+    _undoLog = null;
+    _hasUnloggedChangesSinceCheckpoint = false;
+    _diskStateAtCheckpoint = null;
+    _diskCapacityAtCheckpoint = null;
   }
 
   /**
@@ -299,6 +312,7 @@ public class ClusterModel implements Serializable {
     if (broker == null) {
       throw new IllegalArgumentException("Broker " + brokerId + " does not exist.");
     }
+    markUnloggedChange();
     // We need to go through rack so all the cached capacity will be updated.
     broker.rack().setBrokerState(brokerId, newState);
     _selfHealingEligibleReplicas.addAll(broker.currentOfflineReplicas());
@@ -361,8 +375,12 @@ public class ClusterModel implements Serializable {
    */
   public void relocateReplica(TopicPartition tp, int brokerId, String destinationLogdir) {
     Replica replicaToMove = _partitionsByTopicPartition.get(tp).replica(brokerId);
+    String sourceLogdir = replicaToMove.disk().logDir();
     // Move replica from the source disk to destination disk on the same broker.
-    replicaToMove.broker().moveReplicaBetweenDisks(tp, replicaToMove.disk().logDir(), destinationLogdir);
+    replicaToMove.broker().moveReplicaBetweenDisks(tp, sourceLogdir, destinationLogdir);
+    if (_undoLog != null) {
+      _undoLog.push(() -> relocateReplica(tp, brokerId, sourceLogdir));
+    }
   }
 
   /**
@@ -393,6 +411,9 @@ public class ClusterModel implements Serializable {
     _load.addLoad(replica.load());
     // Add leadership load to the destination replica.
     _potentialLeadershipLoadByBrokerId.get(destinationBrokerId).addLoad(partition(tp).leader().load());
+    if (_undoLog != null) {
+      _undoLog.push(() -> relocateReplica(tp, destinationBrokerId, sourceBrokerId));
+    }
   }
 
   /**
@@ -435,11 +456,156 @@ public class ClusterModel implements Serializable {
 
     // Update the leader and list of followers of the partition.
     Partition partition = _partitionsByTopicPartition.get(tp);
+    int sourcePos = partition.replicas().indexOf(sourceReplica);
+    int destinationPos = partition.replicas().indexOf(destinationReplica);
     partition.relocateLeadership(destinationReplica);
+    if (_undoLog != null) {
+      _undoLog.push(() -> {
+        relocateLeadership(tp, destinationBrokerId, sourceBrokerId);
+        if (sourcePos != 0) {
+          // The leader was not the first replica (e.g. it was moved to the end of the replica list), hence relocating the
+          // leadership back does not restore the order of the replicas of the partition by itself.
+          partition.swapReplicaPositions(0, sourcePos);
+          partition.swapReplicaPositions(0, destinationPos);
+        }
+      });
+    }
+
+    return true;
+  }
+
+  /**
+   * Move the given replica to the end of the replica list of its partition -- e.g. to demote it in preferred leader election.
+   *
+   * @param tp Topic partition of the replica.
+   * @param brokerId Id of the broker hosting the replica.
+   */
+  public void moveReplicaToEnd(TopicPartition tp, int brokerId) {
+    Partition partition = _partitionsByTopicPartition.get(tp);
+    Replica replica = partition.replica(brokerId);
+    int index = partition.replicas().indexOf(replica);
+    partition.moveReplicaToEnd(replica);
+    if (_undoLog != null) {
+      _undoLog.push(() -> partition.moveReplica(replica, index));
+    }
+  }
+
+  /**
+   * Given two replica indices in the replica list of the given partition, swap their positions.
+   *
+   * @param tp Topic partition whose replicas are swapped.
+   * @param index1 The index of the first replica to be swapped.
+   * @param index2 The index of the second replica to be swapped.
+   */
+  public void swapReplicaPositions(TopicPartition tp, int index1, int index2) {
+    _partitionsByTopicPartition.get(tp).swapReplicaPositions(index1, index2);
+    if (_undoLog != null) {
+      _undoLog.push(() -> swapReplicaPositions(tp, index1, index2));
+    }
+  }
+
+  /**
+   * Given two follower indices in the replica list of the given partition, swap their positions.
+   *
+   * @param tp Topic partition whose followers are swapped.
+   * @param index1 The index of the first follower to be swapped.
+   * @param index2 The index of the second follower to be swapped.
+   */
+  public void swapFollowerPositions(TopicPartition tp, int index1, int index2) {
+    _partitionsByTopicPartition.get(tp).swapFollowerPositions(index1, index2);
+    if (_undoLog != null) {
+      _undoLog.push(() -> swapFollowerPositions(tp, index1, index2));
+    }
+  }
+
+  /**
+   * Take a checkpoint of the replica and leadership placement of the cluster, so that the subsequent replica and leadership
+   * relocations as well as replica reorderings can be rolled back via {@link #rollbackToCheckpoint()} -- e.g. to evaluate
+   * several goals on the same cluster model without recreating it. Any previous checkpoint is discarded.
+   */
+  public void checkpoint() {
+    _undoLog = new ArrayDeque<>();
+    _hasUnloggedChangesSinceCheckpoint = false;
+    _diskStateAtCheckpoint = new HashMap<>();
+    _diskCapacityAtCheckpoint = new HashMap<>();
+    for (Broker broker : brokers()) {
+      for (Disk disk : broker.disks()) {
+        _diskStateAtCheckpoint.put(disk, disk.state());
+        _diskCapacityAtCheckpoint.put(disk, disk.capacity());
+      }
+    }
+  }
 
+  /**
+   * Roll back the replica and leadership relocations as well as replica reorderings since the last checkpoint, in the reverse
+   * order they were made. The checkpoint is kept, hence the cluster model can be rolled back to it again.
+   *
+   * Other changes since the checkpoint -- i.e. broker or disk state changes (e.g. demotion), replica creation or deletion, or
+   * load changes -- cannot be rolled back. In that case, the cluster model is left as is, the checkpoint is discarded, and
+   * the caller is expected to recreate the cluster model.
+   *
+   * @return {@code true} if the cluster model is rolled back to the checkpoint, {@code false} if it has changes since the
+   * checkpoint that cannot be rolled back.
+   */
+  public boolean rollbackToCheckpoint() {
+    if (_undoLog == null) {
+      throw new IllegalStateException("There is no checkpoint to roll back to.");
+    }
+    if (hasUnloggedChangesSinceCheckpoint()) {
+      LOG.debug("Cannot roll back the cluster model to the checkpoint due to changes that are not in the undo log.");
+      discardCheckpoint();
+      return false;
+    }
+    Deque<Runnable> undoLog = _undoLog;
+    // Stop logging while rolling back, so that the inverse relocations are not logged.
+    _undoLog = null;
+    while (!undoLog.isEmpty()) {
+      undoLog.pop().run();
+    }
+    _undoLog = undoLog;
     return true;
   }
 
+  /**
+   * Discard the last checkpoint, and stop logging the relocations.
+   */
+  public void discardCheckpoint() {
+    _undoLog = null;
+    _hasUnloggedChangesSinceCheckpoint = false;
+    _diskStateAtCheckpoint = null;
+    _diskCapacityAtCheckpoint = null;
+  }
+
+  /**
+   * @return Number of replica and leadership relocations and replica reorderings since the last checkpoint, or 0 if there is
+   * no checkpoint.
+   */
+  public int numRelocationsSinceCheckpoint() {
+    return _undoLog == null ? 0 : _undoLog.size();
+  }
+
+  private void markUnloggedChange() {
+    if (_undoLog != null) {
+      _hasUnloggedChangesSinceCheckpoint = true;
+    }
+  }
+
+  private boolean hasUnloggedChangesSinceCheckpoint() {
+    if (_hasUnloggedChangesSinceCheckpoint) {
+      return true;
+    }
+    // Disk states and capacities are changed via Disk directly, hence they are compared with the checkpoint.
+    for (Broker broker : brokers()) {
+      for (Disk disk : broker.disks()) {
+        if (_diskStateAtCheckpoint.get(disk) != disk.state()
+            || !Double.valueOf(disk.capacity()).equals(_diskCapacityAtCheckpoint.get(disk))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   /**
    * @return The alive brokers in the cluster.
    */
@@ -531,6 +697,7 @@ public class ClusterModel implements Serializable {
    * the old topology.
    */
   public void clearLoad() {
+    markUnloggedChange();
     _racksById.values().forEach(Rack::clearLoad);
     _load.clearLoad();
   }
@@ -635,6 +802,7 @@ public class ClusterModel implements Serializable {
    * Clear the content and structure of the cluster.
    */
   public void clear() {
+    markUnloggedChange();
     _racksById.clear();
     _partitionsByTopicPartition.clear();
     _load.clearLoad();
@@ -746,6 +914,7 @@ public class ClusterModel implements Serializable {
                                                     tp, brokerId, rackId));
     }
 
+    markUnloggedChange();
     Rack rack = rack(rackId);
     rack.setReplicaLoad(brokerId, tp, metricValues, windows);
 
@@ -770,6 +939,7 @@ public class ClusterModel implements Serializable {
    * @param brokerCapacityInfo The capacity information to use if the broker does not exist.
    */
   public void handleDeadBroker(String rackId, int brokerId, BrokerCapacityInfo brokerCapacityInfo) {
+    markUnloggedChange();
     if (rack(rackId) == null) {
       createRack(rackId);
     }
@@ -827,6 +997,7 @@ public class ClusterModel implements Serializable {
                                boolean isOffline,
                                String logdir,
                                boolean isFuture) {
+    markUnloggedChange();
     Replica replica;
     Broker broker = broker(brokerId);
     if (!isFuture) {
@@ -895,6 +1066,7 @@ public class ClusterModel implements Serializable {
       throw new IllegalStateException(String.format("Unable to delete replica for topic partition %s since it only has %d replicas.",
                                                     topicPartition, currentReplicaCount));
     }
+    markUnloggedChange();
     removeReplica(brokerId, topicPartition);
     // Update partition info.
     Partition partition = _partitionsByTopicPartition.get(topicPartition);
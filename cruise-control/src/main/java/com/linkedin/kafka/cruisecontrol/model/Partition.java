@@ -196,6 +196,18 @@ public class Partition implements Serializable {
     _replicas.add(replica);
   }
 
+  /**
+   * Move a replica to the given index of the replica list.
+   * @param replica the replica to move.
+   * @param index the index to move the replica to.
+   */
+  void moveReplica(Replica replica, int index) {
+    if (!_replicas.remove(replica)) {
+      throw new IllegalStateException(String.format("Did not find replica %s for partition %s.", replica, _tp));
+    }
+    _replicas.add(index, replica);
+  }
+
   /**
    * @return The set of brokers that contain replicas of the partition.
    */
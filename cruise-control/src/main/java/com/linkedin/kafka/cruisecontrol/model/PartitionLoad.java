@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.model;
+
+import com.linkedin.kafka.cruisecontrol.common.Resource;
+import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.kafka.common.TopicPartition;
+
+
+/**
+ * A snapshot of the placement and the leader load of a partition for a load type (i.e. max, average, or latest load). Unlike
+ * {@link Partition}, the snapshot does not refer to the cluster model, and can be kept after the cluster model is discarded.
+ */
+public final class PartitionLoad {
+  private final TopicPartition _topicPartition;
+  private final int _leader;
+  private final List<Integer> _followers;
+  private final double[] _utilizationByResource;
+  private final double _messageInRate;
+
+  /**
+   * @param partition The partition to take the snapshot of.
+   * @param wantMaxLoad {@code true} to take the max load, {@code false} otherwise.
+   * @param wantAvgLoad {@code true} to take the average load, {@code false} otherwise (i.e. latest load if both are false).
+   */
+  public PartitionLoad(Partition partition, boolean wantMaxLoad, boolean wantAvgLoad) {
+    _topicPartition = partition.topicPartition();
+    _leader = partition.leader().broker().id();
+    List<Integer> followers = new ArrayList<>(partition.replicas().size() - 1);
+    for (Replica follower : partition.followers()) {
+      followers.add(follower.broker().id());
+    }
+    _followers = Collections.unmodifiableList(followers);
+    Load leaderLoad = partition.leader().load();
+    _utilizationByResource = new double[Resource.cachedValues().size()];
+    for (Resource resource : Resource.cachedValues()) {
+      _utilizationByResource[resource.id()] = leaderLoad.expectedUtilizationFor(resource, wantMaxLoad, wantAvgLoad);
+    }
+    _messageInRate = leaderLoad.expectedUtilizationFor(KafkaMetricDef.MESSAGE_IN_RATE, wantMaxLoad, wantAvgLoad);
+  }
+
+  /**
+   * @return The topic partition.
+   */
+  public TopicPartition topicPartition() {
+    return _topicPartition;
+  }
+
+  /**
+   * @return The id of the broker hosting the leader replica.
+   */
+  public int leader() {
+    return _leader;
+  }
+
+  /**
+   * @return The ids of the brokers hosting the follower replicas.
+   */
+  public List<Integer> followers() {
+    return _followers;
+  }
+
+  /**
+   * @param brokerId The id of the broker to check.
+   * @return {@code true} if the given broker hosts a replica of the partition, {@code false} otherwise.
+   */
+  public boolean hasReplicaOn(int brokerId) {
+    return _leader == brokerId || _followers.contains(brokerId);
+  }
+
+  /**
+   * @param resource The resource to get the utilization of.
+   * @return The expected utilization of the given resource by the leader replica.
+   */
+  public double utilizationFor(Resource resource) {
+    return _utilizationByResource[resource.id()];
+  }
+
+  /**
+   * @return The expected message in rate of the leader replica.
+   */
+  public double messageInRate() {
+    return _messageInRate;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("{%s, leader: %d, followers: %s}", _topicPartition, _leader, _followers);
+  }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.model;
+
+import com.linkedin.kafka.cruisecontrol.common.Resource;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+
+/**
+ * An index of the partitions in a cluster model, sorted by the expected utilization of their leader replica for each indexed
+ * resource. The index is built once per cluster model for a load type (i.e. max, average, or latest load), and keeps secondary indexes
+ * from each topic and broker to the ranks of the relevant partitions. Hence, a query for the top-K partitions of a topic or a
+ * broker merges the relevant rank lists and stops after K matches, instead of copying and sorting all partitions. The index
+ * keeps only a {@link PartitionLoad} snapshot of each partition, hence it does not keep the cluster model alive.
+ *
+ * The index is immutable after construction, and is safe to query concurrently.
+ */
+public class PartitionLoadIndex {
+  private static final int DEFAULT_TOPIC_NAME_LENGTH = 20;
+  private final ModelGeneration _generation;
+  private final boolean _wantMaxLoad;
+  private final boolean _wantAvgLoad;
+  private final int _maxTopicNameLength;
+  // Partitions sorted in descending order of the utilization of each resource.
+  private final Map<Resource, PartitionLoad[]> _sortedPartitionsByResource;
+  // Ascending ranks of the partitions of each topic / broker in the sorted partitions of each resource.
+  private final Map<Resource, Map<String, int[]>> _ranksByTopicByResource;
+  private final Map<Resource, Map<Integer, int[]>> _ranksByBrokerByResource;
+
+  /**
+   * Index the partitions for all resources.
+   *
+   * @param clusterModel The cluster model to index.
+   * @param wantMaxLoad {@code true} to index the max load, {@code false} otherwise.
+   * @param wantAvgLoad {@code true} to index the average load, {@code false} otherwise (i.e. latest load if both are false).
+   */
+  public PartitionLoadIndex(ClusterModel clusterModel, boolean wantMaxLoad, boolean wantAvgLoad) {
+    this(clusterModel, wantMaxLoad, wantAvgLoad, EnumSet.allOf(Resource.class));
+  }
+
+  /**
+   * @param clusterModel The cluster model to index.
+   * @param wantMaxLoad {@code true} to index the max load, {@code false} otherwise.
+   * @param wantAvgLoad {@code true} to index the average load, {@code false} otherwise (i.e. latest load if both are false).
+   * @param resources Resources to index the partitions for -- e.g. only the requested resource for an index that is not cached.
+   */
+  public PartitionLoadIndex(ClusterModel clusterModel, boolean wantMaxLoad, boolean wantAvgLoad, Set<Resource> resources) {
+    _generation = clusterModel.generation();
+    _wantMaxLoad = wantMaxLoad;
+    _wantAvgLoad = wantAvgLoad;
+    _maxTopicNameLength = clusterModel.topics().stream().mapToInt(String::length).max().orElse(DEFAULT_TOPIC_NAME_LENGTH);
+    List<PartitionLoad> partitions = new ArrayList<>();
+    for (List<Partition> partitionsOfTopic : clusterModel.getPartitionsByTopic().values()) {
+      for (Partition partition : partitionsOfTopic) {
+        partitions.add(new PartitionLoad(partition, wantMaxLoad, wantAvgLoad));
+      }
+    }
+
+    _sortedPartitionsByResource = new EnumMap<>(Resource.class);
+    _ranksByTopicByResource = new EnumMap<>(Resource.class);
+    _ranksByBrokerByResource = new EnumMap<>(Resource.class);
+    for (Resource resource : resources) {
+      PartitionLoad[] sortedPartitions = sortByUtilization(partitions, resource);
+      Map<String, List<Integer>> ranksByTopic = new HashMap<>();
+      Map<Integer, List<Integer>> ranksByBroker = new HashMap<>();
+      for (int rank = 0; rank < sortedPartitions.length; rank++) {
+        PartitionLoad partition = sortedPartitions[rank];
+        ranksByTopic.computeIfAbsent(partition.topicPartition().topic(), t -> new ArrayList<>()).add(rank);
+        ranksByBroker.computeIfAbsent(partition.leader(), b -> new ArrayList<>()).add(rank);
+        for (int follower : partition.followers()) {
+          ranksByBroker.computeIfAbsent(follower, b -> new ArrayList<>()).add(rank);
+        }
+      }
+      _sortedPartitionsByResource.put(resource, sortedPartitions);
+      _ranksByTopicByResource.put(resource, toRankArrays(ranksByTopic));
+      _ranksByBrokerByResource.put(resource, toRankArrays(ranksByBroker));
+    }
+  }
+
+  /**
+   * Sort the partitions in descending order of their utilization of the given resource. Partitions with the same utilization keep
+   * their relative order. The utilization of each partition is read once, and the partition indices are sorted as primitives.
+   */
+  private static PartitionLoad[] sortByUtilization(List<PartitionLoad> partitions, Resource resource) {
+    int numPartitions = partitions.size();
+    double[] utilization = new double[numPartitions];
+    int[] order = new int[numPartitions];
+    for (int i = 0; i < numPartitions; i++) {
+      utilization[i] = partitions.get(i).utilizationFor(resource);
+      order[i] = i;
+    }
+    sortDescending(order, new int[numPartitions], 0, numPartitions, utilization);
+    PartitionLoad[] sortedPartitions = new PartitionLoad[numPartitions];
+    for (int rank = 0; rank < numPartitions; rank++) {
+      sortedPartitions[rank] = partitions.get(order[rank]);
+    }
+    return sortedPartitions;
+  }
+
+  /**
+   * Stable merge sort of the indices in the range [from, to) of the given order in descending order of their utilization.
+   */
+  private static void sortDescending(int[] order, int[] buffer, int from, int to, double[] utilization) {
+    if (to - from < 2) {
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    sortDescending(order, buffer, from, mid, utilization);
+    sortDescending(order, buffer, mid, to, utilization);
+    if (Double.compare(utilization[order[mid - 1]], utilization[order[mid]]) >= 0) {
+      // The two halves are already in order.
+      return;
+    }
+    System.arraycopy(order, from, buffer, from, to - from);
+    int left = from;
+    int right = mid;
+    for (int i = from; i < to; i++) {
+      if (right == to || (left < mid && Double.compare(utilization[buffer[left]], utilization[buffer[right]]) >= 0)) {
+        order[i] = buffer[left++];
+      } else {
+        order[i] = buffer[right++];
+      }
+    }
+  }
+
+  private static <K> Map<K, int[]> toRankArrays(Map<K, List<Integer>> ranksByKey) {
+    Map<K, int[]> rankArraysByKey = new HashMap<>(ranksByKey.size());
+    ranksByKey.forEach((key, ranks) -> rankArraysByKey.put(key, ranks.stream().mapToInt(Integer::intValue).toArray()));
+    return rankArraysByKey;
+  }
+
+  /**
+   * @return The generation of the indexed cluster model.
+   */
+  public ModelGeneration generation() {
+    return _generation;
+  }
+
+  /**
+   * @return {@code true} if the index is built for the max load, {@code false} otherwise.
+   */
+  public boolean wantMaxLoad() {
+    return _wantMaxLoad;
+  }
+
+  /**
+   * @return {@code true} if the index is built for the average load, {@code false} otherwise.
+   */
+  public boolean wantAvgLoad() {
+    return _wantAvgLoad;
+  }
+
+  /**
+   * @return The length of the longest topic name in the indexed cluster model.
+   */
+  public int maxTopicNameLength() {
+    return _maxTopicNameLength;
+  }
+
+  /**
+   * Get up to the given number of partitions with the highest utilization of the given resource, which match the given filters.
+   * If both broker and topic filters are given, the smaller of the two secondary indexes is merged and the other filter is applied
+   * to the merged partitions.
+   *
+   * @param resource Resource to sort the partitions by.
+   * @param entries The maximum number of partitions to return.
+   * @param brokerIds Brokers, one of which should host a replica of the partition, or empty to skip filtering by broker.
+   * @param topic Regex of the topic of the partition, or {@code null} to skip filtering by topic.
+   * @param partitionLowerBoundary The lower boundary of the partition id.
+   * @param partitionUpperBoundary The upper boundary of the partition id.
+   * @return Partitions that match the given filters, in descending order of utilization of the given resource.
+   * @throws IllegalArgumentException If the partitions are not indexed for the given resource.
+   */
+  public List<PartitionLoad> topPartitions(Resource resource,
+                                           int entries,
+                                           Set<Integer> brokerIds,
+                                           Pattern topic,
+                                           int partitionLowerBoundary,
+                                           int partitionUpperBoundary) {
+    PartitionLoad[] sortedPartitions = _sortedPartitionsByResource.get(resource);
+    if (sortedPartitions == null) {
+      throw new IllegalArgumentException(String.format("Partitions are not indexed for resource %s.", resource));
+    }
+    Predicate<PartitionLoad> filter = p -> p.topicPartition().partition() >= partitionLowerBoundary
+                                           && p.topicPartition().partition() <= partitionUpperBoundary;
+
+    List<int[]> brokerRanks = null;
+    if (!brokerIds.isEmpty()) {
+      brokerRanks = new ArrayList<>(brokerIds.size());
+      for (int brokerId : brokerIds) {
+        int[] ranks = _ranksByBrokerByResource.get(resource).get(brokerId);
+        if (ranks != null) {
+          brokerRanks.add(ranks);
+        }
+      }
+    }
+    List<int[]> topicRanks = null;
+    if (topic != null) {
+      topicRanks = new ArrayList<>();
+      for (Map.Entry<String, int[]> entry : _ranksByTopicByResource.get(resource).entrySet()) {
+        if (topic.matcher(entry.getKey()).matches()) {
+          topicRanks.add(entry.getValue());
+        }
+      }
+    }
+
+    List<int[]> ranksToMerge;
+    if (brokerRanks != null && (topicRanks == null || numRanks(brokerRanks) <= numRanks(topicRanks))) {
+      ranksToMerge = brokerRanks;
+      if (topic != null) {
+        filter = filter.and(p -> topic.matcher(p.topicPartition().topic()).matches());
+      }
+    } else {
+      ranksToMerge = topicRanks;
+      if (brokerRanks != null) {
+        filter = filter.and(p -> brokerIds.stream().anyMatch(p::hasReplicaOn));
+      }
+    }
+
+    List<PartitionLoad> topPartitions = new ArrayList<>(Math.min(entries, sortedPartitions.length));
+    if (ranksToMerge == null) {
+      for (int rank = 0; rank < sortedPartitions.length && topPartitions.size() < entries; rank++) {
+        if (filter.test(sortedPartitions[rank])) {
+          topPartitions.add(sortedPartitions[rank]);
+        }
+      }
+      return topPartitions;
+    }
+
+    // K-way merge of the ascending rank lists. Each cursor is {list index, position in the list}.
+    PriorityQueue<int[]> cursors = new PriorityQueue<>(Math.max(1, ranksToMerge.size()),
+                                                       Comparator.comparingInt(cursor -> ranksToMerge.get(cursor[0])[cursor[1]]));
+    for (int i = 0; i < ranksToMerge.size(); i++) {
+      if (ranksToMerge.get(i).length > 0) {
+        cursors.add(new int[]{i, 0});
+      }
+    }
+    int lastRank = -1;
+    while (!cursors.isEmpty() && topPartitions.size() < entries) {
+      int[] cursor = cursors.poll();
+      int[] ranks = ranksToMerge.get(cursor[0]);
+      int rank = ranks[cursor[1]];
+      // A partition appears in the rank lists of each of its brokers, but the merge visits its duplicates consecutively.
+      if (rank != lastRank && filter.test(sortedPartitions[rank])) {
+        topPartitions.add(sortedPartitions[rank]);
+      }
+      lastRank = rank;
+      if (++cursor[1] < ranks.length) {
+        cursors.add(cursor);
+      }
+    }
+    return topPartitions;
+  }
+
+  private static int numRanks(List<int[]> ranks) {
+    return ranks.stream().mapToInt(r -> r.length).sum();
+  }
+}
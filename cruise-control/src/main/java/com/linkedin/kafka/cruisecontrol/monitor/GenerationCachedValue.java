@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.monitor;
+
+import java.util.function.Supplier;
+
+
+/**
+ * A value that is computed at most once per {@link ModelGeneration} -- i.e. it is recomputed only after the cluster metadata
+ * or the monitored load changes. Concurrent callers may compute the value for the same generation more than once, but never
+ * observe a value of a different generation.
+ *
+ * @param <V> The type of the cached value.
+ */
+public class GenerationCachedValue<V> {
+  private volatile Entry<V> _entry;
+
+  /**
+   * Get the value of the given generation, computing it with the given supplier if the cached value is of another generation.
+   *
+   * @param generation The model generation of the requested value.
+   * @param supplier Supplier to compute the value of the given generation.
+   * @return The value of the given generation.
+   */
+  public V get(ModelGeneration generation, Supplier<V> supplier) {
+    Entry<V> entry = _entry;
+    if (entry != null && entry._generation.equals(generation)) {
+      return entry._value;
+    }
+    V value = supplier.get();
+    _entry = new Entry<>(generation, value);
+    return value;
+  }
+
+  /**
+   * @return The generation of the cached value, or {@code null} if there is no cached value.
+   */
+  public ModelGeneration generation() {
+    Entry<V> entry = _entry;
+    return entry == null ? null : entry._generation;
+  }
+
+  private static final class Entry<V> {
+    private final ModelGeneration _generation;
+    private final V _value;
+
+    Entry(ModelGeneration generation, V value) {
+      _generation = generation;
+      _value = value;
+    }
+  }
+}
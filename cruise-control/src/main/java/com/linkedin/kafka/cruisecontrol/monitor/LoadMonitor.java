@@ -13,6 +13,7 @@ import com.linkedin.cruisecontrol.monitor.sampling.aggregator.AggregatedMetricVa
 import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapolations;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils;
 import com.linkedin.kafka.cruisecontrol.analyzer.AnalyzerUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.BalancingConstraint;
 import com.linkedin.kafka.cruisecontrol.common.KafkaCruiseControlThreadFactory;
 import com.linkedin.kafka.cruisecontrol.common.MetadataClient;
 import com.linkedin.kafka.cruisecontrol.config.BrokerCapacityConfigResolver;
@@ -26,6 +27,7 @@ import com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
 import com.linkedin.kafka.cruisecontrol.exception.BrokerCapacityResolutionException;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.model.PartitionLoadIndex;
 import com.linkedin.kafka.cruisecontrol.monitor.sampling.MetricSampler;
 import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerEntity;
 import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.PartitionEntity;
@@ -49,6 +51,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import org.apache.kafka.clients.Metadata;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.common.Cluster;
@@ -97,6 +100,8 @@ public class LoadMonitor {
   private final BrokerCapacityConfigResolver _brokerCapacityConfigResolver;
   private final TopicConfigProvider _topicConfigProvider;
   private final ScheduledExecutorService _loadMonitorExecutor;
+  private final ScheduledExecutorService _loadStatsPrecomputingExecutor;
+  private final BalancingConstraint _balancingConstraint;
   private final Timer _clusterModelCreationTimer;
   private final ThreadLocal<Boolean> _acquiredClusterModelSemaphore;
   private final ModelCompletenessRequirements _defaultModelCompletenessRequirements;
@@ -110,8 +115,14 @@ public class LoadMonitor {
   private volatile long _latestStateUpdateMs;
   private volatile int _totalNumPartitions;
 
-  private volatile ModelGeneration _cachedBrokerLoadGeneration;
-  private volatile BrokerStats _cachedBrokerLoadStats;
+  // The load stats of the latest model generation, computed with the default requirements of the load endpoint.
+  private volatile LoadStats _cachedLoadStats;
+  private final ModelCompletenessRequirements _loadStatsRequirements;
+  private PartitionLoadIndex _cachedPartitionLoadIndex;
+  private double _cachedPartitionLoadIndexMinValidPartitionRatio;
+  private boolean _cachedPartitionLoadIndexAllowCapacityEstimation;
+  // Window to valid partition ratio of the latest model generation for which the state was requested.
+  private final GenerationCachedValue<SortedMap<Long, Float>> _cachedValidPartitionRatioByWindows = new GenerationCachedValue<>();
 
   /**
    * Construct a load monitor.
@@ -181,6 +192,18 @@ public class LoadMonitor {
     _loadMonitorExecutor.scheduleAtFixedRate(new SensorUpdater(), 0, monitorStateUpdateIntervalMs, TimeUnit.MILLISECONDS);
     _loadMonitorExecutor.scheduleAtFixedRate(new PartitionMetricSampleAggregatorCleaner(), 0,
                                              PartitionMetricSampleAggregatorCleaner.CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    _balancingConstraint = new BalancingConstraint(config);
+    // Use the same requirements as the load endpoint with default parameters.
+    _loadStatsRequirements = new ModelCompletenessRequirements(1, config.getDouble(MonitorConfig.MIN_VALID_PARTITION_RATIO_CONFIG), true);
+    if (config.getBoolean(MonitorConfig.LOAD_STATS_PRECOMPUTE_ENABLED_CONFIG)) {
+      // A separate thread is used, so that the cluster model creation does not delay the other load monitor tasks.
+      _loadStatsPrecomputingExecutor =
+          Executors.newSingleThreadScheduledExecutor(new KafkaCruiseControlThreadFactory("LoadStatsPrecomputingExecutor", true, LOG));
+      _loadStatsPrecomputingExecutor.scheduleWithFixedDelay(new LoadStatsPrecomputer(config), monitorStateUpdateIntervalMs,
+                                                            monitorStateUpdateIntervalMs, TimeUnit.MILLISECONDS);
+    } else {
+      _loadStatsPrecomputingExecutor = null;
+    }
     dropwizardMetricRegistry.register(MetricRegistry.name(LOAD_MONITOR_SENSOR, "valid-windows"),
                                       (Gauge<Integer>) this::numValidSnapshotWindows);
     dropwizardMetricRegistry.register(MetricRegistry.name(LOAD_MONITOR_SENSOR, "monitored-partitions-percentage"),
@@ -221,6 +244,9 @@ public class LoadMonitor {
       _brokerCapacityConfigResolver.close();
       _topicConfigProvider.close();
       _loadMonitorExecutor.shutdown();
+      if (_loadStatsPrecomputingExecutor != null) {
+        _loadStatsPrecomputingExecutor.shutdownNow();
+      }
     } catch (Exception e) {
       LOG.warn("Received exception when closing broker capacity resolver.", e);
     }
@@ -235,10 +261,26 @@ public class LoadMonitor {
    * @return The state of the load monitor.
    */
   public LoadMonitorState state(Cluster cluster) {
-    LoadMonitorTaskRunner.LoadMonitorTaskRunnerState state = _loadMonitorTaskRunner.state();
-
     // Get the window to monitored partitions percentage mapping.
-    SortedMap<Long, Float> validPartitionRatio = _partitionMetricSampleAggregator.validPartitionRatioByWindows(cluster);
+    return state(_partitionMetricSampleAggregator.validPartitionRatioByWindows(cluster));
+  }
+
+  /**
+   * Get the state of the load monitor. The window to valid partition ratio mapping, which requires checking the completeness of
+   * all partitions, is computed at most once per model generation.
+   *
+   * @param clusterAndGeneration Kafka cluster and its generation.
+   * @return The state of the load monitor.
+   */
+  public LoadMonitorState state(MetadataClient.ClusterAndGeneration clusterAndGeneration) {
+    SortedMap<Long, Float> validPartitionRatio = _cachedValidPartitionRatioByWindows.get(
+        clusterModelGeneration(clusterAndGeneration),
+        () -> Collections.unmodifiableSortedMap(_partitionMetricSampleAggregator.validPartitionRatioByWindows(clusterAndGeneration.cluster())));
+    return state(validPartitionRatio);
+  }
+
+  private LoadMonitorState state(SortedMap<Long, Float> validPartitionRatio) {
+    LoadMonitorTaskRunner.LoadMonitorTaskRunnerState state = _loadMonitorTaskRunner.state();
 
     switch (state) {
       case NOT_STARTED:
@@ -422,6 +464,24 @@ public class LoadMonitor {
     return _partitionMetricSampleAggregator.peekCurrentWindow();
   }
 
+  /**
+   * Scan the values of a partition metric in the current metric window and the given number of the most recent completed
+   * windows, without allocating a result per partition. The values of each partition are given to the consumer in a dense
+   * array that the consumer must not retain, with the value of the current window first. Values are not extrapolated -- i.e.
+   * the value of a window without sufficient samples is {@link Float#NaN}.
+   *
+   * @param metricId The id of the partition metric to scan.
+   * @param numCompletedWindows The number of the most recent completed windows to scan.
+   * @param parallelismThreshold The estimated number of partitions needed to scan them in parallel.
+   * @param consumer The thread-safe consumer of each partition and its values.
+   */
+  public void scanPartitionMetricValues(short metricId,
+                                        int numCompletedWindows,
+                                        long parallelismThreshold,
+                                        BiConsumer<PartitionEntity, float[]> consumer) {
+    _partitionMetricSampleAggregator.scanMetricValues(metricId, numCompletedWindows, parallelismThreshold, consumer);
+  }
+
   /**
    * Get the most recent cluster load model before the given timestamp.
    *
@@ -440,16 +500,23 @@ public class LoadMonitor {
                                    OperationProgress operationProgress)
       throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
     ClusterModel clusterModel = clusterModel(DEFAULT_START_TIME_FOR_CLUSTER_MODEL, nowMs, requirements, allowCapacityEstimation, operationProgress);
-    // Micro optimization: put the broker stats construction out of the lock.
-    BrokerStats brokerStats = clusterModel.brokerStats(_config);
-    // update the cached brokerLoadStats
-    synchronized (this) {
-      _cachedBrokerLoadStats = brokerStats;
-      _cachedBrokerLoadGeneration = clusterModel.generation();
+    // Unless the load stats are precomputed, they are computed lazily from the first cluster model of each generation that is
+    // built with the default requirements of the load endpoint.
+    if (_loadStatsPrecomputingExecutor == null && _loadStatsRequirements.equals(requirements)) {
+      LoadStats loadStats = _cachedLoadStats;
+      if (loadStats == null || !loadStats.generation().equals(clusterModel.generation())) {
+        publishLoadStats(clusterModel);
+      }
     }
     return clusterModel;
   }
 
+  private void publishLoadStats(ClusterModel clusterModel) {
+    // Publish the broker stats and the cluster model stats together, so that readers never observe stats of different generations.
+    _cachedLoadStats = new LoadStats(clusterModel.generation(), clusterModel.brokerStats(_config),
+                                     clusterModel.getClusterStats(_balancingConstraint));
+  }
+
   /**
    * Get the cluster load model for a time range.
    *
@@ -606,8 +673,15 @@ public class LoadMonitor {
    * expensive.
    */
   public ModelGeneration clusterModelGeneration() {
-    int clusterGeneration = refreshClusterAndGeneration().generation();
-    return new ModelGeneration(clusterGeneration, _partitionMetricSampleAggregator.generation());
+    return clusterModelGeneration(refreshClusterAndGeneration());
+  }
+
+  /**
+   * @param clusterAndGeneration Kafka cluster and its generation.
+   * @return The cluster model generation of the given cluster with the current monitored load.
+   */
+  public ModelGeneration clusterModelGeneration(MetadataClient.ClusterAndGeneration clusterAndGeneration) {
+    return new ModelGeneration(clusterAndGeneration.generation(), _partitionMetricSampleAggregator.generation());
   }
 
   /**
@@ -615,16 +689,74 @@ public class LoadMonitor {
    * @param allowCapacityEstimation {@code true} to allow capacity estimation, {@code false} otherwise.
    * @return The cached load, or null if (1) load or metadata is stale or (2) cached load violates capacity requirements.
    */
-  public synchronized BrokerStats cachedBrokerLoadStats(boolean allowCapacityEstimation) {
-    if (_cachedBrokerLoadGeneration != null
-        && (allowCapacityEstimation || !_cachedBrokerLoadStats.isBrokerStatsEstimated())
-        && _partitionMetricSampleAggregator.generation() == _cachedBrokerLoadGeneration.loadGeneration()
-        && refreshClusterAndGeneration().generation() == _cachedBrokerLoadGeneration.clusterGeneration()) {
-      return _cachedBrokerLoadStats;
+  public BrokerStats cachedBrokerLoadStats(boolean allowCapacityEstimation) {
+    LoadStats loadStats = cachedLoadStats();
+    return loadStats != null && (allowCapacityEstimation || !loadStats.brokerStats().isBrokerStatsEstimated())
+           ? loadStats.brokerStats() : null;
+  }
+
+  /**
+   * Get the cached load stats -- i.e. the broker stats and the cluster model stats of the latest model generation with the default
+   * requirements of the load endpoint. The load stats are precomputed in the background whenever the model generation changes
+   * (see {@link MonitorConfig#LOAD_STATS_PRECOMPUTE_ENABLED_CONFIG}), hence callers do not need to wait for a cluster model
+   * creation. If the precomputation is disabled, the load stats are computed upon the first cluster model creation with the
+   * default requirements of the load endpoint in each model generation.
+   *
+   * @return The cached load stats, or null if load or metadata is stale.
+   */
+  public LoadStats cachedLoadStats() {
+    LoadStats loadStats = _cachedLoadStats;
+    if (loadStats != null
+        && _partitionMetricSampleAggregator.generation() == loadStats.generation().loadGeneration()
+        && refreshClusterAndGeneration().generation() == loadStats.generation().clusterGeneration()) {
+      return loadStats;
     }
     return null;
   }
 
+  /**
+   * Get the cached partition load index. Only indexes of the cluster models that span from the earliest to the latest available
+   * window are cached, hence the cached index is valid as long as neither the metadata nor the load has changed since it was built.
+   *
+   * @param wantMaxLoad {@code true} to get the index of the max load, {@code false} otherwise.
+   * @param wantAvgLoad {@code true} to get the index of the average load, {@code false} otherwise.
+   * @param minValidPartitionRatio The minimum valid partition ratio used to build the cluster model of the index.
+   * @param allowCapacityEstimation {@code true} to allow capacity estimation, {@code false} otherwise.
+   * @return The cached partition load index, or null if (1) load or metadata is stale or (2) the cached index was built
+   * with different options.
+   */
+  public synchronized PartitionLoadIndex cachedPartitionLoadIndex(boolean wantMaxLoad,
+                                                                  boolean wantAvgLoad,
+                                                                  double minValidPartitionRatio,
+                                                                  boolean allowCapacityEstimation) {
+    if (_cachedPartitionLoadIndex != null
+        && _cachedPartitionLoadIndex.wantMaxLoad() == wantMaxLoad
+        && _cachedPartitionLoadIndex.wantAvgLoad() == wantAvgLoad
+        && _cachedPartitionLoadIndexMinValidPartitionRatio == minValidPartitionRatio
+        && _cachedPartitionLoadIndexAllowCapacityEstimation == allowCapacityEstimation
+        && _partitionMetricSampleAggregator.generation() == _cachedPartitionLoadIndex.generation().loadGeneration()
+        && refreshClusterAndGeneration().generation() == _cachedPartitionLoadIndex.generation().clusterGeneration()) {
+      return _cachedPartitionLoadIndex;
+    }
+    return null;
+  }
+
+  /**
+   * Cache the given partition load index, replacing the previously cached one. The index must be built from a cluster model
+   * that spans from the earliest to the latest available window.
+   *
+   * @param partitionLoadIndex The partition load index to cache.
+   * @param minValidPartitionRatio The minimum valid partition ratio used to build the cluster model of the index.
+   * @param allowCapacityEstimation {@code true} if capacity estimation was allowed, {@code false} otherwise.
+   */
+  public synchronized void cachePartitionLoadIndex(PartitionLoadIndex partitionLoadIndex,
+                                                   double minValidPartitionRatio,
+                                                   boolean allowCapacityEstimation) {
+    _cachedPartitionLoadIndex = partitionLoadIndex;
+    _cachedPartitionLoadIndexMinValidPartitionRatio = minValidPartitionRatio;
+    _cachedPartitionLoadIndexAllowCapacityEstimation = allowCapacityEstimation;
+  }
+
   /**
    * Get all the active brokers in the cluster based on the replica assignment. If a metadata refresh failed due to
    * timeout, the current metadata information will be used. This is to handle the case that all the brokers are down.
@@ -645,18 +777,37 @@ public class LoadMonitor {
     return _metadataClient.refreshMetadata();
   }
 
+  /**
+   * Refresh the cluster metadata and get the corresponding cluster and generation information. If a metadata refresh failed
+   * due to timeout, the current metadata information will be used.
+   *
+   * @param timeoutMs Timeout in milliseconds.
+   * @return Cluster and generation information after refreshing the cluster metadata.
+   */
+  public MetadataClient.ClusterAndGeneration refreshClusterAndGeneration(long timeoutMs) {
+    return _metadataClient.refreshMetadata(timeoutMs);
+  }
+
   /**
    * @param cluster Kafka cluster.
    * @param requirements Model completeness requirements.
    * @return {@code true} if the monitored load meets the given completeness requirements, {@code false} otherwise.
    */
   public boolean meetCompletenessRequirements(Cluster cluster, ModelCompletenessRequirements requirements) {
-    int numValidWindows =
-        _partitionMetricSampleAggregator.validWindows(cluster, requirements.minMonitoredPartitionsPercentage()).size();
+    int numValidWindows = numValidWindows(cluster, requirements.minMonitoredPartitionsPercentage());
     int requiredNumValidWindows = requirements.minRequiredNumWindows();
     return numValidWindows >= requiredNumValidWindows;
   }
 
+  /**
+   * @param cluster Kafka cluster.
+   * @param minMonitoredPartitionsPercentage The minimum required percentage of monitored partitions in a valid window.
+   * @return The number of valid windows in which at least the given percentage of partitions in the cluster are monitored.
+   */
+  public int numValidWindows(Cluster cluster, double minMonitoredPartitionsPercentage) {
+    return _partitionMetricSampleAggregator.validWindows(cluster, minMonitoredPartitionsPercentage).size();
+  }
+
   /**
    * @param requirements Model completeness requirements.
    * @return {@code true} if the monitored load meets the load requirements, {@code false} otherwise.
@@ -801,6 +952,39 @@ public class LoadMonitor {
     }
   }
 
+  /**
+   * Background task to precompute the load stats whenever the model generation changes, so that requests for the load (e.g. the
+   * load endpoint) are served from the cached load stats rather than waiting for a cluster model creation.
+   */
+  private class LoadStatsPrecomputer implements Runnable {
+    private final boolean _allowCapacityEstimation;
+
+    LoadStatsPrecomputer(KafkaCruiseControlConfig config) {
+      _allowCapacityEstimation = config.getBoolean(AnalyzerConfig.ALLOW_CAPACITY_ESTIMATION_ON_PROPOSAL_PRECOMPUTE_CONFIG);
+    }
+
+    @Override
+    public void run() {
+      try {
+        if (cachedLoadStats() != null || !meetCompletenessRequirements(_loadStatsRequirements)) {
+          return;
+        }
+        OperationProgress operationProgress = new OperationProgress();
+        try (AutoCloseable ignored = acquireForModelGeneration(operationProgress)) {
+          long startMs = _time.milliseconds();
+          publishLoadStats(clusterModel(startMs, _loadStatsRequirements, _allowCapacityEstimation, operationProgress));
+          LOG.debug("Precomputed the load stats of generation {} in {} ms.", _cachedLoadStats.generation(), _time.milliseconds() - startMs);
+        }
+      } catch (InterruptedException ie) {
+        LOG.debug("Load stats precomputer is interrupted.");
+        Thread.currentThread().interrupt();
+      } catch (Throwable t) {
+        // We catch all the throwables because we don't want the load stats precomputer to die.
+        LOG.warn("Load stats precomputer received exception ", t);
+      }
+    }
+  }
+
   /**
    * Background task to clean up the partition metric samples in case of topic deletion.
    *
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.monitor;
+
+import com.linkedin.kafka.cruisecontrol.model.ClusterModelStats;
+import com.linkedin.kafka.cruisecontrol.servlet.response.stats.BrokerStats;
+
+
+/**
+ * The broker stats and the cluster model stats of a cluster model, published together with the {@link ModelGeneration} of
+ * the cluster model they were computed from. The load monitor publishes a new instance at once, so that readers never observe
+ * the stats of different generations.
+ */
+public final class LoadStats {
+  private final ModelGeneration _generation;
+  private final BrokerStats _brokerStats;
+  private final ClusterModelStats _clusterModelStats;
+
+  /**
+   * @param generation The model generation of the cluster model that the stats were computed from.
+   * @param brokerStats The broker stats of the cluster model.
+   * @param clusterModelStats The cluster model stats of the cluster model.
+   */
+  public LoadStats(ModelGeneration generation, BrokerStats brokerStats, ClusterModelStats clusterModelStats) {
+    _generation = generation;
+    _brokerStats = brokerStats;
+    _clusterModelStats = clusterModelStats;
+  }
+
+  /**
+   * @return The model generation of the cluster model that the stats were computed from.
+   */
+  public ModelGeneration generation() {
+    return _generation;
+  }
+
+  /**
+   * @return The broker stats of the cluster model.
+   */
+  public BrokerStats brokerStats() {
+    return _brokerStats;
+  }
+
+  /**
+   * @return The cluster model stats of the cluster model.
+   */
+  public ClusterModelStats clusterModelStats() {
+    return _clusterModelStats;
+  }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.monitor;
+
+
+/**
+ * The extent of a change between two Kafka metadata, in ascending order -- i.e. a change implies the preceding ones may also
+ * have happened. Changes to in-sync replicas alone are not metadata changes.
+ *
+ * <ul>
+ *   <li>{@link #NONE}: The metadata has not changed.</li>
+ *   <li>{@link #LEADERSHIP}: The leader of some partitions has changed, but their replicas have not.</li>
+ *   <li>{@link #REPLICA_ASSIGNMENT}: The replicas (or their order) of some partitions have changed.</li>
+ *   <li>{@link #PARTITIONS}: Some topics or partitions have been created or deleted.</li>
+ *   <li>{@link #BROKERS}: Some brokers have been added or removed.</li>
+ * </ul>
+ */
+public enum MetadataChange {
+  NONE, LEADERSHIP, REPLICA_ASSIGNMENT, PARTITIONS, BROKERS
+}
@@ -52,7 +52,17 @@ public class ModelGeneration implements Serializable {
    */
   public boolean isStale(ModelGeneration latestModelGeneration) {
     return latestModelGeneration.clusterGeneration() - _clusterGeneration > CLUSTER_GENERATION_ACCEPTABLE_STALENESS_LAG
-        || latestModelGeneration.loadGeneration() - _loadGeneration > LOAD_GENERATION_ACCEPTABLE_STALENESS_LAG;
+        || isLoadStale(latestModelGeneration);
+  }
+
+  /**
+   * Check whether the load generation of this model generation is stale, regardless of its cluster generation.
+   *
+   * @param latestModelGeneration The model generation to compare against this model generation for staleness check.
+   * @return {@code true} if the load generation is beyond the acceptable staleness limit, {@code false} otherwise.
+   */
+  public boolean isLoadStale(ModelGeneration latestModelGeneration) {
+    return latestModelGeneration.loadGeneration() - _loadGeneration > LOAD_GENERATION_ACCEPTABLE_STALENESS_LAG;
   }
 
   @Override
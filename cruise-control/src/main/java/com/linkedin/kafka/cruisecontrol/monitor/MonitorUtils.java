@@ -17,11 +17,13 @@ import com.linkedin.kafka.cruisecontrol.model.Broker;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.model.ModelUtils;
 import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -113,33 +115,98 @@ public final class MonitorUtils {
    * @return {@code true} if the metadata has changed, {@code false} otherwise.
    */
   public static boolean metadataChanged(Cluster previous, Cluster current) {
+    return metadataChange(previous, current) != MetadataChange.NONE;
+  }
+
+  /**
+   * Classify the change between the given cluster states by its extent. See {@link MetadataChange}.
+   *
+   * @param previous Previous cluster state.
+   * @param current Current cluster state.
+   * @return The extent of the change between the given cluster states.
+   */
+  public static MetadataChange metadataChange(Cluster previous, Cluster current) {
     // Broker has changed.
     Set<Node> prevNodeSet = new HashSet<>(previous.nodes());
     if (prevNodeSet.size() != current.nodes().size()) {
-      return true;
+      return MetadataChange.BROKERS;
     }
     current.nodes().forEach(prevNodeSet::remove);
     if (!prevNodeSet.isEmpty()) {
-      return true;
+      return MetadataChange.BROKERS;
     }
     // Topic has changed
     if (!previous.topics().equals(current.topics())) {
-      return true;
+      return MetadataChange.PARTITIONS;
     }
-
-    // partition has changed.
     for (String topic : previous.topics()) {
       if (!previous.partitionCountForTopic(topic).equals(current.partitionCountForTopic(topic))) {
-        return true;
+        return MetadataChange.PARTITIONS;
       }
+    }
+
+    // partition has changed.
+    MetadataChange change = MetadataChange.NONE;
+    for (String topic : previous.topics()) {
       for (PartitionInfo prevPartInfo : previous.partitionsForTopic(topic)) {
         PartitionInfo currPartInfo = current.partition(new TopicPartition(prevPartInfo.topic(), prevPartInfo.partition()));
-        if (leaderChanged(prevPartInfo, currPartInfo) || replicaListChanged(prevPartInfo, currPartInfo)) {
-          return true;
+        if (replicaListChanged(prevPartInfo, currPartInfo)) {
+          return MetadataChange.REPLICA_ASSIGNMENT;
+        } else if (leaderChanged(prevPartInfo, currPartInfo)) {
+          change = MetadataChange.LEADERSHIP;
         }
       }
     }
-    return false;
+    return change;
+  }
+
+  /**
+   * Get the partitions whose leader has changed between the given cluster states. Partitions that exist in only one of the
+   * cluster states are ignored.
+   *
+   * @param previous Previous cluster state.
+   * @param current Current cluster state.
+   * @return Partitions whose leader in the current cluster state differs from the previous cluster state.
+   */
+  public static List<TopicPartition> partitionsWithLeadershipChange(Cluster previous, Cluster current) {
+    List<TopicPartition> partitionsWithLeadershipChange = new ArrayList<>();
+    for (String topic : previous.topics()) {
+      for (PartitionInfo prevPartInfo : previous.partitionsForTopic(topic)) {
+        TopicPartition tp = new TopicPartition(prevPartInfo.topic(), prevPartInfo.partition());
+        PartitionInfo currPartInfo = current.partition(tp);
+        if (currPartInfo != null && leaderChanged(prevPartInfo, currPartInfo)) {
+          partitionsWithLeadershipChange.add(tp);
+        }
+      }
+    }
+    return partitionsWithLeadershipChange;
+  }
+
+  /**
+   * Get the topics in the current cluster state that are new, or have partitions added or replicas reassigned since the
+   * previous cluster state. Leadership changes are not considered as changes to the topic.
+   *
+   * @param previous Previous cluster state.
+   * @param current Current cluster state.
+   * @return Topics in the current cluster state whose replica assignment differs from the previous cluster state.
+   */
+  public static Set<String> topicsWithReplicaAssignmentChange(Cluster previous, Cluster current) {
+    Set<String> changedTopics = new HashSet<>();
+    for (String topic : current.topics()) {
+      List<PartitionInfo> currPartInfos = current.partitionsForTopic(topic);
+      if (!previous.topics().contains(topic) || previous.partitionCountForTopic(topic) != currPartInfos.size()) {
+        changedTopics.add(topic);
+        continue;
+      }
+      for (PartitionInfo currPartInfo : currPartInfos) {
+        PartitionInfo prevPartInfo = previous.partition(new TopicPartition(topic, currPartInfo.partition()));
+        if (prevPartInfo == null || replicaListChanged(prevPartInfo, currPartInfo)) {
+          changedTopics.add(topic);
+          break;
+        }
+      }
+    }
+    return changedTopics;
   }
 
   private static boolean leaderChanged(PartitionInfo prevPartInfo, PartitionInfo currPartInfo) {
@@ -314,7 +381,7 @@ public final class MonitorUtils {
    * @param cluster Kafka cluster.
    * @return All the dead brokers in the cluster that host at least one replica.
    */
-  static Set<Integer> deadBrokersWithReplicas(Cluster cluster) {
+  public static Set<Integer> deadBrokersWithReplicas(Cluster cluster) {
     Set<Integer> brokersWithReplicas = brokersWithReplicas(cluster);
     cluster.nodes().forEach(node -> brokersWithReplicas.remove(node.id()));
     return brokersWithReplicas;
@@ -324,7 +391,7 @@ public final class MonitorUtils {
    * @param cluster Kafka cluster.
    * @return All the brokers that host at least one offline replica.
    */
-  static Set<Integer> brokersWithOfflineReplicas(Cluster cluster) {
+  public static Set<Integer> brokersWithOfflineReplicas(Cluster cluster) {
     Set<Integer> brokersWithOfflineReplicas = new HashSet<>();
     for (String topic : cluster.topics()) {
       for (PartitionInfo partition : cluster.partitionsForTopic(topic)) {
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.servlet;
+
+/**
+ * A stream of server-sent events to a client -- see <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">
+ * Server-sent events</a>. Implementations must allow sending events from any thread.
+ */
+public interface EventStream {
+  String EVENT_STREAM_CONTENT_TYPE = "text/event-stream";
+
+  /**
+   * Send an event with the given name and data. Multi-line data is sent as multiple data lines of the same event.
+   *
+   * @param event Name of the event.
+   * @param data Data of the event.
+   */
+  void send(String event, String data);
+
+  /**
+   * Close the stream. Noop if the stream is already closed.
+   */
+  void close();
+
+  /**
+   * @return {@code true} if the stream is closed either by the server or the client, {@code false} otherwise.
+   */
+  boolean isClosed();
+}
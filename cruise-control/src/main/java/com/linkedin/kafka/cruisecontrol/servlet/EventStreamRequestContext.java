@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.servlet;
+
+import com.linkedin.cruisecontrol.http.CruiseControlRequestContext;
+
+
+/**
+ * A request context that can respond to the request with a stream of server-sent events.
+ */
+public interface EventStreamRequestContext extends CruiseControlRequestContext {
+
+  /**
+   * @return {@code true} if the client accepts a stream of server-sent events as the response, {@code false} otherwise.
+   */
+  default boolean wantEventStream() {
+    String accept = getHeader("Accept");
+    return accept != null && accept.contains(EventStream.EVENT_STREAM_CONTENT_TYPE);
+  }
+
+  /**
+   * Start responding to the request with a stream of server-sent events.
+   *
+   * @return The event stream to send the events with.
+   */
+  EventStream openEventStream();
+}
@@ -42,6 +42,7 @@ public final class KafkaCruiseControlServletUtils {
   public static final String KAFKA_CRUISE_CONTROL_HTTP_SERVLET_REQUEST_OBJECT_CONFIG = "kafka.cruise.control.http.servlet.request.object";
   public static final String KAFKA_CRUISE_CONTROL_CONFIG_OBJECT_CONFIG = "kafka.cruise.control.config.object";
   public static final String ROUTING_CONTEXT_OBJECT_CONFIG = "routing.context.object";
+  public static final int SC_TOO_MANY_REQUESTS = 429;
   private static final String ACCESS_CONTROL_ALLOW_ORIGIN = "Access-Control-Allow-Origin";
   private static final String ACCESS_CONTROL_ALLOW_METHODS = "Access-Control-Allow-Methods";
   private static final String ACCESS_CONTROL_ALLOW_HEADERS = "Access-Control-Allow-Headers";
@@ -228,6 +229,22 @@ public final class KafkaCruiseControlServletUtils {
     writeErrorResponse(requestContext, ure, errorMessage, SC_BAD_REQUEST, wantJSON(requestContext), wantResponseSchema(requestContext));
     return errorMessage;
   }
+  /**
+   * Creates a {@link #SC_TOO_MANY_REQUESTS} Http servlet response.
+   * @param tmre Too many requests exception to be handled.
+   * @param requestContext HTTP request received by Cruise Control.
+   * @return The error message.
+   */
+  public static String handleTooManyRequestsException(TooManyRequestsException tmre,
+                                                      CruiseControlRequestContext requestContext)
+      throws IOException {
+    String errorMessage = String.format("Cannot admit %s request '%s' due to: '%s'.",
+                                        requestContext.getMethod(), requestContext.getPathInfo(), tmre.getMessage());
+    writeErrorResponse(requestContext, tmre, errorMessage, SC_TOO_MANY_REQUESTS, wantJSON(requestContext),
+                       wantResponseSchema(requestContext));
+    return errorMessage;
+  }
+
   /**
    * Creates a {@link HttpServletResponse#SC_FORBIDDEN} Http servlet response.
    * @param ce Config exception to be handled.
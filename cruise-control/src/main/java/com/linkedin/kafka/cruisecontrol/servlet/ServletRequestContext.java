@@ -7,8 +7,10 @@ package com.linkedin.kafka.cruisecontrol.servlet;
 import com.google.gson.Gson;
 import com.linkedin.cruisecontrol.http.CruiseControlHttpSession;
 import com.linkedin.cruisecontrol.http.CruiseControlRequestContext;
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.servlet.response.JsonToCborTranscoder;
 import com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
@@ -116,11 +118,51 @@ public class ServletRequestContext implements CruiseControlRequestContext {
         if (json && wantJsonSchema) {
             _response.addHeader("Cruise-Control-JSON-Schema", ResponseUtils.getJsonSchema(responseMessage));
         }
+        String vary = ResponseUtils.varyHeader(_config, false);
+        if (vary != null) {
+            _response.addHeader("Vary", vary);
+        }
         _response.setContentLength(responseMessage.length());
         out.write(responseMessage.getBytes(StandardCharsets.UTF_8));
         out.flush();
     }
 
+    @Override
+    public void writeResponseToOutputStream(int responseCode, boolean json, boolean wantJsonSchema,
+                                            CompactResponse response) throws IOException {
+        OutputStream out = _response.getOutputStream();
+        ResponseUtils.setResponseCode(_response, responseCode, json, _config);
+        _response.addHeader("Cruise-Control-Version", KafkaCruiseControl.cruiseControlVersion());
+        _response.addHeader("Cruise-Control-Commit_Id", KafkaCruiseControl.cruiseControlCommitId());
+        if (json && wantJsonSchema) {
+            _response.addHeader("Cruise-Control-JSON-Schema", ResponseUtils.getJsonSchema(response.toString()));
+        }
+        String vary = ResponseUtils.varyHeader(_config, true);
+        if (vary != null) {
+            // Let caches tell apart the CBOR and JSON, as well as the gzip-encoded and the identity-encoded responses.
+            _response.addHeader("Vary", vary);
+        }
+        boolean gzip = ResponseUtils.wantGzipResponse(_request.getHeader("Accept-Encoding"), _config);
+        if (ResponseUtils.wantCborResponse(this, responseCode, json, _config)) {
+            // The length of the transcoded response is unknown upfront; hence, it is sent without a content length.
+            _response.setContentType(ResponseUtils.APPLICATION_CBOR);
+            if (gzip) {
+                _response.setHeader("Content-Encoding", "gzip");
+            }
+            JsonToCborTranscoder.transcode(response, out, gzip);
+            out.flush();
+            return;
+        }
+        if (gzip) {
+            _response.setHeader("Content-Encoding", "gzip");
+            _response.setContentLength(response.compressedLength());
+        } else {
+            _response.setContentLengthLong(response.contentLength());
+        }
+        response.writeTo(out, gzip);
+        out.flush();
+    }
+
     protected String getClientIpAddress(HttpServletRequest request) {
         for (String header : HEADERS_TO_TRY) {
             String ip = request.getHeader(header);
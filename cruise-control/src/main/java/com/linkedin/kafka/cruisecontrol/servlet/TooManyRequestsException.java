@@ -0,0 +1,16 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.servlet;
+
+/**
+ * The exception caused by a user request that cannot be admitted because Cruise Control has reached its capacity to handle
+ * requests of this type. A 429 error will be returned in this case.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+  public TooManyRequestsException(String message) {
+    super(message);
+  }
+}
@@ -24,22 +24,29 @@ import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import com.linkedin.kafka.cruisecontrol.servlet.response.JsonResponseClass;
@@ -73,10 +80,16 @@ public class UserTaskManager implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(UserTaskManager.class);
   private static final Logger OPERATION_LOG = LoggerFactory.getLogger(OPERATION_LOGGER);
-  private final Map<SessionKey, UUID> _sessionKeyToUserTaskIdMap;
-  private final Map<UUID, UserTaskInfo> _uuidToActiveUserTaskInfoMap;
-  private final Map<EndpointType, Map<UUID, UserTaskInfo>> _uuidToCompletedUserTaskInfoMap;
-  private UserTaskInfo _inExecutionUserTaskInfo;
+  // Completed user tasks are indexed by buckets of their start time with the granularity of the scanner period.
+  private static final long COMPLETED_USER_TASK_EXPIRY_BUCKET_MS = TimeUnit.SECONDS.toMillis(USER_TASK_SCANNER_PERIOD_SECONDS);
+  // Request threads look up and create user tasks without a global lock. The state transitions of each user task are
+  // synchronized on the user task itself, and the in-execution user task is updated only by the executor. Unlike completed
+  // tasks, active tasks share a single capacity; hence, they are kept in a single concurrent map.
+  private final ConcurrentMap<SessionKey, UUID> _sessionKeyToUserTaskIdMap;
+  private final ConcurrentMap<UUID, UserTaskInfo> _uuidToActiveUserTaskInfoMap;
+  private final AtomicInteger _numActiveUserTasks;
+  private final Map<EndpointType, CompletedUserTasks> _completedUserTasksByEndpointType;
+  private volatile UserTaskInfo _inExecutionUserTaskInfo;
   private final long _sessionExpiryMs;
   private final int _maxActiveUserTasks;
   private final Time _time;
@@ -86,7 +99,6 @@ public class UserTaskManager implements Closeable {
       Executors.newSingleThreadScheduledExecutor(new KafkaCruiseControlThreadFactory("UserTaskLogger"));
   private final UuidGenerator _uuidGenerator;
   private final Map<EndPoint, Timer> _successfulRequestExecutionTimer;
-  private final Map<EndpointType, Long> _completedUserTaskRetentionTimeMs;
   private final Purgatory _purgatory;
 
   public UserTaskManager(KafkaCruiseControlConfig config,
@@ -94,14 +106,14 @@ public class UserTaskManager implements Closeable {
                          Map<EndPoint, Timer> successfulRequestExecutionTimer,
                          Purgatory purgatory) {
     _purgatory = purgatory;
-    _sessionKeyToUserTaskIdMap = new HashMap<>();
+    _sessionKeyToUserTaskIdMap = new ConcurrentHashMap<>();
     List<CruiseControlEndpointType> endpointTypes = List.of(CruiseControlEndpointType.values());
-    _uuidToCompletedUserTaskInfoMap = new HashMap<>();
-    _completedUserTaskRetentionTimeMs = new HashMap<>();
+    _completedUserTasksByEndpointType = new HashMap<>();
     initCompletedUserTaskRetentionPolicy(config, endpointTypes);
     _sessionExpiryMs = config.getLong(WebServerConfig.WEBSERVER_SESSION_EXPIRY_MS_CONFIG);
     _maxActiveUserTasks = config.getInt(WebServerConfig.MAX_ACTIVE_USER_TASKS_CONFIG);
-    _uuidToActiveUserTaskInfoMap = new LinkedHashMap<>(_maxActiveUserTasks);
+    _uuidToActiveUserTaskInfoMap = new ConcurrentHashMap<>(_maxActiveUserTasks);
+    _numActiveUserTasks = new AtomicInteger(0);
     _time = Time.SYSTEM;
     _uuidGenerator = new UuidGenerator();
     _userTaskScannerExecutor.scheduleAtFixedRate(new UserTaskScanner(),
@@ -123,19 +135,14 @@ public class UserTaskManager implements Closeable {
                   Time time,
                   UuidGenerator uuidGenerator) {
     _purgatory = null;
-    _sessionKeyToUserTaskIdMap = new HashMap<>();
-    _uuidToActiveUserTaskInfoMap = new LinkedHashMap<>(maxActiveUserTasks);
+    _sessionKeyToUserTaskIdMap = new ConcurrentHashMap<>();
+    _uuidToActiveUserTaskInfoMap = new ConcurrentHashMap<>(maxActiveUserTasks);
+    _numActiveUserTasks = new AtomicInteger(0);
     List<CruiseControlEndpointType> endpointTypes = List.of(CruiseControlEndpointType.values());
-    _uuidToCompletedUserTaskInfoMap = new HashMap<>();
-    _completedUserTaskRetentionTimeMs = new HashMap<>();
+    _completedUserTasksByEndpointType = new HashMap<>();
     for (CruiseControlEndpointType endpointType : endpointTypes) {
-      _uuidToCompletedUserTaskInfoMap.put(endpointType, new LinkedHashMap<>() {
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<UUID, UserTaskInfo> eldest) {
-          return this.size() > maxCachedCompletedUserTasks;
-        }
-      });
-      _completedUserTaskRetentionTimeMs.put(endpointType, completedUserTaskRetentionTimeMs);
+      _completedUserTasksByEndpointType.put(endpointType,
+                                            new CompletedUserTasks(maxCachedCompletedUserTasks, completedUserTaskRetentionTimeMs));
     }
     _sessionExpiryMs = sessionExpiryMs;
     _maxActiveUserTasks = maxActiveUserTasks;
@@ -192,15 +199,9 @@ public class UserTaskManager implements Closeable {
         default:
           throw new IllegalStateException("Unknown endpoint type " + endpointType);
       }
-      Integer mapSize = maxCachedCompletedUserTasks == null ? defaultMaxCachedCompletedUserTasks : maxCachedCompletedUserTasks;
-      _uuidToCompletedUserTaskInfoMap.put(endpointType, new LinkedHashMap<>() {
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<UUID, UserTaskInfo> eldest) {
-          return this.size() > mapSize;
-        }
-      });
-      _completedUserTaskRetentionTimeMs.put(endpointType,
-          completedUserTaskRetentionTimeMs == null ? defaultCompletedUserTaskRetentionTimeMs : completedUserTaskRetentionTimeMs);
+      _completedUserTasksByEndpointType.put(endpointType, new CompletedUserTasks(
+          maxCachedCompletedUserTasks == null ? defaultMaxCachedCompletedUserTasks : maxCachedCompletedUserTasks,
+          completedUserTaskRetentionTimeMs == null ? defaultCompletedUserTaskRetentionTimeMs : completedUserTaskRetentionTimeMs));
     }
   }
 
@@ -258,9 +259,7 @@ public class UserTaskManager implements Closeable {
   private void createSessionKeyMapping(UUID userTaskId, CruiseControlRequestContext requestContext) {
     SessionKey sessionKey = new SessionKey(requestContext);
     LOG.info("Create a new UserTask {} with SessionKey {}", userTaskId, sessionKey);
-    synchronized (_sessionKeyToUserTaskIdMap) {
-      _sessionKeyToUserTaskIdMap.put(sessionKey, userTaskId);
-    }
+    _sessionKeyToUserTaskIdMap.put(sessionKey, userTaskId);
   }
 
   /**
@@ -287,27 +286,24 @@ public class UserTaskManager implements Closeable {
 
   private void expireOldSessions() {
     long now = _time.milliseconds();
-    synchronized (_sessionKeyToUserTaskIdMap) {
-      Iterator<Map.Entry<SessionKey, UUID>> iter = _sessionKeyToUserTaskIdMap.entrySet().iterator();
-      while (iter.hasNext()) {
-        Map.Entry<SessionKey, UUID> entry = iter.next();
-        SessionKey sessionKey = entry.getKey();
-        try {
-          if (LOG.isTraceEnabled()) {
-            LOG.trace("Session {} was last accessed at {}, age is {} ms.",
-                    sessionKey.getSessionId(), sessionKey.getLastAccessed(),
-                    now - sessionKey.getLastAccessed());
-          }
-          if (now >= sessionKey.getLastAccessed() + _sessionExpiryMs) {
-            LOG.info("Expiring the session associated with {}.", sessionKey);
-            sessionKey.invalidateSession();
-            iter.remove();
-          }
-        } catch (IllegalStateException e) {
-          LOG.info("Already expired the session associated with {}.", sessionKey);
+    Iterator<Map.Entry<SessionKey, UUID>> iter = _sessionKeyToUserTaskIdMap.entrySet().iterator();
+    while (iter.hasNext()) {
+      Map.Entry<SessionKey, UUID> entry = iter.next();
+      SessionKey sessionKey = entry.getKey();
+      try {
+        if (LOG.isTraceEnabled()) {
+          LOG.trace("Session {} was last accessed at {}, age is {} ms.",
+                  sessionKey.getSessionId(), sessionKey.getLastAccessed(),
+                  now - sessionKey.getLastAccessed());
+        }
+        if (now >= sessionKey.getLastAccessed() + _sessionExpiryMs) {
+          LOG.info("Expiring the session associated with {}.", sessionKey);
+          sessionKey.invalidateSession();
           iter.remove();
         }
-        return;
+      } catch (IllegalStateException e) {
+        LOG.info("Already expired the session associated with {}.", sessionKey);
+        iter.remove();
       }
     }
   }
@@ -327,36 +323,62 @@ public class UserTaskManager implements Closeable {
       // valid user task id
       userTaskId = UUID.fromString(userTaskIdString);
     } else {
-      SessionKey sessionKey = new SessionKey(requestContext);
-      synchronized (_sessionKeyToUserTaskIdMap) {
-        userTaskId = _sessionKeyToUserTaskIdMap.get(sessionKey);
-      }
+      userTaskId = _sessionKeyToUserTaskIdMap.get(new SessionKey(requestContext));
     }
     return userTaskId;
   }
 
-   synchronized void checkActiveUserTasks() {
-    Iterator<Map.Entry<UUID, UserTaskInfo>> iter = _uuidToActiveUserTaskInfoMap.entrySet().iterator();
-    while (iter.hasNext()) {
-      Map.Entry<UUID, UserTaskInfo> entry = iter.next();
-      if (entry.getValue().isUserTaskDoneExceptionally()) {
-        LOG.warn("UserTask {} is completed with Exception and removed from active tasks list", entry.getKey());
-        _uuidToCompletedUserTaskInfoMap.get(entry.getValue().endPoint().endpointType())
-                                       .put(entry.getKey(), entry.getValue().setState(TaskState.COMPLETED_WITH_ERROR));
-        iter.remove();
-        _userTaskLoggerExecutor.execute(() -> entry.getValue().logOperation());
-      } else if (entry.getValue().isUserTaskDone()) {
-        LOG.info("UserTask {} is completed and removed from active tasks list", entry.getKey());
-        _successfulRequestExecutionTimer.get(entry.getValue().endPoint()).update(entry.getValue().executionTimeNs(), TimeUnit.NANOSECONDS);
-        _uuidToCompletedUserTaskInfoMap.get(entry.getValue().endPoint().endpointType())
-                                       .put(entry.getKey(), entry.getValue().setState(TaskState.COMPLETED));
-        iter.remove();
-        _userTaskLoggerExecutor.execute(() -> entry.getValue().logOperation());
+  void checkActiveUserTasks() {
+    for (UserTaskInfo userTaskInfo : _uuidToActiveUserTaskInfoMap.values()) {
+      if (userTaskInfo.isUserTaskDone()) {
+        completeActiveUserTask(userTaskInfo);
       }
     }
   }
 
-  private synchronized void removeFromPurgatory(UserTaskInfo userTaskInfo) {
+  private void completeActiveUserTask(UserTaskInfo userTaskInfo) {
+    UUID userTaskId = userTaskInfo.userTaskId();
+    synchronized (userTaskInfo) {
+      // The task may have begun execution or got a new step since it has been checked.
+      if (userTaskInfo.state() != TaskState.ACTIVE || !userTaskInfo.isUserTaskDone()) {
+        return;
+      }
+      if (userTaskInfo.isUserTaskDoneExceptionally()) {
+        LOG.warn("UserTask {} is completed with Exception and removed from active tasks list", userTaskId);
+        userTaskInfo.setState(TaskState.COMPLETED_WITH_ERROR);
+      } else {
+        LOG.info("UserTask {} is completed and removed from active tasks list", userTaskId);
+        _successfulRequestExecutionTimer.get(userTaskInfo.endPoint()).update(userTaskInfo.executionTimeNs(), TimeUnit.NANOSECONDS);
+        userTaskInfo.setState(TaskState.COMPLETED);
+      }
+      // Add the task to completed tasks before removing it from active tasks, so that lookups always find the task.
+      completedUserTasks(userTaskInfo).add(userTaskInfo);
+      removeActiveUserTask(userTaskInfo);
+    }
+    _userTaskLoggerExecutor.execute(userTaskInfo::logOperation);
+  }
+
+  private void removeActiveUserTask(UserTaskInfo userTaskInfo) {
+    if (_uuidToActiveUserTaskInfoMap.remove(userTaskInfo.userTaskId(), userTaskInfo)) {
+      _numActiveUserTasks.decrementAndGet();
+    }
+  }
+
+  private CompletedUserTasks completedUserTasks(UserTaskInfo userTaskInfo) {
+    return _completedUserTasksByEndpointType.get(userTaskInfo.endPoint().endpointType());
+  }
+
+  private UserTaskInfo completedUserTask(UUID userTaskId) {
+    for (CompletedUserTasks completedUserTasks : _completedUserTasksByEndpointType.values()) {
+      UserTaskInfo userTaskInfo = completedUserTasks.get(userTaskId);
+      if (userTaskInfo != null) {
+        return userTaskInfo;
+      }
+    }
+    return null;
+  }
+
+  private void removeFromPurgatory(UserTaskInfo userTaskInfo) {
     // Purgatory is null if the two-step verification is disabled.
     if (_purgatory != null) {
       String parameterString = ParameterUtils.caseSensitiveParameterName(userTaskInfo.queryParams(), REVIEW_ID_PARAM);
@@ -373,18 +395,11 @@ public class UserTaskManager implements Closeable {
     }
   }
 
-  private synchronized void removeOldUserTasks() {
+  private void removeOldUserTasks() {
     LOG.debug("Remove old user tasks");
-    for (Map.Entry<EndpointType, Long> retentionByType : _completedUserTaskRetentionTimeMs.entrySet()) {
-      long completedUserTaskRetentionTimeMs = retentionByType.getValue();
-      for (Iterator<Map.Entry<UUID, UserTaskInfo>> iterator =
-           _uuidToCompletedUserTaskInfoMap.get(retentionByType.getKey()).entrySet().iterator(); iterator.hasNext(); ) {
-        Map.Entry<UUID, UserTaskInfo> entry = iterator.next();
-        if (entry.getValue().startMs() + completedUserTaskRetentionTimeMs < _time.milliseconds()) {
-          removeFromPurgatory(entry.getValue());
-          iterator.remove();
-        }
-      }
+    long nowMs = _time.milliseconds();
+    for (CompletedUserTasks completedUserTasks : _completedUserTasksByEndpointType.values()) {
+      completedUserTasks.removeExpired(nowMs).forEach(this::removeFromPurgatory);
     }
   }
 
@@ -396,19 +411,29 @@ public class UserTaskManager implements Closeable {
    */
   public synchronized UserTaskInfo markTaskExecutionBegan(String uuid) {
     UUID userTaskId = UUID.fromString(uuid);
-    for (Map<UUID, UserTaskInfo> infoMap : _uuidToCompletedUserTaskInfoMap.values()) {
-      if (infoMap.containsKey(userTaskId)) {
-        _inExecutionUserTaskInfo = infoMap.remove(userTaskId).setState(TaskState.IN_EXECUTION);
-        return _inExecutionUserTaskInfo;
+    // A task that is no longer active has already been added to completed tasks.
+    UserTaskInfo userTaskInfo = _uuidToActiveUserTaskInfoMap.get(userTaskId);
+    if (userTaskInfo == null) {
+      userTaskInfo = completedUserTask(userTaskId);
+    }
+    boolean wasActive = false;
+    if (userTaskInfo != null) {
+      synchronized (userTaskInfo) {
+        wasActive = userTaskInfo.state() == TaskState.ACTIVE;
+        // Set the in-execution task before removing it from active or completed tasks, so that lookups always find the task.
+        _inExecutionUserTaskInfo = userTaskInfo.setState(TaskState.IN_EXECUTION);
+        if (wasActive) {
+          removeActiveUserTask(userTaskInfo);
+        } else {
+          completedUserTasks(userTaskInfo).remove(userTaskId);
+        }
       }
     }
-
-    if (_uuidToActiveUserTaskInfoMap.containsKey(userTaskId)) {
-      _inExecutionUserTaskInfo = _uuidToActiveUserTaskInfoMap.remove(userTaskId).setState(TaskState.IN_EXECUTION);
+    if (wasActive || userTaskInfo == null) {
+      // Normally a user task's operation result is logged when the task's state is transferred from ACTIVE to COMPLETED_WITH_ERROR.
+      // If the user task's state is transferred from ACTIVE directly to IN_EXECUTION, need to log the task's operation result here.
+      _inExecutionUserTaskInfo.logOperation();
     }
-    // Normally a user task's operation result is logged when the task's state is transferred from ACTIVE to COMPLETED_WITH_ERROR.
-    // If the user task's state is transferred from ACTIVE directly to IN_EXECUTION, need to log the task's operation result here.
-    _inExecutionUserTaskInfo.logOperation();
 
     return _inExecutionUserTaskInfo;
   }
@@ -420,20 +445,23 @@ public class UserTaskManager implements Closeable {
    * @param completeWithError Whether the task execution finished with error or not.
    */
   public synchronized void markTaskExecutionFinished(String uuid, boolean completeWithError) {
-    final long requestCompleteTime = _time.milliseconds() - _inExecutionUserTaskInfo._startMs;
-    _successfulRequestExecutionTimer.get(_inExecutionUserTaskInfo.endPoint()).update(requestCompleteTime, TimeUnit.MILLISECONDS);
+    UserTaskInfo inExecutionUserTaskInfo = _inExecutionUserTaskInfo;
+    final long requestCompleteTime = _time.milliseconds() - inExecutionUserTaskInfo._startMs;
+    _successfulRequestExecutionTimer.get(inExecutionUserTaskInfo.endPoint()).update(requestCompleteTime, TimeUnit.MILLISECONDS);
     LOG.info("Task execution with uuid {} completed{}. Total time: {} ms", uuid, completeWithError ? " with error" : "", requestCompleteTime);
-    if (!_inExecutionUserTaskInfo.userTaskId().equals(UUID.fromString(uuid))) {
+    if (!inExecutionUserTaskInfo.userTaskId().equals(UUID.fromString(uuid))) {
       throw new IllegalStateException(String.format("Task %s is not found in UserTaskManager.", uuid));
     }
-    if (completeWithError) {
-      _inExecutionUserTaskInfo.setState(TaskState.COMPLETED_WITH_ERROR);
-    } else {
-      _inExecutionUserTaskInfo.setState(TaskState.COMPLETED);
+    synchronized (inExecutionUserTaskInfo) {
+      if (completeWithError) {
+        inExecutionUserTaskInfo.setState(TaskState.COMPLETED_WITH_ERROR);
+      } else {
+        inExecutionUserTaskInfo.setState(TaskState.COMPLETED);
+      }
+      // Add the task to completed tasks before unsetting the in-execution task, so that lookups always find the task.
+      completedUserTasks(inExecutionUserTaskInfo).add(inExecutionUserTaskInfo);
+      _inExecutionUserTaskInfo = null;
     }
-    _uuidToCompletedUserTaskInfoMap.get(_inExecutionUserTaskInfo.endPoint().endpointType())
-                                   .put(_inExecutionUserTaskInfo.userTaskId(), _inExecutionUserTaskInfo);
-    _inExecutionUserTaskInfo = null;
   }
 
   /**
@@ -443,35 +471,29 @@ public class UserTaskManager implements Closeable {
    * @param requestContext the HttpServletRequest.
    * @return User task by user task id.
    */
-  public synchronized UserTaskInfo getUserTaskByUserTaskId(UUID userTaskId, CruiseControlRequestContext requestContext) {
+  public UserTaskInfo getUserTaskByUserTaskId(UUID userTaskId, CruiseControlRequestContext requestContext) {
     if (userTaskId == null) {
       return null;
     }
 
-    String requestUrl = httpServletRequestToString(requestContext);
-    for (Map<UUID, UserTaskInfo> infoMap : _uuidToCompletedUserTaskInfoMap.values()) {
-      if (infoMap.containsKey(userTaskId)) {
-        UserTaskInfo userTaskInfo = infoMap.get(userTaskId);
-        if (userTaskInfo.requestUrl().equals(requestUrl)
-                && hasTheSameHttpParameter(userTaskInfo.queryParams(), requestContext.getParameterMap())) {
-          return userTaskInfo;
-        }
+    // Tasks move from active to in-execution or completed, and from in-execution to completed. Each task is added to its next
+    // table before being removed from the previous one; hence, looking up the tables in this order always finds the task.
+    UserTaskInfo userTaskInfo = _uuidToActiveUserTaskInfoMap.get(userTaskId);
+    if (userTaskInfo == null) {
+      UserTaskInfo inExecutionUserTaskInfo = _inExecutionUserTaskInfo;
+      if (inExecutionUserTaskInfo != null && inExecutionUserTaskInfo.userTaskId().equals(userTaskId)) {
+        userTaskInfo = inExecutionUserTaskInfo;
       }
     }
-
-    if (_uuidToActiveUserTaskInfoMap.containsKey(userTaskId)) {
-      UserTaskInfo userTaskInfo = _uuidToActiveUserTaskInfoMap.get(userTaskId);
-      if (userTaskInfo.requestUrl().equals(requestUrl)
-              && hasTheSameHttpParameter(userTaskInfo.queryParams(), requestContext.getParameterMap())) {
-        return userTaskInfo;
-      }
+    if (userTaskInfo == null) {
+      userTaskInfo = completedUserTask(userTaskId);
     }
 
-    if (_inExecutionUserTaskInfo != null
-        && _inExecutionUserTaskInfo.userTaskId().equals(userTaskId)
-        && _inExecutionUserTaskInfo.requestUrl().equals(requestUrl)
-            && hasTheSameHttpParameter(_inExecutionUserTaskInfo.queryParams(), requestContext.getParameterMap())) {
-      return _inExecutionUserTaskInfo;
+    String requestUrl = httpServletRequestToString(requestContext);
+    if (userTaskInfo != null
+        && userTaskInfo.requestUrl().equals(requestUrl)
+        && hasTheSameHttpParameter(userTaskInfo.queryParams(), requestContext.getParameterMap())) {
+      return userTaskInfo;
     }
 
     return null;
@@ -485,54 +507,74 @@ public class UserTaskManager implements Closeable {
    * @param parameters Parsed parameters from http request, or null if parsing result is unavailable.
    * @return {@link UserTaskInfo} containing request detail and  {@link OperationFuture}
    */
-  private synchronized UserTaskInfo insertFuturesByUserTaskId(UUID userTaskId,
-                                                              Function<String, OperationFuture> operation,
-                                                              CruiseControlRequestContext requestContext,
-                                                              CruiseControlParameters parameters) {
-    if (_uuidToActiveUserTaskInfoMap.containsKey(userTaskId)) {
-      _uuidToActiveUserTaskInfoMap.get(userTaskId).futures().add(operation.apply(userTaskId.toString()));
-    } else {
-      if (_uuidToActiveUserTaskInfoMap.size() >= _maxActiveUserTasks) {
-        throw new RuntimeException("There are already " + _uuidToActiveUserTaskInfoMap.size()
-                                   + " active user tasks, which has reached the servlet capacity.");
+  private UserTaskInfo insertFuturesByUserTaskId(UUID userTaskId,
+                                                 Function<String, OperationFuture> operation,
+                                                 CruiseControlRequestContext requestContext,
+                                                 CruiseControlParameters parameters) {
+    UserTaskInfo activeUserTaskInfo = _uuidToActiveUserTaskInfoMap.get(userTaskId);
+    if (activeUserTaskInfo != null) {
+      synchronized (activeUserTaskInfo) {
+        // Add the step only if the task has not been completed or begun execution in the meantime.
+        if (activeUserTaskInfo.state() == TaskState.ACTIVE) {
+          activeUserTaskInfo.futures().add(operation.apply(userTaskId.toString()));
+          return activeUserTaskInfo;
+        }
       }
+    }
+    int numActiveUserTasks = _numActiveUserTasks.incrementAndGet();
+    if (numActiveUserTasks > _maxActiveUserTasks) {
+      _numActiveUserTasks.decrementAndGet();
+      throw new TooManyRequestsException("There are already " + (numActiveUserTasks - 1)
+                                         + " active user tasks, which has reached the servlet capacity.");
+    }
+    try {
       UserTaskInfo userTaskInfo =
-              new UserTaskInfo(requestContext, new ArrayList<>(Collections.singleton(operation.apply(userTaskId.toString()))),
+          new UserTaskInfo(requestContext, new CopyOnWriteArrayList<>(Collections.singletonList(operation.apply(userTaskId.toString()))),
                            _time.milliseconds(), userTaskId, TaskState.ACTIVE, parameters);
       _uuidToActiveUserTaskInfoMap.put(userTaskId, userTaskInfo);
+      return userTaskInfo;
+    } catch (RuntimeException e) {
+      _numActiveUserTasks.decrementAndGet();
+      throw e;
     }
-    return _uuidToActiveUserTaskInfoMap.get(userTaskId);
   }
 
   /**
    * @return All user tasks.
    */
-  public synchronized List<UserTaskInfo> getAllUserTasks() {
-    List<UserTaskInfo> allUserTasks = new ArrayList<>(_uuidToActiveUserTaskInfoMap.values());
-    if (_inExecutionUserTaskInfo != null) {
-      allUserTasks.add(_inExecutionUserTaskInfo);
-    }
-    allUserTasks.addAll(_uuidToCompletedUserTaskInfoMap.values().stream().flatMap(map -> map.values().stream())
-                                                       .collect(Collectors.toList()));
-    return allUserTasks;
+  public List<UserTaskInfo> getAllUserTasks() {
+    List<UserTaskInfo> activeUserTasks = new ArrayList<>(_uuidToActiveUserTaskInfoMap.values());
+    activeUserTasks.sort(Comparator.comparingLong(UserTaskInfo::startMs));
+    // A task that is moving between the tables may be seen in more than one of them.
+    Set<UserTaskInfo> allUserTasks = new LinkedHashSet<>(activeUserTasks);
+    UserTaskInfo inExecutionUserTaskInfo = _inExecutionUserTaskInfo;
+    if (inExecutionUserTaskInfo != null) {
+      allUserTasks.add(inExecutionUserTaskInfo);
+    }
+    for (CompletedUserTasks completedUserTasks : _completedUserTasksByEndpointType.values()) {
+      allUserTasks.addAll(completedUserTasks.userTasks());
+    }
+    return new ArrayList<>(allUserTasks);
   }
 
   @Override
   public String toString() {
+    Map<UUID, UserTaskInfo> uuidToActiveUserTaskInfoMap = new LinkedHashMap<>();
     Map<UUID, UserTaskInfo> uuidToCompletedWithSuccessUserTaskInfoMap = new LinkedHashMap<>();
     Map<UUID, UserTaskInfo> uuidToCompletedWithErrorUserTaskInfoMap = new LinkedHashMap<>();
-    for (Map<UUID, UserTaskInfo> infoMap : _uuidToCompletedUserTaskInfoMap.values()) {
-      infoMap.forEach((k, v) -> {
-        if (v.state() == TaskState.COMPLETED) {
-          uuidToCompletedWithSuccessUserTaskInfoMap.put(k, v);
-        } else {
-          uuidToCompletedWithErrorUserTaskInfoMap.put(k, v);
-        }
-      });
+    UserTaskInfo inExecutionUserTaskInfo = _inExecutionUserTaskInfo;
+    for (UserTaskInfo userTaskInfo : getAllUserTasks()) {
+      if (userTaskInfo.state() == TaskState.ACTIVE) {
+        uuidToActiveUserTaskInfoMap.put(userTaskInfo.userTaskId(), userTaskInfo);
+      } else if (userTaskInfo.state() == TaskState.COMPLETED) {
+        uuidToCompletedWithSuccessUserTaskInfoMap.put(userTaskInfo.userTaskId(), userTaskInfo);
+      } else if (userTaskInfo.state() == TaskState.COMPLETED_WITH_ERROR) {
+        uuidToCompletedWithErrorUserTaskInfoMap.put(userTaskInfo.userTaskId(), userTaskInfo);
+      }
     }
     return "UserTaskManager{_sessionKeyToUserTaskIdMap=" + _sessionKeyToUserTaskIdMap
-           + ", _uuidToActiveUserTaskInfoMap=" + _uuidToActiveUserTaskInfoMap
-           + ", _inExecutionUserTask=" + (_inExecutionUserTaskInfo != null ? _inExecutionUserTaskInfo : "No-User-Initiated-Execution")
+           + ", _uuidToActiveUserTaskInfoMap=" + uuidToActiveUserTaskInfoMap
+           + ", _inExecutionUserTask=" + (inExecutionUserTaskInfo != null ? inExecutionUserTaskInfo : "No-User-Initiated-Execution")
            + ", _uuidToCompletedWithSuccessUserTaskInfoMap=" + uuidToCompletedWithSuccessUserTaskInfoMap
            + ", _uuidToCompletedWithErrorUserTaskInfoMap=" + uuidToCompletedWithErrorUserTaskInfoMap + '}';
   }
@@ -562,6 +604,11 @@ public class UserTaskManager implements Closeable {
     return _sessionKeyToUserTaskIdMap.size();
   }
 
+  // for unit-test only
+  int numActiveUserTasks() {
+    return _uuidToActiveUserTaskInfoMap.size();
+  }
+
   public static class SessionKey {
     private final CruiseControlHttpSession _session;
     private final String _requestUrl;
@@ -621,6 +668,121 @@ public class UserTaskManager implements Closeable {
     }
   }
 
+  /**
+   * Completed user tasks of an endpoint type, which retains up to a maximum number of the most recently completed tasks, each for
+   * up to the retention time since the start of the task. Lookups are lock-free, whereas updates are synchronized per endpoint
+   * type. Tasks are indexed by buckets of their start time, so that removing expired tasks checks only the tasks in the expired
+   * buckets rather than all the retained tasks.
+   */
+  static final class CompletedUserTasks {
+    private final int _maxCachedUserTasks;
+    private final long _retentionTimeMs;
+    private final ConcurrentMap<UUID, UserTaskInfo> _userTaskById;
+    // Guarded by this.
+    private final Set<UUID> _userTaskIdsInCompletionOrder;
+    private final NavigableMap<Long, Set<UUID>> _userTaskIdsByStartBucket;
+
+    CompletedUserTasks(int maxCachedUserTasks, long retentionTimeMs) {
+      _maxCachedUserTasks = maxCachedUserTasks;
+      _retentionTimeMs = retentionTimeMs;
+      _userTaskById = new ConcurrentHashMap<>();
+      _userTaskIdsInCompletionOrder = new LinkedHashSet<>();
+      _userTaskIdsByStartBucket = new TreeMap<>();
+    }
+
+    private static long startBucket(long startMs) {
+      return Math.floorDiv(startMs, COMPLETED_USER_TASK_EXPIRY_BUCKET_MS);
+    }
+
+    UserTaskInfo get(UUID userTaskId) {
+      return _userTaskById.get(userTaskId);
+    }
+
+    /**
+     * @return Completed user tasks in the order of their start time.
+     */
+    List<UserTaskInfo> userTasks() {
+      List<UserTaskInfo> userTasks = new ArrayList<>(_userTaskById.values());
+      userTasks.sort(Comparator.comparingLong(UserTaskInfo::startMs));
+      return userTasks;
+    }
+
+    /**
+     * Add the given completed task, and evict the least recently completed tasks beyond the maximum number of tasks to retain.
+     *
+     * @param userTaskInfo The completed user task.
+     */
+    synchronized void add(UserTaskInfo userTaskInfo) {
+      UUID userTaskId = userTaskInfo.userTaskId();
+      if (_userTaskById.put(userTaskId, userTaskInfo) == null) {
+        _userTaskIdsInCompletionOrder.add(userTaskId);
+        _userTaskIdsByStartBucket.computeIfAbsent(startBucket(userTaskInfo.startMs()), b -> new HashSet<>()).add(userTaskId);
+      }
+      Iterator<UUID> eldest = _userTaskIdsInCompletionOrder.iterator();
+      while (_userTaskIdsInCompletionOrder.size() > _maxCachedUserTasks) {
+        UUID eldestUserTaskId = eldest.next();
+        eldest.remove();
+        removeFromStartBucket(_userTaskById.remove(eldestUserTaskId));
+      }
+    }
+
+    /**
+     * @param userTaskId UUID of the task to remove.
+     * @return The removed task, or {@code null} if there is no such completed task.
+     */
+    synchronized UserTaskInfo remove(UUID userTaskId) {
+      UserTaskInfo userTaskInfo = _userTaskById.remove(userTaskId);
+      if (userTaskInfo != null) {
+        _userTaskIdsInCompletionOrder.remove(userTaskId);
+        removeFromStartBucket(userTaskInfo);
+      }
+      return userTaskInfo;
+    }
+
+    private void removeFromStartBucket(UserTaskInfo userTaskInfo) {
+      long startBucket = startBucket(userTaskInfo.startMs());
+      Set<UUID> userTaskIds = _userTaskIdsByStartBucket.get(startBucket);
+      userTaskIds.remove(userTaskInfo.userTaskId());
+      if (userTaskIds.isEmpty()) {
+        _userTaskIdsByStartBucket.remove(startBucket);
+      }
+    }
+
+    /**
+     * Remove the tasks that started more than the retention time ago.
+     *
+     * @param nowMs The current time in milliseconds.
+     * @return The removed tasks.
+     */
+    synchronized List<UserTaskInfo> removeExpired(long nowMs) {
+      List<UserTaskInfo> expiredUserTasks = new ArrayList<>();
+      long expiryMs = nowMs - _retentionTimeMs;
+      // Only the last of these buckets may contain tasks that have not expired yet.
+      Iterator<Set<UUID>> startBuckets = _userTaskIdsByStartBucket.headMap(startBucket(expiryMs), true).values().iterator();
+      while (startBuckets.hasNext()) {
+        Set<UUID> userTaskIds = startBuckets.next();
+        for (Iterator<UUID> iterator = userTaskIds.iterator(); iterator.hasNext(); ) {
+          UUID userTaskId = iterator.next();
+          UserTaskInfo userTaskInfo = _userTaskById.get(userTaskId);
+          if (userTaskInfo.startMs() < expiryMs) {
+            iterator.remove();
+            _userTaskById.remove(userTaskId);
+            _userTaskIdsInCompletionOrder.remove(userTaskId);
+            expiredUserTasks.add(userTaskInfo);
+          }
+        }
+        if (userTaskIds.isEmpty()) {
+          startBuckets.remove();
+        }
+      }
+      return expiredUserTasks;
+    }
+
+    int size() {
+      return _userTaskById.size();
+    }
+  }
+
   /**
    * A class to encapsulate UserTask.
    */
@@ -646,7 +808,7 @@ public class UserTaskManager implements Closeable {
     private final UUID _userTaskId;
     private final Map<String, String[]> _queryParams;
     private final EndPoint _endPoint;
-    private TaskState _state;
+    private volatile TaskState _state;
     private final CruiseControlParameters _parameters;
 
     public UserTaskInfo(CruiseControlRequestContext requestContext,
@@ -743,7 +905,10 @@ public class UserTaskManager implements Closeable {
       try {
         CruiseControlResponse response = lastFuture().get();
         response.discardIrrelevantResponse(_parameters);
-        OPERATION_LOG.info("Task [{}] calculation finishes, result:\n{}", _userTaskId, response.cachedResponse());
+        // Rendering the cached response decompresses it; hence, it is rendered only if it will be logged.
+        if (OPERATION_LOG.isInfoEnabled()) {
+          OPERATION_LOG.info("Task [{}] calculation finishes, result:\n{}", _userTaskId, response.cachedResponse());
+        }
       } catch (InterruptedException | ExecutionException e) {
         OPERATION_LOG.info("Task [{}] calculation fails, exception:\n{}", _userTaskId, e);
       }
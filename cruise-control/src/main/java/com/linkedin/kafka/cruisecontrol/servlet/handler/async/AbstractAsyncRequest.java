@@ -6,23 +6,35 @@ package com.linkedin.kafka.cruisecontrol.servlet.handler.async;
 
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlEndPoints;
 import com.linkedin.kafka.cruisecontrol.async.AsyncKafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.async.RequestCoalescer;
 import com.linkedin.kafka.cruisecontrol.async.progress.OperationProgress;
 import com.linkedin.kafka.cruisecontrol.async.progress.Pending;
 import com.linkedin.cruisecontrol.http.CruiseControlRequestContext;
 import com.linkedin.kafka.cruisecontrol.config.constants.WebServerConfig;
+import com.linkedin.kafka.cruisecontrol.servlet.EventStreamRequestContext;
 import com.linkedin.kafka.cruisecontrol.servlet.UserTaskManager;
 import com.linkedin.kafka.cruisecontrol.servlet.handler.AbstractRequest;
 import com.linkedin.cruisecontrol.servlet.parameters.CruiseControlParameters;
 import com.linkedin.cruisecontrol.servlet.response.CruiseControlResponse;
 import com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.OperationFuture;
 import com.linkedin.kafka.cruisecontrol.servlet.response.ProgressResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.linkedin.kafka.cruisecontrol.servlet.KafkaCruiseControlServletUtils.POST_METHOD;
+
 
 public abstract class AbstractAsyncRequest extends AbstractRequest {
   private static final Logger LOG = LoggerFactory.getLogger(AbstractAsyncRequest.class);
@@ -30,6 +42,7 @@ public abstract class AbstractAsyncRequest extends AbstractRequest {
   private ThreadLocal<Integer> _asyncOperationStep;
   private UserTaskManager _userTaskManager;
   private long _maxBlockMs;
+  private long _progressStreamIntervalMs;
 
   public AbstractAsyncRequest() {
 
@@ -48,9 +61,7 @@ public abstract class AbstractAsyncRequest extends AbstractRequest {
           throws Exception {
     LOG.info("Processing async request {}.", name());
     int step = _asyncOperationStep.get();
-    List<OperationFuture>
-            futures = _userTaskManager.getOrCreateUserTask(requestContext, this::handle, step, true, parameters());
-    _asyncOperationStep.set(step + 1);
+    List<OperationFuture> futures = operationFutures(requestContext, step);
     CruiseControlResponse ccResponse;
     try {
       ccResponse = futures.get(step).get(_maxBlockMs, TimeUnit.MILLISECONDS);
@@ -62,6 +73,89 @@ public abstract class AbstractAsyncRequest extends AbstractRequest {
     return ccResponse;
   }
 
+  /**
+   * Get the response of the request without blocking the calling thread. The returned future completes with the final response
+   * as soon as the operation finishes, or with the progress of the operation if it does not finish within the max block time.
+   * If the operation fails, the returned future fails with an {@link ExecutionException} of the failure -- i.e. the same exception
+   * that {@link #getResponse(CruiseControlRequestContext)} throws, so that both are mapped to the same error response.
+   *
+   * @param requestContext The request context.
+   * @return A future of the final response or the progress of the async request.
+   */
+  public CompletableFuture<CruiseControlResponse> getResponseAsync(CruiseControlRequestContext requestContext)
+          throws Exception {
+    LOG.info("Processing async request {} without blocking.", name());
+    int step = _asyncOperationStep.get();
+    List<OperationFuture> futures = operationFutures(requestContext, step);
+    CompletableFuture<CruiseControlResponse> response = new CompletableFuture<>();
+    futures.get(step).whenComplete((ccResponse, throwable) -> {
+      if (throwable != null) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        response.completeExceptionally(new ExecutionException(cause));
+      } else if (response.complete(ccResponse)) {
+        LOG.info("Computation is completed for async request: {}.", requestContext.getPathInfo());
+      }
+    });
+    // Respond with the progress of the operation if it does not finish within the max block time.
+    if (!response.isDone()) {
+      CompletableFuture.delayedExecutor(_maxBlockMs, TimeUnit.MILLISECONDS).execute(() -> {
+        if (!response.isDone() && response.complete(new ProgressResult(futures, _asyncKafkaCruiseControl.config()))) {
+          LOG.info("Computation is in progress for async request: {}.", requestContext.getPathInfo());
+        }
+      });
+    }
+    return response;
+  }
+
+  /**
+   * Handle the request without blocking the calling thread. Once the response is available, it is rendered and written with the
+   * given blocking executor, because rendering a large response (e.g. verbose proposals) is CPU-heavy, and writing it waits for
+   * slow clients. If the client accepts a stream of server-sent events, the progress of the request is streamed with the given
+   * blocking executor until the request and the execution it starts finish -- see {@link OperationProgressStream}.
+   *
+   * @param requestContext The request context.
+   * @param blockingExecutor Executor to render and write the response or the events with.
+   * @return A future that completes once the response is written, or the event stream is finished.
+   */
+  public CompletableFuture<Void> handleAsync(CruiseControlRequestContext requestContext, Executor blockingExecutor) throws Exception {
+    if (parameters().parseParameters(requestContext)) {
+      LOG.warn("Failed to parse parameters: {} for request: {}.", requestContext.getParameterMap(), requestContext.getPathInfo());
+      return CompletableFuture.completedFuture(null);
+    }
+    if (requestContext instanceof EventStreamRequestContext && ((EventStreamRequestContext) requestContext).wantEventStream()) {
+      LOG.info("Streaming the progress of async request {}.", name());
+      int step = _asyncOperationStep.get();
+      List<OperationFuture> futures = operationFutures(requestContext, step);
+      UUID userTaskId = _userTaskManager.getUserTaskId(requestContext);
+      // Executor state is relevant only to the requests that may start an execution.
+      return new OperationProgressStream(futures, futures.get(step), parameters(), _asyncKafkaCruiseControl.config(),
+                                         POST_METHOD.equals(requestContext.getMethod()) ? _asyncKafkaCruiseControl::executorState : null,
+                                         userTaskId == null ? null : userTaskId.toString(),
+                                         ((EventStreamRequestContext) requestContext).openEventStream(),
+                                         _progressStreamIntervalMs, blockingExecutor).start();
+    }
+    return getResponseAsync(requestContext).thenAcceptAsync(ccResponse -> {
+      try {
+        ccResponse.writeSuccessResponse(parameters(), requestContext);
+      } catch (IOException ioe) {
+        throw new UncheckedIOException(ioe);
+      }
+    }, blockingExecutor);
+  }
+
+  private List<OperationFuture> operationFutures(CruiseControlRequestContext requestContext, int step) throws Exception {
+    Function<String, OperationFuture> operation = this::handle;
+    RequestCoalescer requestCoalescer = _asyncKafkaCruiseControl.requestCoalescer();
+    Map<String, String[]> queryParams = requestContext.getParameterMap();
+    if (requestCoalescer.canCoalesce(parameters().endPoint(), queryParams)) {
+      operation = uuid -> requestCoalescer.getOrCreate(parameters().endPoint(), queryParams, () -> handle(uuid));
+    }
+    List<OperationFuture>
+            futures = _userTaskManager.getOrCreateUserTask(requestContext, operation, step, true, parameters());
+    _asyncOperationStep.set(step + 1);
+    return futures;
+  }
+
   @Override
   public abstract CruiseControlParameters parameters();
 
@@ -75,6 +169,7 @@ public abstract class AbstractAsyncRequest extends AbstractRequest {
     _asyncOperationStep = cruiseControlEndPoints.asyncOperationStep();
     _userTaskManager = cruiseControlEndPoints.userTaskManager();
     _maxBlockMs = cruiseControlEndPoints.config().getLong(WebServerConfig.WEBSERVER_REQUEST_MAX_BLOCK_TIME_MS_CONFIG);
+    _progressStreamIntervalMs = cruiseControlEndPoints.config().getLong(WebServerConfig.WEBSERVER_PROGRESS_STREAM_INTERVAL_MS_CONFIG);
   }
 
   protected KafkaCruiseControlEndPoints getCruiseControlEndpoints() {
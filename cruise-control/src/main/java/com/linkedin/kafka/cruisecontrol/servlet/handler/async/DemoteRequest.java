@@ -24,7 +24,8 @@ public class DemoteRequest extends AbstractAsyncRequest {
   protected OperationFuture handle(String uuid) {
     OperationFuture future = new OperationFuture("Demote");
     pending(future.operationProgress());
-    _asyncKafkaCruiseControl.sessionExecutor().execute(new DemoteBrokerRunnable(_asyncKafkaCruiseControl, future, uuid, _parameters));
+    _asyncKafkaCruiseControl.sessionExecutor(_parameters.endPoint())
+                            .execute(new DemoteBrokerRunnable(_asyncKafkaCruiseControl, future, uuid, _parameters));
     return future;
   }
 
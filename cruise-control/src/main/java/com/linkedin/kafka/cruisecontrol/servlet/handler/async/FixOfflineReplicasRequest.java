@@ -24,7 +24,8 @@ public class FixOfflineReplicasRequest extends AbstractAsyncRequest {
   protected OperationFuture handle(String uuid) {
     OperationFuture future = new OperationFuture("Fix offline replicas");
     pending(future.operationProgress());
-    _asyncKafkaCruiseControl.sessionExecutor().execute(new FixOfflineReplicasRunnable(_asyncKafkaCruiseControl, future, _parameters, uuid));
+    _asyncKafkaCruiseControl.sessionExecutor(_parameters.endPoint())
+                            .execute(new FixOfflineReplicasRunnable(_asyncKafkaCruiseControl, future, _parameters, uuid));
     return future;
   }
 
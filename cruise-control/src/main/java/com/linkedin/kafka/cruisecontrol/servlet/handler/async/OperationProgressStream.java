@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.servlet.handler.async;
+
+import com.google.gson.Gson;
+import com.linkedin.cruisecontrol.servlet.parameters.CruiseControlParameters;
+import com.linkedin.cruisecontrol.servlet.response.CruiseControlResponse;
+import com.linkedin.kafka.cruisecontrol.async.progress.OperationStep;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.executor.ExecutorState;
+import com.linkedin.kafka.cruisecontrol.servlet.EventStream;
+import com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.OperationFuture;
+import com.linkedin.kafka.cruisecontrol.servlet.response.ProgressResult;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Streams the progress of the operations of a user task as server-sent events until the operation of the request finishes, or
+ * if the operation starts an execution (e.g. a rebalance), until that execution finishes. The stream is checked for changes
+ * periodically and whenever the operation finishes, and sends the following events:
+ * <ul>
+ *   <li>{@code progress}: The progress of the operations of the user task, sent whenever a step is added or the completion
+ *   percentage of a step changes. The data is the same as the response to a request that has not finished yet.</li>
+ *   <li>{@code executor}: The executor state, sent whenever its content changes (only if an executor state supplier is given).</li>
+ *   <li>{@code result}: The final response of the request, sent once the operation finishes successfully.</li>
+ *   <li>{@code error}: The error message, sent if the operation fails.</li>
+ * </ul>
+ * The stream is closed after the {@code result} or {@code error} event -- or if the operation has started an execution, after
+ * the {@code executor} event of the finished execution -- or stops once the client closes it. The progress is checked and the
+ * events are rendered with the given executor; hence, it should not be an event loop.
+ */
+public class OperationProgressStream {
+  private static final Logger LOG = LoggerFactory.getLogger(OperationProgressStream.class);
+  static final String PROGRESS_EVENT = "progress";
+  static final String EXECUTOR_EVENT = "executor";
+  static final String RESULT_EVENT = "result";
+  static final String ERROR_EVENT = "error";
+  private final List<OperationFuture> _futures;
+  private final OperationFuture _future;
+  private final CruiseControlParameters _parameters;
+  private final KafkaCruiseControlConfig _config;
+  private final Supplier<ExecutorState> _executorState;
+  private final String _userTaskId;
+  private final EventStream _eventStream;
+  private final Executor _executor;
+  private final Executor _tickExecutor;
+  private final CompletableFuture<Void> _done;
+  private boolean _finished;
+  private boolean _outcomeSent;
+  private String _lastProgressSignature;
+  private String _lastExecutorStateData;
+
+  /**
+   * @param futures The operations of the user task.
+   * @param future The operation of the request, whose completion ends the stream.
+   * @param parameters Parameters of the request.
+   * @param config The configurations for Cruise Control.
+   * @param executorState Supplier of the executor state, or {@code null} to skip streaming the executor state.
+   * @param userTaskId The id of the user task, which is also the id of the executions it starts, or {@code null} if unknown.
+   * @param eventStream The event stream to send the events with.
+   * @param intervalMs The interval to check the progress and the executor state for changes.
+   * @param executor Executor to check the progress, and render and send the events with.
+   */
+  public OperationProgressStream(List<OperationFuture> futures,
+                                 OperationFuture future,
+                                 CruiseControlParameters parameters,
+                                 KafkaCruiseControlConfig config,
+                                 Supplier<ExecutorState> executorState,
+                                 String userTaskId,
+                                 EventStream eventStream,
+                                 long intervalMs,
+                                 Executor executor) {
+    _futures = futures;
+    _future = future;
+    _parameters = parameters;
+    _config = config;
+    _executorState = executorState;
+    _userTaskId = userTaskId;
+    _eventStream = eventStream;
+    _executor = executor;
+    _tickExecutor = CompletableFuture.delayedExecutor(intervalMs, TimeUnit.MILLISECONDS, executor);
+    _done = new CompletableFuture<>();
+    _finished = false;
+    _outcomeSent = false;
+  }
+
+  /**
+   * Start streaming the progress.
+   *
+   * @return A future that completes once the stream is finished or closed by the client.
+   */
+  public CompletableFuture<Void> start() {
+    // Finish the stream as soon as the operation finishes, rather than at the next periodic check.
+    _future.whenComplete((ccResponse, throwable) -> _executor.execute(this::check));
+    _executor.execute(this::check);
+    return _done;
+  }
+
+  private synchronized void check() {
+    if (_finished) {
+      return;
+    }
+    try {
+      if (_eventStream.isClosed()) {
+        finish();
+        return;
+      }
+      maybeSendProgress();
+      ExecutorState executorState = maybeSendExecutorState();
+      if (_future.isDone()) {
+        if (!_outcomeSent) {
+          sendOutcome();
+          _outcomeSent = true;
+        }
+        // Operations such as rebalance finish once their execution starts; hence, keep streaming until the execution finishes.
+        if (!isExecutionOfUserTaskInProgress(executorState)) {
+          _eventStream.close();
+          finish();
+          return;
+        }
+      }
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to stream the progress of operation {}.", _future.operation(), e);
+      _eventStream.close();
+      finish();
+      return;
+    }
+    _tickExecutor.execute(this::check);
+  }
+
+  private void finish() {
+    _finished = true;
+    _done.complete(null);
+  }
+
+  private void maybeSendProgress() {
+    // Elapsed times change continuously; hence, only steps and their completion percentages are compared.
+    StringBuilder signature = new StringBuilder();
+    for (OperationFuture future : _futures) {
+      for (OperationStep step : future.operationProgress().progress()) {
+        signature.append(step.name()).append(':').append(step.completionPercentage()).append(';');
+      }
+      signature.append('|');
+    }
+    String progressSignature = signature.toString();
+    if (!progressSignature.equals(_lastProgressSignature)) {
+      _lastProgressSignature = progressSignature;
+      _eventStream.send(PROGRESS_EVENT, new ProgressResult(_futures, _config).render(_parameters.json()));
+    }
+  }
+
+  private boolean isExecutionOfUserTaskInProgress(ExecutorState executorState) {
+    return executorState != null && _userTaskId != null && executorState.state() != ExecutorState.State.NO_TASK_IN_PROGRESS
+           && _userTaskId.equals(executorState.uuid());
+  }
+
+  /**
+   * Send the executor state if its content has changed since the last sent executor state.
+   *
+   * @return The current executor state, or {@code null} if the executor state is not streamed.
+   */
+  private ExecutorState maybeSendExecutorState() {
+    if (_executorState == null) {
+      return null;
+    }
+    // The executor may replace its state with an identical one (e.g. upon each progress check); hence, compare the content.
+    ExecutorState executorState = _executorState.get();
+    String executorStateData = _parameters.json() ? new Gson().toJson(executorState.getJsonStructure(false))
+                                                  : executorState.getPlaintext();
+    if (!executorStateData.equals(_lastExecutorStateData)) {
+      _lastExecutorStateData = executorStateData;
+      _eventStream.send(EXECUTOR_EVENT, executorStateData);
+    }
+    return executorState;
+  }
+
+  private void sendOutcome() {
+    CruiseControlResponse ccResponse;
+    try {
+      ccResponse = _future.join();
+    } catch (CompletionException | CancellationException e) {
+      Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+      _eventStream.send(ERROR_EVENT, _parameters.json() ? new Gson().toJson(Map.of("errorMessage", String.valueOf(cause.getMessage())))
+                                                        : String.valueOf(cause.getMessage()));
+      return;
+    }
+    ccResponse.discardIrrelevantResponse(_parameters);
+    _eventStream.send(RESULT_EVENT, ccResponse.cachedResponse());
+  }
+}
@@ -24,7 +24,8 @@ public class PartitionLoadRequest extends AbstractAsyncRequest {
   protected OperationFuture handle(String uuid) {
     OperationFuture future = new OperationFuture(String.format("Get partition load from %d to %d", _parameters.startMs(), _parameters.endMs()));
     pending(future.operationProgress());
-    _asyncKafkaCruiseControl.sessionExecutor().execute(new PartitionLoadRunnable(_asyncKafkaCruiseControl, future, _parameters));
+    _asyncKafkaCruiseControl.sessionExecutor(_parameters.endPoint())
+                            .execute(new PartitionLoadRunnable(_asyncKafkaCruiseControl, future, _parameters));
     return future;
   }
 
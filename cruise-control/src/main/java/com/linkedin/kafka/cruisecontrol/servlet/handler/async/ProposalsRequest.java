@@ -24,7 +24,7 @@ public class ProposalsRequest extends AbstractAsyncRequest {
   protected OperationFuture handle(String uuid) {
     OperationFuture future = new OperationFuture("Get customized proposals");
     pending(future.operationProgress());
-    _asyncKafkaCruiseControl.sessionExecutor().execute(new ProposalsRunnable(_asyncKafkaCruiseControl, future, _parameters));
+    _asyncKafkaCruiseControl.sessionExecutor(_parameters.endPoint()).execute(new ProposalsRunnable(_asyncKafkaCruiseControl, future, _parameters));
     return future;
   }
 
@@ -23,7 +23,8 @@ public class RemoveDisksRequest extends AbstractAsyncRequest {
     protected OperationFuture handle(String uuid) {
         OperationFuture future = new OperationFuture("Remove disks");
         pending(future.operationProgress());
-        _asyncKafkaCruiseControl.sessionExecutor().submit(new RemoveDisksRunnable(_asyncKafkaCruiseControl, future, _parameters, uuid));
+        _asyncKafkaCruiseControl.sessionExecutor(_parameters.endPoint())
+                                .execute(new RemoveDisksRunnable(_asyncKafkaCruiseControl, future, _parameters, uuid));
         return future;
     }
 
@@ -5,12 +5,12 @@
 package com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable;
 
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.common.MetadataClient;
 import com.linkedin.kafka.cruisecontrol.servlet.parameters.CruiseControlStateParameters;
 import com.linkedin.kafka.cruisecontrol.servlet.response.CruiseControlState;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
-import org.apache.kafka.common.Cluster;
 
 import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.RunnableUtils.shouldRefreshClusterAndGeneration;
 import static com.linkedin.kafka.cruisecontrol.servlet.response.CruiseControlState.SubState.*;
@@ -38,14 +38,15 @@ public class GetStateRunnable extends OperationRunnable {
     Set<CruiseControlState.SubState> substates = !_substates.isEmpty() ? _substates
                                                                        : new HashSet<>(Arrays.asList(CruiseControlState.SubState.values()));
 
-    Cluster cluster = null;
+    MetadataClient.ClusterAndGeneration clusterAndGeneration = null;
     if (shouldRefreshClusterAndGeneration(substates)) {
-      cluster = _kafkaCruiseControl.refreshClusterAndGeneration().cluster();
+      clusterAndGeneration = _kafkaCruiseControl.refreshClusterAndGeneration();
     }
 
+    // Monitor and analyzer states are recomputed only if the cluster or the monitored load has changed since the last request.
     return new CruiseControlState(substates.contains(EXECUTOR) ? _kafkaCruiseControl.executorState() : null,
-                                  substates.contains(MONITOR) ? _kafkaCruiseControl.monitorState(cluster) : null,
-                                  substates.contains(ANALYZER) ? _kafkaCruiseControl.analyzerState(cluster) : null,
+                                  substates.contains(MONITOR) ? _kafkaCruiseControl.monitorState(clusterAndGeneration) : null,
+                                  substates.contains(ANALYZER) ? _kafkaCruiseControl.analyzerState(clusterAndGeneration) : null,
                                   substates.contains(ANOMALY_DETECTOR) ? _kafkaCruiseControl.anomalyDetectorState() : null,
                                   _kafkaCruiseControl.config());
   }
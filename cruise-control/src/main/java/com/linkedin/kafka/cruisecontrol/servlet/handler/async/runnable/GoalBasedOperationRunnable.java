@@ -122,11 +122,18 @@ public abstract class GoalBasedOperationRunnable extends OperationRunnable {
     _fastMode = fastMode;
   }
 
+  /**
+   * @return {@code true} if the runnable is not supposed to start an execution, {@code false} otherwise.
+   */
+  protected boolean isDryRun() {
+    return _dryRun;
+  }
+
   /**
    * Perform the initializations before {@link #computeResult()}.
    */
   protected void init() {
-    _kafkaCruiseControl.sanityCheckDryRun(_dryRun, _stopOngoingExecution);
+    _kafkaCruiseControl.sanityCheckDryRun(isDryRun(), _stopOngoingExecution);
     KafkaCruiseControlConfig config = _kafkaCruiseControl.config();
     sanityCheckGoals(_goals, _skipHardGoalCheck, config);
     _goalsByPriority = goalsByPriority(_goals, config);
@@ -140,7 +147,7 @@ public abstract class GoalBasedOperationRunnable extends OperationRunnable {
   }
 
   protected void handleFailGeneratingProposalsForExecution() {
-    if (!_dryRun) {
+    if (!isDryRun()) {
       _kafkaCruiseControl.failGeneratingProposalsForExecution(_uuid);
     }
   }
@@ -152,7 +159,7 @@ public abstract class GoalBasedOperationRunnable extends OperationRunnable {
    */
   public OptimizerResult computeResult() throws KafkaCruiseControlException {
     init();
-    if (!_dryRun) {
+    if (!isDryRun()) {
       _kafkaCruiseControl.setGeneratingProposalsForExecution(_uuid, _reasonSupplier, _isTriggeredByUserRequest);
     }
     OptimizerResult result;
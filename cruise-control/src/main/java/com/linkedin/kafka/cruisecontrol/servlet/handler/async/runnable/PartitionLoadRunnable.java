@@ -5,14 +5,17 @@
 package com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable;
 
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.exception.KafkaCruiseControlException;
 import com.linkedin.kafka.cruisecontrol.servlet.parameters.PartitionLoadParameters;
 import com.linkedin.kafka.cruisecontrol.servlet.response.PartitionLoadState;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
-import com.linkedin.kafka.cruisecontrol.model.Partition;
+import com.linkedin.kafka.cruisecontrol.model.PartitionLoad;
+import com.linkedin.kafka.cruisecontrol.model.PartitionLoadIndex;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig.MIN_VALID_PARTITION_RATIO_CONFIG;
+import static com.linkedin.kafka.cruisecontrol.servlet.parameters.ParameterUtils.DEFAULT_START_TIME_FOR_CLUSTER_MODEL;
 
 
 /**
@@ -32,22 +35,17 @@ public class PartitionLoadRunnable extends OperationRunnable {
   protected PartitionLoadState getResult() throws Exception {
     _kafkaCruiseControl.sanityCheckBrokerPresence(_parameters.brokerIds());
 
-    LoadRunnable loadRunnable = new LoadRunnable(_kafkaCruiseControl, _future, _parameters);
     Double minValidPartitionRatio = _parameters.minValidPartitionRatio();
     if (minValidPartitionRatio == null) {
       minValidPartitionRatio = _kafkaCruiseControl.config().getDouble(MIN_VALID_PARTITION_RATIO_CONFIG);
     }
-    ClusterModel clusterModel = loadRunnable.clusterModel(minValidPartitionRatio);
-    int topicNameLength = clusterModel.topics().stream().mapToInt(String::length).max().orElse(20) + 5;
-    List<Partition> partitionList = clusterModel.replicasSortedByUtilization(_parameters.resource(),
-                                                                             _parameters.wantMaxLoad(),
-                                                                             _parameters.wantAvgLoad());
-    if (!_parameters.brokerIds().isEmpty()) {
-      partitionList = partitionList.stream()
-                                   .filter(partition -> partition.partitionBrokers().stream().anyMatch(
-                                       broker -> _parameters.brokerIds().contains(broker.id())))
-                                   .collect(Collectors.toList());
-    }
+    PartitionLoadIndex partitionLoadIndex = partitionLoadIndex(minValidPartitionRatio);
+    List<PartitionLoad> partitionList = partitionLoadIndex.topPartitions(_parameters.resource(),
+                                                                     _parameters.entries(),
+                                                                     _parameters.brokerIds(),
+                                                                     _parameters.topic(),
+                                                                     _parameters.partitionLowerBoundary(),
+                                                                     _parameters.partitionUpperBoundary());
     return new PartitionLoadState(partitionList,
                                   _parameters.wantMaxLoad(),
                                   _parameters.wantAvgLoad(),
@@ -55,7 +53,37 @@ public class PartitionLoadRunnable extends OperationRunnable {
                                   _parameters.partitionUpperBoundary(),
                                   _parameters.partitionLowerBoundary(),
                                   _parameters.topic(),
-                                  topicNameLength,
+                                  partitionLoadIndex.maxTopicNameLength() + 5,
                                   _kafkaCruiseControl.config());
   }
+
+  /**
+   * Get the partition load index from the cache if the requested time range spans from the earliest to the latest available
+   * window (i.e. neither start nor end time is specified) and the load has not changed since the cached index was built.
+   * Otherwise, build the index from a new cluster model.
+   *
+   * @param minValidPartitionRatio The minimum valid partition ratio of the cluster model.
+   * @return The partition load index for the requested time range and load type.
+   * @throws KafkaCruiseControlException When the cluster model generation encounter errors.
+   */
+  protected PartitionLoadIndex partitionLoadIndex(double minValidPartitionRatio) throws KafkaCruiseControlException {
+    boolean cacheable = _parameters.startMs() == DEFAULT_START_TIME_FOR_CLUSTER_MODEL && _parameters.isDefaultEndMs();
+    if (cacheable) {
+      PartitionLoadIndex cachedIndex = _kafkaCruiseControl.cachedPartitionLoadIndex(_parameters.wantMaxLoad(),
+                                                                                    _parameters.wantAvgLoad(),
+                                                                                    minValidPartitionRatio,
+                                                                                    _parameters.allowCapacityEstimation());
+      if (cachedIndex != null) {
+        return cachedIndex;
+      }
+    }
+    ClusterModel clusterModel = new LoadRunnable(_kafkaCruiseControl, _future, _parameters).clusterModel(minValidPartitionRatio);
+    if (!cacheable) {
+      // An index that is not cached serves only this request; hence, only the requested resource is indexed.
+      return new PartitionLoadIndex(clusterModel, _parameters.wantMaxLoad(), _parameters.wantAvgLoad(), EnumSet.of(_parameters.resource()));
+    }
+    PartitionLoadIndex partitionLoadIndex = new PartitionLoadIndex(clusterModel, _parameters.wantMaxLoad(), _parameters.wantAvgLoad());
+    _kafkaCruiseControl.cachePartitionLoadIndex(partitionLoadIndex, minValidPartitionRatio, _parameters.allowCapacityEstimation());
+    return partitionLoadIndex;
+  }
 }
@@ -13,12 +13,15 @@ import com.linkedin.kafka.cruisecontrol.exception.KafkaCruiseControlException;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.ReplicaMovementStrategy;
 import com.linkedin.kafka.cruisecontrol.model.Broker;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
 import com.linkedin.kafka.cruisecontrol.servlet.parameters.RemoveBrokerParameters;
 import com.linkedin.kafka.cruisecontrol.servlet.response.OptimizationResult;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.RunnableUtils.SELF_HEALING_DESTINATION_BROKER_IDS;
 import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.RunnableUtils.SELF_HEALING_REPLICA_MOVEMENT_STRATEGY;
@@ -26,6 +29,7 @@ import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.Ru
 import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.RunnableUtils.SELF_HEALING_EXECUTION_PROGRESS_CHECK_INTERVAL_MS;
 import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.RunnableUtils.computeOptimizationOptions;
 import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.RunnableUtils.isKafkaAssignerMode;
+import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.RunnableUtils.isPrecomputedResultValid;
 import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.RunnableUtils.sanityCheckBrokersHavingOfflineReplicasOnBadDisks;
 
 
@@ -33,6 +37,7 @@ import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.Ru
  * The async runnable for broker decommission.
  */
 public class RemoveBrokersRunnable extends GoalBasedOperationRunnable {
+  private static final Logger LOG = LoggerFactory.getLogger(RemoveBrokersRunnable.class);
   protected final Set<Integer> _removedBrokerIds;
   protected final Set<Integer> _destinationBrokerIds;
   protected final boolean _throttleRemovedBrokers;
@@ -43,6 +48,10 @@ public class RemoveBrokersRunnable extends GoalBasedOperationRunnable {
   protected final Long _executionProgressCheckIntervalMs;
   protected final ReplicaMovementStrategy _replicaMovementStrategy;
   protected final Long _replicationThrottle;
+  // Whether the runnable precomputes its optimizer result speculatively, without starting an execution.
+  protected boolean _isSpeculative;
+  // An optimizer result precomputed by a speculative runnable to be executed (if still valid) instead of optimizing from scratch.
+  protected OptimizerResult _precomputedResult;
 
   /**
    * Constructor to be used for creating a runnable for self-healing.
@@ -68,6 +77,8 @@ public class RemoveBrokersRunnable extends GoalBasedOperationRunnable {
     _executionProgressCheckIntervalMs = SELF_HEALING_EXECUTION_PROGRESS_CHECK_INTERVAL_MS;
     _replicaMovementStrategy = SELF_HEALING_REPLICA_MOVEMENT_STRATEGY;
     _replicationThrottle = kafkaCruiseControl.config().getLong(ExecutorConfig.DEFAULT_REPLICATION_THROTTLE_CONFIG);
+    _isSpeculative = false;
+    _precomputedResult = null;
   }
 
   public RemoveBrokersRunnable(KafkaCruiseControl kafkaCruiseControl,
@@ -86,6 +97,62 @@ public class RemoveBrokersRunnable extends GoalBasedOperationRunnable {
     _executionProgressCheckIntervalMs = parameters.executionProgressCheckIntervalMs();
     _replicaMovementStrategy = parameters.replicaMovementStrategy();
     _replicationThrottle = parameters.replicationThrottle();
+    _isSpeculative = false;
+    _precomputedResult = null;
+  }
+
+  /**
+   * Precompute the broker removal speculatively -- i.e. without starting an execution, or marking the executor as generating
+   * proposals for execution. The precomputed result can then be passed to a runnable of the same broker removal via
+   * {@link #setPrecomputedResult(OptimizerResult)} to start its execution without optimizing from scratch.
+   *
+   * This is intended for self-healing runnables that are not requested to stop the ongoing execution. A removal with requested
+   * destination brokers is not precomputed, because a (non-dryrun) optimization drops those brokers from recently removed and
+   * demoted brokers, which a precomputed result would skip.
+   *
+   * @return Optimizer result to indicate the outcome of the broker removal.
+   */
+  public OptimizerResult precomputeResult() throws KafkaCruiseControlException {
+    _isSpeculative = true;
+    return computeResult();
+  }
+
+  /**
+   * Set an optimizer result precomputed by {@link #precomputeResult()}, which {@link #computeResult()} executes instead of
+   * optimizing from scratch if it is still valid -- see {@link RunnableUtils#isPrecomputedResultValid(OptimizerResult, ModelGeneration)}.
+   *
+   * @param precomputedResult The precomputed optimizer result, or {@code null} to optimize from scratch.
+   */
+  public void setPrecomputedResult(OptimizerResult precomputedResult) {
+    _precomputedResult = precomputedResult;
+  }
+
+  @Override
+  protected boolean isDryRun() {
+    return super.isDryRun() || _isSpeculative;
+  }
+
+  @Override
+  protected void init() {
+    super.init();
+    _precomputedResult = validPrecomputedResult();
+  }
+
+  /**
+   * @return The precomputed optimizer result if it is still valid for the current cluster model generation, {@code null} otherwise.
+   */
+  private OptimizerResult validPrecomputedResult() {
+    if (_precomputedResult == null) {
+      return null;
+    }
+    ModelGeneration currentModelGeneration = _kafkaCruiseControl.loadMonitor().clusterModelGeneration();
+    if (!isPrecomputedResultValid(_precomputedResult, currentModelGeneration)) {
+      LOG.info("[{}] Discard the result precomputed for model generation {} (current: {}).", _uuid,
+               _precomputedResult.modelGeneration(), currentModelGeneration);
+      return null;
+    }
+    LOG.info("[{}] Use the result precomputed for model generation {}.", _uuid, _precomputedResult.modelGeneration());
+    return _precomputedResult;
   }
 
   @Override
@@ -109,7 +176,7 @@ public class RemoveBrokersRunnable extends GoalBasedOperationRunnable {
                                                                          false,
                                                                          _kafkaCruiseControl,
                                                                          _destinationBrokerIds,
-                                                                         _dryRun,
+                                                                         isDryRun(),
                                                                          _excludeRecentlyDemotedBrokers,
                                                                          _excludeRecentlyRemovedBrokers,
                                                                          _excludedTopics,
@@ -118,25 +185,43 @@ public class RemoveBrokersRunnable extends GoalBasedOperationRunnable {
                                                                          _fastMode);
 
     OptimizerResult result = _kafkaCruiseControl.optimizations(clusterModel, _goalsByPriority, _operationProgress, null, optimizationOptions);
-    if (!_dryRun) {
-      _kafkaCruiseControl.executeRemoval(result.goalProposals(), _throttleRemovedBrokers, _removedBrokerIds, isKafkaAssignerMode(_goals),
-                                         _concurrentInterBrokerPartitionMovements, _maxInterBrokerPartitionMovements,
-                                         _clusterLeaderMovementConcurrency, _brokerLeaderMovementConcurrency,
-                                         _executionProgressCheckIntervalMs, _replicaMovementStrategy, _replicationThrottle,
-                                         _isTriggeredByUserRequest, _uuid);
+    if (!isDryRun()) {
+      execute(result);
     }
 
     return result;
   }
 
+  private void execute(OptimizerResult result) throws KafkaCruiseControlException {
+    _kafkaCruiseControl.executeRemoval(result.goalProposals(), _throttleRemovedBrokers, _removedBrokerIds, isKafkaAssignerMode(_goals),
+                                       _concurrentInterBrokerPartitionMovements, _maxInterBrokerPartitionMovements,
+                                       _clusterLeaderMovementConcurrency, _brokerLeaderMovementConcurrency,
+                                       _executionProgressCheckIntervalMs, _replicaMovementStrategy, _replicationThrottle,
+                                       _isTriggeredByUserRequest, _uuid);
+  }
+
+  /**
+   * A valid precomputed result is executed without generating a cluster model.
+   */
   @Override
   protected boolean shouldWorkWithClusterModel() {
-    return true;
+    return _precomputedResult == null;
+  }
+
+  @Override
+  protected OptimizerResult workWithoutClusterModel() throws KafkaCruiseControlException {
+    OptimizerResult result = _precomputedResult;
+    if (!isDryRun()) {
+      execute(result);
+    }
+    return result;
   }
 
   @Override
-  protected OptimizerResult workWithoutClusterModel() {
-    return null;
+  protected void finish() {
+    super.finish();
+    // The precomputed result is used at most once.
+    _precomputedResult = null;
   }
 
 }
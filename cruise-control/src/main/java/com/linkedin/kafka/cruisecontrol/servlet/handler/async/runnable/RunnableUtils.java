@@ -7,6 +7,7 @@ package com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils;
 import com.linkedin.kafka.cruisecontrol.analyzer.OptimizationOptions;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizerResult;
 import com.linkedin.kafka.cruisecontrol.analyzer.kafkaassigner.KafkaAssignerDiskUsageDistributionGoal;
 import com.linkedin.kafka.cruisecontrol.analyzer.kafkaassigner.KafkaAssignerEvenRackAwareGoal;
 import com.linkedin.kafka.cruisecontrol.async.progress.OperationProgress;
@@ -16,6 +17,7 @@ import com.linkedin.kafka.cruisecontrol.executor.strategy.ReplicaMovementStrateg
 import com.linkedin.kafka.cruisecontrol.model.Broker;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.monitor.ModelCompletenessRequirements;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
 import com.linkedin.kafka.cruisecontrol.servlet.parameters.ParameterUtils;
 import com.linkedin.kafka.cruisecontrol.servlet.response.CruiseControlState;
 import java.util.ArrayList;
@@ -341,6 +343,21 @@ public final class RunnableUtils {
     // Has offline replica(s) on a broken disk.
   }
 
+  /**
+   * Check whether the given precomputed optimizer result is still valid to execute. A precomputed result is valid if (1) it was
+   * computed on the same cluster generation as the current one -- i.e. replica assignment and broker liveness are unchanged, and
+   * (2) its load generation is within the acceptable staleness limit.
+   *
+   * @param precomputedResult The precomputed optimizer result.
+   * @param currentModelGeneration The current cluster model generation.
+   * @return {@code true} if the precomputed result is valid to execute, {@code false} otherwise.
+   */
+  public static boolean isPrecomputedResultValid(OptimizerResult precomputedResult, ModelGeneration currentModelGeneration) {
+    ModelGeneration precomputedModelGeneration = precomputedResult.modelGeneration();
+    return precomputedModelGeneration.clusterGeneration() == currentModelGeneration.clusterGeneration()
+           && !precomputedModelGeneration.isLoadStale(currentModelGeneration);
+  }
+
   /**
    * A helper class to keep recently removed and demoted brokers that are intended to be excluded from relevant replica
    * and/or leadership transfer operations.
@@ -23,6 +23,7 @@ import com.linkedin.kafka.cruisecontrol.servlet.UserRequestException;
 import com.linkedin.kafka.cruisecontrol.servlet.UserTaskManager;
 import com.linkedin.kafka.cruisecontrol.servlet.purgatory.ReviewStatus;
 import com.linkedin.kafka.cruisecontrol.servlet.response.CruiseControlState;
+import com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
@@ -291,7 +292,8 @@ public final class ParameterUtils {
    */
 
   public static boolean wantJSON(CruiseControlRequestContext requestContext) {
-    return getBooleanParam(requestContext, JSON_PARAM, false);
+    // CBOR responses are transcoded from JSON responses; hence, requests that accept CBOR get the JSON response by default.
+    return getBooleanParam(requestContext, JSON_PARAM, ResponseUtils.acceptsCbor(requestContext));
   }
 
   public static boolean wantResponseSchema(CruiseControlRequestContext requestContext) {
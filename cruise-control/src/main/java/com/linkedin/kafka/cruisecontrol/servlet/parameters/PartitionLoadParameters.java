@@ -63,6 +63,7 @@ public class PartitionLoadParameters extends AbstractParameters {
   protected Resource _resource;
   protected long _startMs;
   protected long _endMs;
+  protected boolean _isDefaultEndMs;
   protected int _entries;
   protected Pattern _topic;
   protected int _partitionUpperBoundary;
@@ -101,7 +102,9 @@ public class PartitionLoadParameters extends AbstractParameters {
     _allowCapacityEstimation = ParameterUtils.allowCapacityEstimation(_requestContext);
     _brokerIds = ParameterUtils.brokerIds(_requestContext, true);
     _startMs = ParameterUtils.startMsOrDefault(_requestContext, ParameterUtils.DEFAULT_START_TIME_FOR_CLUSTER_MODEL);
-    _endMs = ParameterUtils.endMsOrDefault(_requestContext, System.currentTimeMillis());
+    Long endMs = ParameterUtils.endMsOrDefault(_requestContext, null);
+    _isDefaultEndMs = endMs == null;
+    _endMs = _isDefaultEndMs ? System.currentTimeMillis() : endMs;
     ParameterUtils.validateTimeRange(_startMs, _endMs);
   }
 
@@ -117,6 +120,14 @@ public class PartitionLoadParameters extends AbstractParameters {
     return _endMs;
   }
 
+  /**
+   * @return {@code true} if the end time is not specified in the request (i.e. the end time is the request time), {@code false}
+   * otherwise.
+   */
+  public boolean isDefaultEndMs() {
+    return _isDefaultEndMs;
+  }
+
   public int entries() {
     return _entries;
   }
@@ -4,6 +4,7 @@
 
 package com.linkedin.kafka.cruisecontrol.servlet.response;
 
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
 import com.linkedin.cruisecontrol.servlet.response.CruiseControlResponse;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.cruisecontrol.servlet.parameters.CruiseControlParameters;
@@ -14,7 +15,10 @@ import static javax.servlet.http.HttpServletResponse.SC_OK;
 
 
 public abstract class AbstractCruiseControlResponse implements CruiseControlResponse {
+  // Subclasses cache the relevant response either as a string, or directly as a compact response to avoid materializing large
+  // responses. A string response is converted to the compact form once cached, hence only the compact response is retained.
   protected String _cachedResponse;
+  protected volatile CompactResponse _compactResponse;
   protected KafkaCruiseControlConfig _config;
 
   /**
@@ -22,6 +26,7 @@ public abstract class AbstractCruiseControlResponse implements CruiseControlResp
    */
   public AbstractCruiseControlResponse(KafkaCruiseControlConfig config) {
     _cachedResponse = null;
+    _compactResponse = null;
     _config = config;
   }
 
@@ -32,21 +37,31 @@ public abstract class AbstractCruiseControlResponse implements CruiseControlResp
     boolean json = parameters.json();
     boolean wantResponseSchema = parameters.wantResponseSchema();
     discardIrrelevantResponse(parameters);
-    requestContext.writeResponseToOutputStream(SC_OK, json, wantResponseSchema, _cachedResponse);
+    requestContext.writeResponseToOutputStream(SC_OK, json, wantResponseSchema, _compactResponse);
   }
 
   @Override
   public synchronized void discardIrrelevantResponse(CruiseControlParameters parameters) {
-    if (_cachedResponse == null) {
+    if (_compactResponse == null) {
       discardIrrelevantAndCacheRelevant(parameters);
-      if (_cachedResponse == null) {
+      if (_cachedResponse != null) {
+        _compactResponse = CompactResponse.of(_cachedResponse);
+        _cachedResponse = null;
+      }
+      if (_compactResponse == null) {
         throw new IllegalStateException("Failed to cache the relevant response.");
       }
     }
   }
 
+  /**
+   * Re-render the relevant response from its compact form.
+   *
+   * @return The cached response, or {@code null} if the cached response is unavailable.
+   */
   @Override
   public String cachedResponse() {
-    return _cachedResponse;
+    CompactResponse compactResponse = _compactResponse;
+    return compactResponse == null ? null : compactResponse.toString();
   }
 }
@@ -20,7 +20,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import com.google.gson.Gson;
-import java.util.Set;
 import java.util.StringJoiner;
 import org.apache.commons.math3.linear.SingularMatrixException;
 
@@ -28,6 +27,7 @@ import static com.linkedin.kafka.cruisecontrol.executor.ExecutorState.IN_PROGRES
 import static com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils.JSON_VERSION;
 import static com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils.VERSION;
 import static com.linkedin.kafka.cruisecontrol.executor.ExecutionTask.TaskType;
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionTaskTracker.ExecutionTasksSummary;
 
 @JsonResponseClass
 public class CruiseControlState extends AbstractCruiseControlResponse {
@@ -117,34 +117,34 @@ public class CruiseControlState extends AbstractCruiseControlResponse {
       if (!IN_PROGRESS_STATES.contains(_executorState.state())) {
         return;
       }
-      Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> taskSnapshot = _executorState.executionTasksSummary().filteredTasksByState();
-      taskSnapshot.forEach((type, taskMap) -> {
+      ExecutionTasksSummary executionTasksSummary = _executorState.executionTasksSummary();
+      for (TaskType type : executionTasksSummary.taskTypesToGetFullList()) {
         String taskTypeString = type == TaskType.INTER_BROKER_REPLICA_ACTION
                                 ? INTER_BROKER_PARTITION_MOVEMENTS : type == TaskType.INTRA_BROKER_REPLICA_ACTION
                                                                      ? INTRA_BROKER_PARTITION_MOVEMENTS : LEADERSHIP_MOVEMENTS;
         sb.append(String.format("%n%n%s %s:%n",
                                 _executorState.state() == ExecutorState.State.STOPPING_EXECUTION ? "Cancelled" : "Pending",
                                 taskTypeString));
-        for (ExecutionTask task : taskMap.get(ExecutionTaskState.PENDING)) {
+        for (ExecutionTask task : executionTasksSummary.filteredTasks(type, ExecutionTaskState.PENDING)) {
           sb.append(String.format("%s%n", task));
         }
         sb.append(String.format("%n%nIn progress %s:%n", taskTypeString));
-        for (ExecutionTask task : taskMap.get(ExecutionTaskState.IN_PROGRESS)) {
+        for (ExecutionTask task : executionTasksSummary.filteredTasks(type, ExecutionTaskState.IN_PROGRESS)) {
           sb.append(String.format("%s%n", task));
         }
         sb.append(String.format("%n%nAborting %s:%n", taskTypeString));
-        for (ExecutionTask task : taskMap.get(ExecutionTaskState.ABORTING)) {
+        for (ExecutionTask task : executionTasksSummary.filteredTasks(type, ExecutionTaskState.ABORTING)) {
           sb.append(String.format("%s%n", task));
         }
         sb.append(String.format("%n%nAborted %s:%n", taskTypeString));
-        for (ExecutionTask task : taskMap.get(ExecutionTaskState.ABORTED)) {
+        for (ExecutionTask task : executionTasksSummary.filteredTasks(type, ExecutionTaskState.ABORTED)) {
           sb.append(String.format("%s%n", task));
         }
         sb.append(String.format("%n%nDead %s:%n", taskTypeString));
-        for (ExecutionTask task : taskMap.get(ExecutionTaskState.DEAD)) {
+        for (ExecutionTask task : executionTasksSummary.filteredTasks(type, ExecutionTaskState.DEAD)) {
           sb.append(String.format("%s%n", task));
         }
-      });
+      }
     }
   }
 
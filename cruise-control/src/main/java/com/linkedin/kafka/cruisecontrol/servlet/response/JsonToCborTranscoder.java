@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.servlet.response;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Transcodes a JSON response into CBOR -- see <a href="https://www.rfc-editor.org/rfc/rfc8949.html">RFC 8949</a>, without
+ * materializing the JSON response. The CBOR response has the same data model as the JSON response (i.e. the schema of the JSON
+ * response, which is defined by {@link JsonResponseClass} and {@link JsonResponseField}, applies as-is), but avoids parsing
+ * numbers and escaped strings on the client side:
+ * <ul>
+ *   <li>Objects and arrays are encoded as indefinite-length maps and arrays, so that they can be transcoded as they are read.</li>
+ *   <li>Integral numbers are encoded as integers, and other numbers as single-precision floats if lossless, or as doubles.</li>
+ *   <li>The response starts with the self-described CBOR tag, so that clients can recognize the encoding.</li>
+ * </ul>
+ */
+public final class JsonToCborTranscoder {
+  private static final int MAJOR_TYPE_UNSIGNED_INT = 0;
+  private static final int MAJOR_TYPE_NEGATIVE_INT = 1;
+  private static final int MAJOR_TYPE_TEXT_STRING = 3;
+  private static final int MAJOR_TYPE_TAG = 6;
+  private static final int SELF_DESCRIBED_CBOR_TAG = 55799;
+  private static final int INDEFINITE_LENGTH_ARRAY = 0x9F;
+  private static final int INDEFINITE_LENGTH_MAP = 0xBF;
+  private static final int FALSE = 0xF4;
+  private static final int TRUE = 0xF5;
+  private static final int NULL = 0xF6;
+  private static final int SINGLE_PRECISION_FLOAT = 0xFA;
+  private static final int DOUBLE_PRECISION_FLOAT = 0xFB;
+  private static final int BREAK = 0xFF;
+  private static final int BUFFER_SIZE = 8192;
+
+  private JsonToCborTranscoder() {
+
+  }
+
+  /**
+   * Transcode the JSON content read from the given reader into CBOR, and write it to the given output stream.
+   *
+   * @param json Reader to read the JSON content from.
+   * @param out Output stream to write the CBOR content to.
+   * @throws IOException If the JSON content cannot be read or the CBOR content cannot be written.
+   */
+  public static void transcode(Reader json, OutputStream out) throws IOException {
+    JsonReader reader = new JsonReader(json);
+    // Responses with special floating point values (e.g. NaN) are not strictly JSON.
+    reader.setLenient(true);
+    DataOutputStream cbor = new DataOutputStream(out);
+    writeHead(cbor, MAJOR_TYPE_TAG, SELF_DESCRIBED_CBOR_TAG);
+    int depth = 0;
+    do {
+      JsonToken token = reader.peek();
+      switch (token) {
+        case BEGIN_OBJECT:
+          reader.beginObject();
+          cbor.writeByte(INDEFINITE_LENGTH_MAP);
+          depth++;
+          break;
+        case END_OBJECT:
+          reader.endObject();
+          cbor.writeByte(BREAK);
+          depth--;
+          break;
+        case BEGIN_ARRAY:
+          reader.beginArray();
+          cbor.writeByte(INDEFINITE_LENGTH_ARRAY);
+          depth++;
+          break;
+        case END_ARRAY:
+          reader.endArray();
+          cbor.writeByte(BREAK);
+          depth--;
+          break;
+        case NAME:
+          writeTextString(cbor, reader.nextName());
+          break;
+        case STRING:
+          writeTextString(cbor, reader.nextString());
+          break;
+        case NUMBER:
+          writeNumber(cbor, reader.nextString());
+          break;
+        case BOOLEAN:
+          cbor.writeByte(reader.nextBoolean() ? TRUE : FALSE);
+          break;
+        case NULL:
+          reader.nextNull();
+          cbor.writeByte(NULL);
+          break;
+        default:
+          throw new IllegalStateException("Unexpected JSON token " + token + " in the response.");
+      }
+    } while (depth > 0);
+    cbor.flush();
+  }
+
+  /**
+   * Transcode the given compact JSON response into CBOR, and write it to the given output stream.
+   *
+   * @param response Compact JSON response to transcode.
+   * @param out Output stream to write the CBOR content to.
+   * @param gzip {@code true} to write the gzip-compressed CBOR content, {@code false} to write the uncompressed content.
+   * @throws IOException If the response cannot be read or the CBOR content cannot be written.
+   */
+  public static void transcode(CompactResponse response, OutputStream out, boolean gzip) throws IOException {
+    try (Reader json = response.openReader()) {
+      if (gzip) {
+        GZIPOutputStream gzipOut = new GZIPOutputStream(out, BUFFER_SIZE);
+        transcode(json, gzipOut);
+        gzipOut.finish();
+      } else {
+        transcode(json, out);
+      }
+    }
+  }
+
+  private static void writeNumber(DataOutputStream cbor, String number) throws IOException {
+    if (number.indexOf('.') == -1 && number.indexOf('e') == -1 && number.indexOf('E') == -1) {
+      try {
+        long value = Long.parseLong(number);
+        if (value >= 0) {
+          writeHead(cbor, MAJOR_TYPE_UNSIGNED_INT, value);
+        } else {
+          writeHead(cbor, MAJOR_TYPE_NEGATIVE_INT, -1 - value);
+        }
+        return;
+      } catch (NumberFormatException nfe) {
+        // Integers beyond the range of long are encoded as doubles.
+      }
+    }
+    double value = Double.parseDouble(number);
+    float singlePrecisionValue = (float) value;
+    if (singlePrecisionValue == value) {
+      cbor.writeByte(SINGLE_PRECISION_FLOAT);
+      cbor.writeInt(Float.floatToIntBits(singlePrecisionValue));
+    } else {
+      cbor.writeByte(DOUBLE_PRECISION_FLOAT);
+      cbor.writeLong(Double.doubleToLongBits(value));
+    }
+  }
+
+  private static void writeTextString(DataOutputStream cbor, String text) throws IOException {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    writeHead(cbor, MAJOR_TYPE_TEXT_STRING, bytes.length);
+    cbor.write(bytes);
+  }
+
+  /**
+   * Write the initial byte of a data item with the given major type, followed by the given argument in the shortest form.
+   */
+  private static void writeHead(DataOutputStream cbor, int majorType, long argument) throws IOException {
+    int initialByte = majorType << 5;
+    if (argument < 24) {
+      cbor.writeByte(initialByte | (int) argument);
+    } else if (argument < (1L << 8)) {
+      cbor.writeByte(initialByte | 24);
+      cbor.writeByte((int) argument);
+    } else if (argument < (1L << 16)) {
+      cbor.writeByte(initialByte | 25);
+      cbor.writeShort((int) argument);
+    } else if (argument < (1L << 32)) {
+      cbor.writeByte(initialByte | 26);
+      cbor.writeInt((int) argument);
+    } else {
+      cbor.writeByte(initialByte | 27);
+      cbor.writeLong(argument);
+    }
+  }
+}
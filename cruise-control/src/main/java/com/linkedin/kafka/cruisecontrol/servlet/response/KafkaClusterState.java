@@ -9,6 +9,7 @@ import com.linkedin.kafka.cruisecontrol.config.BrokerSetResolver;
 import com.linkedin.kafka.cruisecontrol.config.TopicConfigProvider;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.cruisecontrol.servlet.parameters.CruiseControlParameters;
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
 import com.linkedin.kafka.cruisecontrol.servlet.parameters.KafkaClusterStateParameters;
 import java.util.HashMap;
 import java.util.Map;
@@ -46,7 +47,7 @@ public class KafkaClusterState extends AbstractCruiseControlResponse {
     _brokerSetResolver = brokerSetResolver;
   }
 
-  protected String getJsonString(CruiseControlParameters parameters) {
+  protected CompactResponse getCompactJson(CruiseControlParameters parameters) {
     Gson gson = new Gson();
     Map<String, Object> jsonStructure;
     KafkaClusterStateParameters kafkaClusterStateParams = (KafkaClusterStateParameters) parameters;
@@ -58,7 +59,7 @@ public class KafkaClusterState extends AbstractCruiseControlResponse {
     } catch (InterruptedException | ExecutionException e) {
       throw new RuntimeException("Failed to populate broker logDir state.", e);
     }
-    return gson.toJson(jsonStructure);
+    return ResponseUtils.toCompactJson(gson, jsonStructure);
   }
 
   /**
@@ -97,7 +98,7 @@ public class KafkaClusterState extends AbstractCruiseControlResponse {
   @Override
   protected void discardIrrelevantAndCacheRelevant(CruiseControlParameters parameters) {
     // Cache relevant response.
-    _cachedResponse = parameters.json() ? getJsonString(parameters) : getPlaintext(parameters);
+    _compactResponse = parameters.json() ? getCompactJson(parameters) : CompactResponse.of(getPlaintext(parameters));
     // Discard irrelevant response.
     _kafkaCluster = null;
   }
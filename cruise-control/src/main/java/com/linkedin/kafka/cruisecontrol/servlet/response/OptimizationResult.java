@@ -7,6 +7,7 @@ package com.linkedin.kafka.cruisecontrol.servlet.response;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.linkedin.cruisecontrol.servlet.parameters.CruiseControlParameters;
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
 import com.linkedin.kafka.cruisecontrol.analyzer.OptimizerResult;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.executor.ExecutionProposal;
@@ -41,8 +42,8 @@ public class OptimizationResult extends AbstractCruiseControlResponse {
   @JsonResponseField(required = false)
   protected static final String LOAD_BEFORE_OPTIMIZATION = "loadBeforeOptimization";
   protected OptimizerResult _optimizerResult;
-  protected String _cachedJsonResponse;
-  protected String _cachedPlaintextResponse;
+  protected CompactResponse _cachedJsonResponse;
+  protected CompactResponse _cachedPlaintextResponse;
 
   public OptimizationResult(OptimizerResult optimizerResult, KafkaCruiseControlConfig config) {
     super(config);
@@ -59,14 +60,14 @@ public class OptimizationResult extends AbstractCruiseControlResponse {
    * @return JSON response if cached, null otherwise.
    */
   public String cachedJsonResponse() {
-    return _cachedJsonResponse;
+    return _cachedJsonResponse == null ? null : _cachedJsonResponse.toString();
   }
 
   /**
    * @return Plaintext response if cached, null otherwise.
    */
   public String cachedPlaintextResponse() {
-    return _cachedPlaintextResponse;
+    return _cachedPlaintextResponse == null ? null : _cachedPlaintextResponse.toString();
   }
 
   protected String getPlaintextPretext(CruiseControlParameters parameters) {
@@ -113,11 +114,12 @@ public class OptimizationResult extends AbstractCruiseControlResponse {
   protected void discardIrrelevantAndCacheRelevant(CruiseControlParameters parameters) {
     // Cache relevant response.
     boolean isVerbose = ((KafkaOptimizationParameters) parameters).isVerbose();
-    _cachedResponse = parameters.json() ? getJsonString(isVerbose) : getPlaintext(isVerbose, getPlaintextPretext(parameters));
+    _compactResponse = parameters.json() ? getCompactJson(isVerbose)
+                                         : CompactResponse.of(getPlaintext(isVerbose, getPlaintextPretext(parameters)));
     if (parameters.json()) {
-      _cachedJsonResponse = _cachedResponse;
+      _cachedJsonResponse = _compactResponse;
     } else {
-      _cachedPlaintextResponse = _cachedResponse;
+      _cachedPlaintextResponse = _compactResponse;
     }
     // Discard irrelevant response.
     _optimizerResult = null;
@@ -128,14 +130,14 @@ public class OptimizationResult extends AbstractCruiseControlResponse {
    */
   public void discardIrrelevantAndCacheJsonAndPlaintext() {
     if (_optimizerResult != null) {
-      _cachedJsonResponse = getJsonString(false);
-      _cachedPlaintextResponse = getPlaintext(false, String.format("%n%nCluster load after self-healing:%n"));
+      _cachedJsonResponse = getCompactJson(false);
+      _cachedPlaintextResponse = CompactResponse.of(getPlaintext(false, String.format("%n%nCluster load after self-healing:%n")));
       // Discard irrelevant response.
       _optimizerResult = null;
     }
   }
 
-  protected String getJsonString(boolean isVerbose) {
+  protected CompactResponse getCompactJson(boolean isVerbose) {
     Map<String, Object> optimizationResult = new HashMap<>();
     if (isVerbose) {
       optimizationResult.put(PROPOSALS, _optimizerResult.goalProposals().stream()
@@ -153,7 +155,7 @@ public class OptimizationResult extends AbstractCruiseControlResponse {
     optimizationResult.put(VERSION, JSON_VERSION);
     Gson gson = new GsonBuilder().serializeNulls().serializeSpecialFloatingPointValues().create();
 
-    return gson.toJson(optimizationResult);
+    return ResponseUtils.toCompactJson(gson, optimizationResult);
   }
 
   protected void writeProposalSummary(StringBuilder sb) {
@@ -7,15 +7,14 @@ package com.linkedin.kafka.cruisecontrol.servlet.response;
 import com.google.gson.Gson;
 import com.linkedin.kafka.cruisecontrol.common.Resource;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
-import com.linkedin.kafka.cruisecontrol.model.Partition;
-import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
+import com.linkedin.kafka.cruisecontrol.model.PartitionLoad;
 import com.linkedin.cruisecontrol.servlet.parameters.CruiseControlParameters;
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils.JSON_VERSION;
 import static com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils.VERSION;
@@ -24,7 +23,7 @@ import static com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils.VE
 public class PartitionLoadState extends AbstractCruiseControlResponse {
   @JsonResponseField
   protected static final String RECORDS = "records";
-  protected final List<Partition> _sortedPartitions;
+  protected final List<PartitionLoad> _sortedPartitions;
   protected final boolean _wantMaxLoad;
   protected final boolean _wantAvgLoad;
   protected final int _entries;
@@ -33,7 +32,7 @@ public class PartitionLoadState extends AbstractCruiseControlResponse {
   protected final int _topicNameLength;
   protected Pattern _topic;
 
-  public PartitionLoadState(List<Partition> sortedPartitions,
+  public PartitionLoadState(List<PartitionLoad> sortedPartitions,
                             boolean wantMaxLoad,
                             boolean wantAvgLoad,
                             int entries,
@@ -58,23 +57,22 @@ public class PartitionLoadState extends AbstractCruiseControlResponse {
     sb.append(String.format("%" + _topicNameLength + "s%10s%30s%20s%20s%20s%20s%20s%n", "PARTITION", "LEADER", "FOLLOWERS",
                             "CPU (%_CORES)", "DISK (MB)", "NW_IN (KB/s)", "NW_OUT (KB/s)", "MSG_IN (#/s)"));
     int numEntries = 0;
-    for (Partition p : _sortedPartitions) {
+    for (PartitionLoad p : _sortedPartitions) {
       if (shouldSkipPartition(p)) {
         continue;
       }
       if (++numEntries > _entries) {
         break;
       }
-      List<Integer> followers = p.followers().stream().map(replica -> replica.broker().id()).collect(Collectors.toList());
       sb.append(String.format("%" + _topicNameLength + "s%10s%30s%19.6f%19.3f%19.3f%19.3f%19.3f%n",
-                              p.leader().topicPartition(),
-                              p.leader().broker().id(),
-                              followers,
-                              p.leader().load().expectedUtilizationFor(Resource.CPU, _wantMaxLoad, _wantAvgLoad),
-                              p.leader().load().expectedUtilizationFor(Resource.DISK, _wantMaxLoad, _wantAvgLoad),
-                              p.leader().load().expectedUtilizationFor(Resource.NW_IN, _wantMaxLoad, _wantAvgLoad),
-                              p.leader().load().expectedUtilizationFor(Resource.NW_OUT, _wantMaxLoad, _wantAvgLoad),
-                              p.leader().load().expectedUtilizationFor(KafkaMetricDef.MESSAGE_IN_RATE, _wantMaxLoad, _wantAvgLoad)));
+                              p.topicPartition(),
+                              p.leader(),
+                              p.followers(),
+                              p.utilizationFor(Resource.CPU),
+                              p.utilizationFor(Resource.DISK),
+                              p.utilizationFor(Resource.NW_IN),
+                              p.utilizationFor(Resource.NW_OUT),
+                              p.messageInRate()));
     }
     return sb.toString();
   }
@@ -85,7 +83,7 @@ public class PartitionLoadState extends AbstractCruiseControlResponse {
    * @param partition Partition to check whether be included in the response.
    * @return {@code true} to skip partition, {@code false} otherwise.
    */
-  private boolean shouldSkipPartition(Partition partition) {
+  private boolean shouldSkipPartition(PartitionLoad partition) {
     return (_topic != null && !_topic.matcher(partition.topicPartition().topic()).matches())
            || partition.topicPartition().partition() < _partitionLowerBoundary
            || partition.topicPartition().partition() > _partitionUpperBoundary;
@@ -94,18 +92,18 @@ public class PartitionLoadState extends AbstractCruiseControlResponse {
   @Override
   protected void discardIrrelevantAndCacheRelevant(CruiseControlParameters parameters) {
     // Cache relevant response.
-    _cachedResponse = parameters.json() ? getJsonString() : getPlaintext();
+    _compactResponse = parameters.json() ? getCompactJson() : CompactResponse.of(getPlaintext());
     // Discard irrelevant response.
     _sortedPartitions.clear();
     _topic = null;
   }
 
-  protected String getJsonString() {
+  protected CompactResponse getCompactJson() {
     Map<String, Object> partitionMap = new HashMap<>();
     List<Object> partitionList = new ArrayList<>();
     partitionMap.put(VERSION, JSON_VERSION);
     int numEntries = 0;
-    for (Partition p : _sortedPartitions) {
+    for (PartitionLoad p : _sortedPartitions) {
       if (shouldSkipPartition(p)) {
         continue;
       }
@@ -116,7 +114,7 @@ public class PartitionLoadState extends AbstractCruiseControlResponse {
     }
     partitionMap.put(RECORDS, partitionList);
     Gson gson = new Gson();
-    return gson.toJson(partitionMap);
+    return ResponseUtils.toCompactJson(gson, partitionMap);
   }
 
   @JsonResponseClass
@@ -132,21 +130,20 @@ public class PartitionLoadState extends AbstractCruiseControlResponse {
     protected static final String FOLLOWERS = "followers";
     @JsonResponseField
     protected static final String MSG_IN = "msg_in";
-    protected Partition _partition;
+    protected PartitionLoad _partition;
 
-    PartitionLoadRecord(Partition partition) {
+    PartitionLoadRecord(PartitionLoad partition) {
       _partition = partition;
     }
 
     protected Map<String, Object> getJsonStructure() {
-      List<Integer> followers = _partition.followers().stream().map(replica -> replica.broker().id()).collect(Collectors.toList());
-      return Map.of(TOPIC, _partition.leader().topicPartition().topic(), PARTITION, _partition.leader().topicPartition().partition(),
-                    LEADER, _partition.leader().broker().id(), FOLLOWERS, followers,
-                    Resource.CPU.resource(), _partition.leader().load().expectedUtilizationFor(Resource.CPU, _wantMaxLoad, _wantAvgLoad),
-                    Resource.DISK.resource(), _partition.leader().load().expectedUtilizationFor(Resource.DISK, _wantMaxLoad, _wantAvgLoad),
-                    Resource.NW_IN.resource(), _partition.leader().load().expectedUtilizationFor(Resource.NW_IN, _wantMaxLoad, _wantAvgLoad),
-                    Resource.NW_OUT.resource(), _partition.leader().load().expectedUtilizationFor(Resource.NW_OUT, _wantMaxLoad, _wantAvgLoad),
-                    MSG_IN, _partition.leader().load().expectedUtilizationFor(KafkaMetricDef.MESSAGE_IN_RATE, _wantMaxLoad, _wantAvgLoad));
+      return Map.of(TOPIC, _partition.topicPartition().topic(), PARTITION, _partition.topicPartition().partition(),
+                    LEADER, _partition.leader(), FOLLOWERS, _partition.followers(),
+                    Resource.CPU.resource(), _partition.utilizationFor(Resource.CPU),
+                    Resource.DISK.resource(), _partition.utilizationFor(Resource.DISK),
+                    Resource.NW_IN.resource(), _partition.utilizationFor(Resource.NW_IN),
+                    Resource.NW_OUT.resource(), _partition.utilizationFor(Resource.NW_OUT),
+                    MSG_IN, _partition.messageInRate());
     }
   }
 }
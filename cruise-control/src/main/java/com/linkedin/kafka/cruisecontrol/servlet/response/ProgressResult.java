@@ -49,7 +49,18 @@ public class ProgressResult extends AbstractCruiseControlResponse {
     boolean json = parameters.json();
     boolean wantResponseSchema = parameters.wantResponseSchema();
     discardIrrelevantResponse(parameters);
-    requestContext.writeResponseToOutputStream(SC_ACCEPTED, json, wantResponseSchema, _cachedResponse);
+    requestContext.writeResponseToOutputStream(SC_ACCEPTED, json, wantResponseSchema, _compactResponse);
+  }
+
+  /**
+   * Render the progress without caching it in the compact form -- e.g. to send the progress as an event, which would otherwise
+   * compress the progress only to decompress it right away.
+   *
+   * @param json {@code true} to render the progress in JSON, {@code false} to render it in plaintext.
+   * @return The rendered progress.
+   */
+  public String render(boolean json) {
+    return json ? getJsonString() : getPlaintext();
   }
 
   protected String getPlaintext() {
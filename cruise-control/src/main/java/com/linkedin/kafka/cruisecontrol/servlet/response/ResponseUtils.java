@@ -9,8 +9,11 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import com.linkedin.cruisecontrol.http.CruiseControlRequestContext;
+import com.linkedin.cruisecontrol.servlet.EndPoint;
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.WebServerConfig;
+import com.linkedin.kafka.cruisecontrol.servlet.parameters.ParameterUtils;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.kafka.common.config.AbstractConfig;
 import javax.servlet.http.HttpServletResponse;
@@ -18,8 +21,16 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.KAFKA_CLUSTER_STATE;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.LOAD;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.PARTITION_LOAD;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.PROPOSALS;
 
 
 /**
@@ -30,6 +41,9 @@ public final class ResponseUtils {
   public static final String VERSION = "version";
   @JsonResponseField
   public static final String MESSAGE = "message";
+  public static final String APPLICATION_CBOR = "application/cbor";
+  // Endpoints whose successful responses can be sent in CBOR.
+  public static final Set<EndPoint> CBOR_ENDPOINTS = Set.of(LOAD, PARTITION_LOAD, PROPOSALS, KAFKA_CLUSTER_STATE);
 
   private ResponseUtils() {
   }
@@ -75,6 +89,128 @@ public final class ResponseUtils {
     }
   }
 
+  /**
+   * @param config CruiseControlConfig
+   * @return {@code true} if responses may be sent with gzip encoding -- i.e. the encoding of the response varies with the
+   * Accept-Encoding header of the request, {@code false} otherwise.
+   */
+  public static boolean isGzipResponseEnabled(AbstractConfig config) {
+    return config != null && config.getBoolean(WebServerConfig.WEBSERVER_HTTP_RESPONSE_GZIP_ENABLED_CONFIG);
+  }
+
+  /**
+   * @param config CruiseControlConfig
+   * @return {@code true} if responses may be sent with CBOR encoding -- i.e. the encoding of the response varies with the Accept
+   * header of the request, {@code false} otherwise.
+   */
+  public static boolean isCborResponseEnabled(AbstractConfig config) {
+    return config != null && config.getBoolean(WebServerConfig.WEBSERVER_HTTP_RESPONSE_CBOR_ENABLED_CONFIG);
+  }
+
+  /**
+   * @param config CruiseControlConfig
+   * @param mayGzip {@code true} if the response is sent with gzip encoding when the request accepts it, {@code false} otherwise.
+   * @return The value of the Vary header to let caches tell apart the responses to requests with different Accept or
+   * Accept-Encoding headers, or {@code null} if the response does not vary with these headers.
+   */
+  public static String varyHeader(AbstractConfig config, boolean mayGzip) {
+    List<String> headers = new ArrayList<>(2);
+    if (isCborResponseEnabled(config)) {
+      headers.add("Accept");
+    }
+    if (mayGzip && isGzipResponseEnabled(config)) {
+      headers.add("Accept-Encoding");
+    }
+    return headers.isEmpty() ? null : String.join(", ", headers);
+  }
+
+  /**
+   * @param acceptEncoding Value of the Accept-Encoding header of the request, or {@code null} if the header is missing.
+   * @param config CruiseControlConfig
+   * @return {@code true} if the response should be sent with gzip encoding, {@code false} otherwise.
+   */
+  public static boolean wantGzipResponse(String acceptEncoding, AbstractConfig config) {
+    return isGzipResponseEnabled(config) && isExplicitlyAccepted(acceptEncoding, "gzip");
+  }
+
+  /**
+   * Check whether the given value is explicitly listed as acceptable in the given header -- e.g. Accept or Accept-Encoding, whose
+   * value is a comma-separated list of elements, each with optional parameters including a quality value (e.g. {@code gzip;q=0.5}).
+   * Wildcards are not considered as an explicit listing. An element with a quality value of zero (or an invalid one) is not
+   * acceptable.
+   *
+   * @param headerValue Value of the header, or {@code null} if the header is missing.
+   * @param value The value to check (case-insensitive) -- e.g. {@code gzip}.
+   * @return {@code true} if the given value is explicitly listed with a non-zero quality value, {@code false} otherwise.
+   */
+  static boolean isExplicitlyAccepted(String headerValue, String value) {
+    if (headerValue == null) {
+      return false;
+    }
+    for (String element : headerValue.split(",")) {
+      String[] parameters = element.split(";");
+      if (parameters[0].trim().equalsIgnoreCase(value)) {
+        return qualityValue(parameters) > 0.0;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param parameters The value of a header element followed by its parameters.
+   * @return The quality value of the element, {@code 1.0} if it has no quality value, or {@code 0.0} if its quality value is invalid.
+   */
+  private static double qualityValue(String[] parameters) {
+    for (int i = 1; i < parameters.length; i++) {
+      String[] nameAndValue = parameters[i].split("=", 2);
+      if (nameAndValue.length == 2 && nameAndValue[0].trim().equalsIgnoreCase("q")) {
+        try {
+          return Double.parseDouble(nameAndValue[1].trim());
+        } catch (NumberFormatException e) {
+          return 0.0;
+        }
+      }
+    }
+    return 1.0;
+  }
+
+  /**
+   * A CBOR response can be sent only if the request is for the JSON response of an endpoint with large responses, and accepts CBOR.
+   *
+   * @param requestContext The request context.
+   * @param responseCode HTTP Status code of the response.
+   * @param json {@code true} if the response is in JSON, {@code false} otherwise.
+   * @param config CruiseControlConfig
+   * @return {@code true} if the response should be sent with CBOR encoding, {@code false} otherwise.
+   */
+  public static boolean wantCborResponse(CruiseControlRequestContext requestContext, int responseCode, boolean json, AbstractConfig config) {
+    return json
+           && responseCode == HttpServletResponse.SC_OK
+           && isCborResponseEnabled(config)
+           && acceptsCbor(requestContext)
+           && CBOR_ENDPOINTS.contains(ParameterUtils.endPoint(requestContext));
+  }
+
+  /**
+   * @param requestContext The request context.
+   * @return {@code true} if the request accepts CBOR (i.e. Accept header lists application/cbor with a non-zero quality value),
+   * {@code false} otherwise.
+   */
+  public static boolean acceptsCbor(CruiseControlRequestContext requestContext) {
+    return isExplicitlyAccepted(requestContext.getHeader("Accept"), APPLICATION_CBOR);
+  }
+
+  /**
+   * Serialize the given JSON structure directly into a compact response, without materializing the JSON string.
+   *
+   * @param gson Gson to serialize the JSON structure with.
+   * @param jsonStructure JSON structure to serialize.
+   * @return A compact response with the serialized JSON structure.
+   */
+  public static CompactResponse toCompactJson(Gson gson, Object jsonStructure) {
+    return CompactResponse.write(writer -> gson.toJson(jsonStructure, writer));
+  }
+
   static String getBaseJsonString(String message) {
     Map<String, Object> jsonResponse = Map.of(VERSION, JSON_VERSION, MESSAGE, message);
     return new Gson().toJson(jsonResponse);
@@ -5,6 +5,7 @@
 package com.linkedin.kafka.cruisecontrol.servlet.response.stats;
 
 import com.google.gson.Gson;
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.model.Broker;
 import com.linkedin.kafka.cruisecontrol.model.DiskStats;
@@ -12,6 +13,7 @@ import com.linkedin.cruisecontrol.servlet.parameters.CruiseControlParameters;
 import com.linkedin.kafka.cruisecontrol.servlet.response.AbstractCruiseControlResponse;
 import com.linkedin.kafka.cruisecontrol.servlet.response.JsonResponseField;
 import com.linkedin.kafka.cruisecontrol.servlet.response.JsonResponseClass;
+import com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -37,8 +39,8 @@ public class BrokerStats extends AbstractCruiseControlResponse {
   protected int _hostFieldLength;
   protected int _rackFieldLength;
   protected int _logdirFieldLength;
-  protected String _cachedPlainTextResponse;
-  protected String _cachedJsonResponse;
+  protected CompactResponse _cachedPlainTextResponse;
+  protected CompactResponse _cachedJsonResponse;
   protected boolean _isBrokerStatsEstimated;
 
   public BrokerStats(KafkaCruiseControlConfig config) {
@@ -79,11 +81,10 @@ public class BrokerStats extends AbstractCruiseControlResponse {
     return _isBrokerStatsEstimated;
   }
 
-  protected String getJsonString() {
-    Gson gson = new Gson();
+  protected CompactResponse getCompactJson() {
     Map<String, Object> jsonStructure = getJsonStructure();
     jsonStructure.put(VERSION, JSON_VERSION);
-    return gson.toJson(jsonStructure);
+    return ResponseUtils.toCompactJson(new Gson(), jsonStructure);
   }
 
   /**
@@ -114,22 +115,22 @@ public class BrokerStats extends AbstractCruiseControlResponse {
   @Override
   protected void discardIrrelevantAndCacheRelevant(CruiseControlParameters parameters) {
     // Cache relevant response.
-    _cachedJsonResponse = getJsonString();
-    _cachedPlainTextResponse = toString();
+    _cachedJsonResponse = getCompactJson();
+    _cachedPlainTextResponse = CompactResponse.of(toString());
     // Discard irrelevant response.
     _brokerStats.clear();
     _hostStats.clear();
   }
 
   @Override
-  public void discardIrrelevantResponse(CruiseControlParameters parameters) {
+  public synchronized void discardIrrelevantResponse(CruiseControlParameters parameters) {
     if (_cachedJsonResponse == null || _cachedPlainTextResponse == null) {
       discardIrrelevantAndCacheRelevant(parameters);
       if (_cachedJsonResponse == null || _cachedPlainTextResponse == null) {
         throw new IllegalStateException("Failed to cache the relevant response.");
       }
     }
-    _cachedResponse = parameters.json() ? _cachedJsonResponse : _cachedPlainTextResponse;
+    _compactResponse = parameters.json() ? _cachedJsonResponse : _cachedPlainTextResponse;
   }
 
   @Override
@@ -6,6 +6,8 @@ package com.linkedin.kafka.cruisecontrol.vertx;
 import com.codahale.metrics.MetricRegistry;
 import com.linkedin.kafka.cruisecontrol.async.AsyncKafkaCruiseControl;
 import com.linkedin.kafka.cruisecontrol.config.constants.WebServerConfig;
+import com.linkedin.kafka.cruisecontrol.servlet.EventStream;
+import com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Promise;
 import io.vertx.core.http.HttpMethod;
@@ -118,6 +120,8 @@ public class MainVerticle extends AbstractVerticle {
 
     root.route().consumes(APPLICATION_JSON);
     root.route().produces(APPLICATION_JSON);
+    root.route().produces(EventStream.EVENT_STREAM_CONTENT_TYPE);
+    root.route().produces(ResponseUtils.APPLICATION_CBOR);
     root.route().handler(BodyHandler.create());
 
     root.route().handler(CorsHandler.create("*").allowedHeaders(allowedHeaders).allowedMethods(allowedMethods));
@@ -6,23 +6,37 @@ package com.linkedin.kafka.cruisecontrol.vertx;
 
 import com.google.gson.Gson;
 import com.linkedin.cruisecontrol.http.CruiseControlHttpSession;
-import com.linkedin.cruisecontrol.http.CruiseControlRequestContext;
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.servlet.EventStream;
+import com.linkedin.kafka.cruisecontrol.servlet.EventStreamRequestContext;
+import com.linkedin.kafka.cruisecontrol.servlet.response.JsonToCborTranscoder;
 import com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils;
+import io.vertx.core.Context;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static com.linkedin.kafka.cruisecontrol.servlet.KafkaCruiseControlServletUtils.KAFKA_CRUISE_CONTROL_HTTP_SERVLET_REQUEST_OBJECT_CONFIG;
 import static com.linkedin.kafka.cruisecontrol.servlet.KafkaCruiseControlServletUtils.ROUTING_CONTEXT_OBJECT_CONFIG;
 import static com.linkedin.kafka.cruisecontrol.servlet.UserTaskManager.USER_TASK_HEADER_NAME;
 import static com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils.getJsonSchema;
 
-public class VertxRequestContext implements CruiseControlRequestContext {
+public class VertxRequestContext implements EventStreamRequestContext {
+
+    private static final int RESPONSE_CHUNK_SIZE = 64 * 1024;
 
     protected RoutingContext _context;
 
@@ -100,10 +114,61 @@ public class VertxRequestContext implements CruiseControlRequestContext {
         if (json && wantJsonSchema) {
             _context.response().putHeader("Cruise-Control-JSON-Schema", getJsonSchema(responseMessage));
         }
+        String vary = ResponseUtils.varyHeader(_config, false);
+        if (vary != null) {
+            _context.response().putHeader(HttpHeaders.VARY, vary);
+        }
         _context.response()
                 .end(responseMessage);
     }
 
+    @Override
+    public void writeResponseToOutputStream(int responseCode, boolean json, boolean wantJsonSchema,
+                                            CompactResponse response) throws IOException {
+        ResponseUtils.setResponseCode(_context, responseCode, _config);
+        HttpServerResponse httpResponse = _context.response();
+        httpResponse.putHeader("Cruise-Control-Version", KafkaCruiseControl.cruiseControlVersion());
+        httpResponse.putHeader("Cruise-Control-Commit_Id", KafkaCruiseControl.cruiseControlCommitId());
+        if (json && wantJsonSchema) {
+            httpResponse.putHeader("Cruise-Control-JSON-Schema", getJsonSchema(response.toString()));
+        }
+        String vary = ResponseUtils.varyHeader(_config, true);
+        if (vary != null) {
+            // Let caches tell apart the CBOR and JSON, as well as the gzip-encoded and the identity-encoded responses.
+            httpResponse.putHeader(HttpHeaders.VARY, vary);
+        }
+        boolean gzip = ResponseUtils.wantGzipResponse(_context.request().getHeader(HttpHeaders.ACCEPT_ENCODING), _config);
+        if (gzip) {
+            httpResponse.putHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        boolean cbor = ResponseUtils.wantCborResponse(this, responseCode, json, _config);
+        if (cbor) {
+            httpResponse.putHeader(HttpHeaders.CONTENT_TYPE, ResponseUtils.APPLICATION_CBOR);
+        }
+        // Send the response in chunks rather than rendering it into a single buffer.
+        httpResponse.setChunked(true);
+        try (OutputStream out = new BufferedOutputStream(new ResponseOutputStream(httpResponse), RESPONSE_CHUNK_SIZE)) {
+            if (cbor) {
+                JsonToCborTranscoder.transcode(response, out, gzip);
+            } else {
+                response.writeTo(out, gzip);
+            }
+        }
+        httpResponse.end();
+    }
+
+    @Override
+    public EventStream openEventStream() {
+        ResponseUtils.setResponseCode(_context, 200, _config);
+        HttpServerResponse httpResponse = _context.response();
+        httpResponse.putHeader("Cruise-Control-Version", KafkaCruiseControl.cruiseControlVersion());
+        httpResponse.putHeader("Cruise-Control-Commit_Id", KafkaCruiseControl.cruiseControlCommitId());
+        httpResponse.putHeader(HttpHeaders.CONTENT_TYPE, EventStream.EVENT_STREAM_CONTENT_TYPE);
+        httpResponse.putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        httpResponse.setChunked(true);
+        return new ResponseEventStream(httpResponse);
+    }
+
     @Override
     public CruiseControlHttpSession getSession() {
         return _session;
@@ -164,4 +229,90 @@ public class VertxRequestContext implements CruiseControlRequestContext {
         }
         return "[" + context.request().remoteAddress().host() + "]";
     }
+
+    /**
+     * An output stream that writes each chunk of bytes to the given HTTP response. If the write queue of the response is full,
+     * a write from outside an event loop blocks until the queue drains, so that a slow client cannot make the whole response
+     * pile up in the write queue. A write on an event loop cannot block; hence, it is queued regardless.
+     */
+    private static final class ResponseOutputStream extends OutputStream {
+        private final HttpServerResponse _httpResponse;
+
+        ResponseOutputStream(HttpServerResponse httpResponse) {
+            _httpResponse = httpResponse;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(Buffer.buffer(1).appendByte((byte) b));
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            write(Buffer.buffer(len).appendBytes(b, off, len));
+        }
+
+        private void write(Buffer buffer) throws IOException {
+            if (_httpResponse.closed()) {
+                throw new IOException("The connection is closed by the client.");
+            }
+            _httpResponse.write(buffer);
+            if (_httpResponse.writeQueueFull() && !Context.isOnEventLoopThread()) {
+                awaitDrain();
+            }
+        }
+
+        private void awaitDrain() throws IOException {
+            CompletableFuture<Void> drained = new CompletableFuture<>();
+            _httpResponse.drainHandler(v -> drained.complete(null));
+            _httpResponse.closeHandler(v -> drained.completeExceptionally(new IOException("The connection is closed by the client.")));
+            // The queue may have drained, or the connection may have closed, before the handlers were set.
+            if (!_httpResponse.writeQueueFull() || _httpResponse.closed()) {
+                drained.complete(null);
+            }
+            try {
+                drained.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the response to drain.");
+            } catch (ExecutionException e) {
+                throw (IOException) e.getCause();
+            }
+        }
+    }
+
+    /**
+     * An event stream that writes each event to the given chunked HTTP response.
+     */
+    private static final class ResponseEventStream implements EventStream {
+        private final HttpServerResponse _httpResponse;
+        private volatile boolean _closedByClient;
+
+        ResponseEventStream(HttpServerResponse httpResponse) {
+            _httpResponse = httpResponse;
+            _closedByClient = false;
+            _httpResponse.closeHandler(v -> _closedByClient = true);
+        }
+
+        @Override
+        public void send(String event, String data) {
+            StringBuilder message = new StringBuilder("event: ").append(event).append('\n');
+            for (String line : data.split("\\r?\\n", -1)) {
+                message.append("data: ").append(line).append('\n');
+            }
+            _httpResponse.write(message.append('\n').toString());
+        }
+
+        @Override
+        public void close() {
+            if (!isClosed()) {
+                _httpResponse.end();
+            }
+        }
+
+        @Override
+        public boolean isClosed() {
+            return _closedByClient || _httpResponse.ended() || _httpResponse.closed();
+        }
+    }
 }
@@ -8,8 +8,10 @@ import com.codahale.metrics.MetricRegistry;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlEndPoints;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlRequestHandler;
 import com.linkedin.kafka.cruisecontrol.async.AsyncKafkaCruiseControl;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
 import io.vertx.ext.web.RoutingContext;
-import java.io.IOException;
+import java.util.concurrent.Executor;
 
 public class VertxRequestHandler {
 
@@ -27,15 +29,22 @@ public class VertxRequestHandler {
     }
 
     /**
-     * Handles the request
+     * Handles the request without blocking the event loop. Async requests complete via callbacks, and their responses or progress
+     * events are rendered and written by worker threads -- Vert.x hands the written bytes over to the context of the request, and
+     * the response writes wait for the write queue to drain. The other requests, which may block (e.g. on admin client calls), are
+     * also handled by worker threads. Error responses are written on the context of the request.
      * @param context is the request
      */
     public void handle(RoutingContext context) {
-        try {
-            _requestHandler.doGetOrPost(new VertxRequestContext(context, cruiseControlEndPoints().config()));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        Vertx vertx = context.vertx();
+        Context vertxContext = vertx.getOrCreateContext();
+        Executor blockingExecutor = command -> vertx.executeBlocking(() -> {
+            command.run();
+            return null;
+        }, false);
+        Executor responseExecutor = command -> vertxContext.runOnContext(v -> command.run());
+        _requestHandler.doGetOrPostAsync(new VertxRequestContext(context, cruiseControlEndPoints().config()),
+                                         blockingExecutor, responseExecutor);
     }
 
     public KafkaCruiseControlEndPoints cruiseControlEndPoints() {
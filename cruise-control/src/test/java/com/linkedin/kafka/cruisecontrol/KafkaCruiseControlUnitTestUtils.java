@@ -34,6 +34,7 @@ public final class KafkaCruiseControlUnitTestUtils {
   public static final String OPENAPI_SPEC_PATH = System.getProperty("user.dir") + "/src/main/resources/yaml/base.yaml";
   public static final String CRUISE_CONTROL_PACKAGE = "com.linkedin.kafka.cruisecontrol";
   public static final String JSON_CONTENT_TYPE = "application/json";
+  public static final String CBOR_CONTENT_TYPE = "application/cbor";
   public static final String PLAIN_TEXT_CONTENT_TYPE = "text/plain";
 
   private KafkaCruiseControlUnitTestUtils() {
@@ -6,6 +6,12 @@ package com.linkedin.kafka.cruisecontrol.analyzer;
 
 import com.codahale.metrics.MetricRegistry;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.Goal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.RackAwareGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.ReplicaDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.async.progress.OperationProgress;
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.common.MetadataClient;
 import com.linkedin.kafka.cruisecontrol.common.TestConstants;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig;
@@ -13,15 +19,25 @@ import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
 import com.linkedin.kafka.cruisecontrol.executor.Executor;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
 import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import junit.framework.AssertionFailedError;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.utils.SystemTime;
 import org.easymock.EasyMock;
 import org.junit.Assert;
@@ -90,6 +106,102 @@ public class GoalOptimizerTest {
     EasyMock.verify(clusterModel);
   }
 
+  @Test
+  public void testWarmStartedOptimization() throws Exception {
+    GoalOptimizer goalOptimizer = createGoalOptimizer();
+    List<Goal> goals = List.of(AnalyzerUnitTestUtils.goal(ReplicaDistributionGoal.class));
+    OptimizationOptions optimizationOptions = new OptimizationOptions(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+    OptimizerResult previousResult = goalOptimizer.optimizations(DeterministicCluster.unbalanced2(), goals, new OperationProgress(),
+                                                                 null, optimizationOptions, null);
+    Assert.assertFalse(previousResult.goalProposals().isEmpty());
+    Assert.assertEquals(0, previousResult.numReusedProposals());
+
+    // The previous proposals are still valid for the same cluster, and they are reused as-is.
+    OptimizerResult result = goalOptimizer.optimizations(DeterministicCluster.unbalanced2(), goals, new OperationProgress(),
+                                                         null, optimizationOptions, previousResult);
+    Assert.assertEquals(previousResult.goalProposals().size(), result.numReusedProposals());
+    Assert.assertEquals(previousResult.goalProposals(), result.goalProposals());
+    Assert.assertEquals(previousResult.violatedGoalsBeforeOptimization(), result.violatedGoalsBeforeOptimization());
+
+    // Only the previously violated goals that are violated in the initial state of the cluster are carried over. Rack awareness
+    // is satisfied in the initial state, because each partition has a single replica.
+    OptimizerResult staleResult = EasyMock.mock(OptimizerResult.class);
+    EasyMock.expect(staleResult.goalProposals()).andReturn(previousResult.goalProposals()).anyTimes();
+    Set<String> staleViolatedGoals = new HashSet<>(previousResult.violatedGoalsBeforeOptimization());
+    Goal rackAwareGoal = AnalyzerUnitTestUtils.goal(RackAwareGoal.class);
+    staleViolatedGoals.add(rackAwareGoal.name());
+    staleViolatedGoals.add("RemovedGoal");
+    EasyMock.expect(staleResult.violatedGoalsBeforeOptimization()).andReturn(staleViolatedGoals).anyTimes();
+    EasyMock.replay(staleResult);
+    result = goalOptimizer.optimizations(DeterministicCluster.unbalanced2(), List.of(rackAwareGoal, goals.get(0)), new OperationProgress(),
+                                         null, optimizationOptions, staleResult);
+    Assert.assertEquals(previousResult.goalProposals().size(), result.numReusedProposals());
+    Assert.assertEquals(previousResult.violatedGoalsBeforeOptimization(), result.violatedGoalsBeforeOptimization());
+
+    // The previous proposals are not valid for a cluster with a different replica distribution.
+    result = goalOptimizer.optimizations(DeterministicCluster.rackAwareSatisfiable(), goals, new OperationProgress(),
+                                         null, optimizationOptions, previousResult);
+    Assert.assertEquals(0, result.numReusedProposals());
+  }
+
+  @Test
+  public void testRevalidateCachedProposal() throws Exception {
+    Properties properties = new Properties();
+    properties.setProperty(AnalyzerConfig.PROPOSAL_REVALIDATION_MAX_LEADERSHIP_CHANGE_RATIO_CONFIG, "0.5");
+    GoalOptimizer goalOptimizer = createGoalOptimizer(properties);
+    ClusterModel clusterModel = DeterministicCluster.unbalanced2();
+    OptimizationOptions optimizationOptions = new OptimizationOptions(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+    OptimizerResult result = goalOptimizer.optimizations(clusterModel, List.of(AnalyzerUnitTestUtils.goal(ReplicaDistributionGoal.class)),
+                                                         new OperationProgress(), null, optimizationOptions, null);
+    Assert.assertFalse(result.goalProposals().isEmpty());
+    int brokerInProposals = result.goalProposals().iterator().next().oldLeader().brokerId();
+    int generation = result.modelGeneration().clusterGeneration();
+
+    // Brokers 3 and 4 are not in the cluster model, hence the proposals do not involve them.
+    TopicPartition uninvolvedPartition = new TopicPartition("uninvolved", 0);
+    TopicPartition involvedPartition = new TopicPartition("involved", 0);
+    Map<TopicPartition, List<Integer>> replicasByPartition = new HashMap<>();
+    Map<TopicPartition, Integer> leaderByPartition = new HashMap<>();
+    DeterministicCluster.unbalanced2().getReplicaDistribution().forEach(
+        (tp, replicas) -> replicasByPartition.put(tp, replicas.stream().map(ReplicaPlacementInfo::brokerId).collect(Collectors.toList())));
+    DeterministicCluster.unbalanced2().getLeaderDistribution().forEach((tp, leader) -> leaderByPartition.put(tp, leader.brokerId()));
+    replicasByPartition.put(uninvolvedPartition, List.of(3, 4));
+    leaderByPartition.put(uninvolvedPartition, 3);
+    replicasByPartition.put(involvedPartition, List.of(3, brokerInProposals));
+    leaderByPartition.put(involvedPartition, 3);
+    goalOptimizer.updateCachedProposals(result, cluster(replicasByPartition, leaderByPartition));
+
+    // Case 1: The leadership has changed only on the brokers that the proposals do not involve.
+    leaderByPartition.put(uninvolvedPartition, 4);
+    Cluster cluster = cluster(replicasByPartition, leaderByPartition);
+    Assert.assertTrue(goalOptimizer.revalidateCachedProposal(new MetadataClient.ClusterAndGeneration(cluster, generation + 1)));
+
+    // Case 2: The leadership has changed on a broker that the proposals involve.
+    leaderByPartition.put(involvedPartition, brokerInProposals);
+    cluster = cluster(replicasByPartition, leaderByPartition);
+    Assert.assertFalse(goalOptimizer.revalidateCachedProposal(new MetadataClient.ClusterAndGeneration(cluster, generation + 2)));
+
+    // Case 3: The ratio of partitions with a leadership change exceeds the limit.
+    properties.setProperty(AnalyzerConfig.PROPOSAL_REVALIDATION_MAX_LEADERSHIP_CHANGE_RATIO_CONFIG, "0");
+    goalOptimizer = createGoalOptimizer(properties);
+    leaderByPartition.put(involvedPartition, 3);
+    goalOptimizer.updateCachedProposals(result, cluster(replicasByPartition, leaderByPartition));
+    leaderByPartition.put(uninvolvedPartition, 3);
+    cluster = cluster(replicasByPartition, leaderByPartition);
+    Assert.assertFalse(goalOptimizer.revalidateCachedProposal(new MetadataClient.ClusterAndGeneration(cluster, generation + 1)));
+  }
+
+  private static Cluster cluster(Map<TopicPartition, List<Integer>> replicasByPartition, Map<TopicPartition, Integer> leaderByPartition) {
+    Map<Integer, Node> nodesById = new HashMap<>();
+    replicasByPartition.values().forEach(replicas -> replicas.forEach(id -> nodesById.computeIfAbsent(id, i -> new Node(i, "host" + i, 9092))));
+    List<PartitionInfo> partitions = new ArrayList<>();
+    replicasByPartition.forEach((tp, replicas) -> {
+      Node[] replicaNodes = replicas.stream().map(nodesById::get).toArray(Node[]::new);
+      partitions.add(new PartitionInfo(tp.topic(), tp.partition(), nodesById.get(leaderByPartition.get(tp)), replicaNodes, replicaNodes));
+    });
+    return new Cluster("id", nodesById.values(), partitions, Collections.emptySet(), Collections.emptySet());
+  }
+
   private GoalOptimizer createGoalOptimizer() {
     return createGoalOptimizer(new Properties());
   }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.analyzer.goals;
+
+import com.linkedin.kafka.cruisecontrol.analyzer.AnalyzerUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.AnalyzerUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizationOptions;
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for checking whether a {@link CapacityGoal} is violated without optimizing the cluster model.
+ */
+public class CapacityGoalTest {
+  private static final List<Class<? extends Goal>> CAPACITY_GOALS = List.of(CpuCapacityGoal.class,
+                                                                            DiskCapacityGoal.class,
+                                                                            NetworkInboundCapacityGoal.class,
+                                                                            NetworkOutboundCapacityGoal.class);
+  private static final OptimizationOptions OPTIMIZATION_OPTIONS =
+      new OptimizationOptions(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+  @Test
+  public void testIsNotViolatedUnderCapacityLimit() throws Exception {
+    for (Class<? extends Goal> goalClass : CAPACITY_GOALS) {
+      ClusterModel clusterModel = DeterministicCluster.rackAwareSatisfiable();
+      Goal goal = AnalyzerUnitTestUtils.goal(goalClass);
+      assertFalse(goal.name(), goal.isViolated(clusterModel, OPTIMIZATION_OPTIONS));
+      assertFalse(goal.name(), optimizeHasDiff(goal, clusterModel));
+    }
+  }
+
+  @Test
+  public void testIsViolatedOverCapacityLimit() throws Exception {
+    ClusterModel clusterModel = DeterministicCluster.unbalanced();
+    Goal goal = AnalyzerUnitTestUtils.goal(CpuCapacityGoal.class);
+    assertTrue(goal.isViolated(clusterModel, OPTIMIZATION_OPTIONS));
+    assertTrue(optimizeHasDiff(goal, clusterModel));
+  }
+
+  @Test
+  public void testIsViolatedIsConsistentWithOptimization() throws Exception {
+    for (Class<? extends Goal> goalClass : CAPACITY_GOALS) {
+      ClusterModel clusterModel = DeterministicCluster.unbalanced();
+      Goal goal = AnalyzerUnitTestUtils.goal(goalClass);
+      if (!goal.isViolated(clusterModel, OPTIMIZATION_OPTIONS)) {
+        // A goal that is not violated must be satisfied without relocating any replica or leadership.
+        assertFalse(goal.name(), optimizeHasDiff(goal, clusterModel));
+      }
+    }
+  }
+
+  private static boolean optimizeHasDiff(Goal goal, ClusterModel clusterModel) throws Exception {
+    Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+    Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
+    goal.optimize(clusterModel, Collections.emptySet(), OPTIMIZATION_OPTIONS);
+    return AnalyzerUtils.hasDiff(initReplicaDistribution, initLeaderDistribution, clusterModel);
+  }
+}
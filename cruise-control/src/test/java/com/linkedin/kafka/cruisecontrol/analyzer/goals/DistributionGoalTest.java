@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.analyzer.goals;
+
+import com.linkedin.kafka.cruisecontrol.analyzer.AnalyzerUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.AnalyzerUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizationOptions;
+import com.linkedin.kafka.cruisecontrol.analyzer.ProvisionStatus;
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for checking whether a {@link ReplicaDistributionAbstractGoal} or a {@link ResourceDistributionGoal} is violated
+ * without optimizing the cluster model.
+ */
+public class DistributionGoalTest {
+  private static final List<Class<? extends Goal>> DISTRIBUTION_GOALS = List.of(ReplicaDistributionGoal.class,
+                                                                                LeaderReplicaDistributionGoal.class,
+                                                                                CpuUsageDistributionGoal.class,
+                                                                                DiskUsageDistributionGoal.class,
+                                                                                NetworkInboundUsageDistributionGoal.class,
+                                                                                NetworkOutboundUsageDistributionGoal.class);
+  private static final List<Supplier<ClusterModel>> CLUSTER_MODELS = List.of(DeterministicCluster::rackAwareSatisfiable,
+                                                                             DeterministicCluster::minLeaderReplicaPerBrokerSatisfiable,
+                                                                             DeterministicCluster::minLeaderReplicaPerBrokerSatisfiable2,
+                                                                             DeterministicCluster::unbalanced,
+                                                                             DeterministicCluster::unbalanced2);
+  private static final OptimizationOptions OPTIMIZATION_OPTIONS =
+      new OptimizationOptions(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+  @Test
+  public void testIsNotViolatedWithinBalanceLimits() throws Exception {
+    // Each broker has two replicas, and at most two leader replicas.
+    for (Class<? extends Goal> goalClass : List.of(ReplicaDistributionGoal.class, LeaderReplicaDistributionGoal.class)) {
+      ClusterModel clusterModel = DeterministicCluster.minLeaderReplicaPerBrokerSatisfiable();
+      Goal goal = AnalyzerUnitTestUtils.goal(goalClass);
+      assertFalse(goal.name(), goal.isViolated(clusterModel, OPTIMIZATION_OPTIONS));
+      assertFalse(goal.name(), optimizeHasDiff(goal, clusterModel, OPTIMIZATION_OPTIONS));
+    }
+  }
+
+  @Test
+  public void testIsViolatedOutsideBalanceLimits() throws Exception {
+    // Broker 2 has no replicas.
+    ClusterModel clusterModel = DeterministicCluster.unbalanced2();
+    Goal goal = AnalyzerUnitTestUtils.goal(ReplicaDistributionGoal.class);
+    assertTrue(goal.isViolated(clusterModel, OPTIMIZATION_OPTIONS));
+    assertTrue(optimizeHasDiff(goal, clusterModel, OPTIMIZATION_OPTIONS));
+
+    // Broker 0 has all the leader replicas.
+    clusterModel = DeterministicCluster.minLeaderReplicaPerBrokerSatisfiable2();
+    goal = AnalyzerUnitTestUtils.goal(LeaderReplicaDistributionGoal.class);
+    assertTrue(goal.isViolated(clusterModel, OPTIMIZATION_OPTIONS));
+  }
+
+  @Test
+  public void testIsViolatedWithReplicasOnExcludedBrokers() throws Exception {
+    OptimizationOptions optimizationOptions = new OptimizationOptions(Collections.emptySet(), Collections.emptySet(), Set.of(2));
+    for (Class<? extends Goal> goalClass : DISTRIBUTION_GOALS) {
+      if (goalClass == LeaderReplicaDistributionGoal.class) {
+        // Broker 2 hosts no leader replicas.
+        continue;
+      }
+      ClusterModel clusterModel = DeterministicCluster.minLeaderReplicaPerBrokerSatisfiable();
+      Goal goal = AnalyzerUnitTestUtils.goal(goalClass);
+      assertTrue(goal.name(), goal.isViolated(clusterModel, optimizationOptions));
+    }
+  }
+
+  @Test
+  public void testIsViolatedIsConsistentWithOptimization() throws Exception {
+    for (Class<? extends Goal> goalClass : DISTRIBUTION_GOALS) {
+      for (Supplier<ClusterModel> clusterModelSupplier : CLUSTER_MODELS) {
+        ClusterModel clusterModel = clusterModelSupplier.get();
+        Goal goal = AnalyzerUnitTestUtils.goal(goalClass);
+        if (!goal.isViolated(clusterModel, OPTIMIZATION_OPTIONS)) {
+          // A goal that is not violated must be satisfied without relocating any replica or leadership, and must identify the
+          // same provision status as the optimization.
+          ProvisionStatus provisionStatus = goal.provisionStatus();
+          assertFalse(goal.name(), optimizeHasDiff(goal, clusterModel, OPTIMIZATION_OPTIONS));
+          assertEquals(goal.name(), provisionStatus, goal.provisionStatus());
+        }
+      }
+    }
+  }
+
+  private static boolean optimizeHasDiff(Goal goal, ClusterModel clusterModel, OptimizationOptions optimizationOptions) throws Exception {
+    Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+    Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
+    goal.optimize(clusterModel, Collections.emptySet(), optimizationOptions);
+    return AnalyzerUtils.hasDiff(initReplicaDistribution, initLeaderDistribution, clusterModel);
+  }
+}
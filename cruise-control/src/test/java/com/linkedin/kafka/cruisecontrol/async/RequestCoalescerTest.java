@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.async;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.WebServerConfig;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.OperationFuture;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils.KAFKA_CRUISE_CONTROL_SERVLET_SENSOR;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.LOAD;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.PROPOSALS;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.REBALANCE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link RequestCoalescer}
+ */
+public class RequestCoalescerTest {
+  private static final Map<String, String[]> PARAMS = Map.of("json", new String[]{"true"},
+                                                             "goals", new String[]{"DiskCapacityGoal", "RackAwareGoal"});
+  private static final Map<String, String[]> EQUIVALENT_PARAMS = Map.of("goals", new String[]{"DiskCapacityGoal", "RackAwareGoal"},
+                                                                        "JSON", new String[]{"true"});
+
+  private static RequestCoalescer requestCoalescer(boolean enabled,
+                                                   MetricRegistry metricRegistry,
+                                                   AtomicReference<ModelGeneration> generation) {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.setProperty(WebServerConfig.WEBSERVER_REQUEST_COALESCING_ENABLED_CONFIG, Boolean.toString(enabled));
+    return new RequestCoalescer(new KafkaCruiseControlConfig(props), metricRegistry, generation::get);
+  }
+
+  @Test
+  public void testCanCoalesce() {
+    AtomicReference<ModelGeneration> generation = new AtomicReference<>(new ModelGeneration(0, 0L));
+    RequestCoalescer requestCoalescer = requestCoalescer(true, new MetricRegistry(), generation);
+    assertTrue(requestCoalescer.canCoalesce(PROPOSALS, PARAMS));
+    assertTrue(requestCoalescer.canCoalesce(LOAD, Map.of("ignore_proposal_cache", new String[]{"false"})));
+    assertFalse(requestCoalescer.canCoalesce(PROPOSALS, Map.of("ignore_proposal_cache", new String[]{"true"})));
+    assertFalse(requestCoalescer.canCoalesce(REBALANCE, PARAMS));
+    assertFalse(requestCoalescer(false, new MetricRegistry(), generation).canCoalesce(PROPOSALS, PARAMS));
+  }
+
+  @Test
+  public void testEquivalentRequestsShareOperationWithinGeneration() {
+    MetricRegistry metricRegistry = new MetricRegistry();
+    AtomicReference<ModelGeneration> generation = new AtomicReference<>(new ModelGeneration(0, 0L));
+    RequestCoalescer requestCoalescer = requestCoalescer(true, metricRegistry, generation);
+    AtomicInteger numCreated = new AtomicInteger(0);
+
+    // An in-flight operation is shared by equivalent requests.
+    OperationFuture inFlight = requestCoalescer.getOrCreate(PROPOSALS, PARAMS, () -> newOperation(numCreated));
+    assertSame(inFlight, requestCoalescer.getOrCreate(PROPOSALS, EQUIVALENT_PARAMS, () -> newOperation(numCreated)));
+    assertEquals(1, numCreated.get());
+
+    // A completed operation is reused until the generation changes.
+    inFlight.complete(null);
+    assertSame(inFlight, requestCoalescer.getOrCreate(PROPOSALS, PARAMS, () -> newOperation(numCreated)));
+    assertEquals(2L, metricRegistry.meter(MetricRegistry.name(KAFKA_CRUISE_CONTROL_SERVLET_SENSOR, "coalesced-request-rate"))
+                                   .getCount());
+
+    // Different endpoint or parameters do not share the operation.
+    assertNotSame(inFlight, requestCoalescer.getOrCreate(LOAD, PARAMS, () -> newOperation(numCreated)));
+    assertNotSame(inFlight, requestCoalescer.getOrCreate(PROPOSALS, Map.of("json", new String[]{"false"}),
+                                                         () -> newOperation(numCreated)));
+    // The order and repetition of parameter values matter, e.g. only the first value of a parameter may be parsed.
+    Map<String, String[]> reorderedValues = Map.of("json", new String[]{"true"}, "goals", new String[]{"RackAwareGoal", "DiskCapacityGoal"});
+    Map<String, String[]> repeatedValues = Map.of("json", new String[]{"true", "true"},
+                                                  "goals", new String[]{"DiskCapacityGoal", "RackAwareGoal"});
+    assertNotSame(inFlight, requestCoalescer.getOrCreate(PROPOSALS, reorderedValues, () -> newOperation(numCreated)));
+    assertNotSame(inFlight, requestCoalescer.getOrCreate(PROPOSALS, repeatedValues, () -> newOperation(numCreated)));
+    assertEquals(5, numCreated.get());
+    assertEquals(5, requestCoalescer.numCachedOperations());
+
+    // A new generation invalidates the operations of earlier generations.
+    generation.set(new ModelGeneration(0, 1L));
+    assertNotSame(inFlight, requestCoalescer.getOrCreate(PROPOSALS, PARAMS, () -> newOperation(numCreated)));
+    assertEquals(1, requestCoalescer.numCachedOperations());
+  }
+
+  @Test
+  public void testFailedOperationIsNotReused() {
+    AtomicReference<ModelGeneration> generation = new AtomicReference<>(new ModelGeneration(0, 0L));
+    RequestCoalescer requestCoalescer = requestCoalescer(true, new MetricRegistry(), generation);
+    AtomicInteger numCreated = new AtomicInteger(0);
+
+    OperationFuture failed = requestCoalescer.getOrCreate(LOAD, PARAMS, () -> newOperation(numCreated));
+    failed.completeExceptionally(new IllegalStateException("Not enough valid windows."));
+    OperationFuture retried = requestCoalescer.getOrCreate(LOAD, PARAMS, () -> newOperation(numCreated));
+    assertNotSame(failed, retried);
+
+    retried.cancel(true);
+    assertNotSame(retried, requestCoalescer.getOrCreate(LOAD, PARAMS, () -> newOperation(numCreated)));
+    assertEquals(3, numCreated.get());
+  }
+
+  private static OperationFuture newOperation(AtomicInteger numCreated) {
+    numCreated.incrementAndGet();
+    return new OperationFuture("Test");
+  }
+}
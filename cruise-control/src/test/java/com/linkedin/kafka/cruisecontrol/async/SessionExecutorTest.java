@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.async;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.WebServerConfig;
+import com.linkedin.kafka.cruisecontrol.servlet.TooManyRequestsException;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils.KAFKA_CRUISE_CONTROL_SERVLET_SENSOR;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.LOAD;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.PARTITION_LOAD;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.PROPOSALS;
+import static com.linkedin.kafka.cruisecontrol.servlet.CruiseControlEndPoint.REBALANCE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+/**
+ * Unit test for {@link SessionExecutor}
+ */
+public class SessionExecutorTest {
+  private static final long TIMEOUT_MS = 10000L;
+
+  private static SessionExecutor sessionExecutor(MetricRegistry metricRegistry) {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.setProperty(WebServerConfig.WEBSERVER_REQUEST_MONITORING_LANE_ENDPOINTS_CONFIG, "load,partition_load");
+    props.setProperty(WebServerConfig.WEBSERVER_REQUEST_MONITORING_LANE_NUM_THREADS_CONFIG, "1");
+    props.setProperty(WebServerConfig.WEBSERVER_REQUEST_OPTIMIZATION_LANE_NUM_THREADS_CONFIG, "1");
+    props.setProperty(WebServerConfig.WEBSERVER_REQUEST_LANE_MAX_QUEUED_REQUESTS_CONFIG, "1");
+    return new SessionExecutor(new KafkaCruiseControlConfig(props), metricRegistry);
+  }
+
+  @Test
+  public void testLaneForEndpoint() {
+    SessionExecutor sessionExecutor = sessionExecutor(new MetricRegistry());
+    try {
+      assertEquals(RequestLane.MONITORING, sessionExecutor.laneFor(LOAD));
+      assertEquals(RequestLane.MONITORING, sessionExecutor.laneFor(PARTITION_LOAD));
+      assertEquals(RequestLane.OPTIMIZATION, sessionExecutor.laneFor(PROPOSALS));
+      assertEquals(RequestLane.OPTIMIZATION, sessionExecutor.laneFor(REBALANCE));
+    } finally {
+      sessionExecutor.shutdown();
+    }
+  }
+
+  @Test
+  public void testSlowOptimizationDoesNotBlockMonitoringAndFullLaneRejects() throws InterruptedException {
+    MetricRegistry metricRegistry = new MetricRegistry();
+    SessionExecutor sessionExecutor = sessionExecutor(metricRegistry);
+    CountDownLatch optimizationStarted = new CountDownLatch(1);
+    CountDownLatch releaseOptimization = new CountDownLatch(1);
+    try {
+      // Occupy the only thread of the optimization lane, then fill its queue.
+      sessionExecutor.execute(PROPOSALS, () -> {
+        optimizationStarted.countDown();
+        try {
+          releaseOptimization.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      assertTrue(optimizationStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+      sessionExecutor.execute(REBALANCE, () -> { });
+      assertEquals(1, sessionExecutor.numQueuedRequests(RequestLane.OPTIMIZATION));
+
+      try {
+        sessionExecutor.execute(PROPOSALS, () -> { });
+        fail("Should have rejected the request due to the full optimization lane.");
+      } catch (TooManyRequestsException tmre) {
+        // Expected.
+      }
+      assertEquals(1L, metricRegistry.meter(MetricRegistry.name(KAFKA_CRUISE_CONTROL_SERVLET_SENSOR,
+                                                                "optimization-lane-request-rejection-rate")).getCount());
+
+      // The monitoring lane still executes requests.
+      CountDownLatch loadExecuted = new CountDownLatch(1);
+      sessionExecutor.execute(LOAD, loadExecuted::countDown);
+      assertTrue(loadExecuted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    } finally {
+      releaseOptimization.countDown();
+      sessionExecutor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.detector;
+
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.common.MetadataClient;
+import com.linkedin.kafka.cruisecontrol.executor.ExecutorState;
+import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import com.linkedin.kafka.cruisecontrol.monitor.task.LoadMonitorTaskRunner;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.easymock.EasyMock;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectionInputsProvider.MAX_INPUTS_AGE_MS;
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.MAX_METADATA_WAIT_MS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+
+/**
+ * Unit test for {@link AnomalyDetectionInputsProvider}.
+ */
+public class AnomalyDetectionInputsProviderTest {
+  private static final long START_TIME_MS = 100L;
+
+  @Test
+  public void testInputsAreSharedWithinDetectionRound() {
+    Node[] nodes = {new Node(0, "host0", 9092), new Node(1, "host1", 9092)};
+    // Broker 1 hosts an offline replica, and broker 2 is dead.
+    Node deadNode = new Node(2, "host2", 9092);
+    Node[] replicas = {nodes[0], nodes[1], deadNode};
+    PartitionInfo partitionInfo = new PartitionInfo("topic", 0, nodes[0], replicas, new Node[]{nodes[0]}, new Node[]{nodes[1]});
+    Cluster cluster = new Cluster("id", Arrays.asList(nodes), Collections.singleton(partitionInfo),
+                                  Collections.emptySet(), Collections.emptySet());
+    MetadataClient.ClusterAndGeneration clusterAndGeneration = new MetadataClient.ClusterAndGeneration(cluster, 1);
+    ModelGeneration modelGeneration = new ModelGeneration(1, 2L);
+
+    LoadMonitor mockLoadMonitor = EasyMock.mock(LoadMonitor.class);
+    // A snapshot is taken in the first detection round, and again in the second detection round.
+    EasyMock.expect(mockLoadMonitor.refreshClusterAndGeneration(MAX_METADATA_WAIT_MS)).andReturn(clusterAndGeneration).times(2);
+    EasyMock.expect(mockLoadMonitor.clusterModelGeneration(clusterAndGeneration)).andReturn(modelGeneration).times(2);
+    ExecutorState executorState = ExecutorState.noTaskInProgress(Collections.emptySet(), Collections.emptySet());
+    KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
+    EasyMock.expect(mockKafkaCruiseControl.loadMonitor()).andReturn(mockLoadMonitor).times(2);
+    EasyMock.expect(mockKafkaCruiseControl.getLoadMonitorTaskRunnerState())
+            .andReturn(LoadMonitorTaskRunner.LoadMonitorTaskRunnerState.RUNNING).times(2);
+    EasyMock.expect(mockKafkaCruiseControl.executorState()).andReturn(executorState).times(2);
+    // Time of (1) the first snapshot, (2) the age check and (3) the age check and the second snapshot.
+    EasyMock.expect(mockKafkaCruiseControl.timeMs()).andReturn(START_TIME_MS);
+    EasyMock.expect(mockKafkaCruiseControl.timeMs()).andReturn(START_TIME_MS + MAX_INPUTS_AGE_MS);
+    EasyMock.expect(mockKafkaCruiseControl.timeMs()).andReturn(START_TIME_MS + MAX_INPUTS_AGE_MS + 1).times(2);
+    EasyMock.replay(mockLoadMonitor, mockKafkaCruiseControl);
+
+    AnomalyDetectionInputsProvider inputsProvider = new AnomalyDetectionInputsProvider(mockKafkaCruiseControl);
+    AnomalyDetectionInputs inputs = inputsProvider.inputs();
+    assertSame(cluster, inputs.cluster());
+    assertEquals(modelGeneration, inputs.modelGeneration());
+    assertEquals(Set.of(1), inputs.brokersWithOfflineReplicas());
+    assertEquals(Set.of(2), inputs.deadBrokersWithReplicas());
+    assertSame(executorState, inputs.executorState());
+    assertEquals(AnomalyDetectionStatus.SKIP_HAS_OFFLINE_REPLICAS, AnomalyDetectorUtils.getAnomalyDetectionStatus(inputs, true, true));
+
+    // Detectors in the same detection round share the snapshot.
+    assertSame(inputs, inputsProvider.inputs());
+    // A new snapshot is taken once the last snapshot is too old.
+    AnomalyDetectionInputs nextInputs = inputsProvider.inputs();
+    assertNotSame(inputs, nextInputs);
+    assertEquals(START_TIME_MS + MAX_INPUTS_AGE_MS + 1, nextInputs.createTimeMs());
+    EasyMock.verify(mockLoadMonitor, mockKafkaCruiseControl);
+  }
+}
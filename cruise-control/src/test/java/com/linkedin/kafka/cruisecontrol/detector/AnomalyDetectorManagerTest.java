@@ -172,6 +172,8 @@ public class AnomalyDetectorManagerTest {
     KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
     EasyMock.expect(mockAnomalyNotifier.onBrokerFailure(EasyMock.isA(BrokerFailures.class)))
             .andReturn(AnomalyNotificationResult.check(MOCK_DELAY_CHECK_MS));
+    // Self-healing is disabled; hence, the fix is not precomputed during the delay.
+    EasyMock.expect(mockAnomalyNotifier.selfHealingEnabled()).andReturn(Map.of(KafkaAnomalyType.BROKER_FAILURE, false));
     EasyMock.expect(mockAnomalyNotifier.selfHealingEnabledRatio()).andReturn(MOCK_SELF_HEALING_ENABLED_RATIO);
     Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
     KafkaCruiseControlConfig kafkaCruiseControlConfig = new KafkaCruiseControlConfig(props);
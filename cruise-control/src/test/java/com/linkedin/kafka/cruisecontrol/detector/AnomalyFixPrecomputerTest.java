@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.detector;
+
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizerResult;
+import com.linkedin.kafka.cruisecontrol.exception.KafkaCruiseControlException;
+import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.easymock.EasyMock;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link AnomalyFixPrecomputer}.
+ */
+public class AnomalyFixPrecomputerTest {
+  private static final ModelGeneration MODEL_GENERATION = new ModelGeneration(1, 1L);
+  private static final long MAX_WAIT_MS = 10000L;
+
+  @Test
+  public void testPrecomputedFixIsUsedByAnomalyWithSameFix() throws KafkaCruiseControlException, InterruptedException {
+    OptimizerResult mockOptimizerResult = EasyMock.mock(OptimizerResult.class);
+    EasyMock.expect(mockOptimizerResult.modelGeneration()).andReturn(MODEL_GENERATION).anyTimes();
+    LoadMonitor mockLoadMonitor = EasyMock.mock(LoadMonitor.class);
+    EasyMock.expect(mockLoadMonitor.clusterModelGeneration()).andReturn(MODEL_GENERATION).anyTimes();
+    KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
+    EasyMock.expect(mockKafkaCruiseControl.loadMonitor()).andReturn(mockLoadMonitor).anyTimes();
+
+    // The first detection of a broker failure precomputes the fix.
+    PrecomputableAnomaly mockFirstDetection = EasyMock.mock(PrecomputableAnomaly.class);
+    EasyMock.expect(mockFirstDetection.precomputableFixKey()).andReturn(Set.of(0)).anyTimes();
+    EasyMock.expect(mockFirstDetection.precomputeFix()).andReturn(mockOptimizerResult);
+    // The next detection of the same broker failure uses the precomputed fix.
+    PrecomputableAnomaly mockNextDetection = EasyMock.mock(PrecomputableAnomaly.class);
+    EasyMock.expect(mockNextDetection.precomputableFixKey()).andReturn(Set.of(0)).anyTimes();
+    mockNextDetection.setPrecomputedFix(mockOptimizerResult);
+    EasyMock.expectLastCall();
+    // A failure of another broker has a different fix.
+    PrecomputableAnomaly mockOtherAnomaly = EasyMock.mock(PrecomputableAnomaly.class);
+    EasyMock.expect(mockOtherAnomaly.precomputableFixKey()).andReturn(Set.of(1)).anyTimes();
+    // An anomaly whose fix cannot be precomputed in its current state (e.g. unfixable broker failures).
+    PrecomputableAnomaly mockUnsupportedAnomaly = EasyMock.mock(PrecomputableAnomaly.class);
+    EasyMock.expect(mockUnsupportedAnomaly.precomputableFixKey()).andReturn(null).anyTimes();
+    // An anomaly type that does not support precomputing its fix.
+    KafkaAnomaly mockOtherAnomalyType = EasyMock.mock(KafkaAnomaly.class);
+    EasyMock.replay(mockOptimizerResult, mockLoadMonitor, mockKafkaCruiseControl, mockFirstDetection, mockNextDetection,
+                    mockOtherAnomaly, mockUnsupportedAnomaly, mockOtherAnomalyType);
+
+    AnomalyFixPrecomputer anomalyFixPrecomputer = new AnomalyFixPrecomputer(mockKafkaCruiseControl, MAX_WAIT_MS);
+    try {
+      assertFalse(anomalyFixPrecomputer.maybePrecomputeFix(mockUnsupportedAnomaly));
+      assertFalse(anomalyFixPrecomputer.maybePrecomputeFix(mockOtherAnomalyType));
+      assertTrue(anomalyFixPrecomputer.maybePrecomputeFix(mockFirstDetection));
+      // The same fix is either being precomputed or has a valid precomputed result.
+      assertFalse(anomalyFixPrecomputer.maybePrecomputeFix(mockNextDetection));
+
+      assertFalse(anomalyFixPrecomputer.maybeUsePrecomputedFix(mockOtherAnomaly));
+      assertFalse(anomalyFixPrecomputer.maybeUsePrecomputedFix(mockOtherAnomalyType));
+      assertTrue(anomalyFixPrecomputer.maybeUsePrecomputedFix(mockNextDetection));
+      // A precomputed fix is used at most once.
+      assertFalse(anomalyFixPrecomputer.maybeUsePrecomputedFix(mockNextDetection));
+    } finally {
+      anomalyFixPrecomputer.shutdown();
+    }
+    EasyMock.verify(mockFirstDetection, mockNextDetection, mockOtherAnomaly, mockUnsupportedAnomaly, mockOtherAnomalyType);
+  }
+
+  @Test
+  public void testPrecomputationIsCancelledAfterMaxWait() throws KafkaCruiseControlException, InterruptedException {
+    CountDownLatch precomputationStarted = new CountDownLatch(1);
+    CountDownLatch precomputationInterrupted = new CountDownLatch(1);
+    KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
+    PrecomputableAnomaly mockAnomaly = EasyMock.mock(PrecomputableAnomaly.class);
+    EasyMock.expect(mockAnomaly.precomputableFixKey()).andReturn(Set.of(0)).anyTimes();
+    // The precomputation blocks until it is interrupted.
+    EasyMock.expect(mockAnomaly.precomputeFix()).andAnswer(() -> {
+      precomputationStarted.countDown();
+      try {
+        new CountDownLatch(1).await();
+      } catch (InterruptedException e) {
+        precomputationInterrupted.countDown();
+      }
+      return null;
+    });
+    EasyMock.replay(mockKafkaCruiseControl, mockAnomaly);
+
+    AnomalyFixPrecomputer anomalyFixPrecomputer = new AnomalyFixPrecomputer(mockKafkaCruiseControl, 10L);
+    try {
+      assertTrue(anomalyFixPrecomputer.maybePrecomputeFix(mockAnomaly));
+      assertTrue(precomputationStarted.await(MAX_WAIT_MS, TimeUnit.MILLISECONDS));
+      // The fix is computed from scratch, and the precomputation that did not complete in time is cancelled.
+      assertFalse(anomalyFixPrecomputer.maybeUsePrecomputedFix(mockAnomaly));
+      assertTrue(precomputationInterrupted.await(MAX_WAIT_MS, TimeUnit.MILLISECONDS));
+    } finally {
+      anomalyFixPrecomputer.shutdown();
+    }
+    EasyMock.verify(mockAnomaly);
+  }
+}
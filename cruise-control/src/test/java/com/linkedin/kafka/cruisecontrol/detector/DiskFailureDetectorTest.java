@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.detector;
+
+import com.linkedin.cruisecontrol.detector.Anomaly;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.AnomalyDetectorConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
+import com.linkedin.kafka.cruisecontrol.executor.ExecutorState;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import com.linkedin.kafka.cruisecontrol.monitor.task.LoadMonitorTaskRunner;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DescribeLogDirsResult;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.errors.KafkaStorageException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.easymock.EasyMock;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link DiskFailureDetector} with a mocked admin client.
+ */
+public class DiskFailureDetectorTest {
+  private static final String TOPIC = "topic";
+  private static final String LOGDIR_0 = "/tmp/kafka-logs-0";
+  private static final String LOGDIR_1 = "/tmp/kafka-logs-1";
+  private static final long LOGDIR_RESPONSE_TIMEOUT_MS = 100L;
+  private Queue<Anomaly> _anomalies;
+  private Map<Integer, KafkaFuture<Map<String, LogDirDescription>>> _responseByBroker;
+  private List<Set<Integer>> _describedBrokers;
+  private Cluster _cluster;
+  private int _clusterGeneration;
+  private long _timeMs;
+
+  /**
+   * Set up a cluster of three brokers, whose disks are all healthy.
+   */
+  @Before
+  public void setUp() {
+    _anomalies = new LinkedList<>();
+    _responseByBroker = new HashMap<>();
+    _describedBrokers = new ArrayList<>();
+    _cluster = cluster(3, Collections.emptySet());
+    _clusterGeneration = 0;
+    _timeMs = 0L;
+    for (int broker = 0; broker < 3; broker++) {
+      respond(broker);
+    }
+  }
+
+  @Test
+  public void testFailedDisksAreKeptForBrokersWithoutResponse() {
+    DiskFailureDetector diskFailureDetector = createDiskFailureDetector(false);
+    respond(0, LOGDIR_0);
+    assertEquals(Map.of(0, Map.of(LOGDIR_0, 100L)), detect(diskFailureDetector, 100L));
+
+    // The logdirs of broker 0 cannot be described, and broker 1 does not respond within the logdir response timeout.
+    respondWithError(0);
+    _responseByBroker.put(1, new KafkaFutureImpl<>());
+    assertEquals(Map.of(0, Map.of(LOGDIR_0, 100L)), detect(diskFailureDetector, 200L));
+    assertEquals(List.of(Set.of(0, 1, 2), Set.of(0, 1, 2)), _describedBrokers);
+  }
+
+  @Test
+  public void testRecoveredDisksAreCleared() {
+    DiskFailureDetector diskFailureDetector = createDiskFailureDetector(false);
+    respond(0, LOGDIR_0, LOGDIR_1);
+    assertEquals(Map.of(0, Map.of(LOGDIR_0, 100L, LOGDIR_1, 100L)), detect(diskFailureDetector, 100L));
+
+    // A disk that is still failed keeps the time it was first detected.
+    respond(0, LOGDIR_1);
+    assertEquals(Map.of(0, Map.of(LOGDIR_1, 100L)), detect(diskFailureDetector, 200L));
+
+    respond(0);
+    assertTrue(detect(diskFailureDetector, 300L).isEmpty());
+  }
+
+  @Test
+  public void testLightweightScanDescribesBrokersThatMayHaveChanged() {
+    DiskFailureDetector diskFailureDetector = createDiskFailureDetector(true);
+    respond(0, LOGDIR_0);
+    assertEquals(Map.of(0, Map.of(LOGDIR_0, 100L)), detect(diskFailureDetector, 100L));
+
+    // Broker 0 had failed disks in the last detection, and broker 1 hosts offline replicas.
+    _cluster = cluster(3, Set.of(1));
+    respond(1, LOGDIR_1);
+    assertEquals(Map.of(0, Map.of(LOGDIR_0, 100L), 1, Map.of(LOGDIR_1, 200L)), detect(diskFailureDetector, 200L));
+    assertEquals(List.of(Set.of(0, 1, 2), Set.of(0, 1)), _describedBrokers);
+  }
+
+  @Test
+  public void testFullScanUponAliveBrokerChange() {
+    DiskFailureDetector diskFailureDetector = createDiskFailureDetector(true);
+    assertTrue(detect(diskFailureDetector, 100L).isEmpty());
+    // No broker may have a change in its disk failures.
+    assertTrue(detect(diskFailureDetector, 200L).isEmpty());
+
+    _cluster = cluster(4, Collections.emptySet());
+    respond(3, LOGDIR_0);
+    assertEquals(Map.of(3, Map.of(LOGDIR_0, 300L)), detect(diskFailureDetector, 300L));
+    assertEquals(List.of(Set.of(0, 1, 2), Set.of(0, 1, 2, 3)), _describedBrokers);
+  }
+
+  private DiskFailureDetector createDiskFailureDetector(boolean lightweightScanEnabled) {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.setProperty(ExecutorConfig.LOGDIR_RESPONSE_TIMEOUT_MS_CONFIG, Long.toString(LOGDIR_RESPONSE_TIMEOUT_MS));
+    props.setProperty(AnomalyDetectorConfig.DISK_FAILURE_DETECTION_LIGHTWEIGHT_SCAN_ENABLE_CONFIG, Boolean.toString(lightweightScanEnabled));
+    KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(props);
+
+    AdminClient mockAdminClient = EasyMock.mock(AdminClient.class);
+    EasyMock.expect(mockAdminClient.describeLogDirs(EasyMock.anyObject())).andAnswer(() -> {
+      Collection<Integer> brokers = EasyMock.getCurrentArgument(0);
+      _describedBrokers.add(new HashSet<>(brokers));
+      Map<Integer, KafkaFuture<Map<String, LogDirDescription>>> descriptions = new HashMap<>();
+      brokers.forEach(broker -> descriptions.put(broker, _responseByBroker.get(broker)));
+      DescribeLogDirsResult mockDescribeLogDirsResult = EasyMock.mock(DescribeLogDirsResult.class);
+      EasyMock.expect(mockDescribeLogDirsResult.descriptions()).andReturn(descriptions).anyTimes();
+      EasyMock.replay(mockDescribeLogDirsResult);
+      return mockDescribeLogDirsResult;
+    }).anyTimes();
+    KafkaCruiseControl mockKafkaCruiseControl = EasyMock.createNiceMock(KafkaCruiseControl.class);
+    EasyMock.expect(mockKafkaCruiseControl.config()).andReturn(config).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.adminClient()).andReturn(mockAdminClient).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.timeMs()).andAnswer(() -> _timeMs).anyTimes();
+    // Each detection observes a new cluster generation.
+    AnomalyDetectionInputs mockInputs = EasyMock.mock(AnomalyDetectionInputs.class);
+    EasyMock.expect(mockInputs.modelGeneration()).andAnswer(() -> new ModelGeneration(_clusterGeneration, 0L)).anyTimes();
+    EasyMock.expect(mockInputs.cluster()).andAnswer(() -> _cluster).anyTimes();
+    EasyMock.expect(mockInputs.deadBrokersWithReplicas()).andReturn(Collections.emptySet()).anyTimes();
+    EasyMock.expect(mockInputs.loadMonitorTaskRunnerState()).andReturn(LoadMonitorTaskRunner.LoadMonitorTaskRunnerState.RUNNING).anyTimes();
+    EasyMock.expect(mockInputs.executorState()).andReturn(ExecutorState.noTaskInProgress(Set.of(), Set.of())).anyTimes();
+    AnomalyDetectionInputsProvider mockInputsProvider = EasyMock.mock(AnomalyDetectionInputsProvider.class);
+    EasyMock.expect(mockInputsProvider.inputs()).andReturn(mockInputs).anyTimes();
+    EasyMock.replay(mockAdminClient, mockKafkaCruiseControl, mockInputs, mockInputsProvider);
+
+    return new DiskFailureDetector(_anomalies, mockKafkaCruiseControl, mockInputsProvider);
+  }
+
+  /**
+   * Run a disk failure detection at the given time.
+   *
+   * @param diskFailureDetector The disk failure detector to run.
+   * @param timeMs The time of the detection.
+   * @return Failed disks by broker in the detected disk failures, or an empty map if no disk failure is detected.
+   */
+  private Map<Integer, Map<String, Long>> detect(DiskFailureDetector diskFailureDetector, long timeMs) {
+    _timeMs = timeMs;
+    _clusterGeneration++;
+    diskFailureDetector.run();
+    DiskFailures diskFailures = (DiskFailures) _anomalies.poll();
+    assertTrue(_anomalies.isEmpty());
+    return diskFailures == null ? Collections.emptyMap() : diskFailures.failedDisks();
+  }
+
+  private void respond(int broker, String... failedLogdirs) {
+    Set<String> failedLogdirSet = Set.of(failedLogdirs);
+    Map<String, LogDirDescription> descriptionByLogdir = new HashMap<>();
+    for (String logdir : List.of(LOGDIR_0, LOGDIR_1)) {
+      descriptionByLogdir.put(logdir, new LogDirDescription(failedLogdirSet.contains(logdir) ? new KafkaStorageException() : null,
+                                                            Collections.emptyMap()));
+    }
+    _responseByBroker.put(broker, KafkaFuture.completedFuture(descriptionByLogdir));
+  }
+
+  private void respondWithError(int broker) {
+    KafkaFutureImpl<Map<String, LogDirDescription>> response = new KafkaFutureImpl<>();
+    response.completeExceptionally(new TimeoutException("Injected failure."));
+    _responseByBroker.put(broker, response);
+  }
+
+  /**
+   * @param numBrokers Number of alive brokers.
+   * @param brokersWithOfflineReplicas Brokers that host offline replicas.
+   * @return A cluster with a partition led by each broker, whose follower is on the next broker.
+   */
+  private static Cluster cluster(int numBrokers, Set<Integer> brokersWithOfflineReplicas) {
+    List<Node> nodes = new ArrayList<>(numBrokers);
+    for (int broker = 0; broker < numBrokers; broker++) {
+      nodes.add(new Node(broker, "host" + broker, 9092));
+    }
+    List<PartitionInfo> partitions = new ArrayList<>(numBrokers);
+    for (int broker = 0; broker < numBrokers; broker++) {
+      Node follower = nodes.get((broker + 1) % numBrokers);
+      Node[] replicas = {nodes.get(broker), follower};
+      Node[] offlineReplicas = brokersWithOfflineReplicas.contains(follower.id()) ? new Node[]{follower} : new Node[0];
+      partitions.add(new PartitionInfo(TOPIC, broker, nodes.get(broker), replicas, replicas, offlineReplicas));
+    }
+    return new Cluster("id", nodes, partitions, Collections.emptySet(), Collections.emptySet());
+  }
+}
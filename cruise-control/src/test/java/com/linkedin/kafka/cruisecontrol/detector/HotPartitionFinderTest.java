@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.detector;
+
+import com.linkedin.cruisecontrol.detector.metricanomaly.MetricAnomaly;
+import com.linkedin.cruisecontrol.detector.metricanomaly.MetricAnomalyType;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerEntity;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.PartitionEntity;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.easymock.EasyMock;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorTestUtils.ANOMALY_DETECTION_TIME_MS;
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.KAFKA_CRUISE_CONTROL_OBJECT_CONFIG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link HotPartitionFinder}.
+ */
+public class HotPartitionFinderTest {
+  private static final String TOPIC = "topic";
+  private static final int NUM_PARTITIONS = 20;
+  private static final int NUM_HISTORY_WINDOWS = 5;
+  private static final float NORMAL_BYTES_IN_RATE = 2048.0f;
+  private static final Node[] NODES = {new Node(0, "host0", 9092), new Node(1, "host1", 9092)};
+
+  @Test
+  public void testDetectingHotPartition() {
+    Map<TopicPartition, float[]> valuesByPartition = new HashMap<>();
+    for (int partition = 0; partition < NUM_PARTITIONS; partition++) {
+      valuesByPartition.put(new TopicPartition(TOPIC, partition), values(NORMAL_BYTES_IN_RATE, NORMAL_BYTES_IN_RATE));
+    }
+    // A sudden spike on partition 1.
+    valuesByPartition.put(new TopicPartition(TOPIC, 1), values(NORMAL_BYTES_IN_RATE * 5, NORMAL_BYTES_IN_RATE));
+    // A spike on partition 2 with negligible traffic.
+    valuesByPartition.put(new TopicPartition(TOPIC, 2), values(1000.0f, 10.0f));
+    // A new partition 3 without history.
+    valuesByPartition.put(new TopicPartition(TOPIC, 3), values(NORMAL_BYTES_IN_RATE * 5, Float.NaN));
+
+    HotPartitionFinder hotPartitionFinder = createHotPartitionFinder(valuesByPartition, new Properties());
+    Collection<MetricAnomaly<BrokerEntity>> anomalies = hotPartitionFinder.metricAnomalies(Collections.emptyMap(), Collections.emptyMap());
+    assertEquals(1, anomalies.size());
+    assertEquals(1, hotPartitionFinder.numAnomaliesOfType(MetricAnomalyType.RECENT));
+    MetricAnomaly<BrokerEntity> anomaly = anomalies.iterator().next();
+    // The leader of partition 1 is broker 1.
+    assertEquals(Set.of(new BrokerEntity(NODES[1].host(), NODES[1].id())), anomaly.entities().keySet());
+    assertEquals(ANOMALY_DETECTION_TIME_MS, (long) anomaly.entities().get(new BrokerEntity(NODES[1].host(), NODES[1].id())));
+    assertTrue(anomaly.description().contains(TOPIC + "-1 "));
+    assertFalse(((KafkaMetricAnomaly) anomaly).fixable());
+  }
+
+  @Test
+  public void testReportingHottestPartitions() {
+    Map<TopicPartition, float[]> valuesByPartition = new HashMap<>();
+    for (int partition = 0; partition < NUM_PARTITIONS; partition++) {
+      valuesByPartition.put(new TopicPartition(TOPIC, partition), values(NORMAL_BYTES_IN_RATE * (4 + partition), NORMAL_BYTES_IN_RATE));
+    }
+    Properties props = new Properties();
+    props.setProperty(HotPartitionFinder.HOT_PARTITION_MAX_REPORTED_CONFIG, "3");
+
+    HotPartitionFinder hotPartitionFinder = createHotPartitionFinder(valuesByPartition, props);
+    Collection<MetricAnomaly<BrokerEntity>> anomalies = hotPartitionFinder.metricAnomalies(Collections.emptyMap(), Collections.emptyMap());
+    assertEquals(1, anomalies.size());
+    assertEquals(3, hotPartitionFinder.numAnomaliesOfType(MetricAnomalyType.RECENT));
+    String description = anomalies.iterator().next().description();
+    for (int partition = 0; partition < NUM_PARTITIONS; partition++) {
+      assertEquals(partition >= NUM_PARTITIONS - 3, description.contains(TOPIC + "-" + partition + " "));
+    }
+  }
+
+  @Test
+  public void testNoHotPartition() {
+    Map<TopicPartition, float[]> valuesByPartition = new HashMap<>();
+    for (int partition = 0; partition < NUM_PARTITIONS; partition++) {
+      valuesByPartition.put(new TopicPartition(TOPIC, partition), values(NORMAL_BYTES_IN_RATE * 2, NORMAL_BYTES_IN_RATE));
+    }
+    HotPartitionFinder hotPartitionFinder = createHotPartitionFinder(valuesByPartition, new Properties());
+    assertTrue(hotPartitionFinder.metricAnomalies(Collections.emptyMap(), Collections.emptyMap()).isEmpty());
+    assertEquals(0, hotPartitionFinder.numAnomaliesOfType(MetricAnomalyType.RECENT));
+  }
+
+  private static float[] values(float currentValue, float historicalValue) {
+    float[] values = new float[NUM_HISTORY_WINDOWS + 1];
+    Arrays.fill(values, historicalValue);
+    values[0] = currentValue;
+    return values;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static HotPartitionFinder createHotPartitionFinder(Map<TopicPartition, float[]> valuesByPartition, Properties overrides) {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.putAll(overrides);
+    KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(props);
+
+    LoadMonitor mockLoadMonitor = EasyMock.mock(LoadMonitor.class);
+    mockLoadMonitor.scanPartitionMetricValues(EasyMock.anyShort(), EasyMock.eq(NUM_HISTORY_WINDOWS), EasyMock.anyLong(), EasyMock.anyObject());
+    EasyMock.expectLastCall().andAnswer(() -> {
+      BiConsumer<PartitionEntity, float[]> consumer = (BiConsumer<PartitionEntity, float[]>) EasyMock.getCurrentArguments()[3];
+      valuesByPartition.forEach((tp, values) -> consumer.accept(new PartitionEntity(tp), values));
+      return null;
+    }).anyTimes();
+
+    List<PartitionInfo> partitionInfos = new ArrayList<>();
+    for (TopicPartition tp : valuesByPartition.keySet()) {
+      Node leader = NODES[tp.partition() % NODES.length];
+      partitionInfos.add(new PartitionInfo(tp.topic(), tp.partition(), leader, NODES, NODES));
+    }
+    Cluster cluster = new Cluster("id", Arrays.asList(NODES), partitionInfos, Collections.emptySet(), Collections.emptySet());
+
+    KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
+    EasyMock.expect(mockKafkaCruiseControl.config()).andReturn(config).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.timeMs()).andReturn(ANOMALY_DETECTION_TIME_MS).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.loadMonitor()).andReturn(mockLoadMonitor).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.kafkaCluster()).andReturn(cluster).anyTimes();
+    EasyMock.replay(mockLoadMonitor, mockKafkaCruiseControl);
+
+    HotPartitionFinder hotPartitionFinder = new HotPartitionFinder();
+    hotPartitionFinder.configure(Collections.singletonMap(KAFKA_CRUISE_CONTROL_OBJECT_CONFIG, mockKafkaCruiseControl));
+    return hotPartitionFinder;
+  }
+}
@@ -30,6 +30,7 @@ import org.junit.Test;
 import static com.linkedin.kafka.cruisecontrol.detector.TopicReplicationFactorAnomalyFinder.DESCRIBE_TOPIC_CONFIG_TIMEOUT_MS;
 import static org.apache.kafka.common.config.TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 public class TopicReplicationFactorAnomalyFinderTest {
@@ -77,6 +78,42 @@ public class TopicReplicationFactorAnomalyFinderTest {
     EasyMock.verify(mockKafkaCruiseControl, mockAdminClient);
   }
 
+  @Test
+  public void testIncrementalDetectionOnMetadataChange() throws InterruptedException, ExecutionException, TimeoutException {
+    // The replication factor of the topic is fixed in the second cluster state.
+    Cluster cluster = generateCluster();
+    Node[] nodes = cluster.nodes().toArray(new Node[0]);
+    Node[] replicas = Arrays.copyOfRange(nodes, 0, TARGET_TOPIC_REPLICATION_FACTOR);
+    Set<PartitionInfo> partitionInfo = new HashSet<>();
+    partitionInfo.add(new PartitionInfo(TOPIC, 0, replicas[0], replicas, replicas));
+    partitionInfo.add(new PartitionInfo(TOPIC, 1, replicas[1], replicas, replicas));
+    Cluster fixedCluster = new Cluster(CLUSTER_ID, cluster.nodes(), partitionInfo, Collections.emptySet(), Collections.emptySet());
+
+    KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
+    EasyMock.expect(mockKafkaCruiseControl.kafkaCluster()).andReturn(cluster).times(2);
+    EasyMock.expect(mockKafkaCruiseControl.kafkaCluster()).andReturn(fixedCluster);
+    EasyMock.expect(mockKafkaCruiseControl.timeMs()).andReturn(System.currentTimeMillis()).anyTimes();
+    KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties());
+    EasyMock.expect(mockKafkaCruiseControl.config()).andReturn(config).anyTimes();
+    EasyMock.replay(mockKafkaCruiseControl);
+    // The minISR of the topic is retrieved only once.
+    AdminClient mockAdminClient = mockAdminClient((short) 1);
+    TopicReplicationFactorAnomalyFinder anomalyFinder = new TopicReplicationFactorAnomalyFinder(mockKafkaCruiseControl,
+                                                                                                TARGET_TOPIC_REPLICATION_FACTOR,
+                                                                                                TOPIC_REPLICATION_FACTOR_MARGIN,
+                                                                                                mockAdminClient);
+    assertEquals(1, anomalyFinder.topicAnomalies().size());
+    // Unchanged metadata reports the same anomaly without checking the topic again.
+    Set<TopicAnomaly> topicAnomalies = anomalyFinder.topicAnomalies();
+    assertEquals(1, topicAnomalies.size());
+    TopicReplicationFactorAnomaly topicReplicationFactorAnomaly = (TopicReplicationFactorAnomaly) topicAnomalies.iterator().next();
+    assertEquals(0.5, topicReplicationFactorAnomaly.badTopicsByDesiredRF().get(TARGET_TOPIC_REPLICATION_FACTOR)
+                                                   .iterator().next().violationRatio(), DELTA);
+    // The topic is checked again once its replica assignment changes.
+    assertTrue(anomalyFinder.topicAnomalies().isEmpty());
+    EasyMock.verify(mockKafkaCruiseControl, mockAdminClient);
+  }
+
   private AdminClient mockAdminClient(short expectedMinISR) throws InterruptedException, ExecutionException, TimeoutException {
     AdminClient mockAdminClient = EasyMock.mock(AdminClient.class);
     DescribeConfigsResult mockDescribeConfigsResult = EasyMock.mock(DescribeConfigsResult.class);
@@ -13,6 +13,7 @@ import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
+import com.linkedin.kafka.cruisecontrol.executor.concurrency.BrokerHealthWindow;
 import com.linkedin.kafka.cruisecontrol.executor.concurrency.ConcurrencyAdjustingRecommendation;
 import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
 import com.linkedin.kafka.cruisecontrol.monitor.sampling.NoopSampler;
@@ -53,6 +54,8 @@ public class ConcurrencyAdjusterTest {
   private static final int MOCK_MIN_PARTITION_MOVEMENTS_PER_BROKER = 1;
   private static final int MOCK_MIN_LEADERSHIP_MOVEMENTS_CONFIG = 50;
   private static final long MOCK_TIME_MS = 100L;
+  private static final int MOCK_UNDER_REPLICATED_PARTITIONS_LIMIT = 1;
+  private static final int MOCK_BROKER_HEALTH_WINDOW_SIZE = 3;
   private static final String TOPIC1 = "topic1";
   private static final String TOPIC2 = "topic2";
   private static final TopicPartition TP1 = new TopicPartition(TOPIC1, 0);
@@ -300,6 +303,72 @@ public class ConcurrencyAdjusterTest {
     assertFalse(ExecutionUtils.withinConcurrencyAdjusterLimit(0, null, overLimitDetailsByMetricNameMap));
   }
 
+  @Test
+  public void testRecommendedConcurrencyWithBrokerHealthWindow() {
+    BrokerHealthWindow brokerHealthWindow = new BrokerHealthWindow(MOCK_BROKER_HEALTH_WINDOW_SIZE);
+    Map<BrokerEntity, ValuesAndExtrapolations> healthyMetrics =
+        createCurrentMetrics(Arrays.asList(populateMetricValues(0), populateMetricValues(0), populateMetricValues(0)));
+
+    // 1. Verify that no change is recommended until brokers stay within the limits for the whole window.
+    ConcurrencyAdjustingRecommendation concurrencyAdjustingRecommendation;
+    for (int i = 0; i < MOCK_BROKER_HEALTH_WINDOW_SIZE - 1; i++) {
+      ExecutionUtils.recordBrokerHealth(brokerHealthWindow, healthyMetrics, Collections.emptyMap());
+      concurrencyAdjustingRecommendation = ExecutionUtils.recommendedConcurrency(brokerHealthWindow);
+      assertTrue(concurrencyAdjustingRecommendation.getBrokersToIncreaseConcurrency().isEmpty());
+      assertTrue(concurrencyAdjustingRecommendation.getBrokersToDecreaseConcurrency().isEmpty());
+      assertFalse(concurrencyAdjustingRecommendation.shouldIncreaseClusterConcurrency());
+      assertFalse(concurrencyAdjustingRecommendation.shouldDecreaseClusterConcurrency());
+    }
+    ExecutionUtils.recordBrokerHealth(brokerHealthWindow, healthyMetrics, Collections.emptyMap());
+    concurrencyAdjustingRecommendation = ExecutionUtils.recommendedConcurrency(brokerHealthWindow);
+    assertEquals(Set.of(0, 1, 2), concurrencyAdjustingRecommendation.getBrokersToIncreaseConcurrency());
+    assertTrue(concurrencyAdjustingRecommendation.shouldIncreaseClusterConcurrency());
+
+    // 2. Verify an immediate decrease for a broker exceeding the under-replicated partitions limit.
+    ExecutionUtils.recordBrokerHealth(brokerHealthWindow, healthyMetrics, Map.of(0, MOCK_UNDER_REPLICATED_PARTITIONS_LIMIT + 1));
+    concurrencyAdjustingRecommendation = ExecutionUtils.recommendedConcurrency(brokerHealthWindow);
+    assertEquals(Set.of(0), concurrencyAdjustingRecommendation.getBrokersToDecreaseConcurrency());
+    assertEquals(Set.of(1, 2), concurrencyAdjustingRecommendation.getBrokersToIncreaseConcurrency());
+    assertTrue(concurrencyAdjustingRecommendation.shouldIncreaseClusterConcurrency());
+
+    // 3. Verify that a broker back within the limits is not increased while its window contains a violation.
+    ExecutionUtils.recordBrokerHealth(brokerHealthWindow, healthyMetrics, Collections.emptyMap());
+    concurrencyAdjustingRecommendation = ExecutionUtils.recommendedConcurrency(brokerHealthWindow);
+    assertTrue(concurrencyAdjustingRecommendation.getBrokersToDecreaseConcurrency().isEmpty());
+    assertEquals(Set.of(1, 2), concurrencyAdjustingRecommendation.getBrokersToIncreaseConcurrency());
+
+    // 4. Verify that the cluster concurrency is not increased if enough brokers violated a limit within their window.
+    Map<BrokerEntity, ValuesAndExtrapolations> currentMetrics =
+        createCurrentMetrics(Arrays.asList(populateMetricValues(0), populateMetricValues(1), populateMetricValues(0)));
+    ExecutionUtils.recordBrokerHealth(brokerHealthWindow, currentMetrics, Collections.emptyMap());
+    concurrencyAdjustingRecommendation = ExecutionUtils.recommendedConcurrency(brokerHealthWindow);
+    assertEquals(Set.of(1), concurrencyAdjustingRecommendation.getBrokersToDecreaseConcurrency());
+    assertEquals(Set.of(2), concurrencyAdjustingRecommendation.getBrokersToIncreaseConcurrency());
+    assertFalse(concurrencyAdjustingRecommendation.shouldIncreaseClusterConcurrency());
+    assertFalse(concurrencyAdjustingRecommendation.shouldDecreaseClusterConcurrency());
+
+    // 5. Verify that the cluster concurrency is decreased if enough brokers violate a limit in their latest observation.
+    currentMetrics = createCurrentMetrics(Arrays.asList(populateMetricValues(0), populateMetricValues(1), populateMetricValues(2)));
+    ExecutionUtils.recordBrokerHealth(brokerHealthWindow, currentMetrics, Collections.emptyMap());
+    concurrencyAdjustingRecommendation = ExecutionUtils.recommendedConcurrency(brokerHealthWindow);
+    assertEquals(Set.of(1, 2), concurrencyAdjustingRecommendation.getBrokersToDecreaseConcurrency());
+    assertEquals(Set.of(0), concurrencyAdjustingRecommendation.getBrokersToIncreaseConcurrency());
+    assertTrue(concurrencyAdjustingRecommendation.shouldDecreaseClusterConcurrency());
+  }
+
+  @Test
+  public void testNumUnderReplicatedPartitionsByBroker() {
+    // TP2 has an online out-of-sync replica on broker 1.
+    Cluster cluster = getClusterWithOutOfSyncPartition(Arrays.asList(Pair.of(TP1, 2), Pair.of(TP2, 1)), false);
+    assertEquals(Map.of(1, 1), ExecutionUtils.numUnderReplicatedPartitionsByBroker(cluster, Collections.emptySet()));
+    // Partitions being reassigned are skipped.
+    assertTrue(ExecutionUtils.numUnderReplicatedPartitionsByBroker(cluster, Set.of(TP2)).isEmpty());
+
+    // Offline replicas are not counted.
+    cluster = getClusterWithOutOfSyncPartition(Arrays.asList(Pair.of(TP1, 2), Pair.of(TP2, 1)), true);
+    assertTrue(ExecutionUtils.numUnderReplicatedPartitionsByBroker(cluster, Collections.emptySet()).isEmpty());
+  }
+
   private static Properties getExecutorProperties() {
     Properties props = new Properties();
     props.setProperty(MonitorConfig.BOOTSTRAP_SERVERS_CONFIG, "bootstrap.servers");
@@ -336,6 +405,8 @@ public class ConcurrencyAdjusterTest {
     props.setProperty(ExecutorConfig.CONCURRENCY_ADJUSTER_MIN_LEADERSHIP_MOVEMENTS_CONFIG,
                       Integer.toString(MOCK_MIN_LEADERSHIP_MOVEMENTS_CONFIG));
     props.setProperty(ExecutorConfig.MIN_NUM_BROKERS_VIOLATE_METRIC_LIMIT_TO_DECREASE_CLUSTER_CONCURRENCY_CONFIG, "2");
+    props.setProperty(ExecutorConfig.CONCURRENCY_ADJUSTER_LIMIT_UNDER_REPLICATED_PARTITIONS_CONFIG,
+                      Integer.toString(MOCK_UNDER_REPLICATED_PARTITIONS_LIMIT));
 
     return props;
   }
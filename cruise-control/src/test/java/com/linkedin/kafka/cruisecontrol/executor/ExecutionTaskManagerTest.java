@@ -26,6 +26,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 public class ExecutionTaskManagerTest {
@@ -146,9 +147,22 @@ public class ExecutionTaskManagerTest {
         assertEquals(0, executionTasksSummary.remainingInterBrokerDataToMoveInMB());
         assertEquals(10, executionTasksSummary.inExecutionInterBrokerDataMovementInMB());
         assertEquals(0, executionTasksSummary.finishedInterBrokerDataMovementInMB());
+        assertEquals(1, taskManager.numInExecutionTasks());
+        // Task lists are only available for the requested task types.
+        executionTasksSummary = taskManager.getExecutionTasksSummary(Collections.singleton(ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION));
+        assertEquals(Collections.singletonList(task),
+                     executionTasksSummary.filteredTasks(ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION, ExecutionTaskState.IN_PROGRESS));
+        assertTrue(executionTasksSummary.filteredTasks(ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION, ExecutionTaskState.PENDING).isEmpty());
+        assertTrue(executionTasksSummary.filteredTasks(ExecutionTask.TaskType.LEADER_ACTION, ExecutionTaskState.PENDING).isEmpty());
         break;
       case ABORTING:
+        ExecutionTaskTracker.ExecutionTasksSummary summaryBeforeAborting =
+            taskManager.getExecutionTasksSummary(Collections.singleton(ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION));
         taskManager.markTaskAborting(task);
+        // Task lists are captured upon the creation of the summary, consistent with its task counts.
+        assertEquals(Collections.singletonList(task),
+                     summaryBeforeAborting.filteredTasks(ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION, ExecutionTaskState.IN_PROGRESS));
+        assertTrue(summaryBeforeAborting.filteredTasks(ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION, ExecutionTaskState.ABORTING).isEmpty());
         executionTasksSummary = taskManager.getExecutionTasksSummary(Collections.emptySet());
         taskStat = executionTasksSummary.taskStat().get(ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION);
         assertEquals(0, (int) taskStat.get(ExecutionTaskState.PENDING));
@@ -174,6 +188,7 @@ public class ExecutionTaskManagerTest {
         assertEquals(0, executionTasksSummary.remainingInterBrokerDataToMoveInMB());
         assertEquals(0, executionTasksSummary.inExecutionInterBrokerDataMovementInMB());
         assertEquals(10, executionTasksSummary.finishedInterBrokerDataMovementInMB());
+        assertEquals(0, taskManager.numInExecutionTasks());
         break;
       case ABORTED:
       case COMPLETED:
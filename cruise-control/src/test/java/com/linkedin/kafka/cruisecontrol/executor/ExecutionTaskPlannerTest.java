@@ -42,6 +42,7 @@ import org.junit.Test;
 import static org.apache.kafka.common.KafkaFuture.completedFuture;
 import static org.easymock.EasyMock.anyObject;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static com.linkedin.kafka.cruisecontrol.common.TestConstants.TOPIC1;
 import static com.linkedin.kafka.cruisecontrol.common.TestConstants.TOPIC2;
 import static com.linkedin.kafka.cruisecontrol.common.TestConstants.TOPIC3;
@@ -189,6 +190,38 @@ public class ExecutionTaskPlannerTest {
     assertEquals(leaderMovementTasks.get(0).proposal(), _leaderMovement3);
   }
 
+  @Test
+  public void testGetLeaderMovementTasksWithInProgressMovements() {
+    List<ExecutionProposal> proposals = List.of(_leaderMovement1, _leaderMovement2, _leaderMovement3, _leaderMovement4);
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.setProperty(ExecutorConfig.DEFAULT_REPLICA_MOVEMENT_STRATEGIES_CONFIG, "");
+
+    Set<PartitionInfo> partitions = new HashSet<>();
+    for (ExecutionProposal proposal : proposals) {
+      partitions.add(generatePartitionInfo(proposal, false));
+    }
+    Cluster expectedCluster = new Cluster(null, _expectedNodes, partitions, Collections.emptySet(), Collections.emptySet());
+    StrategyOptions strategyOptions = new StrategyOptions.Builder(expectedCluster).build();
+    ExecutionConcurrencyManager manager = new ExecutionConcurrencyManager(new KafkaCruiseControlConfig(props));
+    manager.setExecutionConcurrencyForAllBrokersOrCluster(4, ConcurrencyType.LEADERSHIP_CLUSTER);
+    manager.setExecutionConcurrencyForBroker(0, MAX_BROKER_CONCURRENCY, ConcurrencyType.LEADERSHIP_BROKER);
+    manager.setExecutionConcurrencyForBroker(1, 2, ConcurrencyType.LEADERSHIP_BROKER);
+    manager.setExecutionConcurrencyForBroker(2, MAX_BROKER_CONCURRENCY, ConcurrencyType.LEADERSHIP_BROKER);
+    manager.setExecutionConcurrencyForBroker(3, MAX_BROKER_CONCURRENCY, ConcurrencyType.LEADERSHIP_BROKER);
+
+    ExecutionTaskPlanner planner = new ExecutionTaskPlanner(null, new KafkaCruiseControlConfig(props));
+    planner.addExecutionProposals(proposals, strategyOptions, null);
+    // Broker 1 has one of its two allowed leadership movements in progress, hence only one more task involving broker 1 can start.
+    List<ExecutionTask> leaderMovementTasks = planner.getLeadershipMovementTasks(manager, 3, Map.of(1, 1));
+    assertEquals(2, leaderMovementTasks.size());
+    assertEquals(_leaderMovement1, leaderMovementTasks.get(0).proposal());
+    assertEquals(_leaderMovement4, leaderMovementTasks.get(1).proposal());
+    // Once the in-progress movements finish, the given task quota bounds the batch.
+    leaderMovementTasks = planner.getLeadershipMovementTasks(manager, 1, Collections.emptyMap());
+    assertEquals(1, leaderMovementTasks.size());
+    assertEquals(_leaderMovement2, leaderMovementTasks.get(0).proposal());
+  }
+
   @Test
   public void testGetInterBrokerPartitionMovementTasks() {
     List<ExecutionProposal> proposals = new ArrayList<>();
@@ -474,6 +507,74 @@ public class ExecutionTaskPlannerTest {
     EasyMock.verify(mockAdminClient);
   }
 
+  @Test
+  public void testGetIntraBrokerPartitionMovementTasksWithLogdirConcurrency() {
+    ReplicaPlacementInfo r0d0 = new ReplicaPlacementInfo(0, "d0");
+    ReplicaPlacementInfo r0d3 = new ReplicaPlacementInfo(0, "d3");
+    // Two movements out of d0 and one movement from d3 to d4 on broker 0.
+    List<ExecutionProposal> proposals = Arrays.asList(
+        new ExecutionProposal(new TopicPartition(TOPIC2, 0), 4, r0d0, List.of(r0d0), List.of(new ReplicaPlacementInfo(0, "d1"))),
+        new ExecutionProposal(new TopicPartition(TOPIC2, 1), 4, r0d0, List.of(r0d0), List.of(new ReplicaPlacementInfo(0, "d2"))),
+        new ExecutionProposal(new TopicPartition(TOPIC2, 2), 4, r0d3, List.of(r0d3), List.of(new ReplicaPlacementInfo(0, "d4"))));
+
+    //Mock adminClient
+    AdminClient mockAdminClient = EasyMock.mock(AdminClient.class);
+    try {
+      // Reflectively set constructors from package private to public.
+      Constructor<DescribeReplicaLogDirsResult> constructor1 = DescribeReplicaLogDirsResult.class.getDeclaredConstructor(Map.class);
+      constructor1.setAccessible(true);
+      Constructor<ReplicaLogDirInfo> constructor2 =
+          ReplicaLogDirInfo.class.getDeclaredConstructor(String.class, long.class, String.class, long.class);
+      constructor2.setAccessible(true);
+
+      Map<TopicPartitionReplica, KafkaFuture<ReplicaLogDirInfo>> futureByReplica = new HashMap<>();
+      for (ExecutionProposal proposal : proposals) {
+        futureByReplica.put(new TopicPartitionReplica(proposal.topic(), proposal.partitionId(), 0),
+                            completedFuture(constructor2.newInstance(proposal.oldReplicas().get(0).logdir(), 0L, null, -1L)));
+      }
+
+      EasyMock.expect(mockAdminClient.describeReplicaLogDirs(anyObject()))
+              .andReturn(constructor1.newInstance(futureByReplica))
+              .anyTimes();
+      EasyMock.replay(mockAdminClient);
+    } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+      // Let it go.
+    }
+
+    Set<PartitionInfo> partitions = new HashSet<>();
+    for (ExecutionProposal proposal : proposals) {
+      Node[] isrArray = generateExpectedReplicas(proposal);
+      partitions.add(new PartitionInfo(proposal.topic(), proposal.partitionId(), isrArray[0], isrArray, isrArray));
+    }
+    Cluster expectedCluster = new Cluster(null, _expectedNodes, partitions, Collections.emptySet(), Collections.emptySet());
+    StrategyOptions strategyOptions = new StrategyOptions.Builder(expectedCluster).build();
+
+    ExecutionTaskPlanner planner =
+        new ExecutionTaskPlanner(mockAdminClient, new KafkaCruiseControlConfig(KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties()));
+    planner.addExecutionProposals(proposals, strategyOptions, null);
+    assertEquals(3, planner.remainingIntraBrokerReplicaMovements().size());
+
+    // No movement can start on logdirs that are saturated by ongoing movements.
+    Map<Integer, Map<String, Integer>> inProgressMovementsByLogdirByBrokerId = Map.of(0, Map.of("d0", 1, "d3", 1));
+    assertEquals(0, planner.getIntraBrokerReplicaMovementTasks(Collections.singletonMap(0, 3),
+                                                               inProgressMovementsByLogdirByBrokerId, 1).size());
+
+    // With one movement per logdir, the second movement out of d0 is skipped, but the movement from d3 fills the free slot.
+    List<ExecutionTask> intraBrokerMovementTasks = planner.getIntraBrokerReplicaMovementTasks(Collections.singletonMap(0, 3),
+                                                                                              Collections.emptyMap(), 1);
+    assertEquals(2, intraBrokerMovementTasks.size());
+    Set<ExecutionProposal> executedProposals = new HashSet<>();
+    intraBrokerMovementTasks.forEach(task -> executedProposals.add(task.proposal()));
+    assertTrue(executedProposals.contains(proposals.get(2)));
+    assertEquals(1, planner.remainingIntraBrokerReplicaMovements().size());
+
+    // Once the ongoing movements finish, the remaining movement can start.
+    intraBrokerMovementTasks = planner.getIntraBrokerReplicaMovementTasks(Collections.singletonMap(0, 3), Collections.emptyMap(), 1);
+    assertEquals(1, intraBrokerMovementTasks.size());
+    assertEquals(0, planner.remainingIntraBrokerReplicaMovements().size());
+    EasyMock.verify(mockAdminClient);
+  }
+
   @Test
   public void testClear() {
     List<ExecutionProposal> proposals = new ArrayList<>();
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor;
+
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class ExecutionTimeEstimatorTest {
+  private static final String TOPIC = "topic";
+  private static final long PARTITION_SIZE_IN_MB = 100L;
+  private static final long EXECUTION_ALERTING_THRESHOLD_MS = 100L;
+
+  private static ExecutionTask interBrokerTask(int partition, int sourceBroker, int destinationBroker) {
+    ReplicaPlacementInfo source = new ReplicaPlacementInfo(sourceBroker);
+    ExecutionProposal proposal = new ExecutionProposal(new TopicPartition(TOPIC, partition), PARTITION_SIZE_IN_MB, source,
+                                                       List.of(source), List.of(new ReplicaPlacementInfo(destinationBroker)));
+    return new ExecutionTask(partition, proposal, INTER_BROKER_REPLICA_ACTION, EXECUTION_ALERTING_THRESHOLD_MS);
+  }
+
+  @Test
+  public void testUnknownBeforeFirstCompletion() {
+    ExecutionTimeEstimator estimator = new ExecutionTimeEstimator();
+    assertEquals(0L, estimator.estimatedRemainingTimeMs(b -> 1, 1));
+
+    ExecutionTask task = interBrokerTask(0, 0, 1);
+    estimator.addTasks(List.of(task));
+    assertEquals(ExecutionTimeEstimator.UNKNOWN_TIME_MS, estimator.estimatedRemainingTimeMs(b -> 1, 1));
+    assertTrue(Double.isNaN(estimator.movementThroughputMBPerSec()));
+
+    // An aborted task releases its data but does not contribute to the throughput.
+    task.inProgress(0L);
+    task.abort();
+    task.aborted(1000L);
+    estimator.onTaskFinished(task);
+    assertTrue(Double.isNaN(estimator.movementThroughputMBPerSec()));
+    assertEquals(0L, estimator.estimatedRemainingTimeMs(b -> 1, 1));
+  }
+
+  @Test
+  public void testEstimateUsesSlowestBrokerAndConcurrency() {
+    ExecutionTimeEstimator estimator = new ExecutionTimeEstimator();
+    // Broker 0 sends 3 partitions (to brokers 1, 2, 3), broker 4 sends 1 partition to broker 5.
+    ExecutionTask completed = interBrokerTask(0, 0, 1);
+    List<ExecutionTask> remaining = Arrays.asList(interBrokerTask(1, 0, 2), interBrokerTask(2, 0, 3), interBrokerTask(3, 4, 5));
+    estimator.addTasks(List.of(completed));
+    estimator.addTasks(remaining);
+
+    // 100 MB in 10 seconds -> 10 MB/s per movement.
+    completed.inProgress(0L);
+    completed.completed(10_000L);
+    estimator.onTaskFinished(completed);
+    assertEquals(10.0, estimator.movementThroughputMBPerSec(), 1E-9);
+
+    // Broker 0 has 200 MB left at 10 MB/s with a single movement at a time -> 20 seconds.
+    assertEquals(20_000L, estimator.estimatedRemainingTimeMs(b -> 1, 10));
+    // Allowing 2 concurrent movements per broker halves the time of broker 0.
+    assertEquals(10_000L, estimator.estimatedRemainingTimeMs(b -> 2, 10));
+    // The cluster-wide cap of a single movement serializes all the 300 MB left -> 30 seconds.
+    assertEquals(30_000L, estimator.estimatedRemainingTimeMs(b -> 2, 1));
+
+    estimator.clear();
+    assertEquals(0L, estimator.estimatedRemainingTimeMs(b -> 1, 1));
+    assertTrue(Double.isNaN(estimator.movementThroughputMBPerSec()));
+  }
+
+  @Test
+  public void testThroughputIsSmoothed() {
+    ExecutionTimeEstimator estimator = new ExecutionTimeEstimator();
+    ExecutionTask fast = interBrokerTask(0, 0, 1);
+    ExecutionTask slow = interBrokerTask(1, 0, 1);
+    estimator.addTasks(Arrays.asList(fast, slow));
+
+    fast.inProgress(0L);
+    fast.completed(10_000L);
+    estimator.onTaskFinished(fast);
+    slow.inProgress(0L);
+    slow.completed(20_000L);
+    estimator.onTaskFinished(slow);
+
+    double expected = ExecutionTimeEstimator.THROUGHPUT_SMOOTHING_FACTOR * 5.0
+                      + (1 - ExecutionTimeEstimator.THROUGHPUT_SMOOTHING_FACTOR) * 10.0;
+    assertEquals(expected, estimator.movementThroughputMBPerSec(), 1E-9);
+  }
+}
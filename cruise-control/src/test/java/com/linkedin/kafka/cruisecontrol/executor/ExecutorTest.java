@@ -575,6 +575,60 @@ public class ExecutorTest extends CCKafkaClientsIntegrationTestHarness {
     EasyMock.verify(mockMetadataClient, mockLoadMonitor, mockAnomalyDetectorManager, mockUserTaskInfo, mockUserTaskManager);
   }
 
+  @Test
+  public void testPipelinedLeadershipMovementTimeout() throws InterruptedException, OngoingExecutionException {
+    createTopics(0);
+    // Shut down the preferred leader of both partitions, so that leader elections fail and leadership movements stay in progress.
+    _brokers.get(BROKER_ID_0).shutdown();
+    List<ExecutionProposal> proposalsToExecute = new ArrayList<>();
+    for (TopicPartition tp : Arrays.asList(TP0, TP1)) {
+      proposalsToExecute.add(new ExecutionProposal(tp, 0, new ReplicaPlacementInfo(BROKER_ID_1),
+                                                   Arrays.asList(new ReplicaPlacementInfo(BROKER_ID_0), new ReplicaPlacementInfo(BROKER_ID_1)),
+                                                   Arrays.asList(new ReplicaPlacementInfo(BROKER_ID_0), new ReplicaPlacementInfo(BROKER_ID_1))));
+    }
+
+    Properties props = getExecutorProperties();
+    // Keep each leadership movement in its own leader election batch.
+    props.setProperty(ExecutorConfig.NUM_CONCURRENT_LEADER_MOVEMENTS_CONFIG, "2");
+    props.setProperty(ExecutorConfig.NUM_CONCURRENT_LEADER_ELECTION_BATCHES_CONFIG, "2");
+    KafkaCruiseControlConfig configs = new KafkaCruiseControlConfig(props);
+    Time time = new MockTime();
+    MetadataClient mockMetadataClient = EasyMock.mock(MetadataClient.class);
+    // Fake the metadata to never change so the leader movements will timeout.
+    Node node0 = new Node(BROKER_ID_0, "host0", 100);
+    Node node1 = new Node(BROKER_ID_1, "host1", 100);
+    Node[] replicas = new Node[]{node0, node1};
+    Cluster cluster = new Cluster("id", Arrays.asList(node0, node1),
+                                  Arrays.asList(new PartitionInfo(TP0.topic(), TP0.partition(), node1, replicas, replicas),
+                                                new PartitionInfo(TP1.topic(), TP1.partition(), node1, replicas, replicas)),
+                                  Collections.emptySet(), Collections.emptySet());
+    MetadataClient.ClusterAndGeneration clusterAndGeneration = new MetadataClient.ClusterAndGeneration(cluster, 0);
+    EasyMock.expect(mockMetadataClient.refreshMetadata()).andReturn(clusterAndGeneration).anyTimes();
+    EasyMock.expect(mockMetadataClient.cluster()).andReturn(clusterAndGeneration.cluster()).anyTimes();
+    LoadMonitor mockLoadMonitor = getMockLoadMonitor();
+    AnomalyDetectorManager mockAnomalyDetectorManager = getMockAnomalyDetector(RANDOM_UUID, false);
+    UserTaskManager.UserTaskInfo mockUserTaskInfo = getMockUserTaskInfo();
+    UserTaskManager mockUserTaskManager = getMockUserTaskManager(RANDOM_UUID, mockUserTaskInfo, Collections.singletonList(false));
+    EasyMock.replay(mockMetadataClient, mockLoadMonitor, mockAnomalyDetectorManager, mockUserTaskInfo, mockUserTaskManager);
+
+    Executor executor = new Executor(configs, time, new MetricRegistry(), mockMetadataClient, null, mockAnomalyDetectorManager);
+    executor.setUserTaskManager(mockUserTaskManager);
+    executor.setGeneratingProposalsForExecution(RANDOM_UUID, ExecutorTest.class::getSimpleName, true);
+    executor.executeProposals(proposalsToExecute, Collections.emptySet(), null, mockLoadMonitor, null, null,
+                              null, null, null, null, null, null, true, RANDOM_UUID, false, false);
+    waitUntilTrue(() -> (executor.state().state() == ExecutorState.State.LEADER_MOVEMENT_TASK_IN_PROGRESS
+                         && executor.inExecutionTasks().size() == proposalsToExecute.size()),
+                  "Leader movement tasks did not start within the time limit",
+                  EXECUTION_DEADLINE_MS, EXECUTION_SHORT_CHECK_MS);
+
+    // Sleep over ExecutorConfig#DEFAULT_LEADER_MOVEMENT_TIMEOUT_MS, so that the in-progress leadership movements are marked as dead.
+    time.sleep(ExecutorConfig.DEFAULT_LEADER_MOVEMENT_TIMEOUT_MS + 1L);
+    waitUntilTrue(() -> (!executor.hasOngoingExecution() && executor.state().state() == ExecutorState.State.NO_TASK_IN_PROGRESS),
+                  "Proposal execution did not finish within the time limit",
+                  EXECUTION_DEADLINE_MS, EXECUTION_REGULAR_CHECK_MS);
+    EasyMock.verify(mockMetadataClient, mockLoadMonitor, mockAnomalyDetectorManager, mockUserTaskInfo, mockUserTaskManager);
+  }
+
   /**
    * Proposal#1: [TPO] move from original broker to the other one -- e.g. 0 -> 1
    * Proposal#2: [TP1] change order and leader -- e.g. [0, 1] -> [1, 0]
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.model;
+
+import com.linkedin.kafka.cruisecontrol.analyzer.AnalyzerUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizationOptions;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.Goal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.PreferredLeaderElectionGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.ReplicaDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.common.Resource;
+import com.linkedin.kafka.cruisecontrol.common.TestConstants;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.common.DeterministicCluster.T1;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for rolling back the relocations in {@link ClusterModel} to a checkpoint.
+ */
+public class ClusterModelCheckpointTest {
+  private static final TopicPartition T1P0 = new TopicPartition(T1, 0);
+
+  @Test
+  public void testRollbackReplicaAndLeadershipRelocations() {
+    ClusterModel clusterModel = DeterministicCluster.rackAwareSatisfiable();
+    Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+    Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
+    double initBroker0Cpu = clusterModel.broker(0).load().expectedUtilizationFor(Resource.CPU);
+
+    clusterModel.checkpoint();
+    assertTrue(clusterModel.relocateLeadership(T1P0, 0, 1));
+    clusterModel.relocateReplica(T1P0, 0, 2);
+    assertEquals(2, clusterModel.numRelocationsSinceCheckpoint());
+    assertNotEquals(initReplicaDistribution, clusterModel.getReplicaDistribution());
+
+    clusterModel.rollbackToCheckpoint();
+    assertEquals(0, clusterModel.numRelocationsSinceCheckpoint());
+    assertEquals(initReplicaDistribution, clusterModel.getReplicaDistribution());
+    assertEquals(initLeaderDistribution, clusterModel.getLeaderDistribution());
+    assertEquals(initBroker0Cpu, clusterModel.broker(0).load().expectedUtilizationFor(Resource.CPU), 1e-6);
+    assertTrue(clusterModel.broker(2).replicas().isEmpty());
+
+    // Relocations after a discarded checkpoint are not logged.
+    clusterModel.discardCheckpoint();
+    clusterModel.relocateReplica(T1P0, 1, 2);
+    assertEquals(0, clusterModel.numRelocationsSinceCheckpoint());
+  }
+
+  @Test
+  public void testRollbackGoalOptimization() throws Exception {
+    ClusterModel clusterModel = DeterministicCluster.unbalanced2();
+    Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+    Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
+    int initNumBroker0Replicas = clusterModel.broker(0).replicas().size();
+    OptimizationOptions optimizationOptions = new OptimizationOptions(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+    clusterModel.checkpoint();
+    Goal goal = AnalyzerUnitTestUtils.goal(ReplicaDistributionGoal.class);
+    goal.optimize(clusterModel, Collections.emptySet(), optimizationOptions);
+    assertTrue(clusterModel.numRelocationsSinceCheckpoint() > 0);
+
+    // The same goal finds the same violation on the rolled back cluster model.
+    for (int i = 0; i < 2; i++) {
+      clusterModel.rollbackToCheckpoint();
+      assertEquals(initReplicaDistribution, clusterModel.getReplicaDistribution());
+      assertEquals(initLeaderDistribution, clusterModel.getLeaderDistribution());
+      assertEquals(initNumBroker0Replicas, clusterModel.broker(0).replicas().size());
+      goal.optimize(clusterModel, Collections.emptySet(), optimizationOptions);
+      assertNotEquals(initReplicaDistribution, clusterModel.getReplicaDistribution());
+    }
+  }
+
+  @Test
+  public void testRollbackReplicaReorderings() {
+    ClusterModel clusterModel = DeterministicCluster.rackAwareUnsatisfiable();
+    Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+
+    clusterModel.checkpoint();
+    // The replicas of T1P0 are on brokers [0, 1, 2], and the moves below reorder them to [1, 2, 0], [2, 1, 0], then [1, 2, 0].
+    clusterModel.moveReplicaToEnd(T1P0, 0);
+    clusterModel.swapFollowerPositions(T1P0, 0, 1);
+    clusterModel.swapReplicaPositions(T1P0, 0, 1);
+    assertEquals(3, clusterModel.numRelocationsSinceCheckpoint());
+    assertNotEquals(initReplicaDistribution, clusterModel.getReplicaDistribution());
+
+    assertTrue(clusterModel.rollbackToCheckpoint());
+    assertEquals(initReplicaDistribution, clusterModel.getReplicaDistribution());
+  }
+
+  @Test
+  public void testRollbackPreferredLeaderElection() {
+    ClusterModel clusterModel = DeterministicCluster.rackAwareUnsatisfiable();
+    clusterModel.setBrokerState(0, Broker.State.DEMOTED);
+    Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+    Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
+    OptimizationOptions optimizationOptions = new OptimizationOptions(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+    clusterModel.checkpoint();
+    // The goal moves the replica on the demoted broker to the end of the replica list, and relocates its leadership.
+    new PreferredLeaderElectionGoal(false, false, null).optimize(clusterModel, Collections.emptySet(), optimizationOptions);
+    assertNotEquals(initReplicaDistribution, clusterModel.getReplicaDistribution());
+    assertNotEquals(initLeaderDistribution, clusterModel.getLeaderDistribution());
+
+    assertTrue(clusterModel.rollbackToCheckpoint());
+    assertEquals(initReplicaDistribution, clusterModel.getReplicaDistribution());
+    assertEquals(initLeaderDistribution, clusterModel.getLeaderDistribution());
+  }
+
+  @Test
+  public void testNoRollbackWithUnloggedChanges() {
+    ClusterModel clusterModel = DeterministicCluster.rackAwareSatisfiable();
+    clusterModel.checkpoint();
+    assertTrue(clusterModel.relocateLeadership(T1P0, 0, 1));
+    clusterModel.setBrokerState(0, Broker.State.DEMOTED);
+
+    // The cluster model is left as is, and the checkpoint is discarded.
+    assertFalse(clusterModel.rollbackToCheckpoint());
+    assertTrue(clusterModel.broker(1).replica(T1P0).isLeader());
+    assertEquals(0, clusterModel.numRelocationsSinceCheckpoint());
+    assertThrows(IllegalStateException.class, clusterModel::rollbackToCheckpoint);
+
+    // Disk state changes are not made via the cluster model, but are detected as well.
+    ClusterModel jbodClusterModel = DeterministicCluster.unbalanced4();
+    jbodClusterModel.checkpoint();
+    jbodClusterModel.broker(0).disk(TestConstants.LOGDIR0).setState(Disk.State.DEMOTED);
+    assertFalse(jbodClusterModel.rollbackToCheckpoint());
+
+    // A new checkpoint starts from the current state of the cluster model.
+    jbodClusterModel.checkpoint();
+    assertTrue(jbodClusterModel.rollbackToCheckpoint());
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.model;
+
+import com.linkedin.kafka.cruisecontrol.common.Resource;
+import com.linkedin.kafka.cruisecontrol.common.TestConstants;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils.getAggregatedMetricValues;
+import static com.linkedin.kafka.cruisecontrol.common.DeterministicCluster.RACK_BY_BROKER;
+import static com.linkedin.kafka.cruisecontrol.common.DeterministicCluster.T1;
+import static com.linkedin.kafka.cruisecontrol.common.DeterministicCluster.T2;
+import static com.linkedin.kafka.cruisecontrol.common.DeterministicCluster.getHomogeneousCluster;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+
+/**
+ * Unit test for {@link PartitionLoadIndex}
+ */
+public class PartitionLoadIndexTest {
+  private static final int NUM_PARTITIONS_PER_TOPIC = 6;
+
+  /**
+   * Three brokers, two topics with six partitions each, two replicas. Each partition has a distinct load, where the CPU load
+   * increases and the disk load decreases with the partition order.
+   *
+   * @return Cluster model for the tests.
+   */
+  private static ClusterModel cluster() {
+    ClusterModel cluster = getHomogeneousCluster(RACK_BY_BROKER, TestConstants.BROKER_CAPACITY, null);
+    int numBrokers = RACK_BY_BROKER.size();
+    int order = 0;
+    for (String topic : List.of(T1, T2)) {
+      for (int partition = 0; partition < NUM_PARTITIONS_PER_TOPIC; partition++) {
+        TopicPartition tp = new TopicPartition(topic, partition);
+        order++;
+        int leader = (partition + order) % numBrokers;
+        int follower = (leader + 1) % numBrokers;
+        cluster.createReplica(RACK_BY_BROKER.get(leader).toString(), leader, tp, 0, true);
+        cluster.createReplica(RACK_BY_BROKER.get(follower).toString(), follower, tp, 1, false);
+        cluster.setReplicaLoad(RACK_BY_BROKER.get(leader).toString(), leader, tp,
+                               getAggregatedMetricValues(order, order, order, 100.0 - order), Collections.singletonList(1L));
+        cluster.setReplicaLoad(RACK_BY_BROKER.get(follower).toString(), follower, tp,
+                               getAggregatedMetricValues(order, order, 0.0, 100.0 - order), Collections.singletonList(1L));
+      }
+    }
+    return cluster;
+  }
+
+  private static List<TopicPartition> expectedTopPartitions(ClusterModel cluster, Resource resource, int entries,
+                                                            Set<Integer> brokerIds, Pattern topic,
+                                                            int partitionLowerBoundary, int partitionUpperBoundary) {
+    return cluster.replicasSortedByUtilization(resource, false, false).stream()
+                  .filter(p -> brokerIds.isEmpty() || p.partitionBrokers().stream().anyMatch(b -> brokerIds.contains(b.id())))
+                  .filter(p -> topic == null || topic.matcher(p.topicPartition().topic()).matches())
+                  .filter(p -> p.topicPartition().partition() >= partitionLowerBoundary
+                               && p.topicPartition().partition() <= partitionUpperBoundary)
+                  .limit(entries)
+                  .map(Partition::topicPartition)
+                  .collect(Collectors.toList());
+  }
+
+  @Test
+  public void testTopPartitionsMatchFullSort() {
+    ClusterModel cluster = cluster();
+    PartitionLoadIndex index = new PartitionLoadIndex(cluster, false, false);
+    assertEquals(T1.length(), index.maxTopicNameLength());
+
+    List<Set<Integer>> brokerFilters = List.of(Collections.emptySet(), Set.of(0), Set.of(1, 2), Set.of(0, 1, 2), Set.of(42));
+    List<Pattern> topicFilters = Arrays.asList(null, Pattern.compile(T1), Pattern.compile("T.*"), Pattern.compile("none"));
+    for (Resource resource : Resource.cachedValues()) {
+      for (Set<Integer> brokerIds : brokerFilters) {
+        for (Pattern topic : topicFilters) {
+          for (int entries : new int[]{1, 3, Integer.MAX_VALUE}) {
+            for (int[] boundaries : new int[][]{{0, Integer.MAX_VALUE}, {1, 3}}) {
+              List<TopicPartition> expected = expectedTopPartitions(cluster, resource, entries, brokerIds, topic,
+                                                                    boundaries[0], boundaries[1]);
+              List<TopicPartition> actual = index.topPartitions(resource, entries, brokerIds, topic, boundaries[0], boundaries[1])
+                                                 .stream().map(PartitionLoad::topicPartition).collect(Collectors.toList());
+              assertEquals(String.format("Mismatch for resource %s, brokers %s, topic %s, entries %d, boundaries [%d, %d]",
+                                         resource, brokerIds, topic, entries, boundaries[0], boundaries[1]), expected, actual);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testTopPartitionsOrderedByUtilization() {
+    PartitionLoadIndex index = new PartitionLoadIndex(cluster(), false, false);
+    List<PartitionLoad> topCpu = index.topPartitions(Resource.CPU, 2, Collections.emptySet(), null, 0, Integer.MAX_VALUE);
+    assertEquals(new TopicPartition(T2, NUM_PARTITIONS_PER_TOPIC - 1), topCpu.get(0).topicPartition());
+    assertEquals(new TopicPartition(T2, NUM_PARTITIONS_PER_TOPIC - 2), topCpu.get(1).topicPartition());
+
+    List<PartitionLoad> topDisk = index.topPartitions(Resource.DISK, 2, Collections.emptySet(), null, 0, Integer.MAX_VALUE);
+    assertEquals(new TopicPartition(T1, 0), topDisk.get(0).topicPartition());
+    assertEquals(new TopicPartition(T1, 1), topDisk.get(1).topicPartition());
+  }
+
+  @Test
+  public void testIndexForRequestedResource() {
+    ClusterModel cluster = cluster();
+    PartitionLoadIndex fullIndex = new PartitionLoadIndex(cluster, false, false);
+    PartitionLoadIndex diskIndex = new PartitionLoadIndex(cluster, false, false, EnumSet.of(Resource.DISK));
+    List<TopicPartition> expected = fullIndex.topPartitions(Resource.DISK, Integer.MAX_VALUE, Set.of(1), Pattern.compile(T1), 0,
+                                                           Integer.MAX_VALUE).stream()
+                                             .map(PartitionLoad::topicPartition).collect(Collectors.toList());
+    List<TopicPartition> actual = diskIndex.topPartitions(Resource.DISK, Integer.MAX_VALUE, Set.of(1), Pattern.compile(T1), 0,
+                                                          Integer.MAX_VALUE).stream()
+                                           .map(PartitionLoad::topicPartition).collect(Collectors.toList());
+    assertEquals(expected, actual);
+    assertThrows(IllegalArgumentException.class,
+                 () -> diskIndex.topPartitions(Resource.CPU, 1, Collections.emptySet(), null, 0, Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void testPartitionLoadSnapshot() {
+    ClusterModel cluster = cluster();
+    PartitionLoadIndex index = new PartitionLoadIndex(cluster, false, false);
+    PartitionLoad top = index.topPartitions(Resource.NW_IN, 1, Collections.emptySet(), null, 0, Integer.MAX_VALUE).get(0);
+    Partition partition = cluster.partition(top.topicPartition());
+    assertEquals(partition.leader().broker().id(), top.leader());
+    assertEquals(List.of(partition.followers().get(0).broker().id()), top.followers());
+    for (Resource resource : Resource.cachedValues()) {
+      assertEquals(partition.leader().load().expectedUtilizationFor(resource, false, false), top.utilizationFor(resource), 0.0);
+    }
+  }
+}
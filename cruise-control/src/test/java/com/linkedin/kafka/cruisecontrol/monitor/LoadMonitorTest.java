@@ -62,6 +62,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 /**
@@ -189,6 +190,32 @@ public class LoadMonitorTest {
     assertEquals(1.0, state.monitoredWindows().get(WINDOW_MS * 2), 0.0);
   }
 
+  @Test
+  public void testStateIsCachedPerModelGeneration() {
+    TestContext context = prepareContext();
+    LoadMonitor loadMonitor = context.loadmonitor();
+    KafkaPartitionMetricSampleAggregator aggregator = context.aggregator();
+
+    // Four samples for each partition except T1P1, which has no sample in the first window and one in the second window.
+    CruiseControlUnitTestUtils.populateSampleAggregator(2, 4, aggregator, PE_T0P0, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(2, 4, aggregator, PE_T0P1, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(2, 4, aggregator, PE_T1P0, 0, WINDOW_MS, METRIC_DEF);
+
+    waitForStateUpdate(loadMonitor);
+    MetadataClient.ClusterAndGeneration clusterAndGeneration = loadMonitor.refreshClusterAndGeneration();
+    LoadMonitorState state = loadMonitor.state(clusterAndGeneration);
+    assertEquals(0.5, state.monitoredWindows().get(WINDOW_MS), 0.0);
+    // The valid partition ratio is reused while the model generation is unchanged.
+    assertSame(state.monitoredWindows(), loadMonitor.state(clusterAndGeneration).monitoredWindows());
+    assertEquals(loadMonitor.state(clusterAndGeneration.cluster()).monitoredWindows(), state.monitoredWindows());
+
+    // Back fill for T1P1 bumps up the model generation.
+    CruiseControlUnitTestUtils.populateSampleAggregator(1, 1, aggregator, PE_T1P1, 0, WINDOW_MS, METRIC_DEF);
+    waitForStateUpdate(loadMonitor);
+    state = loadMonitor.state(loadMonitor.refreshClusterAndGeneration());
+    assertEquals(1.0, state.monitoredWindows().get(WINDOW_MS), 0.0);
+  }
+
   @Test
   public void testMeetCompletenessRequirements() {
     TestContext context = prepareContext();
@@ -247,6 +274,62 @@ public class LoadMonitorTest {
     assertTrue(loadMonitor.meetCompletenessRequirements(clusterAndGeneration.cluster(), requirements4));
   }
 
+  @Test
+  public void testLoadStatsArePrecomputedPerModelGeneration() {
+    TestContext context = prepareContext(NUM_WINDOWS, false, true);
+    LoadMonitor loadMonitor = context.loadmonitor();
+    KafkaPartitionMetricSampleAggregator aggregator = context.aggregator();
+
+    // Four samples for each partition except T1P1, which has no sample in the first window.
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T0P0, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T0P1, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T1P0, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(2, 4, aggregator, PE_T1P1, 1, WINDOW_MS, METRIC_DEF);
+    _time.sleep(10 * WINDOW_MS);
+
+    // The load stats are published without any request for the cluster model.
+    waitUntilTrue(() -> loadMonitor.cachedLoadStats() != null, "Load stats were not precomputed.", WAIT_DEADLINE_MS, CHECK_MS);
+    LoadStats loadStats = loadMonitor.cachedLoadStats();
+    assertEquals(loadMonitor.clusterModelGeneration(), loadStats.generation());
+    assertNotNull(loadStats.clusterModelStats());
+    assertSame(loadStats.brokerStats(), loadMonitor.cachedBrokerLoadStats(true));
+
+    // Back fill for T1P1 bumps up the model generation, for which the load stats are precomputed again.
+    CruiseControlUnitTestUtils.populateSampleAggregator(1, 4, aggregator, PE_T1P1, 0, WINDOW_MS, METRIC_DEF);
+    waitUntilTrue(() -> loadMonitor.cachedLoadStats() != null && loadMonitor.cachedLoadStats() != loadStats,
+                  "Load stats were not precomputed for the new model generation.", WAIT_DEADLINE_MS, CHECK_MS);
+    assertEquals(loadMonitor.clusterModelGeneration(), loadMonitor.cachedLoadStats().generation());
+  }
+
+  @Test
+  public void testLoadStatsAreComputedOnlyWithDefaultRequirements()
+      throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
+    TestContext context = prepareContext();
+    LoadMonitor loadMonitor = context.loadmonitor();
+    KafkaPartitionMetricSampleAggregator aggregator = context.aggregator();
+
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T0P0, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T0P1, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T1P0, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T1P1, 0, WINDOW_MS, METRIC_DEF);
+    _time.sleep(10 * WINDOW_MS);
+
+    // A cluster model with other requirements (e.g. for an optimization) does not publish its load stats.
+    loadMonitor.clusterModel(_time.milliseconds(), new ModelCompletenessRequirements(2, 0.0, false), true, new OperationProgress());
+    assertNull(loadMonitor.cachedLoadStats());
+
+    // Without precomputation, the first cluster model with the default requirements of the load endpoint publishes its load stats.
+    ModelCompletenessRequirements loadRequirements = new ModelCompletenessRequirements(1, MonitorConfig.DEFAULT_MIN_VALID_PARTITION_RATIO, true);
+    loadMonitor.clusterModel(_time.milliseconds(), loadRequirements, true, new OperationProgress());
+    LoadStats loadStats = loadMonitor.cachedLoadStats();
+    assertNotNull(loadStats);
+    assertEquals(loadMonitor.clusterModelGeneration(), loadStats.generation());
+
+    // Load stats are not recomputed for the same model generation.
+    loadMonitor.clusterModel(_time.milliseconds(), loadRequirements, true, new OperationProgress());
+    assertSame(loadStats, loadMonitor.cachedLoadStats());
+  }
+
   // Test the case with enough snapshot windows and valid partitions.
   @Test
   public void testBasicClusterModelWithCapacityEstimationAllowed()
@@ -513,6 +596,10 @@ public class LoadMonitorTest {
   }
 
   private TestContext prepareContext(int numWindowToPreserve, boolean isClusterJBOD) {
+    return prepareContext(numWindowToPreserve, isClusterJBOD, false);
+  }
+
+  private TestContext prepareContext(int numWindowToPreserve, boolean isClusterJBOD, boolean precomputeLoadStats) {
     // Create mock metadata client.
     Metadata metadata = getMetadata(Arrays.asList(T0P0, T0P1, T1P0, T1P1));
     MetadataClient mockMetadataClient = EasyMock.mock(MetadataClient.class);
@@ -569,6 +656,7 @@ public class LoadMonitorTest {
     props.put(MonitorConfig.SAMPLE_PARTITION_METRIC_STORE_ON_EXECUTION_CLASS_CONFIG, NoopSampleStore.class.getName());
     props.put(ExecutorConfig.ZOOKEEPER_SECURITY_ENABLED_CONFIG, "false");
     props.put(MonitorConfig.MONITOR_STATE_UPDATE_INTERVAL_MS_CONFIG, MONITOR_STATE_UPDATE_INTERVAL_MS);
+    props.put(MonitorConfig.LOAD_STATS_PRECOMPUTE_ENABLED_CONFIG, Boolean.toString(precomputeLoadStats));
     if (isClusterJBOD) {
       String capacityConfigFileJBOD =
           KafkaCruiseControlUnitTestUtils.class.getClassLoader().getResource("testCapacityConfigJBOD.json").getFile();
@@ -109,6 +109,16 @@ public class MonitorUtilsTest {
     assertTrue(MonitorUtils.metadataChanged(cluster1, cluster5));
     assertTrue(MonitorUtils.metadataChanged(cluster1, cluster6));
     assertFalse(MonitorUtils.metadataChanged(cluster1, cluster7));
+
+    // Verify the extent of the metadata changes
+    assertEquals(MetadataChange.PARTITIONS, MonitorUtils.metadataChange(cluster1, cluster2));
+    assertEquals(MetadataChange.PARTITIONS, MonitorUtils.metadataChange(cluster1, cluster3));
+    assertEquals(MetadataChange.REPLICA_ASSIGNMENT, MonitorUtils.metadataChange(cluster1, cluster4));
+    assertEquals(MetadataChange.REPLICA_ASSIGNMENT, MonitorUtils.metadataChange(cluster1, cluster5));
+    assertEquals(MetadataChange.LEADERSHIP, MonitorUtils.metadataChange(cluster1, cluster6));
+    assertEquals(MetadataChange.NONE, MonitorUtils.metadataChange(cluster1, cluster7));
+    Cluster cluster8 = new Cluster("cluster", Arrays.asList(NODE_0, NODE_1), partitions1, Collections.emptySet(), Collections.emptySet());
+    assertEquals(MetadataChange.BROKERS, MonitorUtils.metadataChange(cluster1, cluster8));
   }
 
   @Test
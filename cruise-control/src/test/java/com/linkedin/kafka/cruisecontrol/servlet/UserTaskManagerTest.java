@@ -15,11 +15,17 @@ import org.junit.Test;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.linkedin.kafka.cruisecontrol.servlet.KafkaCruiseControlServletUtils.GET_METHOD;
 
@@ -304,6 +310,122 @@ public class UserTaskManagerTest {
     Assert.fail("Don't expect to be here!");
   }
 
+  @Test
+  public void testCompletedUserTasksRetention() {
+    long retentionTimeMs = TimeUnit.MINUTES.toMillis(1);
+    UserTaskManager.CompletedUserTasks completedUserTasks = new UserTaskManager.CompletedUserTasks(2, retentionTimeMs);
+    UserTaskManager.UserTaskInfo task1 = mockUserTaskInfo(0L);
+    UserTaskManager.UserTaskInfo task2 = mockUserTaskInfo(retentionTimeMs);
+    UserTaskManager.UserTaskInfo task3 = mockUserTaskInfo(retentionTimeMs + 1);
+
+    // test-case: the least recently completed task is evicted beyond the maximum number of tasks to retain.
+    completedUserTasks.add(task1);
+    completedUserTasks.add(task2);
+    completedUserTasks.add(task3);
+    Assert.assertEquals(2, completedUserTasks.size());
+    Assert.assertNull(completedUserTasks.get(task1.userTaskId()));
+    Assert.assertEquals(List.of(task2, task3), completedUserTasks.userTasks());
+
+    // test-case: only the tasks that started more than the retention time ago are removed.
+    Assert.assertEquals(List.of(task2), completedUserTasks.removeExpired(2 * retentionTimeMs + 1));
+    Assert.assertEquals(task3, completedUserTasks.get(task3.userTaskId()));
+    Assert.assertEquals(task3, completedUserTasks.remove(task3.userTaskId()));
+    Assert.assertEquals(0, completedUserTasks.size());
+  }
+
+  @Test
+  public void testConcurrentUserTaskTransitions() throws Exception {
+    int maxActiveUserTasks = 4;
+    int numThreads = 8;
+    int numTasksPerThread = 100;
+    UserTaskManager userTaskManager = new UserTaskManager(TimeUnit.HOURS.toMillis(1), maxActiveUserTasks, TimeUnit.HOURS.toMillis(6),
+                                                          numThreads * numTasksPerThread, new MockTime());
+    KafkaCruiseControlConfig cruiseControlConfigMock = EasyMock.niceMock(KafkaCruiseControlConfig.class);
+    // The executor begins and finishes the execution of one user task at a time.
+    Object executionLock = new Object();
+    AtomicInteger maxNumActiveUserTasks = new AtomicInteger(0);
+    AtomicInteger numRejectedUserTasks = new AtomicInteger(0);
+    ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+    List<Future<?>> results = new ArrayList<>(numThreads);
+    for (int thread = 0; thread < numThreads; thread++) {
+      int threadId = thread;
+      results.add(executorService.submit(() -> {
+        HttpSession mockHttpSession = EasyMock.mock(HttpSession.class);
+        EasyMock.expect(mockHttpSession.getLastAccessedTime()).andReturn(System.currentTimeMillis()).anyTimes();
+        EasyMock.replay(mockHttpSession);
+        for (int task = 0; task < numTasksPerThread; task++) {
+          // Distinct parameters make each request a distinct user task.
+          HttpServletRequest request = prepareServletRequest(mockHttpSession, null, "/proposals",
+                                                             Map.of("task", new String[]{threadId + "-" + task}));
+          HttpServletResponse response = EasyMock.niceMock(HttpServletResponse.class);
+          EasyMock.replay(response);
+          ServletRequestContext requestContext = new ServletRequestContext(request, response, cruiseControlConfigMock);
+          OperationFuture future = new OperationFuture("future");
+          try {
+            userTaskManager.getOrCreateUserTask(requestContext, uuid -> future, 0, true, null);
+          } catch (TooManyRequestsException e) {
+            numRejectedUserTasks.incrementAndGet();
+            continue;
+          }
+          maxNumActiveUserTasks.accumulateAndGet(userTaskManager.numActiveUserTasks(), Math::max);
+          UUID userTaskId = userTaskManager.getUserTaskId(requestContext);
+          Assert.assertNotNull(userTaskManager.getUserTaskByUserTaskId(userTaskId, requestContext));
+
+          future.completeExceptionally(new IllegalStateException("Test"));
+          if (task % 2 == 0) {
+            // The task may be completed by another thread checking the active tasks before its execution begins.
+            synchronized (executionLock) {
+              Assert.assertEquals(UserTaskManager.TaskState.IN_EXECUTION,
+                                  userTaskManager.markTaskExecutionBegan(userTaskId.toString()).state());
+              Assert.assertNotNull(userTaskManager.getUserTaskByUserTaskId(userTaskId, requestContext));
+              userTaskManager.markTaskExecutionFinished(userTaskId.toString(), false);
+            }
+            Assert.assertEquals(UserTaskManager.TaskState.COMPLETED,
+                                userTaskManager.getUserTaskByUserTaskId(userTaskId, requestContext).state());
+          } else {
+            userTaskManager.checkActiveUserTasks();
+            Assert.assertEquals(UserTaskManager.TaskState.COMPLETED_WITH_ERROR,
+                                userTaskManager.getUserTaskByUserTaskId(userTaskId, requestContext).state());
+          }
+        }
+        return null;
+      }));
+    }
+    for (Future<?> result : results) {
+      result.get(1, TimeUnit.MINUTES);
+    }
+    executorService.shutdown();
+
+    Assert.assertTrue(maxNumActiveUserTasks.get() <= maxActiveUserTasks);
+    Assert.assertEquals(0, userTaskManager.numActiveUserTasks());
+    Assert.assertEquals(numThreads * numTasksPerThread - numRejectedUserTasks.get(), userTaskManager.getAllUserTasks().size());
+
+    // The capacity is fully available once all tasks are completed.
+    HttpSession mockHttpSession = EasyMock.mock(HttpSession.class);
+    EasyMock.expect(mockHttpSession.getLastAccessedTime()).andReturn(System.currentTimeMillis()).anyTimes();
+    HttpServletResponse mockHttpServletResponse = EasyMock.niceMock(HttpServletResponse.class);
+    EasyMock.replay(mockHttpSession, mockHttpServletResponse);
+    for (int task = 0; task <= maxActiveUserTasks; task++) {
+      HttpServletRequest request = prepareServletRequest(mockHttpSession, null, "/proposals", Map.of("task", new String[]{"last-" + task}));
+      ServletRequestContext requestContext = new ServletRequestContext(request, mockHttpServletResponse, cruiseControlConfigMock);
+      try {
+        userTaskManager.getOrCreateUserTask(requestContext, uuid -> new OperationFuture("future"), 0, true, null);
+        Assert.assertTrue(task < maxActiveUserTasks);
+      } catch (TooManyRequestsException e) {
+        Assert.assertEquals(maxActiveUserTasks, task);
+      }
+    }
+    userTaskManager.close();
+  }
+
+  private static UserTaskManager.UserTaskInfo mockUserTaskInfo(long startMs) {
+    UserTaskManager.UserTaskInfo userTaskInfo = EasyMock.mock(UserTaskManager.UserTaskInfo.class);
+    EasyMock.expect(userTaskInfo.userTaskId()).andReturn(UUID.randomUUID()).anyTimes();
+    EasyMock.expect(userTaskInfo.startMs()).andReturn(startMs).anyTimes();
+    EasyMock.replay(userTaskInfo);
+    return userTaskInfo;
+  }
+
   private HttpServletRequest prepareServletRequest(HttpSession session, String userTaskId) {
     return prepareServletRequest(session, userTaskId, "/test", Collections.emptyMap());
   }
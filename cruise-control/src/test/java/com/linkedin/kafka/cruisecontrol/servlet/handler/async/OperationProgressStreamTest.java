@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.servlet.handler.async;
+
+import com.linkedin.cruisecontrol.servlet.parameters.CruiseControlParameters;
+import com.linkedin.kafka.cruisecontrol.async.progress.Pending;
+import com.linkedin.kafka.cruisecontrol.async.progress.WaitingForClusterModel;
+import com.linkedin.kafka.cruisecontrol.executor.ExecutorState;
+import com.linkedin.kafka.cruisecontrol.servlet.EventStream;
+import com.linkedin.kafka.cruisecontrol.servlet.handler.async.runnable.OperationFuture;
+import com.linkedin.kafka.cruisecontrol.servlet.response.PauseSamplingResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.easymock.EasyMock;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.OperationProgressStream.ERROR_EVENT;
+import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.OperationProgressStream.EXECUTOR_EVENT;
+import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.OperationProgressStream.PROGRESS_EVENT;
+import static com.linkedin.kafka.cruisecontrol.servlet.handler.async.OperationProgressStream.RESULT_EVENT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link OperationProgressStream}
+ */
+public class OperationProgressStreamTest {
+  private static final long TIMEOUT_MS = 10000L;
+  private static final long INTERVAL_MS = 10L;
+
+  @Test
+  public void testStreamProgressUntilResult() throws Exception {
+    OperationFuture future = new OperationFuture("Test");
+    future.operationProgress().addStep(new Pending());
+    RecordingEventStream eventStream = new RecordingEventStream();
+    CompletableFuture<Void> done = progressStream(future, eventStream).start();
+
+    // The current progress is sent immediately.
+    assertEquals(List.of(PROGRESS_EVENT), eventStream.events());
+
+    // A new step is sent with the next periodic check.
+    future.operationProgress().addStep(new WaitingForClusterModel());
+    long deadlineMs = System.currentTimeMillis() + TIMEOUT_MS;
+    while (eventStream.events().size() < 2 && System.currentTimeMillis() < deadlineMs) {
+      Thread.sleep(INTERVAL_MS);
+    }
+    assertEquals(List.of(PROGRESS_EVENT, PROGRESS_EVENT), eventStream.events());
+    assertFalse(done.isDone());
+
+    // The result is sent and the stream is closed once the operation finishes.
+    future.complete(new PauseSamplingResult(null));
+    done.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    assertEquals(List.of(PROGRESS_EVENT, PROGRESS_EVENT, RESULT_EVENT), eventStream.events());
+    assertTrue(eventStream.isClosed());
+  }
+
+  @Test
+  public void testStreamError() throws Exception {
+    OperationFuture future = new OperationFuture("Test");
+    RecordingEventStream eventStream = new RecordingEventStream();
+    CompletableFuture<Void> done = progressStream(future, eventStream).start();
+
+    future.completeExceptionally(new IllegalStateException("Not enough valid windows."));
+    done.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    assertEquals(List.of(PROGRESS_EVENT, ERROR_EVENT), eventStream.events());
+    assertTrue(eventStream.data(1).contains("Not enough valid windows."));
+    assertTrue(eventStream.isClosed());
+  }
+
+  @Test
+  public void testStopOnceClientClosesStream() throws Exception {
+    OperationFuture future = new OperationFuture("Test");
+    RecordingEventStream eventStream = new RecordingEventStream();
+    CompletableFuture<Void> done = progressStream(future, eventStream).start();
+
+    eventStream.close();
+    done.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    future.complete(new PauseSamplingResult(null));
+    assertEquals(List.of(PROGRESS_EVENT), eventStream.events());
+  }
+
+  @Test
+  public void testStreamUntilExecutionFinishes() throws Exception {
+    String userTaskId = UUID.randomUUID().toString();
+    OperationFuture future = new OperationFuture("Test");
+    AtomicReference<ExecutorState.State> state = new AtomicReference<>(ExecutorState.State.GENERATING_PROPOSALS_FOR_EXECUTION);
+    RecordingEventStream eventStream = new RecordingEventStream();
+    CompletableFuture<Void> done = progressStream(future, eventStream, () -> executorState(state.get(), userTaskId), userTaskId).start();
+    assertEquals(List.of(PROGRESS_EVENT, EXECUTOR_EVENT), eventStream.events());
+
+    // The executor replaces its state with identical ones, which are not sent again.
+    Thread.sleep(10 * INTERVAL_MS);
+    assertEquals(List.of(PROGRESS_EVENT, EXECUTOR_EVENT), eventStream.events());
+
+    // The operation finishes once the execution starts, but the stream is kept open until the execution finishes.
+    state.set(ExecutorState.State.STARTING_EXECUTION);
+    future.complete(new PauseSamplingResult(null));
+    waitForEvents(eventStream, 4);
+    Thread.sleep(10 * INTERVAL_MS);
+    assertEquals(List.of(PROGRESS_EVENT, EXECUTOR_EVENT, EXECUTOR_EVENT, RESULT_EVENT), eventStream.events());
+    assertTrue(eventStream.data(2).contains(ExecutorState.State.STARTING_EXECUTION.name()));
+    assertFalse(done.isDone());
+    assertFalse(eventStream.isClosed());
+
+    // The final executor state is sent and the stream is closed once the execution finishes.
+    state.set(ExecutorState.State.NO_TASK_IN_PROGRESS);
+    done.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    assertEquals(List.of(PROGRESS_EVENT, EXECUTOR_EVENT, EXECUTOR_EVENT, RESULT_EVENT, EXECUTOR_EVENT), eventStream.events());
+    assertTrue(eventStream.data(4).contains(ExecutorState.State.NO_TASK_IN_PROGRESS.name()));
+    assertTrue(eventStream.isClosed());
+  }
+
+  @Test
+  public void testStopIfExecutionIsNotStartedByUserTask() throws Exception {
+    OperationFuture future = new OperationFuture("Test");
+    RecordingEventStream eventStream = new RecordingEventStream();
+    String otherUserTaskId = UUID.randomUUID().toString();
+    CompletableFuture<Void> done = progressStream(future, eventStream,
+                                                  () -> executorState(ExecutorState.State.STARTING_EXECUTION, otherUserTaskId),
+                                                  UUID.randomUUID().toString()).start();
+
+    future.complete(new PauseSamplingResult(null));
+    done.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    assertEquals(List.of(PROGRESS_EVENT, EXECUTOR_EVENT, RESULT_EVENT), eventStream.events());
+    assertTrue(eventStream.isClosed());
+  }
+
+  private static void waitForEvents(RecordingEventStream eventStream, int numEvents) throws InterruptedException {
+    long deadlineMs = System.currentTimeMillis() + TIMEOUT_MS;
+    while (eventStream.events().size() < numEvents && System.currentTimeMillis() < deadlineMs) {
+      Thread.sleep(INTERVAL_MS);
+    }
+  }
+
+  private static ExecutorState executorState(ExecutorState.State state, String uuid) {
+    switch (state) {
+      case GENERATING_PROPOSALS_FOR_EXECUTION:
+        return ExecutorState.generatingProposalsForExecution(uuid, "Test", Set.of(), Set.of(), true);
+      case STARTING_EXECUTION:
+        return ExecutorState.executionStarting(uuid, "Test", Set.of(), Set.of(), true);
+      case NO_TASK_IN_PROGRESS:
+        return ExecutorState.noTaskInProgress(Set.of(), Set.of());
+      default:
+        throw new IllegalArgumentException("Unsupported executor state " + state);
+    }
+  }
+
+  private static OperationProgressStream progressStream(OperationFuture future, EventStream eventStream) {
+    return progressStream(future, eventStream, null, null);
+  }
+
+  private static OperationProgressStream progressStream(OperationFuture future,
+                                                        EventStream eventStream,
+                                                        Supplier<ExecutorState> executorState,
+                                                        String userTaskId) {
+    CruiseControlParameters parameters = EasyMock.mock(CruiseControlParameters.class);
+    EasyMock.expect(parameters.json()).andReturn(true).anyTimes();
+    EasyMock.replay(parameters);
+    return new OperationProgressStream(Collections.singletonList(future), future, parameters, null, executorState, userTaskId,
+                                       eventStream, INTERVAL_MS, Runnable::run);
+  }
+
+  private static final class RecordingEventStream implements EventStream {
+    private final List<String> _events = new ArrayList<>();
+    private final List<String> _data = new ArrayList<>();
+    private volatile boolean _closed = false;
+
+    @Override
+    public synchronized void send(String event, String data) {
+      _events.add(event);
+      _data.add(data);
+    }
+
+    @Override
+    public void close() {
+      _closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+      return _closed;
+    }
+
+    synchronized List<String> events() {
+      return new ArrayList<>(_events);
+    }
+
+    synchronized String data(int index) {
+      return _data.get(index);
+    }
+  }
+}
@@ -4,6 +4,9 @@
 
 package com.linkedin.kafka.cruisecontrol.servlet.response;
 
+import com.linkedin.cruisecontrol.http.CruiseControlRequestContext;
+import com.linkedin.cruisecontrol.servlet.parameters.CruiseControlParameters;
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
 import com.linkedin.kafka.cruisecontrol.common.TestConstants;
 import com.linkedin.kafka.cruisecontrol.config.BrokerCapacityInfo;
@@ -12,9 +15,13 @@ import com.linkedin.kafka.cruisecontrol.model.Broker;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
 import com.linkedin.kafka.cruisecontrol.servlet.response.stats.BrokerStats;
+import java.io.IOException;
 import java.util.Properties;
+import org.easymock.Capture;
+import org.easymock.EasyMock;
 import org.junit.Test;
 
+import static javax.servlet.http.HttpServletResponse.SC_OK;
 import static org.junit.Assert.*;
 
 
@@ -41,4 +48,32 @@ public class BrokerStatsTest {
     brokerStats.addSingleBrokerStats(fractionalCoreBroker, 0.0, true);
     assertTrue(brokerStats.toString().contains(",              32.25,"));
   }
+
+  @Test
+  public void testLoadResponseIsWritten() throws IOException {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    KafkaCruiseControlConfig kafkaCruiseControlConfig = new KafkaCruiseControlConfig(props);
+    ClusterModel clusterModel = new ClusterModel(new ModelGeneration(0, 0), 1.0);
+    clusterModel.createRack("0");
+    Broker broker = clusterModel.createBroker("0", "host0", 0, new BrokerCapacityInfo(TestConstants.BROKER_CAPACITY, 32.0), false);
+
+    for (boolean json : new boolean[]{true, false}) {
+      BrokerStats brokerStats = new BrokerStats(kafkaCruiseControlConfig);
+      brokerStats.addSingleBrokerStats(broker, 0.0, false);
+      CruiseControlParameters mockParameters = EasyMock.mock(CruiseControlParameters.class);
+      EasyMock.expect(mockParameters.json()).andReturn(json).anyTimes();
+      EasyMock.expect(mockParameters.wantResponseSchema()).andReturn(false).anyTimes();
+      CruiseControlRequestContext mockRequestContext = EasyMock.mock(CruiseControlRequestContext.class);
+      Capture<CompactResponse> response = Capture.newInstance();
+      mockRequestContext.writeResponseToOutputStream(EasyMock.eq(SC_OK), EasyMock.eq(json), EasyMock.eq(false), EasyMock.capture(response));
+      EasyMock.expectLastCall();
+      EasyMock.replay(mockParameters, mockRequestContext);
+
+      brokerStats.writeSuccessResponse(mockParameters, mockRequestContext);
+      assertNotNull(response.getValue());
+      assertTrue(response.getValue().toString().contains(json ? "\"brokers\"" : "host0"));
+      assertEquals(response.getValue().toString(), brokerStats.cachedResponse());
+      EasyMock.verify(mockParameters, mockRequestContext);
+    }
+  }
 }
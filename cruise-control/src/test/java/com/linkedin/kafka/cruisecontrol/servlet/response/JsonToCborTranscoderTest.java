@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.servlet.response;
+
+import com.linkedin.cruisecontrol.servlet.response.CompactResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.zip.GZIPInputStream;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+
+/**
+ * Unit test for {@link JsonToCborTranscoder}
+ */
+public class JsonToCborTranscoderTest {
+  private static final String JSON = "{\"a\":1,\"b\":[true,null,-2,1.5,\"x\"],\"c\":{\"d\":1000,\"e\":0.1}}";
+  private static final byte[] CBOR = bytes(
+      // Self-described CBOR tag, followed by an indefinite-length map.
+      0xD9, 0xD9, 0xF7, 0xBF,
+      // "a": 1
+      0x61, 'a', 0x01,
+      // "b": [true, null, -2, 1.5, "x"]
+      0x61, 'b', 0x9F, 0xF5, 0xF6, 0x21, 0xFA, 0x3F, 0xC0, 0x00, 0x00, 0x61, 'x', 0xFF,
+      // "c": {"d": 1000, "e": 0.1}
+      0x61, 'c', 0xBF, 0x61, 'd', 0x19, 0x03, 0xE8, 0x61, 'e', 0xFB, 0x3F, 0xB9, 0x99, 0x99, 0x99, 0x99, 0x99, 0x9A, 0xFF,
+      0xFF);
+
+  @Test
+  public void testTranscode() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonToCborTranscoder.transcode(new StringReader(JSON), out);
+    assertArrayEquals(CBOR, out.toByteArray());
+  }
+
+  @Test
+  public void testTranscodeCompactResponse() throws IOException {
+    CompactResponse response = CompactResponse.of(JSON);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonToCborTranscoder.transcode(response, out, false);
+    assertArrayEquals(CBOR, out.toByteArray());
+
+    ByteArrayOutputStream gzipOut = new ByteArrayOutputStream();
+    JsonToCborTranscoder.transcode(response, gzipOut, true);
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipOut.toByteArray()))) {
+      assertArrayEquals(CBOR, in.readAllBytes());
+    }
+  }
+
+  private static byte[] bytes(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return bytes;
+  }
+}
@@ -31,6 +31,7 @@ import org.junit.Test;
 
 import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils.OPENAPI_SPEC_PATH;
 import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils.CRUISE_CONTROL_PACKAGE;
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils.CBOR_CONTENT_TYPE;
 import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils.JSON_CONTENT_TYPE;
 import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils.PLAIN_TEXT_CONTENT_TYPE;
 import static com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils.VERSION;
@@ -105,7 +106,9 @@ public class ResponseTest {
   private void checkOperation(Operation operation) {
     operation.getResponses().forEach((responseStatus, apiResponse) -> apiResponse.getContent().forEach((header, type) -> {
       switch (header) {
-        case JSON_CONTENT_TYPE : String refName = type.getSchema().get$ref();
+        // CBOR responses are transcoded from JSON responses; hence, they share the schema of JSON responses.
+        case JSON_CONTENT_TYPE :
+        case CBOR_CONTENT_TYPE : String refName = type.getSchema().get$ref();
                                  String className = refName.substring(refName.lastIndexOf('/') + 1);
                                  checkSchema(_openAPI.getComponents().getSchemas().get(className), className, true);
                                  break;
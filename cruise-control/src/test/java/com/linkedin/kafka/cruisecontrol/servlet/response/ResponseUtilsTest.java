@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.servlet.response;
+
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.WebServerConfig;
+import java.util.Properties;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils.APPLICATION_CBOR;
+import static com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils.isExplicitlyAccepted;
+import static com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils.varyHeader;
+import static com.linkedin.kafka.cruisecontrol.servlet.response.ResponseUtils.wantGzipResponse;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link ResponseUtils}.
+ */
+public class ResponseUtilsTest {
+
+  @Test
+  public void testIsExplicitlyAccepted() {
+    assertTrue(isExplicitlyAccepted("gzip", "gzip"));
+    assertTrue(isExplicitlyAccepted("deflate, GZIP;q=0.5", "gzip"));
+    assertTrue(isExplicitlyAccepted("br;q=1.0, gzip ; q = 0.001", "gzip"));
+    assertFalse(isExplicitlyAccepted(null, "gzip"));
+    assertFalse(isExplicitlyAccepted("gzip;q=0", "gzip"));
+    assertFalse(isExplicitlyAccepted("gzip;q=0.000", "gzip"));
+    assertFalse(isExplicitlyAccepted("gzip;q=invalid", "gzip"));
+    // Only explicit listing, not a wildcard or a value containing the given value, is considered.
+    assertFalse(isExplicitlyAccepted("*", "gzip"));
+    assertFalse(isExplicitlyAccepted("x-gzip", "gzip"));
+
+    assertTrue(isExplicitlyAccepted("application/json;q=0.9, Application/CBOR", APPLICATION_CBOR));
+    assertTrue(isExplicitlyAccepted("application/cbor; charset=utf-8; q=0.5", APPLICATION_CBOR));
+    assertFalse(isExplicitlyAccepted("application/json, application/cbor;q=0", APPLICATION_CBOR));
+    assertFalse(isExplicitlyAccepted("application/*, */*", APPLICATION_CBOR));
+  }
+
+  @Test
+  public void testVaryHeader() {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.setProperty(WebServerConfig.WEBSERVER_HTTP_RESPONSE_GZIP_ENABLED_CONFIG, "true");
+    props.setProperty(WebServerConfig.WEBSERVER_HTTP_RESPONSE_CBOR_ENABLED_CONFIG, "true");
+    KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(props);
+    assertEquals("Accept, Accept-Encoding", varyHeader(config, true));
+    assertEquals("Accept", varyHeader(config, false));
+
+    props.setProperty(WebServerConfig.WEBSERVER_HTTP_RESPONSE_CBOR_ENABLED_CONFIG, "false");
+    config = new KafkaCruiseControlConfig(props);
+    assertEquals("Accept-Encoding", varyHeader(config, true));
+    assertNull(varyHeader(config, false));
+  }
+
+  @Test
+  public void testWantGzipResponse() {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.setProperty(WebServerConfig.WEBSERVER_HTTP_RESPONSE_GZIP_ENABLED_CONFIG, "true");
+    KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(props);
+    assertTrue(wantGzipResponse("gzip, deflate", config));
+    assertFalse(wantGzipResponse("gzip;q=0, deflate", config));
+    assertFalse(wantGzipResponse(null, config));
+
+    props.setProperty(WebServerConfig.WEBSERVER_HTTP_RESPONSE_GZIP_ENABLED_CONFIG, "false");
+    assertFalse(wantGzipResponse("gzip", new KafkaCruiseControlConfig(props)));
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.vertx;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.async.AsyncKafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.async.RequestCoalescer;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.WebServerConfig;
+import com.linkedin.kafka.cruisecontrol.executor.ExecutorState;
+import com.linkedin.kafka.cruisecontrol.servlet.UserRequestException;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.BodyHandler;
+import io.vertx.ext.web.handler.SessionHandler;
+import io.vertx.ext.web.sstore.LocalSessionStore;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link VertxRequestHandler} -- i.e. the async request path of the Vert.x web server.
+ */
+public class VertxRequestHandlerTest {
+  private static final long TIMEOUT_MS = 10000L;
+  private static final String STATE_PATH = "/kafkacruisecontrol/state";
+
+  private Vertx _vertx;
+  private HttpServer _server;
+  private ExecutorService _sessionExecutor;
+  private VertxRequestHandler _handler;
+  private AsyncKafkaCruiseControl _asyncKafkaCruiseControl;
+
+  /**
+   * Set up a Vert.x web server that handles the requests with a {@link VertxRequestHandler} backed by a mocked Cruise Control.
+   */
+  @Before
+  public void setUp() {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.setProperty(WebServerConfig.WEBSERVER_REQUEST_COALESCING_ENABLED_CONFIG, "false");
+    KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(props);
+    _sessionExecutor = Executors.newSingleThreadExecutor();
+
+    _asyncKafkaCruiseControl = EasyMock.mock(AsyncKafkaCruiseControl.class);
+    EasyMock.expect(_asyncKafkaCruiseControl.config()).andReturn(config).anyTimes();
+    _asyncKafkaCruiseControl.setUserTaskManagerInExecutor(EasyMock.anyObject());
+    EasyMock.expectLastCall();
+    EasyMock.expect(_asyncKafkaCruiseControl.requestCoalescer())
+            .andReturn(new RequestCoalescer(config, new MetricRegistry(), () -> null)).anyTimes();
+    EasyMock.expect(_asyncKafkaCruiseControl.sessionExecutor(EasyMock.anyObject())).andReturn(_sessionExecutor).anyTimes();
+  }
+
+  /**
+   * Shut down the web server and the handler.
+   */
+  @After
+  public void tearDown() throws Exception {
+    if (_handler != null) {
+      _handler.destroy();
+    }
+    if (_vertx != null) {
+      _vertx.close().toCompletionStage().toCompletableFuture().get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+    _sessionExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testAsyncRequestRoundTrip() throws Exception {
+    EasyMock.expect(_asyncKafkaCruiseControl.executorState()).andReturn(ExecutorState.noTaskInProgress(Set.of(), Set.of()));
+    startServer();
+
+    HttpResponse<String> response = send("substates=executor&json=true");
+    assertEquals(200, response.statusCode());
+    assertTrue(response.body(), response.body().contains("ExecutorState"));
+    assertTrue(response.body(), response.body().contains(ExecutorState.State.NO_TASK_IN_PROGRESS.name()));
+    EasyMock.verify(_asyncKafkaCruiseControl);
+  }
+
+  @Test
+  public void testInvalidParameterIsBadRequest() throws Exception {
+    startServer();
+
+    HttpResponse<String> response = send("substates=bogus&json=true");
+    assertEquals(400, response.statusCode());
+    assertTrue(response.body(), response.body().contains("Unsupported substates"));
+  }
+
+  @Test
+  public void testOperationFailureIsServerError() throws Exception {
+    // A failure of the operation is a server error -- i.e. the same as in the servlet path -- regardless of its exception type.
+    EasyMock.expect(_asyncKafkaCruiseControl.executorState()).andThrow(new UserRequestException("Injected failure."));
+    startServer();
+
+    HttpResponse<String> response = send("substates=executor&json=true");
+    assertEquals(500, response.statusCode());
+    assertTrue(response.body(), response.body().contains("Injected failure."));
+    EasyMock.verify(_asyncKafkaCruiseControl);
+  }
+
+  private void startServer() throws Exception {
+    EasyMock.replay(_asyncKafkaCruiseControl);
+    _handler = new VertxRequestHandler(_asyncKafkaCruiseControl, new MetricRegistry());
+    _vertx = Vertx.vertx();
+    Router router = Router.router(_vertx);
+    router.route().handler(BodyHandler.create());
+    router.route().handler(SessionHandler.create(LocalSessionStore.create(_vertx)));
+    router.get(STATE_PATH).handler(_handler::handle);
+    _server = _vertx.createHttpServer().requestHandler(router).listen(0)
+                    .toCompletionStage().toCompletableFuture().get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+  }
+
+  private HttpResponse<String> send(String query) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(String.format("http://localhost:%d%s?%s", _server.actualPort(), STATE_PATH, query)))
+                                     .timeout(Duration.ofMillis(TIMEOUT_MS))
+                                     .GET()
+                                     .build();
+    return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+  }
+}